@@ -32,10 +32,25 @@ repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("benchmark") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations["benchmarkImplementation"].extendsFrom(configurations.implementation.get())
+configurations["benchmarkCompileOnly"].extendsFrom(configurations.compileOnly.get())
+
 dependencies {
     api("net.dv8tion:JDA:5.0.0-beta.24")
     compileOnly("org.jetbrains:annotations:24.1.0")
-    // TODO: Add JUnit 5 (and some testing...)
+    "benchmarkImplementation"(project(":testkit"))
+
+    testImplementation(platform("org.junit:junit-bom:5.10.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation(project(":testkit"))
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 java {
@@ -44,6 +59,29 @@ java {
     withJavadocJar()
 }
 
+tasks.test {
+    useJUnitPlatform()
+}
+
+tasks.check {
+    // Keep the benchmarks compiling
+    dependsOn(tasks.named("benchmarkClasses"))
+}
+
+tasks.register<JavaExec>("benchmarkModelBuild") {
+    description = "Times serial and parallel command model building."
+    group = "benchmark"
+    classpath = sourceSets["benchmark"].runtimeClasspath
+    mainClass = "com.dwolfnineteen.jdaextra.benchmarks.ModelBuildBenchmark"
+}
+
+tasks.register<JavaExec>("benchmarkDispatch") {
+    description = "Times hybrid command dispatch from messages and slash commands."
+    group = "benchmark"
+    classpath = sourceSets["benchmark"].runtimeClasspath
+    mainClass = "com.dwolfnineteen.jdaextra.benchmarks.DispatchBenchmark"
+}
+
 tasks.withType<Javadoc>().configureEach {
     title = rootProject.name + " " + version
 }
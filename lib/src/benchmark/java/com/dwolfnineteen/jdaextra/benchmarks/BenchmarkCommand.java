@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.benchmarks;
+
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.MaxLength;
+import com.dwolfnineteen.jdaextra.annotations.options.MinValue;
+import com.dwolfnineteen.jdaextra.annotations.options.Required;
+import com.dwolfnineteen.jdaextra.annotations.options.SlashOption;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import net.dv8tion.jda.api.entities.User;
+
+/**
+ * Typical slash command, with a handful of options, loaded once per {@link IsolatingClassLoader}.
+ * <br>
+ * The name is a placeholder, replaced with a unique name by the {@link IsolatingClassLoader}.
+ */
+@ExtraSlashCommand(name = IsolatingClassLoader.NAME_PLACEHOLDER, description = "Report a user to the moderators.")
+public class BenchmarkCommand extends SlashCommand {
+    @ExtraMainCommand
+    public void report(SlashCommandEvent event,
+                       @Required @SlashOption(name = "user", description = "The user to report.") User user,
+                       @Required @MaxLength(200) @SlashOption(name = "reason", description = "Why.") String reason,
+                       @MinValue(1) @SlashOption(name = "severity", description = "From 1 to 5.") Long severity,
+                       @SlashOption(name = "anonymous", description = "Hide your name.") Boolean anonymous,
+                       @SlashOption(name = "evidence", description = "Link to the evidence.") String evidence) {
+        event.reply("Reported.").queue();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.benchmarks;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.RextraHybridCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.HybridOption;
+import com.dwolfnineteen.jdaextra.annotations.options.PrefixOption;
+import com.dwolfnineteen.jdaextra.annotations.options.SlashOption;
+import com.dwolfnineteen.jdaextra.commands.HybridCommand;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.HybridCommandEvent;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.options.mappings.HybridOptionMapping;
+import com.dwolfnineteen.jdaextra.options.mappings.PrefixOptionMapping;
+import com.dwolfnineteen.jdaextra.options.mappings.SlashOptionMapping;
+import com.dwolfnineteen.jdaextra.testkit.FakeDiscord;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Plain-timing benchmark of hybrid command dispatch, from a message and from a slash command,
+ * against the same command declared as a plain prefix and slash command.
+ * <br>
+ * The commands read every option through {@code getOptions()} a few times,
+ * like commands that look options up by name. Their names have the same length,
+ * so parsing costs the same; the hybrid/plain ratio is reported for each source.
+ * <br>
+ * Run with {@code gradle :lib:benchmarkDispatch}.
+ */
+public final class DispatchBenchmark {
+    private static final int WARMUP_EVENTS = 200_000;
+    private static final int MEASURED_EVENTS = 1_000_000;
+
+    private DispatchBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        FakeDiscord discord = new FakeDiscord();
+        JDAExtra jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .addHybridCommands(new Ban())
+                .addPrefixCommands(new PrefixBan())
+                .addSlashCommands(new SlashBan())
+                .build();
+
+        discord.getRestLayer().setRetaining(false);
+
+        double hybridPrefix = measure("hybrid, prefix", jdaExtra, () -> discord.message("!hban 1234 spam 7").build());
+        double plainPrefix = measure("plain, prefix", jdaExtra, () -> discord.message("!pban 1234 spam 7").build());
+        double hybridSlash = measure("hybrid, slash", jdaExtra, () -> slashEvent(discord, "hban"));
+        double plainSlash = measure("plain, slash", jdaExtra, () -> slashEvent(discord, "sban"));
+
+        System.out.printf("hybrid/plain: prefix %.3f, slash %.3f%n", hybridPrefix / plainPrefix, hybridSlash / plainSlash);
+    }
+
+    private static @NotNull GenericEvent slashEvent(@NotNull FakeDiscord discord, @NotNull String name) {
+        return discord.slashCommand(name)
+                .addOption("user", OptionType.STRING, "1234")
+                .addOption("reason", OptionType.STRING, "spam")
+                .addOption("days", OptionType.INTEGER, 7L)
+                .build();
+    }
+
+    private static double measure(@NotNull String source,
+                                  @NotNull JDAExtra jdaExtra,
+                                  @NotNull Supplier<? extends GenericEvent> events) {
+        for (int i = 0; i < WARMUP_EVENTS; i++) {
+            jdaExtra.onEvent(events.get());
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < MEASURED_EVENTS; i++) {
+            jdaExtra.onEvent(events.get());
+        }
+
+        double nanos = (double) (System.nanoTime() - start) / MEASURED_EVENTS;
+
+        System.out.printf("%-16s %10.0f ns/event (including event creation)%n", source, nanos);
+
+        return nanos;
+    }
+
+    /**
+     * Hybrid command that reads its options by name.
+     */
+    @RextraHybridCommand(name = "hban", description = "Ban a user.")
+    public static class Ban extends HybridCommand {
+        @ExtraMainCommand
+        public void ban(HybridCommandEvent event,
+                        @HybridOption(name = "user", description = "The user.") String user,
+                        @HybridOption(name = "reason", description = "The reason.") String reason,
+                        @HybridOption(name = "days", description = "Days of messages to delete.") Long days) {
+            long found = 0;
+
+            for (String name : new String[]{"user", "reason", "days"}) {
+                for (HybridOptionMapping option : event.getOptions()) {
+                    if (option.getName().equals(name)) {
+                        found++;
+                    }
+                }
+            }
+
+            if (found != 3) {
+                throw new IllegalStateException("Missing options");
+            }
+        }
+    }
+
+    /**
+     * {@link Ban} as a plain prefix command.
+     */
+    @ExtraPrefixCommand(name = "pban", description = "Ban a user.")
+    public static class PrefixBan extends PrefixCommand {
+        @ExtraMainCommand
+        public void ban(PrefixCommandEvent event,
+                        @PrefixOption(name = "user", description = "The user.") String user,
+                        @PrefixOption(name = "reason", description = "The reason.") String reason,
+                        @PrefixOption(name = "days", description = "Days of messages to delete.") Long days) {
+            long found = 0;
+
+            for (String name : new String[]{"user", "reason", "days"}) {
+                for (PrefixOptionMapping option : event.getOptions()) {
+                    if (option.getName().equals(name)) {
+                        found++;
+                    }
+                }
+            }
+
+            if (found != 3) {
+                throw new IllegalStateException("Missing options");
+            }
+        }
+    }
+
+    /**
+     * {@link Ban} as a plain slash command.
+     */
+    @ExtraSlashCommand(name = "sban", description = "Ban a user.")
+    public static class SlashBan extends SlashCommand {
+        @ExtraMainCommand
+        public void ban(SlashCommandEvent event,
+                        @SlashOption(name = "user", description = "The user.") String user,
+                        @SlashOption(name = "reason", description = "The reason.") String reason,
+                        @SlashOption(name = "days", description = "Days of messages to delete.") Long days) {
+            long found = 0;
+
+            for (String name : new String[]{"user", "reason", "days"}) {
+                for (SlashOptionMapping option : event.getOptions()) {
+                    if (option.getName().equals(name)) {
+                        found++;
+                    }
+                }
+            }
+
+            if (found != 3) {
+                throw new IllegalStateException("Missing options");
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.benchmarks;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Defines its own copy of {@link BenchmarkCommand} (and its nested classes),
+ * so every loaded command is a distinct class with cold reflection caches, as in a real bot.
+ * <br>
+ * The copy gets a unique command name: the {@link #NAME_PLACEHOLDER} in its constant pool
+ * is overwritten with a name of the same length, so the class file stays valid.
+ */
+final class IsolatingClassLoader extends ClassLoader {
+    static final String NAME_PLACEHOLDER = "report-000000";
+
+    private static final String PREFIX = BenchmarkCommand.class.getName();
+    private static final byte[] PLACEHOLDER_BYTES = NAME_PLACEHOLDER.getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] name;
+
+    IsolatingClassLoader(int index) {
+        super(IsolatingClassLoader.class.getClassLoader());
+
+        this.name = String.format("report-%06d", index).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected Class<?> loadClass(@NotNull String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.startsWith(PREFIX)) {
+            return super.loadClass(name, resolve);
+        }
+
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> clazz = findLoadedClass(name);
+
+            if (clazz == null) {
+                clazz = findClass(name);
+            }
+
+            if (resolve) {
+                resolveClass(clazz);
+            }
+
+            return clazz;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(@NotNull String name) throws ClassNotFoundException {
+        try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+            if (input == null) {
+                throw new ClassNotFoundException(name);
+            }
+
+            byte[] bytes = input.readAllBytes();
+
+            rename(bytes);
+
+            return defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException exception) {
+            throw new ClassNotFoundException(name, exception);
+        }
+    }
+
+    private void rename(byte[] bytes) {
+        for (int i = 0; i <= bytes.length - PLACEHOLDER_BYTES.length; i++) {
+            if (matches(bytes, i)) {
+                System.arraycopy(name, 0, bytes, i, name.length);
+            }
+        }
+    }
+
+    private static boolean matches(byte[] bytes, int offset) {
+        for (int i = 0; i < PLACEHOLDER_BYTES.length; i++) {
+            if (bytes[offset + i] != PLACEHOLDER_BYTES[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.benchmarks;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Plain-timing benchmark of serial vs. parallel command model building.
+ * <br>
+ * For every command count, each round builds a {@link JDAExtra}
+ * from freshly loaded command classes (each with a unique name), and the median of the measured rounds is reported.
+ * <br>
+ * Run with {@code gradle :lib:benchmarkModelBuild}.
+ *
+ * @see JDAExtraBuilder#setParallelBuild(boolean)
+ */
+public final class ModelBuildBenchmark {
+    private static final int[] COMMAND_COUNTS = {10, 50, 200, 1000, 2000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 7;
+
+    private ModelBuildBenchmark() {
+    }
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        System.out.printf("%8s %12s %12s %8s%n", "commands", "serial ms", "parallel ms", "speedup");
+
+        for (int count : COMMAND_COUNTS) {
+            double serial = measure(count, false);
+            double parallel = measure(count, true);
+
+            System.out.printf("%8d %12.2f %12.2f %7.2fx%n", count, serial, parallel, serial / parallel);
+        }
+    }
+
+    private static double measure(int count, boolean parallel) throws ReflectiveOperationException {
+        double[] samples = new double[MEASURED_ROUNDS];
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            SlashCommand[] commands = loadCommands(count);
+            long start = System.nanoTime();
+
+            JDAExtra jdaExtra = new JDAExtraBuilder()
+                    .setParallelBuild(parallel)
+                    .addSlashCommands(commands)
+                    .build();
+
+            long elapsed = System.nanoTime() - start;
+
+            if (jdaExtra.getSlashCommandModels().size() != count) {
+                throw new IllegalStateException("Command names are not unique");
+            }
+
+            if (round >= WARMUP_ROUNDS) {
+                samples[round - WARMUP_ROUNDS] = elapsed / 1e6;
+            }
+        }
+
+        Arrays.sort(samples);
+
+        return samples[MEASURED_ROUNDS / 2];
+    }
+
+    private static @NotNull SlashCommand @NotNull [] loadCommands(int count) throws ReflectiveOperationException {
+        SlashCommand[] commands = new SlashCommand[count];
+
+        for (int i = 0; i < count; i++) {
+            Class<?> clazz = new IsolatingClassLoader(i).loadClass(BenchmarkCommand.class.getName());
+            commands[i] = (SlashCommand) clazz.getDeclaredConstructor().newInstance();
+        }
+
+        return commands;
+    }
+}
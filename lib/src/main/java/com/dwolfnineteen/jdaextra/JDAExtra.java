@@ -22,14 +22,43 @@
  */
 package com.dwolfnineteen.jdaextra;
 
+import com.dwolfnineteen.jdaextra.analytics.UsageLog;
+import com.dwolfnineteen.jdaextra.annotations.commands.Cached;
+import com.dwolfnineteen.jdaextra.annotations.commands.GuildScoped;
+import com.dwolfnineteen.jdaextra.annotations.commands.MaxConcurrency;
+import com.dwolfnineteen.jdaextra.annotations.commands.Priority;
+import com.dwolfnineteen.jdaextra.annotations.commands.Remote;
+import com.dwolfnineteen.jdaextra.annotations.commands.SingleFlight;
 import com.dwolfnineteen.jdaextra.builders.CommandBuilder;
 import com.dwolfnineteen.jdaextra.builders.HybridCommandBuilder;
 import com.dwolfnineteen.jdaextra.builders.PrefixCommandBuilder;
 import com.dwolfnineteen.jdaextra.builders.SlashCommandBuilder;
+import com.dwolfnineteen.jdaextra.caching.ResultCache;
+import com.dwolfnineteen.jdaextra.caching.SingleFlightGroup;
 import com.dwolfnineteen.jdaextra.commands.HybridCommand;
 import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
 import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.concurrency.Bulkhead;
+import com.dwolfnineteen.jdaextra.concurrency.ConcurrencyLimiter;
+import com.dwolfnineteen.jdaextra.diagnostics.SlowCommandWatchdog;
+import com.dwolfnineteen.jdaextra.errors.CommandErrorContext;
+import com.dwolfnineteen.jdaextra.errors.CommandErrorHandler;
+import com.dwolfnineteen.jdaextra.events.CommandEvent;
+import com.dwolfnineteen.jdaextra.events.HybridCommandEvent;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.CommandInputException;
 import com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException;
+import com.dwolfnineteen.jdaextra.exceptions.ConcurrencyLimitException;
+import com.dwolfnineteen.jdaextra.exceptions.EntryPointInvocationException;
+import com.dwolfnineteen.jdaextra.exceptions.InvalidHybridEventException;
+import com.dwolfnineteen.jdaextra.exceptions.InvocationExpiredException;
+import com.dwolfnineteen.jdaextra.exceptions.RemoteExecutionException;
+import com.dwolfnineteen.jdaextra.exceptions.SchedulerOverloadException;
+import com.dwolfnineteen.jdaextra.exceptions.buildtime.CommandBuildException;
+import com.dwolfnineteen.jdaextra.filters.EventDeduplicator;
+import com.dwolfnineteen.jdaextra.interactions.DeferralWatchdog;
+import com.dwolfnineteen.jdaextra.interactions.InteractionAcknowledgement;
 import com.dwolfnineteen.jdaextra.models.CommonCommandProperties;
 import com.dwolfnineteen.jdaextra.models.CommonSlashLikeCommandProperties;
 import com.dwolfnineteen.jdaextra.models.commands.CommandModel;
@@ -41,16 +70,36 @@ import com.dwolfnineteen.jdaextra.models.subcommands.PrefixSubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.SubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.groups.GeneralSubcommandGroupData;
 import com.dwolfnineteen.jdaextra.models.subcommands.groups.SubcommandGroupProperties;
+import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
 import com.dwolfnineteen.jdaextra.options.data.GeneralOptionData;
 import com.dwolfnineteen.jdaextra.parsers.CommandParser;
 import com.dwolfnineteen.jdaextra.parsers.HybridCommandParser;
 import com.dwolfnineteen.jdaextra.parsers.PrefixCommandParser;
 import com.dwolfnineteen.jdaextra.parsers.SlashCommandParser;
+import com.dwolfnineteen.jdaextra.registry.CommandRegistry;
+import com.dwolfnineteen.jdaextra.remote.InvocationEnvelope;
+import com.dwolfnineteen.jdaextra.remote.WorkerTransport;
+import com.dwolfnineteen.jdaextra.replies.ReplyCoalescer;
+import com.dwolfnineteen.jdaextra.replies.StreamingReply;
+import com.dwolfnineteen.jdaextra.scheduling.CommandScheduler;
+import com.dwolfnineteen.jdaextra.structured.TaskScope;
+import com.dwolfnineteen.jdaextra.suggestions.SuggestionIndex;
+import com.dwolfnineteen.jdaextra.suggestions.SuggestionRateLimiter;
+import com.dwolfnineteen.jdaextra.sync.GuildCommandSynchronizer;
+import com.dwolfnineteen.jdaextra.tracing.InvocationTrace;
+import com.dwolfnineteen.jdaextra.tracing.Phase;
+import com.dwolfnineteen.jdaextra.tracing.Tracer;
 import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.guild.GuildAvailableEvent;
+import net.dv8tion.jda.api.events.guild.GuildJoinEvent;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.events.session.ReadyEvent;
+import net.dv8tion.jda.api.events.session.ShutdownEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
@@ -58,18 +107,36 @@ import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.dv8tion.jda.api.interactions.commands.build.SubcommandGroupData;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiFunction;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -89,11 +156,47 @@ import java.util.stream.Collectors;
  * @see JDAExtraBuilder JDAExtraBuilder
  */
 public class JDAExtra extends ListenerAdapter {
+    /**
+     * Delay of the batched synchronization of runtime command changes with Discord.
+     */
+    public static final Duration COMMAND_SYNC_DELAY = Duration.ofSeconds(2);
+
+    private static final Logger LOG = LoggerFactory.getLogger(JDAExtra.class);
+    private static final String SLASH_POLICY_TYPE = "slash";
+    private static final String PREFIX_POLICY_TYPE = "prefix";
+    private static final String HYBRID_POLICY_TYPE = "hybrid";
+
     private final String prefix;
     private final boolean whenMention;
-    private final Map<String, HybridCommandModel> hybridCommandModels;
-    private final Map<String, PrefixCommandModel> prefixCommandModels;
-    private final Map<String, SlashCommandModel> slashCommandModels;
+    private final boolean parallelBuild;
+    private final CommandRegistry<HybridCommandModel> hybridCommandModels;
+    private final CommandRegistry<PrefixCommandModel> prefixCommandModels;
+    private final CommandRegistry<SlashCommandModel> slashCommandModels;
+    private final AtomicBoolean commandSyncPending;
+    private final AtomicBoolean slashLikeCommandsChanged;
+    private final DeferralWatchdog deferralWatchdog;
+    private final ReplyCoalescer replyCoalescer;
+    private final Tracer tracer;
+    private final SlowCommandWatchdog slowCommandWatchdog;
+    private final CommandErrorHandler errorHandler;
+    // Prefix and hybrid commands, for messages
+    private volatile SuggestionIndex messageSuggestionIndex;
+    // Slash and hybrid commands, for interactions
+    private volatile SuggestionIndex interactionSuggestionIndex;
+    private final SuggestionRateLimiter suggestionRateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final EventDeduplicator eventDeduplicator;
+    private final CommandScheduler commandScheduler;
+    private final WorkerTransport remoteTransport;
+    private final Set<String> remoteCommands;
+    private final UsageLog usageLog;
+    private final ResultCache resultCache;
+    private final SingleFlightGroup singleFlightGroup;
+    // @Cached and @SingleFlight of the entry points, resolved once per command (absent keys use neither)
+    private final Map<String, Map<Method, Cached>> cachedEntryPoints;
+    private final Map<String, Map<Method, SingleFlight>> singleFlightEntryPoints;
+    private final GuildCommandSynchronizer guildCommandSynchronizer;
+    private volatile JDA jda;
 
     /**
      * Build new {@link JDAExtra} instance (usually called from {@link JDAExtraBuilder}).
@@ -109,25 +212,330 @@ public class JDAExtra extends ListenerAdapter {
                     @NotNull List<HybridCommand> hybridCommands,
                     @NotNull List<PrefixCommand> prefixCommands,
                     @NotNull List<SlashCommand> slashCommands) {
-        this.prefix = prefix;
-        this.whenMention = whenMention;
+        this((whenMention ? new JDAExtraBuilder().setWhenMentionOr(prefix) : new JDAExtraBuilder().setPrefix(prefix))
+                .addHybridCommands(hybridCommands.toArray(new HybridCommand[0]))
+                .addPrefixCommands(prefixCommands.toArray(new PrefixCommand[0]))
+                .addSlashCommands(slashCommands.toArray(new SlashCommand[0])));
+    }
+
+    /**
+     * Build new {@link JDAExtra} instance from the {@link JDAExtraBuilder} configuration.
+     *
+     * @param builder The {@link JDAExtraBuilder}.
+     */
+    JDAExtra(@NotNull JDAExtraBuilder builder) {
+        this.prefix = builder.prefix;
+        this.whenMention = builder.whenMention;
+        this.parallelBuild = builder.parallelBuild;
+        this.deferralWatchdog = builder.autoDeferThreshold == null
+                ? null
+                : new DeferralWatchdog(builder.autoDeferThreshold, builder.autoDeferEphemeral);
+        this.replyCoalescer = builder.replyCoalescingWindow == null
+                ? null
+                : new ReplyCoalescer(builder.replyCoalescingWindow);
+        this.tracer = builder.traceSink == null ? null : new Tracer(builder.tracingSampleRate, builder.traceSink);
+        this.slowCommandWatchdog = builder.slowInvocationHandler == null
+                ? null
+                : new SlowCommandWatchdog(builder.slowCommandThreshold,
+                        builder.slowCommandThresholds,
+                        builder.slowInvocationHandler);
+        this.errorHandler = builder.errorHandler;
+        this.eventDeduplicator = builder.deduplicationWindow == null
+                ? null
+                : new EventDeduplicator(builder.deduplicationWindow, builder.deduplicationCapacity);
+
+        this.slashCommandModels = new CommandRegistry<>(buildCommandProperties(builder.slashCommands, SlashCommandBuilder::new));
+        this.prefixCommandModels = new CommandRegistry<>(buildCommandProperties(builder.prefixCommands, PrefixCommandBuilder::new));
+        this.hybridCommandModels = new CommandRegistry<>(buildCommandProperties(builder.hybridCommands, HybridCommandBuilder::new));
+        this.commandSyncPending = new AtomicBoolean();
+        this.slashLikeCommandsChanged = new AtomicBoolean();
+
+        this.concurrencyLimiter = new ConcurrencyLimiter();
+        this.commandScheduler = builder.schedulerThreads == 0
+                ? null
+                : new CommandScheduler(builder.schedulerThreads, builder.schedulerQueueCapacity, builder.prefixCommandSlack);
+        this.remoteTransport = builder.remoteTransport;
+        this.remoteCommands = ConcurrentHashMap.newKeySet();
+        this.cachedEntryPoints = new ConcurrentHashMap<>();
+        this.singleFlightEntryPoints = new ConcurrentHashMap<>();
+        this.usageLog = builder.usageLogDirectory == null
+                ? null
+                : new UsageLog(builder.usageLogDirectory, builder.usageLogSegmentRecords, builder.usageLogRetainedSegments);
+        this.resultCache = builder.resultCacheSize == 0 ? null : new ResultCache(builder.resultCacheSize);
+        this.singleFlightGroup = new SingleFlightGroup();
+        this.guildCommandSynchronizer = builder.guildCommandRequestsPerSecond == 0
+                ? null
+                : new GuildCommandSynchronizer(builder.guildCommandStateFile, builder.guildCommandRequestsPerSecond);
+
+        buildCommandPolicies(slashCommandModels.snapshot().values());
+        buildCommandPolicies(prefixCommandModels.snapshot().values());
+        buildCommandPolicies(hybridCommandModels.snapshot().values());
+
+        if (builder.suggestionCooldown == null) {
+            this.suggestionRateLimiter = null;
+        } else {
+            buildSuggestionIndexes(builder.suggestionMaxDistance);
+            this.suggestionRateLimiter = new SuggestionRateLimiter(builder.suggestionCooldown);
+        }
+    }
+
+    // One index per dispatch namespace, so a suggestion can always be invoked the way the typo was
+    private void buildSuggestionIndexes(int maxDistance) {
+        Collection<HybridCommandModel> hybridModels = hybridCommandModels.snapshot().values();
+        List<CommonCommandProperties> messageModels = new ArrayList<>(prefixCommandModels.snapshot().values());
+        List<CommonCommandProperties> interactionModels = new ArrayList<>(slashCommandModels.snapshot().values());
 
-        this.slashCommandModels = buildCommandProperties(slashCommands, SlashCommandBuilder::new);
-        this.prefixCommandModels = buildCommandProperties(prefixCommands, PrefixCommandBuilder::new);
-        this.hybridCommandModels = buildCommandProperties(hybridCommands, HybridCommandBuilder::new);
+        messageModels.addAll(hybridModels);
+        interactionModels.addAll(hybridModels);
+
+        messageSuggestionIndex = new SuggestionIndex(maxDistance, messageModels);
+        interactionSuggestionIndex = new SuggestionIndex(maxDistance, interactionModels);
     }
 
-    private <T, P extends CommonCommandProperties> @NotNull Map<String, P> buildCommandProperties(@NotNull List<T> commands,
+    private <T, P extends CommonCommandProperties> @NotNull Collection<P> buildCommandProperties(@NotNull List<T> commands,
                                                                                                   @NotNull Function<T, ? extends CommandBuilder> builderFunction) {
-        Map<String, P> propertiesMap = new HashMap<>();
+        List<P> models = parallelBuild
+                ? buildModelsInParallel(commands, builderFunction)
+                : buildModels(commands, builderFunction);
+
+        // Insertion order = order in which commands were added, regardless of the build mode
+        Map<String, P> propertiesMap = new LinkedHashMap<>();
+
+        for (P properties : models) {
+            propertiesMap.put(properties.getName(), properties);
+        }
+
+        return propertiesMap.values();
+    }
+
+    private void buildCommandPolicies(@NotNull Collection<? extends CommandModel> models) {
+        // Checked first, so a broken command doesn't leave the policies half applied
+        if (remoteTransport != null) {
+            for (CommandModel model : models) {
+                // Prefix invocations are never forwarded
+                if (!(model instanceof PrefixCommandModel) && model.getCommand().getClass().isAnnotationPresent(Remote.class)) {
+                    checkRemoteOptions(model);
+                }
+            }
+        }
+
+        for (CommandModel model : models) {
+            String key = getPolicyKey(model);
+            MaxConcurrency maxConcurrency = model.getCommand().getClass().getAnnotation(MaxConcurrency.class);
+            Priority priority = model.getCommand().getClass().getAnnotation(Priority.class);
+
+            // A replaced command may have dropped the annotations of the previous version
+            if (maxConcurrency != null) {
+                concurrencyLimiter.setLimits(key,
+                        maxConcurrency.perCommand(),
+                        maxConcurrency.perGuild(),
+                        maxConcurrency.perUser(),
+                        maxConcurrency.queueSize());
+            } else {
+                concurrencyLimiter.removeLimits(key);
+            }
+
+            if (commandScheduler != null) {
+                commandScheduler.setPriority(key, priority == null ? 0 : priority.value());
+            }
+
+            if (remoteTransport != null && model.getCommand().getClass().isAnnotationPresent(Remote.class)) {
+                remoteCommands.add(key);
+            } else {
+                remoteCommands.remove(key);
+            }
+
+            Map<Method, Cached> cached = new HashMap<>();
+            Map<Method, SingleFlight> singleFlight = new HashMap<>();
+
+            for (Map.Entry<Method, Class<?>> entry : getEntryPoints(model).entrySet()) {
+                Method entryPoint = entry.getKey();
+                Cached cachedAnnotation = findAnnotation(entryPoint, entry.getValue(), Cached.class);
+                SingleFlight singleFlightAnnotation = findAnnotation(entryPoint, entry.getValue(), SingleFlight.class);
+
+                if (resultCache != null && cachedAnnotation != null) {
+                    cached.put(entryPoint, cachedAnnotation);
+                }
+
+                if (singleFlightAnnotation != null) {
+                    singleFlight.put(entryPoint, singleFlightAnnotation);
+                }
+            }
+
+            putOrRemove(cachedEntryPoints, key, cached);
+            putOrRemove(singleFlightEntryPoints, key, singleFlight);
+        }
+    }
+
+    private static <V> void putOrRemove(@NotNull Map<String, Map<Method, V>> table,
+                                        @NotNull String key,
+                                        @NotNull Map<Method, V> value) {
+        if (value.isEmpty()) {
+            table.remove(key);
+        } else {
+            table.put(key, Map.copyOf(value));
+        }
+    }
+
+    /**
+     * Entry points of the command (with subcommands).
+     *
+     * @return {@link Map} of entry point and class of the object it's invoked on.
+     */
+    private static @NotNull Map<Method, Class<?>> getEntryPoints(@NotNull CommandModel model) {
+        Map<Method, Class<?>> entryPoints = new HashMap<>();
+        Class<?> commandClass = model.getCommand().getClass();
+
+        if (((CommonCommandProperties) model).getEntryPoint() != null) {
+            entryPoints.put(((CommonCommandProperties) model).getEntryPoint(), commandClass);
+        }
+
+        for (SubcommandProperties subcommand : model.getSubcommandList()) {
+            entryPoints.put(((CommonCommandProperties) subcommand).getEntryPoint(), commandClass);
+        }
+
+        for (SubcommandGroupProperties group : model.getSubcommandGroupList()) {
+            for (SubcommandProperties subcommand : group.getSubcommandList()) {
+                entryPoints.put(((CommonCommandProperties) subcommand).getEntryPoint(), group.getGroupClass().getClass());
+            }
+        }
+
+        return entryPoints;
+    }
+
+    private static <A extends Annotation> @Nullable A findAnnotation(@NotNull Method entryPoint,
+                                                                     @NotNull Class<?> clazz,
+                                                                     @NotNull Class<A> type) {
+        A annotation = entryPoint.getAnnotation(type);
+
+        return annotation == null ? clazz.getAnnotation(type) : annotation;
+    }
+
+    private void removeCommandPolicies(@NotNull CommandModel model) {
+        String key = getPolicyKey(model);
+
+        concurrencyLimiter.removeLimits(key);
+        remoteCommands.remove(key);
+        cachedEntryPoints.remove(key);
+        singleFlightEntryPoints.remove(key);
+
+        if (commandScheduler != null) {
+            commandScheduler.setPriority(key, 0);
+        }
+    }
+
+    /**
+     * Key of the command policies ({@link MaxConcurrency @MaxConcurrency}, {@link Priority @Priority}
+     * and {@link Remote @Remote}) in the {@link ConcurrencyLimiter} and the {@link CommandScheduler}:
+     * the command type and name, e.g. {@code slash ping}. Commands of different types never share policies,
+     * even if they have the same name.
+     *
+     * @param model The command model.
+     * @return The policy key.
+     */
+    public static @NotNull String getPolicyKey(@NotNull CommandModel model) {
+        String type;
+
+        if (model instanceof HybridCommandModel) {
+            type = HYBRID_POLICY_TYPE;
+        } else if (model instanceof PrefixCommandModel) {
+            type = PREFIX_POLICY_TYPE;
+        } else {
+            type = SLASH_POLICY_TYPE;
+        }
+
+        return type + " " + ((CommonCommandProperties) model).getName();
+    }
+
+    private static @NotNull String getPolicyKey(@NotNull CommandParser parser, @NotNull String commandName) {
+        String type;
+
+        if (parser instanceof HybridCommandParser) {
+            type = HYBRID_POLICY_TYPE;
+        } else if (parser instanceof PrefixCommandParser) {
+            type = PREFIX_POLICY_TYPE;
+        } else {
+            type = SLASH_POLICY_TYPE;
+        }
+
+        return type + " " + commandName;
+    }
+
+    /**
+     * Check that all arguments of the {@link Remote} command can be forwarded in an {@link InvocationEnvelope}.
+     *
+     * @throws IllegalArgumentException If an option type is not supported by {@link InvocationEnvelope}.
+     */
+    private void checkRemoteOptions(@NotNull CommandModel model) {
+        List<CommonCommandProperties> entryPoints = new ArrayList<>();
+
+        entryPoints.add((CommonCommandProperties) model);
+
+        for (SubcommandProperties subcommand : model.getSubcommandList()) {
+            entryPoints.add((CommonCommandProperties) subcommand);
+        }
+        for (SubcommandGroupProperties group : model.getSubcommandGroupList()) {
+            for (SubcommandProperties subcommand : group.getSubcommandList()) {
+                entryPoints.add((CommonCommandProperties) subcommand);
+            }
+        }
+
+        for (CommonCommandProperties entryPoint : entryPoints) {
+            for (CommandOptionData option : entryPoint.getOptions()) {
+                if (!InvocationEnvelope.isSupported(option.getType())) {
+                    throw new IllegalArgumentException(String.format("Remote command '%s': option '%s' of type %s can't be forwarded to workers",
+                            ((CommonCommandProperties) model).getName(),
+                            option.getName(),
+                            option.getType()));
+                }
+            }
+        }
+    }
+
+    private <T, P extends CommonCommandProperties> @NotNull List<P> buildModels(@NotNull List<T> commands,
+                                                                                @NotNull Function<T, ? extends CommandBuilder> builderFunction) {
+        List<P> models = new ArrayList<>(commands.size());
 
         for (T command : commands) {
             @SuppressWarnings("unchecked") // TODO: Fix unchecked cast
             P properties = (P) builderFunction.apply(command).buildModel();
-            propertiesMap.put(properties.getName(), properties);
+            models.add(properties);
+        }
+
+        return models;
+    }
+
+    private <T, P extends CommonCommandProperties> @NotNull List<P> buildModelsInParallel(@NotNull List<T> commands,
+                                                                                          @NotNull Function<T, ? extends CommandBuilder> builderFunction) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        List<ForkJoinTask<P>> tasks = new ArrayList<>(commands.size());
+
+        for (T command : commands) {
+            @SuppressWarnings("unchecked") // TODO: Fix unchecked cast
+            ForkJoinTask<P> task = pool.submit(() -> (P) builderFunction.apply(command).buildModel());
+            tasks.add(task);
+        }
+
+        List<P> models = new ArrayList<>(commands.size());
+        List<Throwable> failures = new ArrayList<>();
+
+        // Join in submission order, so the failures are reported in the order of the source commands
+        for (ForkJoinTask<P> task : tasks) {
+            try {
+                models.add(task.get());
+            } catch (ExecutionException exception) {
+                failures.add(exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                failures.add(exception);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new CommandBuildException(failures);
         }
 
-        return propertiesMap;
+        return models;
     }
 
     /**
@@ -150,47 +558,494 @@ public class JDAExtra extends ListenerAdapter {
 
     /**
      * Map of command name and {@link HybridCommandModel}.
+     * <br>
+     * This is an immutable snapshot; use {@link #registerHybridCommand(HybridCommand)} and
+     * {@link #unregisterHybridCommand(String)} to change the commands.
      *
      * @return Map of command name and {@link HybridCommandModel}.
      * @see com.dwolfnineteen.jdaextra.builders builders
      */
     public @NotNull Map<String, HybridCommandModel> getHybridCommandModels() {
-        return hybridCommandModels;
+        return hybridCommandModels.snapshot();
     }
 
     /**
      * Map of command name and {@link PrefixCommandModel}.
+     * <br>
+     * This is an immutable snapshot; use {@link #registerPrefixCommand(PrefixCommand)} and
+     * {@link #unregisterPrefixCommand(String)} to change the commands.
      *
      * @return Map of command name and {@link PrefixCommandModel}.
      * @see com.dwolfnineteen.jdaextra.builders builders
      */
     public @NotNull Map<String, PrefixCommandModel> getPrefixCommandModels() {
-        return prefixCommandModels;
+        return prefixCommandModels.snapshot();
     }
 
     /**
      * Map of command name and {@link SlashCommandModel}.
+     * <br>
+     * This is an immutable snapshot; use {@link #registerSlashCommand(SlashCommand)} and
+     * {@link #unregisterSlashCommand(String)} to change the commands.
      *
      * @return Map of command name and {@link SlashCommandModel}.
      * @see com.dwolfnineteen.jdaextra.builders builders
      */
     public @NotNull Map<String, SlashCommandModel> getSlashCommandModels() {
-        return slashCommandModels;
+        return slashCommandModels.snapshot();
+    }
+
+    /**
+     * The {@link DeferralWatchdog}, which automatically defers slash interactions.
+     *
+     * @return The {@link DeferralWatchdog}. {@code null} if auto-defer is disabled.
+     * @see JDAExtraBuilder#setAutoDefer(java.time.Duration, boolean) JDAExtraBuilder.setAutoDefer()
+     */
+    public @Nullable DeferralWatchdog getDeferralWatchdog() {
+        return deferralWatchdog;
+    }
+
+    /**
+     * The {@link ReplyCoalescer}, which merges replies sent with {@code queueReply()}/{@code queueEdit()}.
+     *
+     * @return The {@link ReplyCoalescer}. {@code null} if reply coalescing is disabled.
+     * @see JDAExtraBuilder#setReplyCoalescing(java.time.Duration) JDAExtraBuilder.setReplyCoalescing()
+     */
+    public @Nullable ReplyCoalescer getReplyCoalescer() {
+        return replyCoalescer;
+    }
+
+    /**
+     * The {@link Tracer}, which samples and exports per-invocation phase traces.
+     *
+     * @return The {@link Tracer}. {@code null} if tracing is disabled.
+     * @see JDAExtraBuilder#setTracing(double, com.dwolfnineteen.jdaextra.tracing.TraceSink) JDAExtraBuilder.setTracing()
+     */
+    public @Nullable Tracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * The {@link SlowCommandWatchdog}, which captures stacks of stuck invocations.
+     *
+     * @return The {@link SlowCommandWatchdog}. {@code null} if the watchdog is disabled.
+     * @see JDAExtraBuilder#setSlowCommandWatchdog(java.time.Duration, com.dwolfnineteen.jdaextra.diagnostics.SlowInvocationHandler)
+     * JDAExtraBuilder.setSlowCommandWatchdog()
+     */
+    public @Nullable SlowCommandWatchdog getSlowCommandWatchdog() {
+        return slowCommandWatchdog;
+    }
+
+    /**
+     * The {@link CommandErrorHandler}, which handles errors thrown while dispatching and running commands.
+     *
+     * @return The {@link CommandErrorHandler}. {@code null} if errors propagate into the JDA event loop.
+     * @see JDAExtraBuilder#setErrorHandler(CommandErrorHandler) JDAExtraBuilder.setErrorHandler()
+     */
+    public @Nullable CommandErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
+    /**
+     * The {@link SuggestionIndex} of prefix and hybrid commands, which suggests names for unknown commands in messages.
+     *
+     * @return The {@link SuggestionIndex}. {@code null} if suggestions are disabled.
+     * @see JDAExtraBuilder#setCommandSuggestions(int, java.time.Duration) JDAExtraBuilder.setCommandSuggestions()
+     */
+    public @Nullable SuggestionIndex getMessageSuggestionIndex() {
+        return messageSuggestionIndex;
+    }
+
+    /**
+     * The {@link SuggestionIndex} of slash and hybrid commands, which suggests names for unknown commands
+     * in interactions.
+     *
+     * @return The {@link SuggestionIndex}. {@code null} if suggestions are disabled.
+     * @see JDAExtraBuilder#setCommandSuggestions(int, java.time.Duration) JDAExtraBuilder.setCommandSuggestions()
+     */
+    public @Nullable SuggestionIndex getInteractionSuggestionIndex() {
+        return interactionSuggestionIndex;
+    }
+
+    /**
+     * The {@link ConcurrencyLimiter}, which holds the concurrency limits of commands
+     * (see {@link MaxConcurrency @MaxConcurrency}). The limits may be changed at runtime.
+     *
+     * @return The {@link ConcurrencyLimiter}.
+     */
+    public @NotNull ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * The {@link EventDeduplicator}, which suppresses events dispatched twice.
+     *
+     * @return The {@link EventDeduplicator}. {@code null} if deduplication is disabled.
+     * @see JDAExtraBuilder#setEventDeduplication(java.time.Duration, int) JDAExtraBuilder.setEventDeduplication()
+     */
+    public @Nullable EventDeduplicator getEventDeduplicator() {
+        return eventDeduplicator;
+    }
+
+    /**
+     * The {@link CommandScheduler}, which runs invocations on worker threads in order of their deadlines.
+     *
+     * @return The {@link CommandScheduler}. {@code null} if invocations run on the JDA event thread.
+     * @see JDAExtraBuilder#setCommandScheduler(int, java.time.Duration) JDAExtraBuilder.setCommandScheduler()
+     */
+    public @Nullable CommandScheduler getCommandScheduler() {
+        return commandScheduler;
+    }
+
+    /**
+     * The {@link WorkerTransport}, which forwards {@link Remote} commands to worker processes.
+     *
+     * @return The {@link WorkerTransport}. {@code null} if all commands run locally.
+     * @see JDAExtraBuilder#setRemoteTransport(WorkerTransport) JDAExtraBuilder.setRemoteTransport()
+     */
+    public @Nullable WorkerTransport getRemoteTransport() {
+        return remoteTransport;
+    }
+
+    /**
+     * The {@link UsageLog}, which records every invocation for analytics.
+     *
+     * @return The {@link UsageLog}. {@code null} if usage logging is disabled.
+     * @see JDAExtraBuilder#setUsageLog(java.nio.file.Path, int, int) JDAExtraBuilder.setUsageLog()
+     */
+    public @Nullable UsageLog getUsageLog() {
+        return usageLog;
+    }
+
+    /**
+     * The {@link ResultCache}, which answers {@link Cached} commands without invoking them.
+     *
+     * @return The {@link ResultCache}. {@code null} if result caching is disabled.
+     * @see JDAExtraBuilder#setResultCache(int) JDAExtraBuilder.setResultCache()
+     */
+    public @Nullable ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * The {@link SingleFlightGroup}, which coalesces concurrent invocations of {@link SingleFlight} commands.
+     *
+     * @return The {@link SingleFlightGroup}.
+     */
+    public @NotNull SingleFlightGroup getSingleFlightGroup() {
+        return singleFlightGroup;
+    }
+
+    /**
+     * The {@link GuildCommandSynchronizer}, which pushes {@link GuildScoped} command sets to guilds.
+     *
+     * @return The {@link GuildCommandSynchronizer}. {@code null} if guild command sets are disabled.
+     * @see JDAExtraBuilder#setGuildCommandSync(java.nio.file.Path, int) JDAExtraBuilder.setGuildCommandSync()
+     */
+    public @Nullable GuildCommandSynchronizer getGuildCommandSynchronizer() {
+        return guildCommandSynchronizer;
+    }
+
+    /**
+     * Register the slash command at runtime (or replace the command with the same name).
+     * <br>
+     * Changes are synchronized with Discord in batches, after {@link #COMMAND_SYNC_DELAY}.
+     *
+     * @param command The command class.
+     * @return The built {@link SlashCommandModel}.
+     */
+    public @NotNull SlashCommandModel registerSlashCommand(@NotNull SlashCommand command) {
+        SlashCommandModel model = new SlashCommandBuilder(command).buildModel();
+
+        // Before registering, so a command with broken policies never becomes visible
+        buildCommandPolicies(Collections.singletonList(model));
+        slashCommandModels.register(model);
+        scheduleCommandSync(true);
+
+        return model;
+    }
+
+    /**
+     * Unregister the slash command at runtime.
+     * <br>
+     * Changes are synchronized with Discord in batches, after {@link #COMMAND_SYNC_DELAY}.
+     *
+     * @param name The command name.
+     * @return The removed {@link SlashCommandModel}. {@code null} if no such command is registered.
+     */
+    public @Nullable SlashCommandModel unregisterSlashCommand(@NotNull String name) {
+        SlashCommandModel model = slashCommandModels.unregister(name);
+
+        if (model != null) {
+            removeCommandPolicies(model);
+            scheduleCommandSync(true);
+        }
+
+        return model;
+    }
+
+    /**
+     * Register the prefix command at runtime (or replace the command with the same name).
+     *
+     * @param command The command class.
+     * @return The built {@link PrefixCommandModel}.
+     */
+    public @NotNull PrefixCommandModel registerPrefixCommand(@NotNull PrefixCommand command) {
+        PrefixCommandModel model = new PrefixCommandBuilder(command).buildModel();
+
+        // Before registering, so a command with broken policies never becomes visible
+        buildCommandPolicies(Collections.singletonList(model));
+        prefixCommandModels.register(model);
+        scheduleCommandSync(false);
+
+        return model;
+    }
+
+    /**
+     * Unregister the prefix command at runtime.
+     *
+     * @param name The command name.
+     * @return The removed {@link PrefixCommandModel}. {@code null} if no such command is registered.
+     */
+    public @Nullable PrefixCommandModel unregisterPrefixCommand(@NotNull String name) {
+        PrefixCommandModel model = prefixCommandModels.unregister(name);
+
+        if (model != null) {
+            removeCommandPolicies(model);
+            scheduleCommandSync(false);
+        }
+
+        return model;
+    }
+
+    /**
+     * Register the hybrid command at runtime (or replace the command with the same name).
+     * <br>
+     * Changes are synchronized with Discord in batches, after {@link #COMMAND_SYNC_DELAY}.
+     *
+     * @param command The command class.
+     * @return The built {@link HybridCommandModel}.
+     */
+    public @NotNull HybridCommandModel registerHybridCommand(@NotNull HybridCommand command) {
+        HybridCommandModel model = new HybridCommandBuilder(command).buildModel();
+
+        // Before registering, so a command with broken policies never becomes visible
+        buildCommandPolicies(Collections.singletonList(model));
+        hybridCommandModels.register(model);
+        scheduleCommandSync(true);
+
+        return model;
+    }
+
+    /**
+     * Unregister the hybrid command at runtime.
+     * <br>
+     * Changes are synchronized with Discord in batches, after {@link #COMMAND_SYNC_DELAY}.
+     *
+     * @param name The command name.
+     * @return The removed {@link HybridCommandModel}. {@code null} if no such command is registered.
+     */
+    public @Nullable HybridCommandModel unregisterHybridCommand(@NotNull String name) {
+        HybridCommandModel model = hybridCommandModels.unregister(name);
+
+        if (model != null) {
+            removeCommandPolicies(model);
+            scheduleCommandSync(true);
+        }
+
+        return model;
+    }
+
+    private void scheduleCommandSync(boolean slashLike) {
+        if (slashLike) {
+            slashLikeCommandsChanged.set(true);
+        }
+
+        // One batch at a time; changes made while a batch is pending join it
+        if (commandSyncPending.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::syncCommands,
+                    CompletableFuture.delayedExecutor(COMMAND_SYNC_DELAY.toMillis(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private void syncCommands() {
+        // Cleared first, so changes made during the synchronization schedule the next batch
+        commandSyncPending.set(false);
+
+        SuggestionIndex index = messageSuggestionIndex;
+
+        if (index != null) {
+            buildSuggestionIndexes(index.getMaxDistance());
+        }
+
+        JDA jda = this.jda;
+
+        // Before ready, onReady() uploads the current commands
+        if (jda != null && slashLikeCommandsChanged.getAndSet(false)) {
+            updateCommands(jda);
+
+            if (guildCommandSynchronizer != null) {
+                guildCommandSynchronizer.commandsChanged();
+            }
+        }
+    }
+
+    /**
+     * Stop background threads of this {@link JDAExtra} instance.
+     * <br>
+     * Called automatically on {@link ShutdownEvent}.
+     */
+    public void shutdown() {
+        concurrencyLimiter.shutdown();
+
+        if (deferralWatchdog != null) {
+            deferralWatchdog.shutdown();
+        }
+
+        if (replyCoalescer != null) {
+            replyCoalescer.shutdown();
+        }
+
+        if (tracer != null) {
+            tracer.shutdown();
+        }
+
+        if (slowCommandWatchdog != null) {
+            slowCommandWatchdog.shutdown();
+        }
+
+        if (commandScheduler != null) {
+            commandScheduler.shutdown();
+        }
+
+        if (remoteTransport != null) {
+            remoteTransport.close();
+        }
+
+        if (usageLog != null) {
+            usageLog.close();
+        }
+
+        if (guildCommandSynchronizer != null) {
+            guildCommandSynchronizer.close();
+        }
+    }
+
+    /**
+     * {@link ShutdownEvent} handler for stopping background threads.
+     *
+     * @param event The {@link ShutdownEvent}.
+     */
+    @Override
+    public void onShutdown(@NotNull ShutdownEvent event) {
+        shutdown();
+    }
+
+    // TODO: Data must be bound before login, move to constructor
+    /**
+     * {@link ReadyEvent} handler for adding application command data to {@link JDA}.
+     *
+     * @param event The {@link ReadyEvent}.
+     */
+    @Override
+    public void onReady(@NotNull ReadyEvent event) {
+        jda = event.getJDA();
+
+        updateCommands(event.getJDA());
+
+        if (guildCommandSynchronizer != null) {
+            guildCommandSynchronizer.start(event.getJDA(), this::buildGuildCommandData);
+        }
+    }
+
+    /**
+     * {@link GuildReadyEvent} handler for synchronizing guild-scoped commands of guilds loaded after {@link ReadyEvent}.
+     *
+     * @param event The {@link GuildReadyEvent}.
+     */
+    @Override
+    public void onGuildReady(@NotNull GuildReadyEvent event) {
+        if (guildCommandSynchronizer != null) {
+            guildCommandSynchronizer.guildAvailable(event.getGuild().getIdLong());
+        }
+    }
+
+    /**
+     * {@link GuildAvailableEvent} handler for synchronizing guild-scoped commands of guilds back from an outage.
+     *
+     * @param event The {@link GuildAvailableEvent}.
+     */
+    @Override
+    public void onGuildAvailable(@NotNull GuildAvailableEvent event) {
+        if (guildCommandSynchronizer != null) {
+            guildCommandSynchronizer.guildAvailable(event.getGuild().getIdLong());
+        }
+    }
+
+    /**
+     * {@link GuildJoinEvent} handler for synchronizing guild-scoped commands of joined guilds.
+     *
+     * @param event The {@link GuildJoinEvent}.
+     */
+    @Override
+    public void onGuildJoin(@NotNull GuildJoinEvent event) {
+        if (guildCommandSynchronizer != null) {
+            guildCommandSynchronizer.guildAvailable(event.getGuild().getIdLong());
+        }
+    }
+
+    // Global commands, without guild-scoped ones
+    private void updateCommands(@NotNull JDA jda) {
+        List<CommonCommandProperties> models = new ArrayList<>();
+
+        for (CommandModel model : getSlashLikeCommandModels()) {
+            if (!model.getCommand().getClass().isAnnotationPresent(GuildScoped.class)) {
+                models.add((CommonCommandProperties) model);
+            }
+        }
+
+        jda.updateCommands()
+                .addCommands(buildCommandData(models))
+                .queue();
+    }
+
+    private @NotNull List<CommandData> buildGuildCommandData(@NotNull Set<String> sets) {
+        List<CommonCommandProperties> models = new ArrayList<>();
+
+        for (CommandModel model : getSlashLikeCommandModels()) {
+            GuildScoped guildScoped = model.getCommand().getClass().getAnnotation(GuildScoped.class);
+
+            if (guildScoped != null && Arrays.stream(guildScoped.value()).anyMatch(sets::contains)) {
+                models.add((CommonCommandProperties) model);
+            }
+        }
+
+        return buildCommandData(models);
+    }
+
+    private @NotNull List<CommandModel> getSlashLikeCommandModels() {
+        List<CommandModel> models = new ArrayList<>(slashCommandModels.snapshot().values());
+        models.addAll(hybridCommandModels.snapshot().values());
+
+        return models;
     }
 
-    // TODO: Data must be bound before login, move to constructor
     /**
-     * {@link ReadyEvent} handler for adding application command data to {@link JDA}.
-     *
-     * @param event The {@link ReadyEvent}.
+     * Whether a guild-scoped command can be invoked by the message.
+     * Discord only delivers slash commands from guilds they are registered in, so they're always available.
      */
-    @Override
-    public void onReady(@NotNull ReadyEvent event) {
-        event.getJDA()
-                .updateCommands()
-                .addCommands(buildCommandData(slashCommandModels.values()))
-                .addCommands(buildCommandData(hybridCommandModels.values()))
-                .queue();
+    private boolean isAvailable(@NotNull CommandModel model, @NotNull GenericEvent event) {
+        GuildScoped guildScoped = model.getCommand().getClass().getAnnotation(GuildScoped.class);
+
+        if (guildScoped == null || !(event instanceof MessageReceivedEvent)) {
+            return true;
+        }
+
+        MessageReceivedEvent messageEvent = (MessageReceivedEvent) event;
+
+        return guildCommandSynchronizer != null
+                && messageEvent.isFromGuild()
+                && guildCommandSynchronizer.isAssignedAny(messageEvent.getGuild().getIdLong(), guildScoped.value());
     }
 
     private <T extends CommonCommandProperties> @NotNull List<CommandData> buildCommandData(@NotNull Collection<T> propertiesList) {
@@ -229,6 +1084,17 @@ public class JDAExtra extends ListenerAdapter {
         return data;
     }
 
+    /**
+     * {@link ButtonInteractionEvent} handler for cancel buttons of {@link TaskScope task scopes}.
+     *
+     * @param event The {@link ButtonInteractionEvent}.
+     * @see TaskScope#createCancelButton(String)
+     */
+    @Override
+    public void onButtonInteraction(@NotNull ButtonInteractionEvent event) {
+        TaskScope.handleCancelButton(event);
+    }
+
     /**
      * {@link SlashCommandInteractionEvent} handler for parsing slash commands and executing their logic.
      *
@@ -236,17 +1102,41 @@ public class JDAExtra extends ListenerAdapter {
      */
     @Override
     public void onSlashCommandInteraction(@NotNull SlashCommandInteractionEvent event) {
-        SlashCommandModel properties = slashCommandModels.get(event.getName());
+        if (eventDeduplicator != null && eventDeduplicator.isDuplicate(event.getIdLong())) {
+            return;
+        }
 
-        SlashCommandParser parser = new SlashCommandParser(this, event);
+        InvocationTrace trace = tracer == null ? InvocationTrace.NOOP : tracer.start(event, "slash_command");
 
-        if (properties == null) {
-            onHybridCommand(event.getName(), parser);
+        try {
+            // Tracked before parsing, so the parsing time is counted too
+            InteractionAcknowledgement acknowledgement = deferralWatchdog == null ? null : deferralWatchdog.track(event);
+            SlashCommandParser parser = new SlashCommandParser(this, event, acknowledgement);
 
-            return;
-        }
+            trace.mark(Phase.FILTER);
+
+            SlashCommandModel properties = slashCommandModels.get(event.getName());
+
+            if (properties == null) {
+                onHybridCommand(event.getName(), parser, trace);
+
+                return;
+            }
+
+            trace.route(properties.getName());
+
+            handleSlashCommand(event, parser.setProperties(properties), properties, trace);
+        } catch (RuntimeException exception) {
+            trace.setError(exception);
 
-        handleSlashCommand(event, parser.setProperties(properties), properties);
+            handleError(event, event.getName(), exception);
+        } catch (Error error) {
+            trace.setError(error);
+
+            throw error;
+        } finally {
+            trace.finish();
+        }
     }
 
     /**
@@ -256,42 +1146,109 @@ public class JDAExtra extends ListenerAdapter {
      */
     @Override
     public void onMessageReceived(@NotNull MessageReceivedEvent event) {
-        PrefixCommandParser parser = new PrefixCommandParser(this, event);
+        InvocationTrace trace = tracer == null ? InvocationTrace.NOOP : tracer.start(event, "message");
+        String commandName = null;
 
-        if (!parser.isCommand()) {
-            return;
+        try {
+            PrefixCommandParser parser = new PrefixCommandParser(this, event);
+
+            if (!parser.isCommand()) {
+                return;
+            }
+
+            // Only commands are recorded, so that chat traffic doesn't push them out of the window
+            if (eventDeduplicator != null && eventDeduplicator.isDuplicate(event.getMessageIdLong())) {
+                return;
+            }
+
+            trace.mark(Phase.FILTER);
+
+            commandName = parser.getName();
+
+            PrefixCommandModel properties = prefixCommandModels.get(commandName);
+
+            if (properties == null || !isAvailable(properties, event)) {
+                onHybridCommand(commandName, parser, trace);
+
+                return;
+            }
+
+            trace.route(properties.getName());
+
+            handlePrefixCommand(event, parser.setProperties(properties), properties, trace);
+        } catch (RuntimeException exception) {
+            trace.setError(exception);
+
+            handleError(event, commandName, exception);
+        } catch (Error error) {
+            trace.setError(error);
+
+            throw error;
+        } finally {
+            trace.finish();
+        }
+    }
+
+    private void handleError(@NotNull GenericEvent event,
+                             @Nullable String commandName,
+                             @NotNull RuntimeException exception) {
+        if (suggestionRateLimiter != null && exception instanceof CommandNotFoundException) {
+            exception = suggest(event, (CommandNotFoundException) exception);
         }
 
-        String commandName = parser.getName();
+        if (errorHandler == null) {
+            throw exception;
+        }
+
+        errorHandler.handle(new CommandErrorContext(this, event, commandName, exception));
+    }
 
-        PrefixCommandModel properties = prefixCommandModels.get(commandName);
+    private @NotNull CommandNotFoundException suggest(@NotNull GenericEvent event,
+                                                      @NotNull CommandNotFoundException exception) {
+        SuggestionIndex index;
+        long channelId;
+
+        if (event instanceof SlashCommandInteractionEvent) {
+            index = interactionSuggestionIndex;
+            channelId = ((SlashCommandInteractionEvent) event).getChannelIdLong();
+        } else if (event instanceof MessageReceivedEvent) {
+            index = messageSuggestionIndex;
+            channelId = ((MessageReceivedEvent) event).getChannel().getIdLong();
+        } else {
+            return exception;
+        }
 
-        if (properties == null) {
-            onHybridCommand(commandName, parser);
+        String suggestion = index.suggest(exception.getParentName(), exception.getCommandName());
 
-            return;
+        if (suggestion == null || !suggestionRateLimiter.tryAcquire(channelId)) {
+            return exception;
         }
 
-        handlePrefixCommand(event, parser.setProperties(properties), properties);
+        return new CommandNotFoundException(exception.getCommandName(), exception.getParentName(), suggestion);
     }
 
-    private void onHybridCommand(@NotNull String commandName, @NotNull CommandParser parser) {
+    private void onHybridCommand(@NotNull String commandName,
+                                 @NotNull CommandParser parser,
+                                 @NotNull InvocationTrace trace) {
         HybridCommandModel properties = hybridCommandModels.get(commandName);
 
-        if (properties == null) {
+        if (properties == null || !isAvailable(properties, parser.getSourceEvent())) {
             throw new CommandNotFoundException(commandName);
         }
 
+        trace.route(properties.getName());
+
         HybridCommandParser hybridParser = new HybridCommandParser(this, parser.getSourceEvent(), parser);
         hybridParser.setProperties(properties);
 
-        handleHybridCommand(parser.getSourceEvent(), hybridParser);
+        handleHybridCommand(parser.getSourceEvent(), hybridParser, trace);
     }
 
     private void handleSlashCommand(@NotNull SlashCommandInteractionEvent event,
                                     @NotNull SlashCommandParser parser,
-                                    @NotNull CommandModel properties) {
-        if (handleCommand(parser)) {
+                                    @NotNull CommandModel properties,
+                                    @NotNull InvocationTrace trace) {
+        if (handleCommand(parser, trace)) {
             return;
         }
 
@@ -299,237 +1256,676 @@ public class JDAExtra extends ListenerAdapter {
             SubcommandGroupProperties subcommandGroup = properties.getSubcommandGroupMap()
                     .get(event.getSubcommandGroup());
 
-            CommandParser subcommandParser = buildSubcommandInGroupParser(event,
+            CommonCommandProperties subcommand = findSubcommandInGroup(event.getName(),
+                    event.getSubcommandGroup(),
                     subcommandGroup,
-                    event.getSubcommandName(),
-                    SlashCommandParser::new);
+                    event.getSubcommandName());
+
+            trace.route(event.getFullCommandName());
 
-            runCommand(subcommandParser.getProperties().getEntryPoint(),
+            runCommand(event.getName(),
+                    subcommand.getEntryPoint(),
                     subcommandGroup.getGroupClass(),
-                    subcommandParser.buildInvokeArguments());
+                    parser.setProperties(subcommand),
+                    trace);
         } else if (event.getSubcommandName() != null) {
-            Map<String, ? extends SubcommandProperties> subcommandMap = properties.getSubcommandMap();
+            CommonCommandProperties subcommand = findSubcommand(properties.getSubcommandMap(),
+                    event.getName(),
+                    event.getSubcommandName());
 
-            CommandParser subcommandParser = buildSubcommandParser(event,
-                    subcommandMap,
-                    event.getSubcommandName(),
-                    SlashCommandParser::new);
+            trace.route(event.getFullCommandName());
 
-            runCommand(subcommandParser.getProperties().getEntryPoint(),
+            runCommand(event.getName(),
+                    subcommand.getEntryPoint(),
                     properties.getCommand(),
-                    subcommandParser.buildInvokeArguments());
+                    parser.setProperties(subcommand),
+                    trace);
         }
     }
 
     private void handlePrefixCommand(@NotNull MessageReceivedEvent event,
                                      @NotNull PrefixCommandParser parser,
-                                     @NotNull CommandModel properties) {
-        if (handleCommand(parser)) {
+                                     @NotNull CommandModel properties,
+                                     @NotNull InvocationTrace trace) {
+        if (((CommonCommandProperties) properties).getEntryPoint() != null) {
+            parser.addAsOptionMappings(parser.getOptions());
+
+            trace.mark(Phase.PARSE);
+        }
+
+        if (handleCommand(parser, trace)) {
             return;
         }
 
+        String commandName = ((CommonCommandProperties) properties).getName();
         String subcommandName = parser.getSubcommandName();
         PrefixSubcommandProperties subcommand = (PrefixSubcommandProperties) properties.getSubcommandMap().get(subcommandName);
 
+        // The source parser is reused for subcommands, the message is tokenized only once
         if (parser.getSubcommandGroupName() != null && parser.getSubcommandInGroupName() != null) {
             SubcommandGroupProperties subcommandGroup = properties.getSubcommandGroupMap()
                     .get(parser.getSubcommandGroupName());
 
             // TODO: Throw exception when !command invalidgroup <args>
             if (subcommand != null && !subcommand.getOptions().isEmpty()) {
-                Map<String, ? extends SubcommandProperties> subcommandMap = properties.getSubcommandMap();
+                trace.route(commandName + " " + subcommandName);
 
-                CommandParser subcommandParser = buildSubcommandParser(event,
-                        subcommandMap,
-                        parser.getSubcommandInGroupName(),
-                        PrefixCommandParser::new);
+                parser.setProperties(subcommand).addAsOptionMappings(parser.getSubcommandOptions());
 
-                List<String> options = ((PrefixCommandParser) subcommandParser).getSubcommandOptions();
-                ((PrefixCommandParser) subcommandParser).addAsOptionMappings(options);
+                trace.mark(Phase.PARSE);
 
-                runCommand(subcommandParser.getProperties().getEntryPoint(),
-                        properties.getCommand(),
-                        subcommandParser.buildInvokeArguments());
+                runCommand(commandName, subcommand.getEntryPoint(), properties.getCommand(), parser, trace);
 
                 return;
             }
 
-            CommandParser subcommandParser = buildSubcommandInGroupParser(event,
+            CommonCommandProperties subcommandInGroup = findSubcommandInGroup(commandName,
+                    parser.getSubcommandGroupName(),
                     subcommandGroup,
-                    parser.getSubcommandInGroupName(),
-                    PrefixCommandParser::new);
+                    parser.getSubcommandInGroupName());
 
-            List<String> options = ((PrefixCommandParser) subcommandParser).getSubcommandInGroupOptions();
-            ((PrefixCommandParser) subcommandParser).addAsOptionMappings(options);
+            trace.route(commandName + " " + parser.getSubcommandGroupName() + " " + parser.getSubcommandInGroupName());
 
-            runCommand(subcommandParser.getProperties().getEntryPoint(),
-                    subcommandGroup.getGroupClass(),
-                    subcommandParser.buildInvokeArguments());
+            parser.setProperties(subcommandInGroup).addAsOptionMappings(parser.getSubcommandInGroupOptions());
 
+            trace.mark(Phase.PARSE);
+
+            runCommand(commandName, subcommandInGroup.getEntryPoint(), subcommandGroup.getGroupClass(), parser, trace);
         } else if (subcommandName != null) {
-            Map<String, ? extends SubcommandProperties> subcommandMap = properties.getSubcommandMap();
+            CommonCommandProperties foundSubcommand = findSubcommand(properties.getSubcommandMap(), commandName, subcommandName);
 
-            CommandParser subcommandParser = buildSubcommandParser(event,
-                    subcommandMap,
-                    subcommandName,
-                    PrefixCommandParser::new);
+            trace.route(commandName + " " + subcommandName);
 
-            List<String> options = ((PrefixCommandParser) subcommandParser).getSubcommandOptions();
-            ((PrefixCommandParser) subcommandParser).addAsOptionMappings(options);
+            parser.setProperties(foundSubcommand).addAsOptionMappings(parser.getSubcommandOptions());
 
-            runCommand(subcommandParser.getProperties().getEntryPoint(),
-                    properties.getCommand(),
-                    subcommandParser.buildInvokeArguments());
+            trace.mark(Phase.PARSE);
+
+            runCommand(commandName, foundSubcommand.getEntryPoint(), properties.getCommand(), parser, trace);
         }
     }
 
-    // TODO: Cleanup code
-    private void handleHybridCommand(@NotNull GenericEvent event, @NotNull HybridCommandParser parser) {
-        if (handleCommand(parser)) {
+    private void handleHybridCommand(@NotNull GenericEvent event,
+                                     @NotNull HybridCommandParser parser,
+                                     @NotNull InvocationTrace trace) {
+        CommandParser sourceParser = parser.getSourceParser();
+        HybridCommandModel properties = (HybridCommandModel) Objects.requireNonNull(parser.getProperties());
+
+        if (sourceParser instanceof PrefixCommandParser && properties.getEntryPoint() != null) {
+            PrefixCommandParser prefixParser = (PrefixCommandParser) sourceParser;
+
+            prefixParser.setProperties(properties).addAsOptionMappings(prefixParser.getOptions());
+
+            trace.mark(Phase.PARSE);
+        }
+
+        if (handleCommand(parser, trace)) {
             return;
         }
 
-        CommandParser sourceParser = parser.getSourceParser();
-        HybridCommandModel properties = (HybridCommandModel) Objects.requireNonNull(parser.getProperties());
+        String subcommandGroupName;
+        String subcommandName;
+        List<String> prefixOptions = null;
 
         if (sourceParser instanceof SlashCommandParser) {
             SlashCommandInteractionEvent slashEvent = (SlashCommandInteractionEvent) event;
 
-            if (slashEvent.getSubcommandName() != null && slashEvent.getSubcommandGroup() != null) {
-                SubcommandGroupProperties subcommandGroup = properties.getSubcommandGroupMap()
-                        .get(slashEvent.getSubcommandGroup());
+            subcommandGroupName = slashEvent.getSubcommandGroup();
+            subcommandName = slashEvent.getSubcommandName();
+        } else if (sourceParser instanceof PrefixCommandParser) {
+            PrefixCommandParser prefixParser = (PrefixCommandParser) sourceParser;
 
-                if (subcommandGroup == null) {
-                    throw new CommandNotFoundException(slashEvent.getSubcommandGroup());
-                }
+            if (prefixParser.getSubcommandGroupName() != null
+                    && prefixParser.getSubcommandInGroupName() != null
+                    && properties.getSubcommandGroupMap().containsKey(prefixParser.getSubcommandGroupName())) {
+                subcommandGroupName = prefixParser.getSubcommandGroupName();
+                subcommandName = prefixParser.getSubcommandInGroupName();
+                prefixOptions = prefixParser.getSubcommandInGroupOptions();
+            } else {
+                subcommandGroupName = null;
+                subcommandName = prefixParser.getSubcommandName();
+                prefixOptions = prefixParser.getSubcommandOptions();
+            }
+        } else {
+            // Routed to the error handler by the event handler
+            throw new InvalidHybridEventException();
+        }
+
+        if (subcommandName == null) {
+            return;
+        }
 
-                Map<String, ? extends SubcommandProperties> subcommandMap = subcommandGroup.getSubcommandMap();
+        Object object;
+        CommonCommandProperties subcommand;
 
-                CommonCommandProperties subcommand = (CommonCommandProperties) subcommandMap.get(slashEvent.getSubcommandName());
+        if (subcommandGroupName != null) {
+            SubcommandGroupProperties subcommandGroup = findSubcommandGroup(properties.getName(),
+                    subcommandGroupName,
+                    properties.getSubcommandGroupMap().get(subcommandGroupName));
 
-                if (subcommand == null) {
-                    throw new CommandNotFoundException(slashEvent.getSubcommandName());
-                }
+            object = subcommandGroup.getGroupClass();
+            subcommand = findSubcommandInGroup(properties.getName(), subcommandGroupName, subcommandGroup, subcommandName);
+
+            trace.route(properties.getName() + " " + subcommandGroupName + " " + subcommandName);
+        } else {
+            object = properties.getCommand();
+            subcommand = findSubcommand(properties.getSubcommandMap(), properties.getName(), subcommandName);
+
+            trace.route(properties.getName() + " " + subcommandName);
+        }
+
+        if (prefixOptions != null) {
+            ((PrefixCommandParser) sourceParser).setProperties(subcommand).addAsOptionMappings(prefixOptions);
+
+            trace.mark(Phase.PARSE);
+        }
+
+        runCommand(properties.getName(), subcommand.getEntryPoint(), object, parser.setProperties(subcommand), trace);
+    }
+
+    private boolean handleCommand(@NotNull CommandParser parser, @NotNull InvocationTrace trace) {
+        CommandModel properties = (CommandModel) parser.getProperties();
+        Method entryPoint = ((CommonCommandProperties) properties).getEntryPoint();
+
+        if (entryPoint != null) {
+            runCommand(((CommonCommandProperties) properties).getName(), entryPoint, properties.getCommand(), parser, trace);
+
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private @NotNull SubcommandGroupProperties findSubcommandGroup(@NotNull String commandName,
+                                                                  @NotNull String subcommandGroupName,
+                                                                  @Nullable SubcommandGroupProperties subcommandGroup) {
+        if (subcommandGroup == null) {
+            throw new CommandNotFoundException(subcommandGroupName, commandName);
+        }
+
+        return subcommandGroup;
+    }
+
+    private @NotNull CommonCommandProperties findSubcommandInGroup(@NotNull String commandName,
+                                                                  @NotNull String subcommandGroupName,
+                                                                  @Nullable SubcommandGroupProperties subcommandGroup,
+                                                                  @NotNull String subcommandName) {
+        return findSubcommand(findSubcommandGroup(commandName, subcommandGroupName, subcommandGroup).getSubcommandMap(),
+                commandName + " " + subcommandGroupName,
+                subcommandName);
+    }
+
+    private @NotNull CommonCommandProperties findSubcommand(@NotNull Map<String, ? extends SubcommandProperties> subcommandMap,
+                                                           @NotNull String parentName,
+                                                           @NotNull String subcommandName) {
+        CommonCommandProperties subcommand = (CommonCommandProperties) subcommandMap.get(subcommandName);
+
+        if (subcommand == null) {
+            throw new CommandNotFoundException(subcommandName, parentName);
+        }
+
+        return subcommand;
+    }
+
+    private void runCommand(@NotNull String commandName,
+                            @NotNull Method entryPoint,
+                            @NotNull Object object,
+                            @NotNull CommandParser parser,
+                            @NotNull InvocationTrace trace) {
+        Object[] arguments = parser.buildInvokeArguments();
+        GenericEvent event = parser.getSourceEvent();
+        String policyKey = getPolicyKey(parser, commandName);
+
+        trace.mark(Phase.BIND);
+
+        if (commandScheduler == null) {
+            executeCommand(event, commandName, policyKey, entryPoint, object, arguments, trace);
 
-                HybridCommandParser subcommandParser = new HybridCommandParser(this, slashEvent, new SlashCommandParser(this, slashEvent)).setProperties(properties);
+            return;
+        }
 
-                runCommand(subcommandParser.getProperties().getEntryPoint(),
-                        subcommandGroup.getGroupClass(),
-                        subcommandParser.buildInvokeArguments());
-            } else if (slashEvent.getSubcommandName() != null) {
-                Map<String, ? extends SubcommandProperties> subcommandMap = properties.getSubcommandMap();
+        boolean forked = trace.fork();
 
-                CommonCommandProperties subcommand = (CommonCommandProperties) subcommandMap.get(slashEvent.getSubcommandName());
+        boolean queued = commandScheduler.submit(policyKey, event, () -> {
+            try {
+                executeCommand(event, commandName, policyKey, entryPoint, object, arguments, trace);
+            } catch (RuntimeException exception) {
+                trace.setError(exception);
 
-                if (subcommand == null) {
-                    throw new CommandNotFoundException(slashEvent.getSubcommandName());
+                handleError(event, commandName, exception);
+            } catch (Error error) {
+                trace.setError(error);
+
+                throw error;
+            } finally {
+                if (forked) {
+                    trace.finish();
                 }
+            }
+        }, () -> {
+            InvocationExpiredException exception = new InvocationExpiredException(commandName);
 
-                HybridCommandParser subcommandParser = new HybridCommandParser(this, event, new SlashCommandParser(this, slashEvent)).setProperties(subcommand);
+            trace.setError(exception);
 
-                runCommand(subcommandParser.getProperties().getEntryPoint(),
-                        properties.getCommand(),
-                        subcommandParser.buildInvokeArguments());
+            try {
+                handleError(event, commandName, exception);
+            } finally {
+                if (forked) {
+                    trace.finish();
+                }
             }
-        } else if (sourceParser instanceof PrefixCommandParser) {
-            MessageReceivedEvent prefixEvent = (MessageReceivedEvent) event;
-            PrefixCommandParser prefixParser = (PrefixCommandParser) sourceParser;
-            String subcommandName = prefixParser.getSubcommandName();
+        });
+
+        if (!queued) {
+            if (forked) {
+                trace.finish();
+            }
+
+            throw new SchedulerOverloadException(commandName);
+        }
+    }
+
+    private void executeCommand(@NotNull GenericEvent event,
+                                @NotNull String commandName,
+                                @NotNull String policyKey,
+                                @NotNull Method entryPoint,
+                                @NotNull Object object,
+                                @NotNull Object[] arguments,
+                                @NotNull InvocationTrace trace) {
+        Bulkhead bulkhead = concurrencyLimiter.getBulkhead(policyKey);
+
+        if (bulkhead == null) {
+            trace.mark(Phase.CHECK);
+
+            invokeCommand(event, commandName, policyKey, entryPoint, object, arguments, trace, null, Bulkhead.NO_GUILD, 0);
+
+            return;
+        }
+
+        long guildId;
+        long userId;
+
+        if (event instanceof SlashCommandInteractionEvent) {
+            SlashCommandInteractionEvent slashEvent = (SlashCommandInteractionEvent) event;
+
+            guildId = slashEvent.getGuild() == null ? Bulkhead.NO_GUILD : slashEvent.getGuild().getIdLong();
+            userId = slashEvent.getUser().getIdLong();
+        } else {
+            MessageReceivedEvent messageEvent = (MessageReceivedEvent) event;
+
+            guildId = messageEvent.isFromGuild() ? messageEvent.getGuild().getIdLong() : Bulkhead.NO_GUILD;
+            userId = messageEvent.getAuthor().getIdLong();
+        }
+
+        trace.mark(Phase.CHECK);
+
+        if (bulkhead.tryAcquire(guildId, userId)) {
+            invokeCommand(event, commandName, policyKey, entryPoint, object, arguments, trace, bulkhead, guildId, userId);
+
+            return;
+        }
+
+        // The trace ends here, the queued invocation may outlive the dispatch
+        boolean queued = bulkhead.enqueue(guildId, userId, () -> {
+            try {
+                invokeCommand(event, commandName, policyKey, entryPoint, object, arguments, InvocationTrace.NOOP, bulkhead, guildId, userId);
+            } catch (RuntimeException exception) {
+                handleError(event, commandName, exception);
+            }
+        });
 
-            if (prefixParser.getSubcommandGroupName() != null && prefixParser.getSubcommandInGroupName() != null) {
-                SubcommandGroupProperties subcommandGroup = properties.getSubcommandGroupMap()
-                        .get(prefixParser.getSubcommandGroupName());
+        if (!queued) {
+            throw new ConcurrencyLimitException(commandName);
+        }
+    }
+
+    private void invokeCommand(@NotNull GenericEvent event,
+                               @NotNull String commandName,
+                               @NotNull String policyKey,
+                               @NotNull Method entryPoint,
+                               @NotNull Object object,
+                               @NotNull Object[] arguments,
+                               @NotNull InvocationTrace trace,
+                               @Nullable Bulkhead bulkhead,
+                               long guildId,
+                               long userId) {
+        int slot = slowCommandWatchdog == null ? -1 : slowCommandWatchdog.register(commandName);
+        long start = usageLog == null ? 0 : System.nanoTime();
+        boolean completesLater = false;
+        Throwable failure = null;
+
+        try {
+            Object result;
+
+            if (remoteCommands.contains(policyKey) && event instanceof SlashCommandInteractionEvent) {
+                result = forwardCommand((SlashCommandInteractionEvent) event, commandName, arguments);
+            } else {
+                result = invokeEntryPoint(event, commandName, policyKey, entryPoint, object, arguments);
+            }
+
+            if (result instanceof Flow.Publisher) {
+                result = streamReply(event, (CommandEvent) arguments[0], commandName, entryPoint, (Flow.Publisher<?>) result);
+            }
+
+            // Asynchronous commands hold their permits (and are recorded) until completion
+            if (result instanceof CompletionStage && (bulkhead != null || usageLog != null)) {
+                completesLater = true;
+
+                ((CompletionStage<?>) result).whenComplete((value, throwable) -> {
+                    if (bulkhead != null) {
+                        bulkhead.release(guildId, userId);
+                    }
+
+                    recordUsage(event, commandName, start, throwable);
+                });
+            }
+        } catch (InvocationTargetException exception) {
+            failure = exception.getCause();
+
+            throw new EntryPointInvocationException(commandName, entryPoint, exception.getCause());
+        } catch (IllegalAccessException exception) {
+            failure = exception;
+
+            throw new EntryPointInvocationException(commandName, entryPoint, exception);
+        } catch (RuntimeException | Error exception) {
+            failure = exception;
+
+            throw exception;
+        } finally {
+            if (slowCommandWatchdog != null) {
+                slowCommandWatchdog.unregister(slot);
+            }
+
+            trace.mark(Phase.INVOKE);
+
+            if (!completesLater) {
+                if (bulkhead != null) {
+                    bulkhead.release(guildId, userId);
+                }
+
+                recordUsage(event, commandName, start, failure);
+            }
+        }
+    }
 
-                if (subcommandGroup == null) {
-                    throw new CommandNotFoundException(prefixParser.getSubcommandGroupName());
+    /**
+     * Invoke the entry point, through the {@link ResultCache} and the {@link SingleFlightGroup}
+     * if it's {@link Cached} or {@link SingleFlight}; such entry points return the reply, which is sent here.
+     *
+     * @return The entry point result; {@code null} if the reply was sent (or the {@link CompletionStage} of sending it).
+     */
+    private @Nullable Object invokeEntryPoint(@NotNull GenericEvent event,
+                                              @NotNull String commandName,
+                                              @NotNull String policyKey,
+                                              @NotNull Method entryPoint,
+                                              @NotNull Object object,
+                                              @NotNull Object[] arguments)
+            throws InvocationTargetException, IllegalAccessException {
+        Map<Method, Cached> cachedTable = cachedEntryPoints.get(policyKey);
+        Map<Method, SingleFlight> singleFlightTable = singleFlightEntryPoints.get(policyKey);
+        Cached cached = cachedTable == null ? null : cachedTable.get(entryPoint);
+        SingleFlight singleFlight = singleFlightTable == null ? null : singleFlightTable.get(entryPoint);
+
+        if (cached == null && singleFlight == null) {
+            return entryPoint.invoke(object, arguments);
+        }
+
+        Object result = singleFlight == null
+                ? invokeCached(event, commandName, entryPoint, object, arguments, cached)
+                : invokeCoalesced(event, commandName, entryPoint, object, arguments, cached, singleFlight);
+
+        if (result instanceof CompletionStage) {
+            return ((CompletionStage<?>) result).thenAccept(value -> {
+                if (value instanceof MessageCreateData) {
+                    sendResultReply(arguments[0], (MessageCreateData) value);
                 }
+            });
+        }
+
+        if (!(result instanceof MessageCreateData)) {
+            return result;
+        }
 
-                Map<String, ? extends SubcommandProperties> subcommandMap = subcommandGroup.getSubcommandMap();
+        sendResultReply(arguments[0], (MessageCreateData) result);
 
-                CommonCommandProperties subcommand = (CommonCommandProperties) subcommandMap.get(prefixParser.getSubcommandInGroupName());
+        return null;
+    }
 
-                if (subcommand == null) {
-                    throw new CommandNotFoundException(prefixParser.getSubcommandInGroupName());
+    /**
+     * Share the execution of the entry point with equal invocations in flight.
+     *
+     * @return The entry point result, or the {@link CompletionStage} of the shared one.
+     */
+    private @Nullable Object invokeCoalesced(@NotNull GenericEvent event,
+                                             @NotNull String commandName,
+                                             @NotNull Method entryPoint,
+                                             @NotNull Object object,
+                                             @NotNull Object[] arguments,
+                                             @Nullable Cached cached,
+                                             @NotNull SingleFlight singleFlight)
+            throws InvocationTargetException, IllegalAccessException {
+        SingleFlightGroup.Call call = singleFlightGroup.join(
+                ResultCache.key(entryPoint, findCacheScope(event, singleFlight.scope()), arguments));
+
+        if (!call.isLeader()) {
+            // The leader reports its own failure; waiters report theirs here
+            return call.getResult().whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    handleAsyncError(event,
+                            commandName,
+                            new EntryPointInvocationException(commandName, entryPoint, throwable));
                 }
+            });
+        }
+
+        Object result;
+
+        try {
+            result = invokeCached(event, commandName, entryPoint, object, arguments, cached);
+        } catch (InvocationTargetException exception) {
+            call.fail(exception.getCause());
+
+            throw exception;
+        } catch (IllegalAccessException | RuntimeException | Error exception) {
+            call.fail(exception);
+
+            throw exception;
+        }
 
-                HybridCommandParser subcommandParser = new HybridCommandParser(this, event, new PrefixCommandParser(this, prefixEvent)).setProperties(subcommand);
+        call.complete(result);
 
-                List<String> options = ((PrefixCommandParser) subcommandParser.getSourceParser()).getSubcommandOptions();
-                ((PrefixCommandParser) subcommandParser.getSourceParser()).addAsOptionMappings(options);
+        return result;
+    }
 
-                runCommand(subcommandParser.getProperties().getEntryPoint(),
-                        subcommandGroup.getGroupClass(),
-                        subcommandParser.buildInvokeArguments());
+    /**
+     * Invoke the entry point, unless the reply for the arguments is in the cache.
+     *
+     * @return The cached reply, or the entry point result (stored into the cache).
+     */
+    private @Nullable Object invokeCached(@NotNull GenericEvent event,
+                                          @NotNull String commandName,
+                                          @NotNull Method entryPoint,
+                                          @NotNull Object object,
+                                          @NotNull Object[] arguments,
+                                          @Nullable Cached cached)
+            throws InvocationTargetException, IllegalAccessException {
+        if (cached == null) {
+            return entryPoint.invoke(object, arguments);
+        }
 
-            } else if (subcommandName != null) {
-                Map<String, ? extends SubcommandProperties> subcommandMap = properties.getSubcommandMap();
+        ResultCache.Key key = ResultCache.key(entryPoint, findCacheScope(event, cached.scope()), arguments);
+        MessageCreateData data = resultCache.get(commandName, key);
 
+        if (data != null) {
+            return data;
+        }
 
-                CommonCommandProperties subcommand = (CommonCommandProperties) subcommandMap.get(subcommandName);
+        Duration ttl = Duration.ofNanos(cached.unit().toNanos(cached.ttl()));
+        Object result = entryPoint.invoke(object, arguments);
 
-                if (subcommand == null) {
-                    throw new CommandNotFoundException(subcommandName);
+        if (result instanceof CompletionStage) {
+            return ((CompletionStage<?>) result).thenApply(value -> {
+                if (value instanceof MessageCreateData) {
+                    resultCache.put(key, (MessageCreateData) value, ttl);
                 }
 
-                HybridCommandParser subcommandParser = new HybridCommandParser(this, event, new PrefixCommandParser(this, (MessageReceivedEvent) event)).setProperties(subcommand);
+                return value;
+            });
+        }
+
+        if (result instanceof MessageCreateData) {
+            resultCache.put(key, (MessageCreateData) result, ttl);
+        }
+
+        return result;
+    }
+
+    private @Nullable Object findCacheScope(@NotNull GenericEvent event, @NotNull Cached.Scope scope) {
+        if (scope == Cached.Scope.GLOBAL) {
+            return null;
+        }
 
-                List<String> options = ((PrefixCommandParser) subcommandParser.getSourceParser()).getSubcommandOptions();
-                ((PrefixCommandParser) subcommandParser.getSourceParser()).addAsOptionMappings(options);
+        if (event instanceof SlashCommandInteractionEvent) {
+            SlashCommandInteractionEvent slashEvent = (SlashCommandInteractionEvent) event;
 
-                runCommand(subcommandParser.getProperties().getEntryPoint(),
-                        properties.getCommand(),
-                        subcommandParser.buildInvokeArguments());
+            switch (scope) {
+                case LOCALE:
+                    return slashEvent.getUserLocale();
+                case GUILD:
+                    return slashEvent.getGuild() == null ? 0L : slashEvent.getGuild().getIdLong();
+                default:
+                    return slashEvent.getUser().getIdLong();
             }
-        } else {
-            throw new RuntimeException();
         }
-    }
 
-    private boolean handleCommand(@NotNull CommandParser parser) {
-        CommandModel properties = (CommandModel) parser.getProperties();
-        Method entryPoint = ((CommonCommandProperties) properties).getEntryPoint();
+        MessageReceivedEvent messageEvent = (MessageReceivedEvent) event;
 
-        if (entryPoint != null) {
-            runCommand(entryPoint, properties.getCommand(), parser.buildInvokeArguments());
+        switch (scope) {
+            case LOCALE:
+                return messageEvent.isFromGuild() ? messageEvent.getGuild().getLocale() : DiscordLocale.UNKNOWN;
+            case GUILD:
+                return messageEvent.isFromGuild() ? messageEvent.getGuild().getIdLong() : 0L;
+            default:
+                return messageEvent.getAuthor().getIdLong();
+        }
+    }
 
-            return true;
+    private void sendResultReply(@NotNull Object commandEvent, @NotNull MessageCreateData data) {
+        if (commandEvent instanceof HybridCommandEvent) {
+            commandEvent = ((HybridCommandEvent) commandEvent).getSourceEvent();
+        }
+
+        if (commandEvent instanceof SlashCommandEvent) {
+            ((SlashCommandEvent) commandEvent).reply(data).queue();
         } else {
-            return false;
+            ((PrefixCommandEvent) commandEvent).reply(data).queue();
         }
     }
 
-    private <E extends GenericEvent,
-            C extends CommandParser> @NotNull CommandParser buildSubcommandInGroupParser(@NotNull E event,
-                                                                                         @Nullable SubcommandGroupProperties subcommandGroup,
-                                                                                         @NotNull String subcommandName,
-                                                                                         @NotNull BiFunction<JDAExtra, E, C> builderFunction) {
-        if (subcommandGroup == null) {
-            throw new CommandNotFoundException(subcommandName);
+    private void recordUsage(@NotNull GenericEvent event,
+                             @NotNull String commandName,
+                             long start,
+                             @Nullable Throwable failure) {
+        if (usageLog == null) {
+            return;
         }
 
-        return buildSubcommandParser(event, subcommandGroup.getSubcommandMap(), subcommandName, builderFunction);
-    }
+        long latency = System.nanoTime() - start;
+        // Asynchronous commands fail with a CompletionException
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        UsageLog.Outcome outcome;
 
-    private <E extends GenericEvent,
-            C extends CommandParser> @NotNull CommandParser buildSubcommandParser(@NotNull E event,
-                                                                                  @NotNull Map<String, ? extends SubcommandProperties> subcommandMap,
-                                                                                  @NotNull String subcommandName,
-                                                                                  @NotNull BiFunction<JDAExtra, E, C> builderFunction) {
-        CommonCommandProperties subcommand = (CommonCommandProperties) subcommandMap.get(subcommandName);
+        if (cause == null) {
+            outcome = UsageLog.Outcome.SUCCESS;
+        } else if (cause instanceof CommandInputException) {
+            outcome = UsageLog.Outcome.USER_ERROR;
+        } else {
+            outcome = UsageLog.Outcome.FAILURE;
+        }
 
-        if (subcommand == null) {
-            throw new CommandNotFoundException(subcommandName);
+        if (event instanceof SlashCommandInteractionEvent) {
+            SlashCommandInteractionEvent slashEvent = (SlashCommandInteractionEvent) event;
+            Guild guild = slashEvent.getGuild();
+
+            usageLog.record(commandName,
+                    guild == null ? 0 : guild.getIdLong(),
+                    slashEvent.getUser().getIdLong(),
+                    latency,
+                    outcome);
+        } else {
+            MessageReceivedEvent messageEvent = (MessageReceivedEvent) event;
+
+            usageLog.record(commandName,
+                    messageEvent.isFromGuild() ? messageEvent.getGuild().getIdLong() : 0,
+                    messageEvent.getAuthor().getIdLong(),
+                    latency,
+                    outcome);
         }
+    }
+
+    /**
+     * Forward the invocation to a worker, which replies through the interaction token.
+     *
+     * @return {@link CompletableFuture} completed once the worker has run the command.
+     */
+    private @NotNull CompletableFuture<Void> forwardCommand(@NotNull SlashCommandInteractionEvent event,
+                                                            @NotNull String commandName,
+                                                            @NotNull Object[] arguments) {
+        Object commandEvent = arguments[0] instanceof HybridCommandEvent
+                ? ((HybridCommandEvent) arguments[0]).getSourceEvent()
+                : arguments[0];
+
+        // Workers can take longer than the interaction allows, they edit the deferred reply
+        if (!event.isAcknowledged()) {
+            ((SlashCommandEvent) commandEvent).deferReply().queue(null, failure -> { });
+        }
+
+        InvocationEnvelope envelope = InvocationEnvelope.fromInteraction(event,
+                Arrays.asList(arguments).subList(1, arguments.length));
+
+        return remoteTransport.send(envelope).whenComplete((value, throwable) -> {
+            if (throwable instanceof RemoteExecutionException) {
+                handleAsyncError(event, commandName, (RemoteExecutionException) throwable);
+            } else if (throwable != null) {
+                handleAsyncError(event, commandName, new RemoteExecutionException(envelope.getCommandName(), throwable));
+            }
+        });
+    }
 
-        return builderFunction.apply(this, event).setProperties(subcommand);
+    /**
+     * Render the text published by the entry point into the reply.
+     *
+     * @return {@link CompletableFuture} completed once the whole text is rendered.
+     */
+    @SuppressWarnings("unchecked")
+    private @NotNull CompletableFuture<Void> streamReply(@NotNull GenericEvent event,
+                                                         @NotNull CommandEvent commandEvent,
+                                                         @NotNull String commandName,
+                                                         @NotNull Method entryPoint,
+                                                         @NotNull Flow.Publisher<?> publisher) {
+        // Through the command event, which shares the acknowledgement with the deferral watchdog
+        StreamingReply reply = commandEvent.streamReply();
+
+        // The builders check that the entry point returns a Publisher of CharSequence
+        ((Flow.Publisher<CharSequence>) publisher).subscribe(reply);
+
+        return reply.getCompletion().whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                handleAsyncError(event, commandName, new EntryPointInvocationException(commandName, entryPoint, throwable));
+            }
+        });
     }
 
-    private void runCommand(@NotNull Method entryPoint, @NotNull Object object, @NotNull Object[] arguments) {
+    /**
+     * Handle the failure of an asynchronous completion. Nobody observes the completion,
+     * so failures that would propagate (no error handler, or a failing one) are logged.
+     */
+    private void handleAsyncError(@NotNull GenericEvent event,
+                                  @NotNull String commandName,
+                                  @NotNull RuntimeException exception) {
         try {
-            entryPoint.invoke(object, arguments);
-        } catch (IllegalAccessException | InvocationTargetException exception) {
-            // TODO: Replace with custom EntryPointInvocationException
-            throw new RuntimeException(exception);
+            handleError(event, commandName, exception);
+        } catch (RuntimeException unhandled) {
+            LOG.error("Command '{}' failed asynchronously", commandName, unhandled);
         }
     }
 }
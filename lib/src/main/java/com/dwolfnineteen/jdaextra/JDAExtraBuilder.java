@@ -24,26 +24,63 @@ package com.dwolfnineteen.jdaextra;
 import com.dwolfnineteen.jdaextra.commands.HybridCommand;
 import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
 import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.diagnostics.SlowInvocationHandler;
+import com.dwolfnineteen.jdaextra.errors.CommandErrorHandler;
+import com.dwolfnineteen.jdaextra.interactions.DeferralWatchdog;
+import com.dwolfnineteen.jdaextra.remote.WorkerTransport;
+import com.dwolfnineteen.jdaextra.scheduling.CommandScheduler;
+import com.dwolfnineteen.jdaextra.tracing.TraceSink;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Class for comfortable configuration {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra} instance.
  */
 public class JDAExtraBuilder {
-    private String prefix;
-    private boolean whenMention;
+    String prefix;
+    boolean whenMention;
+    boolean parallelBuild;
+    Duration autoDeferThreshold;
+    boolean autoDeferEphemeral;
+    Duration replyCoalescingWindow;
+    double tracingSampleRate;
+    TraceSink traceSink;
+    Duration slowCommandThreshold;
+    SlowInvocationHandler slowInvocationHandler;
+    CommandErrorHandler errorHandler;
+    int suggestionMaxDistance;
+    Duration suggestionCooldown;
+    Duration deduplicationWindow;
+    int deduplicationCapacity;
+    int schedulerThreads;
+    int schedulerQueueCapacity;
+    Duration prefixCommandSlack;
+    WorkerTransport remoteTransport;
+    Path usageLogDirectory;
+    int usageLogSegmentRecords;
+    int usageLogRetainedSegments;
+    int resultCacheSize;
+    Path guildCommandStateFile;
+    int guildCommandRequestsPerSecond;
 
-    private final List<HybridCommand> hybridCommands;
-    private final List<PrefixCommand> prefixCommands;
-    private final List<SlashCommand> slashCommands;
+    final Map<String, Duration> slowCommandThresholds;
+    final List<HybridCommand> hybridCommands;
+    final List<PrefixCommand> prefixCommands;
+    final List<SlashCommand> slashCommands;
 
     {
         whenMention = false;
+        parallelBuild = false;
 
+        slowCommandThresholds = new LinkedHashMap<>();
         hybridCommands = new ArrayList<>();
         prefixCommands = new ArrayList<>();
         slashCommands = new ArrayList<>();
@@ -118,6 +155,358 @@ public class JDAExtraBuilder {
         return this;
     }
 
+    /**
+     * Sets whether command models should be built in parallel
+     * (on the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}).
+     * <br>
+     * Commands are independent of each other, so for bots with many commands this reduces startup time.
+     * The resulting command maps keep the order in which commands were added,
+     * and all build failures are reported together as a
+     * {@link com.dwolfnineteen.jdaextra.exceptions.buildtime.CommandBuildException CommandBuildException}.
+     *
+     * @param parallelBuild Whether command models should be built in parallel (default: {@code false}).
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     */
+    @NotNull
+    public JDAExtraBuilder setParallelBuild(boolean parallelBuild) {
+        this.parallelBuild = parallelBuild;
+
+        return this;
+    }
+
+    /**
+     * Enables automatic deferral of slash interactions which weren't acknowledged in time.
+     * <br>
+     * Discord requires interactions to be acknowledged within 3 seconds.
+     * If the command hasn't replied/deferred after {@code threshold}, the interaction is deferred automatically
+     * and {@link com.dwolfnineteen.jdaextra.events.SlashCommandEvent SlashCommandEvent} reply methods
+     * send follow-up messages through the {@link net.dv8tion.jda.api.interactions.InteractionHook InteractionHook}.
+     *
+     * @param threshold Time after receiving the interaction when it should be deferred (e.g. 2.2 seconds).
+     * @param ephemeral Whether automatically deferred replies should be ephemeral.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the threshold is not positive or not less than 3 seconds.
+     * @see com.dwolfnineteen.jdaextra.interactions.DeferralWatchdog DeferralWatchdog
+     */
+    @NotNull
+    public JDAExtraBuilder setAutoDefer(@NotNull Duration threshold, boolean ephemeral) {
+        if (threshold.isNegative() || threshold.isZero() || threshold.compareTo(DeferralWatchdog.ACKNOWLEDGEMENT_DEADLINE) >= 0) {
+            throw new IllegalArgumentException("Auto-defer threshold must be between 0 and 3 seconds");
+        }
+
+        autoDeferThreshold = threshold;
+        autoDeferEphemeral = ephemeral;
+
+        return this;
+    }
+
+    /**
+     * Enables coalescing of replies sent with {@code queueReply()}/{@code queueEdit()} methods of command events.
+     * <br>
+     * Replies to the same message (interaction) within the window are merged into one message,
+     * and consecutive edits of the same message collapse into the last one,
+     * which reduces REST calls and rate-limit pressure.
+     *
+     * @param window The base coalescing window (e.g. 250 milliseconds).
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the window is negative.
+     * @see com.dwolfnineteen.jdaextra.replies.ReplyCoalescer ReplyCoalescer
+     */
+    @NotNull
+    public JDAExtraBuilder setReplyCoalescing(@NotNull Duration window) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Coalescing window must not be negative");
+        }
+
+        replyCoalescingWindow = window;
+
+        return this;
+    }
+
+    /**
+     * Enables per-invocation phase tracing.
+     * <br>
+     * The sampling decision is made when the invocation starts (head sampling);
+     * unsampled invocations don't allocate anything for tracing.
+     *
+     * @param sampleRate Fraction of invocations to trace, from 0 to 1.
+     * @param sink The {@link TraceSink} to export traces to
+     *             (e.g. {@link com.dwolfnineteen.jdaextra.tracing.OtlpHttpTraceSink OtlpHttpTraceSink}).
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the sample rate is out of range.
+     * @see com.dwolfnineteen.jdaextra.tracing.Tracer Tracer
+     */
+    @NotNull
+    public JDAExtraBuilder setTracing(double sampleRate, @NotNull TraceSink sink) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+
+        tracingSampleRate = sampleRate;
+        traceSink = sink;
+
+        return this;
+    }
+
+    /**
+     * Enables the slow-command watchdog.
+     * <br>
+     * When an invocation runs longer than the threshold of its command,
+     * the stack of its thread is captured and passed to the handler.
+     * Asynchronous completions (returned {@link java.util.concurrent.CompletionStage CompletionStage}s) are not watched.
+     *
+     * @param threshold The default threshold.
+     * @param handler The {@link SlowInvocationHandler}.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the threshold is not positive.
+     * @see com.dwolfnineteen.jdaextra.diagnostics.SlowCommandWatchdog SlowCommandWatchdog
+     */
+    @NotNull
+    public JDAExtraBuilder setSlowCommandWatchdog(@NotNull Duration threshold, @NotNull SlowInvocationHandler handler) {
+        if (threshold.isNegative() || threshold.isZero()) {
+            throw new IllegalArgumentException("Slow command threshold must be positive");
+        }
+
+        slowCommandThreshold = threshold;
+        slowInvocationHandler = handler;
+
+        return this;
+    }
+
+    /**
+     * Sets the slow-command watchdog threshold of the specific command, overriding the default one.
+     *
+     * @param commandName The (top-level) command name.
+     * @param threshold The threshold.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the threshold is not positive.
+     * @see #setSlowCommandWatchdog(Duration, SlowInvocationHandler)
+     */
+    @NotNull
+    public JDAExtraBuilder setSlowCommandThreshold(@NotNull String commandName, @NotNull Duration threshold) {
+        if (threshold.isNegative() || threshold.isZero()) {
+            throw new IllegalArgumentException("Slow command threshold must be positive");
+        }
+
+        slowCommandThresholds.put(commandName, threshold);
+
+        return this;
+    }
+
+    /**
+     * Sets the handler of errors thrown while dispatching and running commands.
+     * <br>
+     * Without a handler, errors propagate into the JDA event loop.
+     *
+     * @param handler The {@link CommandErrorHandler}
+     *                (e.g. {@link com.dwolfnineteen.jdaextra.errors.DefaultCommandErrorHandler DefaultCommandErrorHandler}).
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     */
+    @NotNull
+    public JDAExtraBuilder setErrorHandler(@NotNull CommandErrorHandler handler) {
+        errorHandler = handler;
+
+        return this;
+    }
+
+    /**
+     * Enables "did you mean" suggestions for unknown commands, subcommand groups and subcommands.
+     * <br>
+     * Suggestions are attached to {@link com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException
+     * CommandNotFoundException}s passed to the error handler, at most once per cooldown in a channel.
+     *
+     * @param maxDistance The maximal edit distance of a suggestion.
+     * @param channelCooldown The minimal time between two suggestions in a channel.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the maximal distance is not positive or the cooldown is negative.
+     * @see com.dwolfnineteen.jdaextra.suggestions.SuggestionIndex SuggestionIndex
+     */
+    @NotNull
+    public JDAExtraBuilder setCommandSuggestions(int maxDistance, @NotNull Duration channelCooldown) {
+        if (maxDistance < 1) {
+            throw new IllegalArgumentException("Maximal suggestion distance must be positive");
+        }
+
+        if (channelCooldown.isNegative()) {
+            throw new IllegalArgumentException("Suggestion cooldown must not be negative");
+        }
+
+        suggestionMaxDistance = maxDistance;
+        suggestionCooldown = channelCooldown;
+
+        return this;
+    }
+
+    /**
+     * Enables suppression of duplicate events, such as messages and interactions replayed
+     * after a gateway resume or a shard reconnect.
+     *
+     * @param window Time for which a message/interaction ID is remembered.
+     * @param capacity Maximal number of commands expected within the window (memory is proportional to it).
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the window or the capacity is not positive, or the capacity exceeds 2^26.
+     * @see com.dwolfnineteen.jdaextra.filters.EventDeduplicator EventDeduplicator
+     */
+    @NotNull
+    public JDAExtraBuilder setEventDeduplication(@NotNull Duration window, int capacity) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Deduplication window must be positive");
+        }
+
+        if (capacity < 1 || capacity > 1 << 26) {
+            throw new IllegalArgumentException("Deduplication capacity must be between 1 and 2^26");
+        }
+
+        deduplicationWindow = window;
+        deduplicationCapacity = capacity;
+
+        return this;
+    }
+
+    /**
+     * Enables the deadline-aware command scheduler: invocations run on worker threads instead of the JDA
+     * event thread, slash interactions (due in 3 seconds) before prefix commands (due after the slack).
+     * <br>
+     * Up to {@link com.dwolfnineteen.jdaextra.scheduling.CommandScheduler#DEFAULT_QUEUE_CAPACITY DEFAULT_QUEUE_CAPACITY}
+     * invocations may wait.
+     *
+     * @param threads Number of worker threads.
+     * @param prefixSlack Deadline of prefix commands, relative to the message creation.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the number of threads is not positive or the slack is negative.
+     * @see com.dwolfnineteen.jdaextra.scheduling.CommandScheduler CommandScheduler
+     */
+    @NotNull
+    public JDAExtraBuilder setCommandScheduler(int threads, @NotNull Duration prefixSlack) {
+        return setCommandScheduler(threads, CommandScheduler.DEFAULT_QUEUE_CAPACITY, prefixSlack);
+    }
+
+    /**
+     * Enables the deadline-aware command scheduler: invocations run on worker threads instead of the JDA
+     * event thread, slash interactions (due in 3 seconds) before prefix commands (due after the slack).
+     * <br>
+     * When the queue is full, new invocations fail with
+     * {@link com.dwolfnineteen.jdaextra.exceptions.SchedulerOverloadException SchedulerOverloadException};
+     * interactions that expire while waiting fail with
+     * {@link com.dwolfnineteen.jdaextra.exceptions.InvocationExpiredException InvocationExpiredException}.
+     *
+     * @param threads Number of worker threads.
+     * @param queueCapacity Maximal number of waiting invocations.
+     * @param prefixSlack Deadline of prefix commands, relative to the message creation.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the number of threads or the capacity is not positive, or the slack is negative.
+     * @see com.dwolfnineteen.jdaextra.scheduling.CommandScheduler CommandScheduler
+     */
+    @NotNull
+    public JDAExtraBuilder setCommandScheduler(int threads, int queueCapacity, @NotNull Duration prefixSlack) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of scheduler threads must be positive");
+        }
+
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Scheduler queue capacity must be positive");
+        }
+
+        if (prefixSlack.isNegative()) {
+            throw new IllegalArgumentException("Prefix command slack must not be negative");
+        }
+
+        schedulerThreads = threads;
+        schedulerQueueCapacity = queueCapacity;
+        prefixCommandSlack = prefixSlack;
+
+        return this;
+    }
+
+    /**
+     * Sets the transport forwarding {@link com.dwolfnineteen.jdaextra.annotations.commands.Remote Remote} commands
+     * to worker processes.
+     * <br>
+     * Without a transport, remote commands run locally.
+     *
+     * @param transport The {@link WorkerTransport}
+     *                  (e.g. {@link com.dwolfnineteen.jdaextra.remote.UnixSocketTransport UnixSocketTransport}).
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     */
+    @NotNull
+    public JDAExtraBuilder setRemoteTransport(@NotNull WorkerTransport transport) {
+        remoteTransport = transport;
+
+        return this;
+    }
+
+    /**
+     * Enables the usage log: every invocation (command, guild, user, latency and outcome) is recorded
+     * into memory-mapped segment files of the directory.
+     *
+     * @param directory The log directory.
+     * @param segmentRecords Number of records per segment file
+     *                       ({@value com.dwolfnineteen.jdaextra.analytics.UsageLog#RECORD_SIZE} bytes each).
+     * @param retainedSegments Number of segment files kept on disk.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the number of records or retained segments is not positive.
+     * @see com.dwolfnineteen.jdaextra.analytics.UsageLog UsageLog
+     * @see com.dwolfnineteen.jdaextra.analytics.UsageReader UsageReader
+     */
+    @NotNull
+    public JDAExtraBuilder setUsageLog(@NotNull Path directory, int segmentRecords, int retainedSegments) {
+        if (segmentRecords < 1) {
+            throw new IllegalArgumentException("Number of records per segment must be positive");
+        }
+
+        if (retainedSegments < 1) {
+            throw new IllegalArgumentException("Number of retained segments must be positive");
+        }
+
+        usageLogDirectory = directory;
+        usageLogSegmentRecords = segmentRecords;
+        usageLogRetainedSegments = retainedSegments;
+
+        return this;
+    }
+
+    /**
+     * Enables the cache of {@link com.dwolfnineteen.jdaextra.annotations.commands.Cached Cached} command replies.
+     *
+     * @param maximumSize Maximal number of cached replies.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the maximal size is not positive.
+     * @see com.dwolfnineteen.jdaextra.caching.ResultCache ResultCache
+     */
+    @NotNull
+    public JDAExtraBuilder setResultCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximal cache size must be positive");
+        }
+
+        resultCacheSize = maximumSize;
+
+        return this;
+    }
+
+    /**
+     * Enables per-guild command sets: {@link com.dwolfnineteen.jdaextra.annotations.commands.GuildScoped GuildScoped}
+     * commands are pushed only to guilds assigned their sets, and only when the guild's commands changed.
+     *
+     * @param stateFile File remembering the assigned sets and what was pushed to each guild across restarts.
+     *                  {@code null} to keep them in memory only (guilds must be assigned again after every start).
+     * @param requestsPerSecond Maximal number of guild updates started per second.
+     * @return Current {@link com.dwolfnineteen.jdaextra.JDAExtraBuilder JDAExtraBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the number of requests per second is not between 1 and 50.
+     * @see com.dwolfnineteen.jdaextra.sync.GuildCommandSynchronizer GuildCommandSynchronizer
+     */
+    @NotNull
+    public JDAExtraBuilder setGuildCommandSync(@Nullable Path stateFile, int requestsPerSecond) {
+        if (requestsPerSecond < 1 || requestsPerSecond > 50) {
+            throw new IllegalArgumentException("Number of requests per second must be between 1 and 50");
+        }
+
+        guildCommandStateFile = stateFile;
+        guildCommandRequestsPerSecond = requestsPerSecond;
+
+        return this;
+    }
+
     /**
      * Build new {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra} instance.
      *
@@ -125,11 +514,6 @@ public class JDAExtraBuilder {
      */
     @NotNull
     public JDAExtra build() {
-        return new JDAExtra(
-                prefix,
-                whenMention,
-                hybridCommands,
-                prefixCommands,
-                slashCommands);
+        return new JDAExtra(this);
     }
 }
@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.analytics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of command invocations: who ran which command, where, how long it took and how it ended.
+ * <br>
+ * Records are fixed-width ({@value #RECORD_SIZE} bytes) and written into memory-mapped segment files of the
+ * directory, so recording is a few stores into memory (no allocation, no system call, no lock):
+ * writers claim a slot with an atomic increment, fill it in and publish it by writing its timestamp last.
+ * When a segment is full, the next one is mapped (its files are {@code usage-<number>.seg});
+ * only the latest {@code retainedSegments} are kept on disk.
+ * <br>
+ * Command names are stored as IDs, listed in the {@code commands.txt} file of the directory.
+ * Records survive a crash of the process (the OS writes the pages back), but not of the machine,
+ * unless {@link #force()} is called.
+ *
+ * @see UsageReader
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setUsageLog(Path, int, int) JDAExtraBuilder.setUsageLog()
+ */
+public final class UsageLog implements AutoCloseable {
+    /**
+     * Size of a record, in bytes.
+     */
+    public static final int RECORD_SIZE = 32;
+
+    static final String COMMANDS_FILE = "commands.txt";
+    static final Pattern SEGMENT_FILE = Pattern.compile("usage-(\\d{20})\\.seg");
+
+    // Record layout (little-endian): timestamp, user ID, guild ID, latency (microseconds), command ID, outcome
+    static final int TIMESTAMP = 0;
+    static final int USER_ID = 8;
+    static final int GUILD_ID = 16;
+    static final int LATENCY = 24;
+    static final int COMMAND_ID = 28;
+    static final int OUTCOME = 30;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final int retainedSegments;
+    private final Map<String, Short> commandIds;
+    private final AtomicLong position;
+    private final AtomicLong droppedCount;
+    private volatile Segment current;
+    private volatile boolean closed;
+
+    /**
+     * Open the usage log in the directory, continuing in a new segment after the existing ones.
+     *
+     * @param directory The directory, created if missing.
+     * @param segmentRecords Number of records per segment file.
+     * @param retainedSegments Number of segment files kept on disk.
+     * @throws IllegalArgumentException If the number of records or retained segments is not positive.
+     * @throws UncheckedIOException If the directory can't be read or the first segment can't be mapped.
+     */
+    public UsageLog(@NotNull Path directory, int segmentRecords, int retainedSegments) {
+        if (segmentRecords < 1 || segmentRecords > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("Number of records per segment must be between 1 and "
+                    + Integer.MAX_VALUE / RECORD_SIZE);
+        }
+
+        if (retainedSegments < 1) {
+            throw new IllegalArgumentException("Number of retained segments must be positive");
+        }
+
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.retainedSegments = retainedSegments;
+        this.commandIds = new ConcurrentHashMap<>();
+        this.droppedCount = new AtomicLong();
+
+        try {
+            Files.createDirectories(directory);
+
+            for (Map.Entry<Short, String> entry : readCommands(directory).entrySet()) {
+                commandIds.put(entry.getValue(), entry.getKey());
+            }
+
+            long number = lastSegment(directory) + 1;
+
+            this.current = map(number, null);
+            this.position = new AtomicLong(number * segmentRecords);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Record an invocation.
+     * <br>
+     * If the slot can't be written (the log is closed, or the next segment can't be mapped), the record is dropped.
+     *
+     * @param commandName The command name.
+     * @param guildId The guild ID, {@code 0} in direct messages.
+     * @param userId The user ID.
+     * @param latencyNanos The invocation latency, in nanoseconds.
+     * @param outcome The {@link Outcome}.
+     */
+    public void record(@NotNull String commandName,
+                       long guildId,
+                       long userId,
+                       long latencyNanos,
+                       @NotNull Outcome outcome) {
+        if (closed) {
+            droppedCount.incrementAndGet();
+
+            return;
+        }
+
+        Short commandId = commandIds.get(commandName);
+
+        if (commandId == null) {
+            commandId = registerCommand(commandName);
+        }
+
+        long index = position.getAndIncrement();
+        Segment segment = segment(index / segmentRecords);
+
+        if (segment == null || commandId == null) {
+            droppedCount.incrementAndGet();
+
+            return;
+        }
+
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = (int) (index % segmentRecords) * RECORD_SIZE;
+
+        buffer.putLong(offset + USER_ID, userId);
+        buffer.putLong(offset + GUILD_ID, guildId);
+        buffer.putInt(offset + LATENCY, (int) Math.min(latencyNanos / 1000, Integer.MAX_VALUE));
+        buffer.putShort(offset + COMMAND_ID, commandId);
+        buffer.put(offset + OUTCOME, (byte) outcome.ordinal());
+        // The timestamp publishes the record, readers skip slots without one
+        LONGS.setRelease(buffer, offset + TIMESTAMP, System.currentTimeMillis());
+    }
+
+    /**
+     * Number of records dropped since the log was opened.
+     *
+     * @return The number of dropped records.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * The directory of the log.
+     *
+     * @return The directory.
+     */
+    public @NotNull Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Write the current segment back to the disk.
+     */
+    public void force() {
+        current.buffer.force();
+    }
+
+    /**
+     * Close the log: later records are dropped, the current segment is written back to the disk.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        force();
+    }
+
+    private @Nullable Segment segment(long number) {
+        Segment segment = current;
+
+        if (number > segment.number) {
+            if (!roll(number)) {
+                return null;
+            }
+
+            // Other writers may have rolled further meanwhile
+            segment = current;
+        }
+
+        if (segment.number == number) {
+            return segment;
+        }
+
+        Segment previous = segment.previous;
+
+        // A writer that claimed its slot right before the roll
+        if (previous != null && previous.number == number) {
+            return previous;
+        }
+
+        return remap(number);
+    }
+
+    private synchronized boolean roll(long number) {
+        Segment segment = current;
+
+        try {
+            while (segment.number < number) {
+                if (closed) {
+                    return false;
+                }
+
+                segment = map(segment.number + 1, segment);
+                current = segment;
+
+                if (segment.number >= retainedSegments) {
+                    Files.deleteIfExists(segmentPath(directory, segment.number - retainedSegments));
+                }
+            }
+        } catch (IOException exception) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Map the segment again for a writer that fell behind more than one roll (rare),
+     * unless it's already deleted.
+     */
+    private @Nullable Segment remap(long number) {
+        try {
+            return new Segment(number, mapBuffer(number, StandardOpenOption.READ, StandardOpenOption.WRITE), null);
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    private @NotNull Segment map(long number, @Nullable Segment previous) throws IOException {
+        MappedByteBuffer buffer = mapBuffer(number,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        if (previous != null) {
+            // Only one segment back is reachable, let older buffers be unmapped
+            previous.previous = null;
+        }
+
+        return new Segment(number, buffer, previous);
+    }
+
+    private @NotNull MappedByteBuffer mapBuffer(long number, @NotNull StandardOpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, number), options)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_SIZE);
+
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            return buffer;
+        }
+    }
+
+    private synchronized @Nullable Short registerCommand(@NotNull String commandName) {
+        Short commandId = commandIds.get(commandName);
+
+        if (commandId != null) {
+            return commandId;
+        }
+
+        if (commandIds.size() > Short.MAX_VALUE) {
+            return null;
+        }
+
+        commandId = (short) commandIds.size();
+
+        try {
+            // Listed before any record refers to it
+            Files.writeString(directory.resolve(COMMANDS_FILE),
+                    commandId + " " + commandName + "\n",
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException exception) {
+            return null;
+        }
+
+        commandIds.put(commandName, commandId);
+
+        return commandId;
+    }
+
+    static @NotNull Map<Short, String> readCommands(@NotNull Path directory) throws IOException {
+        Map<Short, String> commands = new HashMap<>();
+        Path file = directory.resolve(COMMANDS_FILE);
+
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int space = line.indexOf(' ');
+
+                if (space > 0) {
+                    commands.put(Short.parseShort(line.substring(0, space)), line.substring(space + 1));
+                }
+            }
+        }
+
+        return commands;
+    }
+
+    static long lastSegment(@NotNull Path directory) throws IOException {
+        long last = -1;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+
+                if (matcher.matches()) {
+                    last = Math.max(last, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+
+        return last;
+    }
+
+    static @NotNull Path segmentPath(@NotNull Path directory, long number) {
+        return directory.resolve(String.format("usage-%020d.seg", number));
+    }
+
+    /**
+     * How an invocation ended.
+     */
+    public enum Outcome {
+        /**
+         * Completed normally.
+         */
+        SUCCESS,
+        /**
+         * Failed because of the user input
+         * (a {@link com.dwolfnineteen.jdaextra.exceptions.CommandInputException CommandInputException}).
+         */
+        USER_ERROR,
+        /**
+         * Failed with another exception.
+         */
+        FAILURE
+    }
+
+    private static final class Segment {
+        private final long number;
+        private final MappedByteBuffer buffer;
+        private volatile Segment previous;
+
+        private Segment(long number, @NotNull MappedByteBuffer buffer, @Nullable Segment previous) {
+            this.number = number;
+            this.buffer = buffer;
+            this.previous = previous;
+        }
+    }
+}
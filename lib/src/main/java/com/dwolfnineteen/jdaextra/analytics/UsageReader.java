@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.analytics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.stream.Stream;
+
+/**
+ * Reads and aggregates the records of a {@link UsageLog} directory.
+ * <br>
+ * May run in another process than the log, while it's being written: records not published yet are skipped.
+ */
+public final class UsageReader {
+    private final Path directory;
+
+    /**
+     * Construct new {@link UsageReader}.
+     *
+     * @param directory The directory of the {@link UsageLog}.
+     */
+    public UsageReader(@NotNull Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Read the records in the time range, in segment order (roughly chronological).
+     *
+     * @param from Start of the range, inclusive.
+     * @param to End of the range, exclusive.
+     * @param consumer Consumer of the records. The {@link UsageRecord} instance is reused.
+     * @throws IOException If the directory or a segment can't be read.
+     */
+    public void forEach(@NotNull Instant from, @NotNull Instant to, @NotNull Consumer<UsageRecord> consumer)
+            throws IOException {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        Map<Short, String> commands = UsageLog.readCommands(directory);
+        UsageRecord record = new UsageRecord();
+        UsageLog.Outcome[] outcomes = UsageLog.Outcome.values();
+
+        for (Path segment : listSegments()) {
+            MappedByteBuffer buffer;
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (NoSuchFileException exception) {
+                // Deleted by the rolling log meanwhile
+                continue;
+            }
+
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            for (int offset = 0; offset + UsageLog.RECORD_SIZE <= buffer.limit(); offset += UsageLog.RECORD_SIZE) {
+                long timestamp = buffer.getLong(offset + UsageLog.TIMESTAMP);
+
+                if (timestamp < fromMillis || timestamp >= toMillis || timestamp == 0) {
+                    continue;
+                }
+
+                int outcome = buffer.get(offset + UsageLog.OUTCOME);
+                String commandName = commands.get(buffer.getShort(offset + UsageLog.COMMAND_ID));
+
+                if (commandName == null || outcome < 0 || outcome >= outcomes.length) {
+                    continue;
+                }
+
+                record.timestamp = timestamp;
+                record.commandName = commandName;
+                record.guildId = buffer.getLong(offset + UsageLog.GUILD_ID);
+                record.userId = buffer.getLong(offset + UsageLog.USER_ID);
+                record.latencyMicros = buffer.getInt(offset + UsageLog.LATENCY);
+                record.outcome = outcomes[outcome];
+
+                consumer.accept(record);
+            }
+        }
+    }
+
+    /**
+     * Aggregate the records in the time range by command.
+     *
+     * @param from Start of the range, inclusive.
+     * @param to End of the range, exclusive.
+     * @return Map of command names to their {@link UsageStats}.
+     * @throws IOException If the directory or a segment can't be read.
+     */
+    public @NotNull Map<String, UsageStats> aggregateByCommand(@NotNull Instant from, @NotNull Instant to)
+            throws IOException {
+        Map<String, UsageStats> stats = new HashMap<>();
+
+        forEach(from, to, record -> stats.computeIfAbsent(record.commandName, name -> new UsageStats()).add(record));
+
+        return stats;
+    }
+
+    /**
+     * Aggregate the records in the time range by guild.
+     *
+     * @param from Start of the range, inclusive.
+     * @param to End of the range, exclusive.
+     * @return Map of guild IDs ({@code 0} for direct messages) to their {@link UsageStats}.
+     * @throws IOException If the directory or a segment can't be read.
+     */
+    public @NotNull Map<Long, UsageStats> aggregateByGuild(@NotNull Instant from, @NotNull Instant to)
+            throws IOException {
+        Map<Long, UsageStats> stats = new HashMap<>();
+
+        forEach(from, to, record -> stats.computeIfAbsent(record.guildId, id -> new UsageStats()).add(record));
+
+        return stats;
+    }
+
+    /**
+     * Aggregate the records in the time range by time windows.
+     *
+     * @param from Start of the range (and of the first window), inclusive.
+     * @param to End of the range, exclusive.
+     * @param window The window length.
+     * @return Sorted map of window starts to their {@link UsageStats}; windows without records are omitted.
+     * @throws IOException If the directory or a segment can't be read.
+     * @throws IllegalArgumentException If the window is shorter than a millisecond.
+     */
+    public @NotNull SortedMap<Instant, UsageStats> aggregateByWindow(@NotNull Instant from,
+                                                                     @NotNull Instant to,
+                                                                     @NotNull Duration window) throws IOException {
+        long windowMillis = window.toMillis();
+
+        if (windowMillis < 1) {
+            throw new IllegalArgumentException("Window must be at least a millisecond");
+        }
+
+        long fromMillis = from.toEpochMilli();
+        Map<Long, UsageStats> stats = new HashMap<>();
+
+        forEach(from, to, record -> stats.computeIfAbsent((record.timestamp - fromMillis) / windowMillis,
+                index -> new UsageStats()).add(record));
+
+        SortedMap<Instant, UsageStats> windows = new TreeMap<>();
+
+        for (Map.Entry<Long, UsageStats> entry : stats.entrySet()) {
+            windows.put(Instant.ofEpochMilli(fromMillis + entry.getKey() * windowMillis), entry.getValue());
+        }
+
+        return windows;
+    }
+
+    private @NotNull List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = UsageLog.SEGMENT_FILE.matcher(file.getFileName().toString());
+
+                if (matcher.matches()) {
+                    segments.add(file);
+                }
+            }
+        }
+
+        // Zero-padded numbers sort like the numbers
+        Collections.sort(segments);
+
+        return segments;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.analytics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Record of a single invocation, read by {@link UsageReader}.
+ * <br>
+ * The same instance is reused for all records of a read, so copy what's needed beyond the callback.
+ */
+public final class UsageRecord {
+    long timestamp;
+    String commandName;
+    long guildId;
+    long userId;
+    long latencyMicros;
+    UsageLog.Outcome outcome;
+
+    UsageRecord() {
+    }
+
+    /**
+     * Time of the record, in milliseconds since the epoch.
+     *
+     * @return The timestamp.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * The command name.
+     *
+     * @return The command name.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * The guild ID.
+     *
+     * @return The guild ID, {@code 0} in direct messages.
+     */
+    public long getGuildId() {
+        return guildId;
+    }
+
+    /**
+     * The user ID.
+     *
+     * @return The user ID.
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * The invocation latency.
+     *
+     * @return The latency, in microseconds.
+     */
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    /**
+     * How the invocation ended.
+     *
+     * @return The {@link UsageLog.Outcome}.
+     */
+    public @NotNull UsageLog.Outcome getOutcome() {
+        return outcome;
+    }
+}
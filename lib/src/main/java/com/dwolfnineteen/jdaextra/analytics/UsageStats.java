@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.analytics;
+
+/**
+ * Aggregated statistics of invocations, computed by {@link UsageReader}.
+ */
+public final class UsageStats {
+    private long count;
+    private long successCount;
+    private long userErrorCount;
+    private long failureCount;
+    private long totalLatencyMicros;
+    private long maxLatencyMicros;
+
+    UsageStats() {
+    }
+
+    void add(UsageRecord record) {
+        count++;
+        totalLatencyMicros += record.latencyMicros;
+        maxLatencyMicros = Math.max(maxLatencyMicros, record.latencyMicros);
+
+        switch (record.outcome) {
+            case SUCCESS:
+                successCount++;
+                break;
+            case USER_ERROR:
+                userErrorCount++;
+                break;
+            default:
+                failureCount++;
+                break;
+        }
+    }
+
+    /**
+     * Number of invocations.
+     *
+     * @return The number of invocations.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Number of invocations completed normally.
+     *
+     * @return The number of successful invocations.
+     */
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * Number of invocations failed because of the user input.
+     *
+     * @return The number of invocations with user errors.
+     */
+    public long getUserErrorCount() {
+        return userErrorCount;
+    }
+
+    /**
+     * Number of invocations failed with other exceptions.
+     *
+     * @return The number of failed invocations.
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Average latency of the invocations.
+     *
+     * @return The average latency, in microseconds. {@code 0} if there are no invocations.
+     */
+    public long getAverageLatencyMicros() {
+        return count == 0 ? 0 : totalLatencyMicros / count;
+    }
+
+    /**
+     * Maximal latency of the invocations.
+     *
+     * @return The maximal latency, in microseconds.
+     */
+    public long getMaxLatencyMicros() {
+        return maxLatencyMicros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("UsageStats{count=%d, success=%d, userErrors=%d, failures=%d, avgLatencyMicros=%d, maxLatencyMicros=%d}",
+                count,
+                successCount,
+                userErrorCount,
+                failureCount,
+                getAverageLatencyMicros(),
+                maxLatencyMicros);
+    }
+}
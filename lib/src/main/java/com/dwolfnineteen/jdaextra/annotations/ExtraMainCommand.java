@@ -32,6 +32,10 @@ import java.lang.annotation.Target;
  * Need to mark method contain main logic of the command.
  * Can be omitted if the command has subcommands/subcommand groups.
  * <br>
+ * If the entry point returns a {@link java.util.concurrent.Flow.Publisher Flow.Publisher} of text,
+ * the text is streamed into the reply
+ * (see {@link com.dwolfnineteen.jdaextra.replies.StreamingReply StreamingReply}).
+ * <br>
  * <strong>Example:</strong>
  * <pre>
  * {@code
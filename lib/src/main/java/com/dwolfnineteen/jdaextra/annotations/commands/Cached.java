@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.annotations.commands;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the reply of an idempotent command (or entry point), for the same arguments.
+ * <br>
+ * The entry point returns the reply as {@link net.dv8tion.jda.api.utils.messages.MessageCreateData
+ * MessageCreateData} (or a {@link java.util.concurrent.CompletionStage CompletionStage} of it) instead of sending it;
+ * other return types fail the build of the command.
+ * The framework sends it and caches it; until it expires, the same invocation is answered from the cache
+ * without invoking the entry point.
+ * <br>
+ * Only applies when the {@link com.dwolfnineteen.jdaextra.caching.ResultCache ResultCache} is enabled.
+ * <br>
+ * <strong>Example:</strong>
+ * <pre>
+ * {@code
+ * @ExtraSlashCommand(name = "leaderboard", description = "Top players")
+ * @Cached(ttl = 5, unit = TimeUnit.MINUTES, scope = Cached.Scope.GUILD)
+ * public class LeaderboardCommand extends SlashCommand {
+ *      @ExtraMainCommand
+ *      public MessageCreateData leaderboard(SlashCommandEvent event) {
+ *          return MessageCreateData.fromContent(renderLeaderboard(event.getGuild()));
+ *      }
+ * }
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Cached {
+    /**
+     * Sets how long the cached reply stays valid.
+     *
+     * @return The time to live, in {@link #unit()}.
+     */
+    long ttl();
+
+    /**
+     * Sets the unit of {@link #ttl()}.
+     *
+     * @return The {@link TimeUnit}, {@link TimeUnit#SECONDS} by default.
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Sets who shares the cached reply, besides the arguments.
+     *
+     * @return The {@link Scope}, {@link Scope#GLOBAL} by default.
+     */
+    Scope scope() default Scope.GLOBAL;
+
+    /**
+     * Who shares a cached reply.
+     */
+    enum Scope {
+        /**
+         * Everyone.
+         */
+        GLOBAL,
+        /**
+         * Users with the same locale (the guild locale for prefix commands).
+         */
+        LOCALE,
+        /**
+         * Users of the same guild.
+         */
+        GUILD,
+        /**
+         * The same user only.
+         */
+        USER
+    }
+}
@@ -31,8 +31,9 @@ import java.lang.annotation.RetentionPolicy;
  * {@link net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction LocalizationFunction} for this command.
  * This allows to localize the entire command.
  * <br>
- * It will be converted by command builder to
- * {@link net.dv8tion.jda.api.interactions.commands.localization.ResourceBundleLocalizationFunction ResourceBundleLocalizationFunction}.
+ * It will be converted by command builder to a shared function from
+ * {@link com.dwolfnineteen.jdaextra.localization.LocalizationService LocalizationService},
+ * which loads every resource bundle only once.
  */
 @Retention(RetentionPolicy.RUNTIME)
 public @interface CommandLocalizationFunction {
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.annotations.commands;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the slash or hybrid command only in guilds assigned one of its command sets, instead of globally.
+ * <br>
+ * Guilds are assigned command sets with {@link com.dwolfnineteen.jdaextra.sync.GuildCommandSynchronizer#assign(long,
+ * java.util.Collection) GuildCommandSynchronizer.assign()}; prefix invocations (of prefix and hybrid commands)
+ * are accepted only in these guilds as well.
+ * <br>
+ * <strong>Example:</strong>
+ * <pre>
+ * {@code
+ * @ExtraSlashCommand(name = "insights", description = "Server insights")
+ * @GuildScoped("premium")
+ * public class InsightsCommand extends SlashCommand {
+ *      // ...
+ * }
+ * }
+ * </pre>
+ *
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setGuildCommandSync(java.nio.file.Path, int)
+ *      JDAExtraBuilder.setGuildCommandSync()
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GuildScoped {
+    /**
+     * Sets the command sets containing this command.
+     *
+     * @return The command set names.
+     */
+    String[] value();
+}
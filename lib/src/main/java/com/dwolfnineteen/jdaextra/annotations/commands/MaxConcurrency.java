@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.annotations.commands;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits concurrent invocations of the command (including its subcommands).
+ * <br>
+ * Invocations beyond the limits wait in a bounded queue; when it is full, they are rejected
+ * with {@link com.dwolfnineteen.jdaextra.exceptions.ConcurrencyLimitException ConcurrencyLimitException}.
+ * If the entry point returns a {@link java.util.concurrent.CompletionStage CompletionStage},
+ * the invocation holds its permits until the stage completes.
+ *
+ * @see com.dwolfnineteen.jdaextra.concurrency.ConcurrencyLimiter ConcurrencyLimiter
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface MaxConcurrency {
+    /**
+     * Sets the limit of concurrent invocations.
+     *
+     * @return The limit, {@code 0} if unlimited.
+     */
+    int perCommand() default 0;
+
+    /**
+     * Sets the limit of concurrent invocations in a guild.
+     *
+     * @return The limit, {@code 0} if unlimited.
+     */
+    int perGuild() default 0;
+
+    /**
+     * Sets the limit of concurrent invocations by a user.
+     *
+     * @return The limit, {@code 0} if unlimited.
+     */
+    int perUser() default 0;
+
+    /**
+     * Sets the capacity of the wait queue.
+     *
+     * @return The capacity.
+     */
+    int queueSize() default 4;
+}
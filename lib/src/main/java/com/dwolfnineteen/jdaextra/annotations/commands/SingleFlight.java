@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.annotations.commands;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces concurrent invocations of a command (or entry point) with the same arguments into one execution.
+ * <br>
+ * Like with {@link Cached}, the entry point returns the reply as
+ * {@link net.dv8tion.jda.api.utils.messages.MessageCreateData MessageCreateData} (or a
+ * {@link java.util.concurrent.CompletionStage CompletionStage} of it) instead of sending it;
+ * other return types fail the build of the command.
+ * While it is executing, equal invocations wait for its result instead of invoking the entry point again,
+ * and the framework replies to each of them with the shared result.
+ * <br>
+ * Nothing is kept once the execution completes; combine with {@link Cached} to reuse the result later.
+ * <br>
+ * <strong>Example:</strong>
+ * <pre>
+ * {@code
+ * @ExtraSlashCommand(name = "leaderboard", description = "Top players")
+ * @SingleFlight(scope = Cached.Scope.GUILD)
+ * public class LeaderboardCommand extends SlashCommand {
+ *      @ExtraMainCommand
+ *      public CompletableFuture<MessageCreateData> leaderboard(SlashCommandEvent event) {
+ *          return computeLeaderboard(event.getGuild()).thenApply(MessageCreateData::fromContent);
+ *      }
+ * }
+ * }
+ * </pre>
+ *
+ * @see com.dwolfnineteen.jdaextra.caching.SingleFlightGroup SingleFlightGroup
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface SingleFlight {
+    /**
+     * Sets who shares an execution, besides the arguments.
+     *
+     * @return The {@link Cached.Scope}, {@link Cached.Scope#GLOBAL} by default.
+     */
+    Cached.Scope scope() default Cached.Scope.GLOBAL;
+}
@@ -23,13 +23,21 @@
 package com.dwolfnineteen.jdaextra.builders;
 
 import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.commands.Cached;
 import com.dwolfnineteen.jdaextra.annotations.commands.DescriptionLocalizations;
 import com.dwolfnineteen.jdaextra.annotations.commands.GuildOnly;
 import com.dwolfnineteen.jdaextra.annotations.commands.Localization;
 import com.dwolfnineteen.jdaextra.annotations.commands.NameLocalizations;
+import com.dwolfnineteen.jdaextra.annotations.commands.SingleFlight;
 import com.dwolfnineteen.jdaextra.annotations.options.ChoiceDouble;
 import com.dwolfnineteen.jdaextra.annotations.options.ChoiceLong;
 import com.dwolfnineteen.jdaextra.annotations.options.ChoiceString;
+import com.dwolfnineteen.jdaextra.annotations.options.MaxLength;
+import com.dwolfnineteen.jdaextra.annotations.options.MaxValue;
+import com.dwolfnineteen.jdaextra.annotations.options.MinLength;
+import com.dwolfnineteen.jdaextra.annotations.options.MinValue;
+import com.dwolfnineteen.jdaextra.annotations.options.RequiredLength;
+import com.dwolfnineteen.jdaextra.annotations.options.RequiredRange;
 import com.dwolfnineteen.jdaextra.commands.BaseCommand;
 import com.dwolfnineteen.jdaextra.models.CommonCommandProperties;
 import com.dwolfnineteen.jdaextra.models.commands.CommandModel;
@@ -43,16 +51,24 @@ import net.dv8tion.jda.api.entities.channel.Channel;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
 
 /**
@@ -148,7 +164,20 @@ public abstract class CommandBuilder {
         List<Command.Choice> choices = new ArrayList<>();
 
         for (Annotation annotation : annotations) {
-            if (annotation instanceof ChoiceDouble) {
+            // Repeated choices are wrapped in their containers
+            if (annotation instanceof ChoiceDouble.Container) {
+                for (ChoiceDouble choice : ((ChoiceDouble.Container) annotation).value()) {
+                    choices.add(new Command.Choice(choice.name(), choice.val()));
+                }
+            } else if (annotation instanceof ChoiceLong.Container) {
+                for (ChoiceLong choice : ((ChoiceLong.Container) annotation).value()) {
+                    choices.add(new Command.Choice(choice.name(), choice.val()));
+                }
+            } else if (annotation instanceof ChoiceString.Container) {
+                for (ChoiceString choice : ((ChoiceString.Container) annotation).value()) {
+                    choices.add(new Command.Choice(choice.name(), choice.val()));
+                }
+            } else if (annotation instanceof ChoiceDouble) {
                 choices.add(new Command.Choice(((ChoiceDouble) annotation).name(),
                         ((ChoiceDouble) annotation).val()));
             } else if (annotation instanceof ChoiceLong) {
@@ -163,6 +192,80 @@ public abstract class CommandBuilder {
         return choices;
     }
 
+    /**
+     * Apply option constraints ({@link MinValue @MinValue}, {@link MaxValue @MaxValue}, {@link RequiredRange @RequiredRange},
+     * {@link MinLength @MinLength}, {@link MaxLength @MaxLength}, {@link RequiredLength @RequiredLength})
+     * from the parameter annotations to the option data.
+     *
+     * @param data The option data.
+     * @param parameter The entry point parameter of the option.
+     * @throws IllegalArgumentException If a constraint doesn't fit the option type,
+     * or a value constraint of an INTEGER option isn't an integer.
+     */
+    protected void buildOptionConstraints(@NotNull CommandOptionData data, @NotNull Parameter parameter) {
+        OptionType type = data.getType();
+        MinValue minValue = parameter.getAnnotation(MinValue.class);
+        MaxValue maxValue = parameter.getAnnotation(MaxValue.class);
+        RequiredRange requiredRange = parameter.getAnnotation(RequiredRange.class);
+        MinLength minLength = parameter.getAnnotation(MinLength.class);
+        MaxLength maxLength = parameter.getAnnotation(MaxLength.class);
+        RequiredLength requiredLength = parameter.getAnnotation(RequiredLength.class);
+
+        if ((minValue != null || maxValue != null || requiredRange != null)
+                && type != OptionType.INTEGER
+                && type != OptionType.NUMBER) {
+            throw new IllegalArgumentException(String.format("Option '%s': value constraints require an INTEGER or NUMBER option",
+                    data.getName()));
+        }
+        if ((minLength != null || maxLength != null || requiredLength != null) && type != OptionType.STRING) {
+            throw new IllegalArgumentException(String.format("Option '%s': length constraints require a STRING option",
+                    data.getName()));
+        }
+
+        if (requiredRange != null) {
+            if (type == OptionType.INTEGER) {
+                data.setRequiredRange(integerBound(data, requiredRange.minValue()), integerBound(data, requiredRange.maxValue()));
+            } else {
+                data.setRequiredRange(requiredRange.minValue(), requiredRange.maxValue());
+            }
+        }
+        if (minValue != null) {
+            if (type == OptionType.INTEGER) {
+                data.setMinValue(integerBound(data, minValue.value()));
+            } else {
+                data.setMinValue(minValue.value());
+            }
+        }
+        if (maxValue != null) {
+            if (type == OptionType.INTEGER) {
+                data.setMaxValue(integerBound(data, maxValue.value()));
+            } else {
+                data.setMaxValue(maxValue.value());
+            }
+        }
+
+        if (requiredLength != null) {
+            data.setRequiredLength(requiredLength.minLength(), requiredLength.maxLength());
+        }
+        if (minLength != null) {
+            data.setMinLength((int) minLength.value());
+        }
+        if (maxLength != null) {
+            data.setMaxLength((int) maxLength.value());
+        }
+    }
+
+    private static long integerBound(@NotNull CommandOptionData data, double bound) {
+        // (long) would silently truncate 2.5 to 2 and saturate out-of-range bounds
+        if (bound != Math.rint(bound) || bound < Long.MIN_VALUE || bound >= 0x1p63) {
+            throw new IllegalArgumentException(String.format("Option '%s': value constraint %s of an INTEGER option must be an integer",
+                    data.getName(),
+                    bound));
+        }
+
+        return (long) bound;
+    }
+
     /**
      * Build subcommands.
      *
@@ -177,6 +280,137 @@ public abstract class CommandBuilder {
      */
     protected abstract List<? extends SubcommandGroupProperties> buildSubcommandGroups();
 
+    /**
+     * Check the entry points of the command (with subcommands), which replies are sent by the framework
+     * ({@link Cached @Cached} or {@link SingleFlight @SingleFlight} on the entry point or its class,
+     * or a {@link Flow.Publisher Publisher} returned by the entry point).
+     *
+     * @param model The command model.
+     * @throws IllegalArgumentException If such an entry point returns neither {@link MessageCreateData}
+     * nor a {@link CompletionStage} of it, or returns a {@link Flow.Publisher Publisher} of anything but
+     * {@link CharSequence}.
+     */
+    protected void checkEntryPoints(@NotNull CommandModel model) {
+        List<Method> entryPoints = new ArrayList<>();
+
+        if (((CommonCommandProperties) model).getEntryPoint() != null) {
+            entryPoints.add(((CommonCommandProperties) model).getEntryPoint());
+        }
+
+        for (SubcommandProperties subcommand : model.getSubcommandList()) {
+            entryPoints.add(((CommonCommandProperties) subcommand).getEntryPoint());
+        }
+        for (SubcommandGroupProperties group : model.getSubcommandGroupList()) {
+            for (SubcommandProperties subcommand : group.getSubcommandList()) {
+                entryPoints.add(((CommonCommandProperties) subcommand).getEntryPoint());
+            }
+        }
+
+        for (Method entryPoint : entryPoints) {
+            if (Flow.Publisher.class.isAssignableFrom(entryPoint.getReturnType())
+                    && !isCharSequence(publishedType(entryPoint.getGenericReturnType(), Map.of()))) {
+                throw new IllegalArgumentException(String.format("Entry point '%s': returned Publisher must publish CharSequence",
+                        entryPoint.getName()));
+            }
+
+            for (Class<? extends Annotation> annotation : List.of(Cached.class, SingleFlight.class)) {
+                boolean annotated = entryPoint.isAnnotationPresent(annotation)
+                        || entryPoint.getDeclaringClass().isAnnotationPresent(annotation);
+
+                if (annotated && !returnsReply(entryPoint)) {
+                    throw new IllegalArgumentException(String.format("Entry point '%s': @%s requires returning MessageCreateData or CompletionStage<MessageCreateData>",
+                            entryPoint.getName(),
+                            annotation.getSimpleName()));
+                }
+            }
+        }
+    }
+
+    private static boolean returnsReply(@NotNull Method entryPoint) {
+        Class<?> returnType = entryPoint.getReturnType();
+
+        if (MessageCreateData.class.isAssignableFrom(returnType)) {
+            return true;
+        }
+
+        if (!CompletionStage.class.isAssignableFrom(returnType)
+                || !(entryPoint.getGenericReturnType() instanceof ParameterizedType)) {
+            return false;
+        }
+
+        // CompletionStage<T>, CompletableFuture<T>: the only type argument is the result
+        Type[] arguments = ((ParameterizedType) entryPoint.getGenericReturnType()).getActualTypeArguments();
+        Type result = arguments.length == 1 ? arguments[0] : null;
+
+        if (result instanceof WildcardType) {
+            result = ((WildcardType) result).getUpperBounds()[0];
+        }
+
+        return result instanceof Class && MessageCreateData.class.isAssignableFrom((Class<?>) result);
+    }
+
+    /**
+     * Resolve the item type of the {@link Flow.Publisher Publisher} the type implements.
+     *
+     * @param type The type.
+     * @param bindings Type arguments of the type variables of the enclosing types.
+     * @return The item type, or {@code null} if it's unknown (e.g. a raw type).
+     */
+    private static @Nullable Type publishedType(@NotNull Type type, @NotNull Map<TypeVariable<?>, Type> bindings) {
+        Class<?> raw;
+        Map<TypeVariable<?>, Type> typeBindings = bindings;
+
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            Type[] arguments = parameterized.getActualTypeArguments();
+
+            raw = (Class<?>) parameterized.getRawType();
+            typeBindings = new HashMap<>();
+
+            for (int i = 0; i < arguments.length; i++) {
+                typeBindings.put(raw.getTypeParameters()[i], bindings.getOrDefault(arguments[i], arguments[i]));
+            }
+
+            if (raw == Flow.Publisher.class) {
+                return typeBindings.get(raw.getTypeParameters()[0]);
+            }
+        } else if (type instanceof Class && type != Flow.Publisher.class) {
+            raw = (Class<?>) type;
+        } else {
+            return null;
+        }
+
+        List<Type> supertypes = new ArrayList<>(List.of(raw.getGenericInterfaces()));
+
+        if (raw.getGenericSuperclass() != null) {
+            supertypes.add(raw.getGenericSuperclass());
+        }
+
+        for (Type supertype : supertypes) {
+            Class<?> rawSupertype = (Class<?>) (supertype instanceof ParameterizedType
+                    ? ((ParameterizedType) supertype).getRawType()
+                    : supertype);
+
+            if (Flow.Publisher.class.isAssignableFrom(rawSupertype)) {
+                return publishedType(supertype, typeBindings);
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isCharSequence(@Nullable Type type) {
+        if (type instanceof WildcardType) {
+            type = ((WildcardType) type).getUpperBounds()[0];
+        }
+
+        if (type instanceof ParameterizedType) {
+            type = ((ParameterizedType) type).getRawType();
+        }
+
+        return type instanceof Class && CharSequence.class.isAssignableFrom((Class<?>) type);
+    }
+
     // TODO: More settings
     /**
      * Build command settings (such as {@link GuildOnly @GuildOnly}).
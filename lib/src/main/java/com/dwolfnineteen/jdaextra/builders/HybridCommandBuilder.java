@@ -24,6 +24,7 @@ package com.dwolfnineteen.jdaextra.builders;
 
 import com.dwolfnineteen.jdaextra.annotations.RextraHybridCommand;
 import com.dwolfnineteen.jdaextra.annotations.options.HybridOption;
+import com.dwolfnineteen.jdaextra.annotations.options.IgnoreCase;
 import com.dwolfnineteen.jdaextra.annotations.options.Required;
 import com.dwolfnineteen.jdaextra.annotations.subcommands.RextraHybridSubcommand;
 import com.dwolfnineteen.jdaextra.annotations.subcommands.groups.RextraHybridSubcommandGroup;
@@ -97,6 +98,8 @@ public class HybridCommandBuilder extends SlashLikeCommandBuilder {
                 .addSubcommands(buildSubcommands())
                 .addSubcommandGroups(buildSubcommandGroups());
 
+        checkEntryPoints(model);
+
         return (HybridCommandModel) buildSettings(buildLocalization(model, clazz), clazz);
     }
 
@@ -134,7 +137,11 @@ public class HybridCommandBuilder extends SlashLikeCommandBuilder {
                         hybridOption.description(),
                         parameter.isAnnotationPresent(Required.class));
 
-                data.addChoices(buildOptionChoices(parameter.getAnnotations()));
+                data.addChoices(buildOptionChoices(parameter.getAnnotations()))
+                        .setChoicesIgnoreCase(parameter.isAnnotationPresent(IgnoreCase.class));
+                buildOptionConstraints(data, parameter);
+                // Compiled at build time, so ambiguous choices fail the build
+                data.compileValidator();
 
                 options.add(data);
             }
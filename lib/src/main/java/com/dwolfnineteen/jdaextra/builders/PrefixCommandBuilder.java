@@ -23,6 +23,7 @@
 package com.dwolfnineteen.jdaextra.builders;
 
 import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.IgnoreCase;
 import com.dwolfnineteen.jdaextra.annotations.options.PrefixOption;
 import com.dwolfnineteen.jdaextra.annotations.options.Required;
 import com.dwolfnineteen.jdaextra.annotations.subcommands.RextraPrefixSubcommand;
@@ -99,6 +100,8 @@ public class PrefixCommandBuilder extends CommandBuilder {
                 .addSubcommands(buildSubcommands())
                 .addSubcommandGroups(buildSubcommandGroups());
 
+        checkEntryPoints(model);
+
         return (PrefixCommandModel) buildSettings(model, clazz);
     }
 
@@ -121,6 +124,12 @@ public class PrefixCommandBuilder extends CommandBuilder {
                         prefixOption.description().isEmpty() ? null : prefixOption.description(),
                         parameter.isAnnotationPresent(Required.class));
 
+                data.addChoices(buildOptionChoices(parameter.getAnnotations()))
+                        .setChoicesIgnoreCase(parameter.isAnnotationPresent(IgnoreCase.class));
+                buildOptionConstraints(data, parameter);
+                // Compiled at build time, so ambiguous choices fail the build
+                data.compileValidator();
+
                 options.add(data);
             }
         }
@@ -150,7 +159,6 @@ public class PrefixCommandBuilder extends CommandBuilder {
             subcommands.add(subcommand.addOptions(buildOptions(method)));
         }
 
-        System.out.println(subcommands);
         return subcommands;
     }
 
@@ -101,6 +101,8 @@ public class SlashCommandBuilder extends SlashLikeCommandBuilder {
                 .addSubcommands(buildSubcommands())
                 .addSubcommandGroups(buildSubcommandGroups());
 
+        checkEntryPoints(model);
+
         return (SlashCommandModel) buildSettings(buildLocalization(model, clazz), clazz);
     }
 
@@ -140,6 +142,8 @@ public class SlashCommandBuilder extends SlashLikeCommandBuilder {
                         parameter.isAnnotationPresent(AutoComplete.class));
 
                 data.addChoices(buildOptionChoices(parameter.getAnnotations()));
+                buildOptionConstraints(data, parameter);
+                data.compileValidator();
 
                 options.add(data);
             }
@@ -25,10 +25,10 @@ package com.dwolfnineteen.jdaextra.builders;
 import com.dwolfnineteen.jdaextra.annotations.commands.CommandLocalizationFunction;
 import com.dwolfnineteen.jdaextra.commands.BaseCommand;
 import com.dwolfnineteen.jdaextra.commands.SlashLikeCommand;
+import com.dwolfnineteen.jdaextra.localization.LocalizationService;
 import com.dwolfnineteen.jdaextra.models.commands.CommandModel;
 import com.dwolfnineteen.jdaextra.models.commands.SlashLikeCommandModel;
 import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
-import net.dv8tion.jda.api.interactions.commands.localization.ResourceBundleLocalizationFunction;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -59,6 +59,9 @@ public abstract class SlashLikeCommandBuilder extends CommandBuilder {
 
     /**
      * Build localization function.
+     * <br>
+     * Functions are shared through {@link LocalizationService},
+     * so each resource bundle is loaded only once, no matter how many commands use it.
      *
      * @param clazz The command class.
      * @return The {@link LocalizationFunction}.
@@ -67,8 +70,8 @@ public abstract class SlashLikeCommandBuilder extends CommandBuilder {
         CommandLocalizationFunction annotation = clazz.getAnnotation(CommandLocalizationFunction.class);
 
         return annotation == null
-                ? ResourceBundleLocalizationFunction.empty().build()
-                : ResourceBundleLocalizationFunction.fromBundles(annotation.baseName(),
-                annotation.locales()).build();
+                ? LocalizationService.emptyFunction()
+                : LocalizationService.getInstance().getLocalizationFunction(annotation.baseName(),
+                annotation.locales());
     }
 }
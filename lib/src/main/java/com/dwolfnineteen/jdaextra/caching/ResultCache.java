@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.caching;
+
+import net.dv8tion.jda.api.entities.ISnowflake;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of replies of {@link com.dwolfnineteen.jdaextra.annotations.commands.Cached Cached} commands.
+ * <br>
+ * Bounded by the number of entries, with W-TinyLFU eviction (frequently requested results are kept over
+ * recent one-off ones) and the expiry of each command.
+ *
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setResultCache(int) JDAExtraBuilder.setResultCache()
+ */
+public final class ResultCache {
+    private final WindowTinyLfu<Key, MessageCreateData> cache;
+    private final CacheStats stats;
+    private final Map<String, CacheStats> commandStats;
+
+    /**
+     * Construct new {@link ResultCache}.
+     *
+     * @param maximumSize Maximal number of cached results.
+     * @throws IllegalArgumentException If the maximal size is not positive.
+     */
+    public ResultCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximal cache size must be positive");
+        }
+
+        this.cache = new WindowTinyLfu<>(maximumSize);
+        this.stats = new CacheStats();
+        this.commandStats = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create the cache key of an invocation.
+     *
+     * @param entryPoint The entry point.
+     * @param scope The scope value (e.g. guild ID, locale), {@code null} for global results.
+     * @param arguments The converted arguments; the first one (the event) is skipped,
+     *                  Discord entities are keyed by their IDs.
+     * @return The {@link Key}.
+     */
+    public static @NotNull Key key(@NotNull Method entryPoint, @Nullable Object scope, @NotNull Object[] arguments) {
+        Object[] values = new Object[arguments.length - 1];
+
+        for (int i = 1; i < arguments.length; i++) {
+            Object argument = arguments[i];
+
+            values[i - 1] = argument instanceof ISnowflake ? ((ISnowflake) argument).getIdLong() : argument;
+        }
+
+        return new Key(entryPoint, scope, values);
+    }
+
+    /**
+     * Look up the cached result, counting a hit or a miss.
+     *
+     * @param commandName The command name, for the per-command stats.
+     * @param key The {@link Key}.
+     * @return The cached {@link MessageCreateData}, {@code null} if missing or expired.
+     */
+    public @Nullable MessageCreateData get(@NotNull String commandName, @NotNull Key key) {
+        MessageCreateData data = cache.get(key, System.nanoTime());
+        CacheStats command = commandStats.computeIfAbsent(commandName, name -> new CacheStats());
+
+        if (data == null) {
+            stats.recordMiss();
+            command.recordMiss();
+        } else {
+            stats.recordHit();
+            command.recordHit();
+        }
+
+        return data;
+    }
+
+    /**
+     * Cache the result.
+     * <br>
+     * Results with files are not cached, since file uploads can only be sent once.
+     *
+     * @param key The {@link Key}.
+     * @param data The {@link MessageCreateData}.
+     * @param ttl How long the result stays valid.
+     */
+    public void put(@NotNull Key key, @NotNull MessageCreateData data, @NotNull Duration ttl) {
+        if (data.getFiles().isEmpty()) {
+            cache.put(key, data, System.nanoTime(), ttl.toNanos());
+        }
+    }
+
+    /**
+     * Drop all cached results.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * Number of cached results (including expired ones not dropped yet).
+     *
+     * @return The number of cached results.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Number of results evicted to keep the cache within its maximal size.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    /**
+     * Hit and miss counters of all commands.
+     *
+     * @return The {@link CacheStats}.
+     */
+    public @NotNull CacheStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Hit and miss counters per command.
+     *
+     * @return Unmodifiable view of the map of command names to their {@link CacheStats}.
+     */
+    public @NotNull Map<String, CacheStats> getCommandStats() {
+        return Collections.unmodifiableMap(commandStats);
+    }
+
+    /**
+     * Cache key of an invocation: the entry point, the scope value and the arguments.
+     */
+    public static final class Key {
+        private final Method entryPoint;
+        private final Object scope;
+        private final Object[] arguments;
+        private final int hashCode;
+
+        private Key(@NotNull Method entryPoint, @Nullable Object scope, @NotNull Object[] arguments) {
+            this.entryPoint = entryPoint;
+            this.scope = scope;
+            this.arguments = arguments;
+            this.hashCode = 31 * (31 * entryPoint.hashCode() + Objects.hashCode(scope)) + Arrays.hashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) object;
+
+            return hashCode == other.hashCode
+                    && entryPoint.equals(other.entryPoint)
+                    && Objects.equals(scope, other.scope)
+                    && Arrays.equals(arguments, other.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.caching;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Table of in-flight executions of {@link com.dwolfnineteen.jdaextra.annotations.commands.SingleFlight SingleFlight}
+ * commands.
+ * <br>
+ * The first invocation with a key becomes the leader and executes the entry point;
+ * invocations joining while it's in flight share its result.
+ * The entry is removed as soon as the execution completes, so the table only holds running executions.
+ */
+public final class SingleFlightGroup {
+    private final ConcurrentMap<ResultCache.Key, CompletableFuture<Object>> calls;
+    private final LongAdder coalescedCount;
+
+    /**
+     * Construct new {@link SingleFlightGroup}.
+     */
+    public SingleFlightGroup() {
+        this.calls = new ConcurrentHashMap<>();
+        this.coalescedCount = new LongAdder();
+    }
+
+    /**
+     * Join the in-flight execution with the key, or start a new one.
+     *
+     * @param key The invocation key.
+     * @return The {@link Call}. If it's the {@link Call#isLeader() leader},
+     * the caller must execute the entry point and {@link Call#complete(Object) complete} (or {@link Call#fail(Throwable) fail}) it.
+     */
+    public @NotNull Call join(@NotNull ResultCache.Key key) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = calls.putIfAbsent(key, result);
+
+        if (inFlight != null) {
+            coalescedCount.increment();
+
+            return new Call(key, inFlight, false);
+        }
+
+        return new Call(key, result, true);
+    }
+
+    /**
+     * Number of executions currently in flight.
+     *
+     * @return The number of in-flight executions.
+     */
+    public int getInFlightCount() {
+        return calls.size();
+    }
+
+    /**
+     * Number of invocations that shared an in-flight execution instead of executing the entry point.
+     *
+     * @return The number of coalesced invocations.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * A joined execution.
+     */
+    public final class Call {
+        private final ResultCache.Key key;
+        private final CompletableFuture<Object> result;
+        private final boolean leader;
+
+        private Call(@NotNull ResultCache.Key key, @NotNull CompletableFuture<Object> result, boolean leader) {
+            this.key = key;
+            this.result = result;
+            this.leader = leader;
+        }
+
+        /**
+         * Whether this invocation executes the entry point.
+         *
+         * @return {@code true} for the first invocation with the key.
+         */
+        public boolean isLeader() {
+            return leader;
+        }
+
+        /**
+         * The shared result of the execution.
+         *
+         * @return {@link CompletableFuture} completed with the result of the entry point.
+         */
+        public @NotNull CompletableFuture<Object> getResult() {
+            return result;
+        }
+
+        /**
+         * Complete the execution with the result of the entry point.
+         * A {@link CompletionStage} result keeps the execution in flight until it completes.
+         *
+         * @param value The result of the entry point.
+         */
+        public void complete(@Nullable Object value) {
+            if (value instanceof CompletionStage) {
+                ((CompletionStage<?>) value).whenComplete((completion, throwable) -> {
+                    if (throwable == null) {
+                        complete(completion);
+                    } else {
+                        fail(throwable);
+                    }
+                });
+
+                return;
+            }
+
+            // Removed first, so invocations after completion start a fresh execution
+            calls.remove(key, result);
+            result.complete(value);
+        }
+
+        /**
+         * Fail the execution, with the failure of the entry point.
+         *
+         * @param throwable The failure.
+         */
+        public void fail(@NotNull Throwable throwable) {
+            calls.remove(key, result);
+            result.completeExceptionally(throwable);
+        }
+    }
+}
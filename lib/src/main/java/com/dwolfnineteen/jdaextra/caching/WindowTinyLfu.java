@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.caching;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache with W-TinyLFU eviction and per-entry expiry.
+ * <br>
+ * New entries enter a small LRU window (1% of the capacity). Entries leaving the window compete with the
+ * eviction victim of the main space (a segmented LRU: probation and protected, 80% of it) and are only admitted
+ * if the {@link FrequencySketch} saw them more often, so one-off keys don't flush popular ones.
+ * Expired entries are dropped when found, and evicted first.
+ * <br>
+ * Operations are O(1) under a single lock, which is fine at command invocation rates.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+final class WindowTinyLfu<K, V> {
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final int maximumSize;
+    private final int maximumWindowSize;
+    private final int maximumProtectedSize;
+    private final Map<K, Node<K, V>> data;
+    private final FrequencySketch sketch;
+    private final Queue<K, V> window;
+    private final Queue<K, V> probation;
+    private final Queue<K, V> protectedQueue;
+    private long evictionCount;
+
+    WindowTinyLfu(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.maximumWindowSize = Math.max(1, maximumSize / 100);
+        this.maximumProtectedSize = (maximumSize - maximumWindowSize) * 4 / 5;
+        this.data = new HashMap<>();
+        this.sketch = new FrequencySketch(maximumSize);
+        this.window = new Queue<>();
+        this.probation = new Queue<>();
+        this.protectedQueue = new Queue<>();
+    }
+
+    synchronized @Nullable V get(@NotNull K key, long now) {
+        Node<K, V> node = data.get(key);
+
+        sketch.increment(key.hashCode());
+
+        if (node == null) {
+            return null;
+        }
+
+        if (node.expiresAt - now <= 0) {
+            remove(node);
+
+            return null;
+        }
+
+        onHit(node);
+
+        return node.value;
+    }
+
+    synchronized void put(@NotNull K key, @NotNull V value, long now, long ttlNanos) {
+        Node<K, V> node = data.get(key);
+        long expiresAt = now + ttlNanos;
+
+        sketch.increment(key.hashCode());
+
+        if (node != null) {
+            node.value = value;
+            node.expiresAt = expiresAt;
+
+            onHit(node);
+
+            return;
+        }
+
+        node = new Node<>(key, value, expiresAt);
+        data.put(key, node);
+        window.add(node);
+
+        evict(now);
+    }
+
+    synchronized void clear() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+    }
+
+    synchronized int size() {
+        return data.size();
+    }
+
+    synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void onHit(@NotNull Node<K, V> node) {
+        switch (node.region) {
+            case WINDOW:
+                window.moveToTail(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                node.region = PROTECTED;
+                protectedQueue.add(node);
+
+                if (protectedQueue.size > maximumProtectedSize) {
+                    Node<K, V> demoted = protectedQueue.head;
+
+                    protectedQueue.remove(demoted);
+                    demoted.region = PROBATION;
+                    probation.add(demoted);
+                }
+
+                break;
+            default:
+                protectedQueue.moveToTail(node);
+                break;
+        }
+    }
+
+    private void evict(long now) {
+        Node<K, V> candidate = null;
+
+        while (window.size > maximumWindowSize) {
+            candidate = window.head;
+
+            window.remove(candidate);
+            candidate.region = PROBATION;
+            probation.add(candidate);
+        }
+
+        while (data.size() > maximumSize) {
+            Node<K, V> victim = probation.head != null ? probation.head : protectedQueue.head;
+
+            if (candidate == null || victim == candidate || victim.expiresAt - now <= 0) {
+                remove(victim);
+            } else if (candidate.expiresAt - now <= 0) {
+                remove(candidate);
+            } else if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                remove(victim);
+            } else {
+                remove(candidate);
+            }
+
+            evictionCount++;
+            candidate = null;
+        }
+    }
+
+    private void remove(@NotNull Node<K, V> node) {
+        data.remove(node.key);
+
+        switch (node.region) {
+            case WINDOW:
+                window.remove(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            default:
+                protectedQueue.remove(node);
+                break;
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private V value;
+        private long expiresAt;
+        private int region;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(@NotNull K key, @NotNull V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.region = WINDOW;
+        }
+    }
+
+    /**
+     * Intrusive LRU queue: head is the least recently used.
+     */
+    private static final class Queue<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        private void add(@NotNull Node<K, V> node) {
+            node.previous = tail;
+            node.next = null;
+
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+
+            tail = node;
+            size++;
+        }
+
+        private void remove(@NotNull Node<K, V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        private void moveToTail(@NotNull Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                add(node);
+            }
+        }
+
+        private void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+}
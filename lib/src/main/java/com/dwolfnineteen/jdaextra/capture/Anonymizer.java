@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.capture;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Anonymization of captured IDs and content.
+ * <br>
+ * IDs are mapped by a salted 64-bit mix, so the same ID always maps to the same value within one log
+ * (per-user/per-channel distribution is kept), but the original can't be recovered without the salt.
+ * Content keeps its length and whitespace (so parsing cost stays realistic),
+ * while all characters after the kept command invocation (prefix, command and subcommand names) are masked.
+ */
+final class Anonymizer {
+    private final long salt;
+
+    Anonymizer() {
+        this.salt = ThreadLocalRandom.current().nextLong();
+    }
+
+    long id(long id) {
+        if (id == 0) {
+            return 0;
+        }
+
+        // SplitMix64 finalizer
+        long value = id ^ salt;
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        value = value ^ (value >>> 31);
+
+        // Keep IDs positive, like snowflakes
+        return (value & Long.MAX_VALUE) == 0 ? 1 : value & Long.MAX_VALUE;
+    }
+
+    /**
+     * Mask the content after the command invocation.
+     *
+     * @param content The content.
+     * @param keptLength Length of the command invocation kept as is; {@code 0} to mask everything.
+     */
+    @NotNull String content(@NotNull String content, int keptLength) {
+        return mask(content, keptLength);
+    }
+
+    @NotNull String value(@NotNull String value) {
+        return mask(value, 0);
+    }
+
+    private static @NotNull String mask(@NotNull String content, int keptLength) {
+        char[] chars = content.toCharArray();
+
+        for (int i = keptLength; i < chars.length; i++) {
+            if (!Character.isWhitespace(chars[i])) {
+                chars[i] = 'x';
+            }
+        }
+
+        return new String(chars);
+    }
+}
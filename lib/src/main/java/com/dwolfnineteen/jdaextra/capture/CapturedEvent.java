@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.capture;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Event read from the event log.
+ * <br>
+ * Only the payload used by {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra} is captured:
+ * message content for message events, and command path with options for slash command events.
+ */
+public final class CapturedEvent {
+    /**
+     * Type of the captured event.
+     */
+    public enum Type {
+        /**
+         * {@link net.dv8tion.jda.api.events.message.MessageReceivedEvent MessageReceivedEvent}.
+         */
+        MESSAGE,
+        /**
+         * {@link net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent
+         * SlashCommandInteractionEvent}.
+         */
+        SLASH_COMMAND
+    }
+
+    private final Type type;
+    private final long offsetNanos;
+    private final long guildId;
+    private final long channelId;
+    private final long userId;
+    private final boolean bot;
+    private final String content;
+    private final String subcommandGroup;
+    private final String subcommandName;
+    private final List<CapturedOption> options;
+
+    CapturedEvent(@NotNull Type type,
+                  long offsetNanos,
+                  long guildId,
+                  long channelId,
+                  long userId,
+                  boolean bot,
+                  @NotNull String content,
+                  @Nullable String subcommandGroup,
+                  @Nullable String subcommandName,
+                  @NotNull List<CapturedOption> options) {
+        this.type = type;
+        this.offsetNanos = offsetNanos;
+        this.guildId = guildId;
+        this.channelId = channelId;
+        this.userId = userId;
+        this.bot = bot;
+        this.content = content;
+        this.subcommandGroup = subcommandGroup;
+        this.subcommandName = subcommandName;
+        this.options = options;
+    }
+
+    /**
+     * The event type.
+     *
+     * @return The {@link Type}.
+     */
+    public @NotNull Type getType() {
+        return type;
+    }
+
+    /**
+     * Time of receiving the event, since the start of recording.
+     *
+     * @return The offset, in nanoseconds.
+     */
+    public long getOffsetNanos() {
+        return offsetNanos;
+    }
+
+    /**
+     * The guild ID.
+     *
+     * @return The guild ID. {@code 0} if the event is not from a guild.
+     */
+    public long getGuildId() {
+        return guildId;
+    }
+
+    /**
+     * The channel ID.
+     *
+     * @return The channel ID.
+     */
+    public long getChannelId() {
+        return channelId;
+    }
+
+    /**
+     * The author (message) or user (slash command) ID.
+     *
+     * @return The user ID.
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Whether the user is a bot.
+     *
+     * @return {@code True} if the user is a bot.
+     */
+    public boolean isBot() {
+        return bot;
+    }
+
+    /**
+     * Raw message content (message events) or command name (slash command events).
+     *
+     * @return The content or the command name.
+     */
+    public @NotNull String getContent() {
+        return content;
+    }
+
+    /**
+     * The subcommand group name of the slash command.
+     *
+     * @return The subcommand group name. {@code null} if the command is not in the group.
+     */
+    public @Nullable String getSubcommandGroup() {
+        return subcommandGroup;
+    }
+
+    /**
+     * The subcommand name of the slash command.
+     *
+     * @return The subcommand name. {@code null} if it's not a subcommand.
+     */
+    public @Nullable String getSubcommandName() {
+        return subcommandName;
+    }
+
+    /**
+     * Options of the slash command.
+     *
+     * @return {@link List} of {@link CapturedOption}.
+     */
+    public @NotNull List<CapturedOption> getOptions() {
+        return options;
+    }
+}
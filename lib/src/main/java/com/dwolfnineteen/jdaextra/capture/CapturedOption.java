@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.capture;
+
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Option of a captured slash command.
+ */
+public final class CapturedOption {
+    private final String name;
+    private final OptionType type;
+    private final String value;
+
+    /**
+     * Construct new {@link CapturedOption}.
+     *
+     * @param name The option name.
+     * @param type The {@link OptionType}.
+     * @param value The option value, as string.
+     */
+    public CapturedOption(@NotNull String name, @NotNull OptionType type, @NotNull String value) {
+        this.name = name;
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * The option name.
+     *
+     * @return The name.
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * The option type.
+     *
+     * @return The {@link OptionType}.
+     */
+    public @NotNull OptionType getType() {
+        return type;
+    }
+
+    /**
+     * The option value, as string (IDs for entity options).
+     *
+     * @return The value.
+     */
+    public @NotNull String getValue() {
+        return value;
+    }
+}
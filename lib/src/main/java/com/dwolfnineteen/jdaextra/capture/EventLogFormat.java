@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.capture;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary format of the event log.
+ * <br>
+ * Header: magic ({@code int}), version ({@code short}).
+ * <br>
+ * Record: payload length ({@code int}), then the payload:
+ * type ({@code byte}), offset delta from the previous record (varlong), guild/channel/user IDs ({@code long}s),
+ * flags ({@code byte}) and the content/command name (string). Slash command records continue with
+ * subcommand group and name (strings, empty if absent), option count (varint)
+ * and options: name (string), type ({@code byte}), value (string).
+ * <br>
+ * Strings are UTF-8 prefixed with their length (varint).
+ */
+final class EventLogFormat {
+    static final int MAGIC = 0x52584556; // RXEV
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    static final byte TYPE_MESSAGE = 1;
+    static final byte TYPE_SLASH_COMMAND = 2;
+
+    static final byte FLAG_BOT = 1;
+
+    private EventLogFormat() {
+    }
+
+    static void putVarLong(@NotNull ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(@NotNull ByteBuffer buffer) {
+        long value = 0;
+
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+
+            if (current >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalStateException("Malformed varlong in the event log");
+    }
+
+    static void putString(@NotNull ByteBuffer buffer, @Nullable String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+
+        putVarLong(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    static @NotNull String getString(@NotNull ByteBuffer buffer) {
+        byte[] bytes = new byte[(int) getVarLong(buffer)];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.capture;
+
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sequential reader of event logs written by {@link EventRecorder}.
+ */
+public class EventLogReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+    private long offset;
+
+    /**
+     * Open the event log.
+     *
+     * @param file The event log file.
+     * @throws IOException If an I/O error occurs or the file is not an event log.
+     */
+    public EventLogReader(@NotNull Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+
+        try {
+            if (!fill(EventLogFormat.HEADER_SIZE)) {
+                throw new EOFException("Event log header is missing");
+            }
+
+            if (buffer.getInt() != EventLogFormat.MAGIC) {
+                throw new IOException("Not an event log: " + file);
+            }
+
+            short version = buffer.getShort();
+
+            if (version != EventLogFormat.VERSION) {
+                throw new IOException("Unsupported event log version: " + version);
+            }
+        } catch (IOException exception) {
+            channel.close();
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Read the next event.
+     *
+     * @return The {@link CapturedEvent}. {@code null} if the end of the log is reached.
+     * @throws IOException If an I/O error occurs or the log is truncated.
+     */
+    public @Nullable CapturedEvent next() throws IOException {
+        if (!fill(Integer.BYTES)) {
+            return null;
+        }
+
+        int length = buffer.getInt();
+
+        if (!fill(length)) {
+            throw new EOFException("Event log is truncated");
+        }
+
+        int end = buffer.position() + length;
+        CapturedEvent event = decode();
+        buffer.position(end);
+
+        return event;
+    }
+
+    private @NotNull CapturedEvent decode() {
+        byte type = buffer.get();
+        offset += EventLogFormat.getVarLong(buffer);
+        long guildId = buffer.getLong();
+        long channelId = buffer.getLong();
+        long userId = buffer.getLong();
+        boolean bot = (buffer.get() & EventLogFormat.FLAG_BOT) != 0;
+        String content = EventLogFormat.getString(buffer);
+
+        if (type != EventLogFormat.TYPE_SLASH_COMMAND) {
+            return new CapturedEvent(CapturedEvent.Type.MESSAGE, offset, guildId, channelId, userId, bot, content,
+                    null, null, Collections.emptyList());
+        }
+
+        String subcommandGroup = EventLogFormat.getString(buffer);
+        String subcommandName = EventLogFormat.getString(buffer);
+        int count = (int) EventLogFormat.getVarLong(buffer);
+        List<CapturedOption> options = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            String name = EventLogFormat.getString(buffer);
+            OptionType optionType = OptionType.fromKey(buffer.get());
+
+            options.add(new CapturedOption(name, optionType, EventLogFormat.getString(buffer)));
+        }
+
+        return new CapturedEvent(CapturedEvent.Type.SLASH_COMMAND,
+                offset,
+                guildId,
+                channelId,
+                userId,
+                bot,
+                content,
+                subcommandGroup.isEmpty() ? null : subcommandGroup,
+                subcommandName.isEmpty() ? null : subcommandName,
+                Collections.unmodifiableList(options));
+    }
+
+    /**
+     * Make sure the buffer has at least {@code size} bytes.
+     *
+     * @return {@code False} if the end of the file is reached first.
+     */
+    private boolean fill(int size) throws IOException {
+        if (buffer.remaining() >= size) {
+            return true;
+        }
+
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(size).put(buffer);
+        } else {
+            buffer.compact();
+        }
+
+        while (buffer.position() < size) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+
+                return false;
+            }
+        }
+
+        buffer.flip();
+
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.capture;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.models.commands.CommandModel;
+import com.dwolfnineteen.jdaextra.models.subcommands.groups.SubcommandGroupProperties;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Listener, which records incoming message and slash command events to a binary event log.
+ * <br>
+ * Register it in JDA next to {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra}.
+ * Records are encoded into a direct buffer and written to the {@link FileChannel} when the buffer is full,
+ * so recording costs one small encode per event on the gateway thread.
+ * The log can be read with {@link EventLogReader} (and replayed with the testkit).
+ * <br>
+ * Optionally, IDs and content are anonymized. Anonymized content keeps its length and whitespace.
+ * Every message is recorded, but only messages invoking a prefix or hybrid command of the given
+ * {@link JDAExtra} keep the invocation (the prefix with the command name and the subcommand names);
+ * everything else, including all other chat messages, is masked.
+ */
+public class EventRecorder extends ListenerAdapter implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Anonymizer anonymizer;
+    private final JDAExtra jdaExtra;
+    private final long startNanos;
+    private ByteBuffer record;
+    private long lastOffset;
+    private long recordedCount;
+    private boolean closed;
+
+    /**
+     * Construct new {@link EventRecorder} (without anonymization).
+     *
+     * @param file The event log file (overwritten if exists).
+     * @throws IOException If an I/O error occurs opening the file.
+     */
+    public EventRecorder(@NotNull Path file) throws IOException {
+        this(file, false, null);
+    }
+
+    /**
+     * Construct new {@link EventRecorder}.
+     * <br>
+     * Without the {@link JDAExtra}, commands can't be told from other messages,
+     * so anonymized message content is masked entirely.
+     *
+     * @param file The event log file (overwritten if exists).
+     * @param anonymize Whether IDs and content should be anonymized.
+     * @throws IOException If an I/O error occurs opening the file.
+     */
+    public EventRecorder(@NotNull Path file, boolean anonymize) throws IOException {
+        this(file, anonymize, null);
+    }
+
+    /**
+     * Construct new anonymizing {@link EventRecorder}, which keeps the invocations of the commands of the {@link JDAExtra}.
+     *
+     * @param file The event log file (overwritten if exists).
+     * @param jdaExtra The {@link JDAExtra}, which prefix and commands are kept in anonymized messages.
+     * @throws IOException If an I/O error occurs opening the file.
+     */
+    public EventRecorder(@NotNull Path file, @NotNull JDAExtra jdaExtra) throws IOException {
+        this(file, true, jdaExtra);
+    }
+
+    private EventRecorder(@NotNull Path file, boolean anonymize, @Nullable JDAExtra jdaExtra) throws IOException {
+        channel = FileChannel.open(file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        anonymizer = anonymize ? new Anonymizer() : null;
+        this.jdaExtra = jdaExtra;
+        startNanos = System.nanoTime();
+        record = ByteBuffer.allocate(BUFFER_SIZE);
+
+        buffer.putInt(EventLogFormat.MAGIC).putShort(EventLogFormat.VERSION);
+    }
+
+    /**
+     * Number of recorded events.
+     *
+     * @return The number of events.
+     */
+    public synchronized long getRecordedCount() {
+        return recordedCount;
+    }
+
+    /**
+     * {@link MessageReceivedEvent} handler for recording message events.
+     *
+     * @param event The {@link MessageReceivedEvent}.
+     */
+    @Override
+    public void onMessageReceived(@NotNull MessageReceivedEvent event) {
+        Message message = event.getMessage();
+        User author = event.getAuthor();
+        long guildId = event.isFromGuild() ? event.getGuild().getIdLong() : 0;
+        String content = message.getContentRaw();
+
+        record(EventLogFormat.TYPE_MESSAGE,
+                guildId,
+                event.getChannel().getIdLong(),
+                author.getIdLong(),
+                author.isBot(),
+                anonymizer == null ? content : anonymizer.content(content, invocationLength(content)),
+                null,
+                null,
+                List.of());
+    }
+
+    /**
+     * {@link SlashCommandInteractionEvent} handler for recording slash command events.
+     *
+     * @param event The {@link SlashCommandInteractionEvent}.
+     */
+    @Override
+    public void onSlashCommandInteraction(@NotNull SlashCommandInteractionEvent event) {
+        User user = event.getUser();
+        long guildId = event.getGuild() == null ? 0 : event.getGuild().getIdLong();
+
+        record(EventLogFormat.TYPE_SLASH_COMMAND,
+                guildId,
+                event.getChannelIdLong(),
+                user.getIdLong(),
+                user.isBot(),
+                event.getName(),
+                event.getSubcommandGroup(),
+                event.getSubcommandName(),
+                event.getOptions());
+    }
+
+    /**
+     * Length of the command invocation at the start of the content.
+     *
+     * @return The length of the prefix, command name and subcommand names; {@code 0} if it's not a command.
+     */
+    private int invocationLength(@NotNull String content) {
+        if (jdaExtra == null || !content.startsWith(jdaExtra.getPrefix())) {
+            return 0;
+        }
+
+        int nameStart = skipWhitespace(content, jdaExtra.getPrefix().length());
+        int nameEnd = tokenEnd(content, nameStart);
+        String name = content.substring(nameStart, nameEnd);
+        CommandModel model = jdaExtra.getPrefixCommandModels().get(name);
+
+        if (model == null) {
+            model = jdaExtra.getHybridCommandModels().get(name);
+        }
+
+        if (model == null) {
+            return 0;
+        }
+
+        int subcommandStart = skipWhitespace(content, nameEnd);
+        int subcommandEnd = tokenEnd(content, subcommandStart);
+        String subcommand = content.substring(subcommandStart, subcommandEnd);
+        SubcommandGroupProperties group = model.getSubcommandGroupMap().get(subcommand);
+
+        if (group != null) {
+            int groupSubcommandStart = skipWhitespace(content, subcommandEnd);
+            int groupSubcommandEnd = tokenEnd(content, groupSubcommandStart);
+
+            return group.getSubcommandMap().containsKey(content.substring(groupSubcommandStart, groupSubcommandEnd))
+                    ? groupSubcommandEnd
+                    : subcommandEnd;
+        }
+
+        return model.getSubcommandMap().containsKey(subcommand) ? subcommandEnd : nameEnd;
+    }
+
+    private static int skipWhitespace(@NotNull String content, int index) {
+        while (index < content.length() && Character.isWhitespace(content.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static int tokenEnd(@NotNull String content, int index) {
+        while (index < content.length() && !Character.isWhitespace(content.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private synchronized void record(byte type,
+                                     long guildId,
+                                     long channelId,
+                                     long userId,
+                                     boolean bot,
+                                     @NotNull String content,
+                                     String subcommandGroup,
+                                     String subcommandName,
+                                     @NotNull List<OptionMapping> options) {
+        if (closed) {
+            return;
+        }
+
+        long offset = System.nanoTime() - startNanos;
+
+        while (true) {
+            try {
+                record.clear();
+                encode(type, offset - lastOffset, guildId, channelId, userId, bot, content,
+                        subcommandGroup, subcommandName, options);
+
+                break;
+            } catch (BufferOverflowException exception) {
+                record = ByteBuffer.allocate(record.capacity() * 2);
+            }
+        }
+
+        record.flip();
+
+        try {
+            if (buffer.remaining() < Integer.BYTES + record.remaining()) {
+                flushBuffer();
+            }
+
+            if (buffer.remaining() < Integer.BYTES + record.remaining()) {
+                // Bigger than the buffer, write directly
+                ByteBuffer length = ByteBuffer.allocate(Integer.BYTES).putInt(0, record.remaining());
+                writeFully(length);
+                writeFully(record);
+            } else {
+                buffer.putInt(record.remaining()).put(record);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        lastOffset = offset;
+        recordedCount++;
+    }
+
+    private void encode(byte type,
+                        long offsetDelta,
+                        long guildId,
+                        long channelId,
+                        long userId,
+                        boolean bot,
+                        @NotNull String content,
+                        String subcommandGroup,
+                        String subcommandName,
+                        @NotNull List<OptionMapping> options) {
+        record.put(type);
+        EventLogFormat.putVarLong(record, offsetDelta);
+        record.putLong(id(guildId)).putLong(id(channelId)).putLong(id(userId));
+        record.put(bot ? EventLogFormat.FLAG_BOT : 0);
+        EventLogFormat.putString(record, content);
+
+        if (type != EventLogFormat.TYPE_SLASH_COMMAND) {
+            return;
+        }
+
+        EventLogFormat.putString(record, subcommandGroup);
+        EventLogFormat.putString(record, subcommandName);
+        EventLogFormat.putVarLong(record, options.size());
+
+        for (OptionMapping option : options) {
+            EventLogFormat.putString(record, option.getName());
+            record.put((byte) option.getType().getKey());
+            EventLogFormat.putString(record, value(option));
+        }
+    }
+
+    private long id(long id) {
+        return anonymizer == null ? id : anonymizer.id(id);
+    }
+
+    private @NotNull String value(@NotNull OptionMapping option) {
+        String value = option.getAsString();
+
+        if (anonymizer == null) {
+            return value;
+        }
+
+        switch (option.getType()) {
+            case STRING:
+                return anonymizer.value(value);
+            case INTEGER:
+            case NUMBER:
+            case BOOLEAN:
+                return value;
+            default:
+                // Entity options (user, channel, role...) are IDs
+                return Long.toUnsignedString(anonymizer.id(Long.parseUnsignedLong(value)));
+        }
+    }
+
+    /**
+     * Write buffered records to the file.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public synchronized void flush() throws IOException {
+        if (!closed) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Flush buffered records and close the file. Events received after closing are ignored.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        try {
+            flushBuffer();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(@NotNull ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.concurrency;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limits of one command: in total, per guild and per user, with a bounded wait queue.
+ * <br>
+ * An invocation needs a permit of every level. If it can't get them, it waits in the queue;
+ * if the queue is full, it is rejected. Once the permits a queued invocation waits for are released,
+ * it's handed to the executor of the {@link ConcurrencyLimiter}, so releasing never runs (or fails with) other invocations.
+ * <br>
+ * Limits may be changed at any time; the change applies to the next acquisitions.
+ * A {@link ConcurrencyLimiter#removeLimits(String) removed} bulkhead lifts its limits and runs all queued invocations.
+ */
+public final class Bulkhead {
+    /**
+     * Guild ID of invocations outside a guild, which are not limited per guild.
+     */
+    public static final long NO_GUILD = 0;
+
+    private static final Logger LOG = LoggerFactory.getLogger(Bulkhead.class);
+
+    private final String commandName;
+    private final Executor executor;
+    private final AtomicInteger commandPermits;
+    private final PermitTable guildPermits;
+    private final PermitTable userPermits;
+    private final Queue<Waiter> waiters;
+    private final AtomicInteger queued;
+    private final LongAdder rejected;
+    private volatile int perCommand;
+    private volatile int perGuild;
+    private volatile int perUser;
+    private volatile int queueSize;
+
+    Bulkhead(@NotNull String commandName, @NotNull Executor executor) {
+        this.commandName = commandName;
+        this.executor = executor;
+        this.commandPermits = new AtomicInteger();
+        this.guildPermits = new PermitTable();
+        this.userPermits = new PermitTable();
+        this.waiters = new ConcurrentLinkedQueue<>();
+        this.queued = new AtomicInteger();
+        this.rejected = new LongAdder();
+    }
+
+    void setLimits(int perCommand, int perGuild, int perUser, int queueSize) {
+        this.perCommand = perCommand;
+        this.perGuild = perGuild;
+        this.perUser = perUser;
+        this.queueSize = queueSize;
+
+        // A raised limit may admit some of the queued invocations
+        if (queued.get() > 0) {
+            drain();
+        }
+    }
+
+    /**
+     * Acquire the permits of an invocation, without waiting.
+     *
+     * @param guildId The guild ID, or {@link #NO_GUILD}.
+     * @param userId The user ID.
+     * @return True - if the permits are acquired, false - if any limit is reached.
+     */
+    public boolean tryAcquire(long guildId, long userId) {
+        int used;
+
+        do {
+            used = commandPermits.get();
+
+            if (used >= limit(perCommand)) {
+                return false;
+            }
+        } while (!commandPermits.compareAndSet(used, used + 1));
+
+        if (guildId != NO_GUILD && !guildPermits.tryAcquire(guildId, limit(perGuild))) {
+            commandPermits.decrementAndGet();
+
+            return false;
+        }
+
+        if (!userPermits.tryAcquire(userId, limit(perUser))) {
+            if (guildId != NO_GUILD) {
+                guildPermits.release(guildId);
+            }
+
+            commandPermits.decrementAndGet();
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Queue an invocation that couldn't {@link #tryAcquire(long, long) acquire} its permits.
+     * <br>
+     * The task runs once the permits are acquired for it, and must {@link #release(long, long) release} them.
+     *
+     * @param guildId The guild ID, or {@link #NO_GUILD}.
+     * @param userId The user ID.
+     * @param task The invocation.
+     * @return True - if the invocation is queued (or already run), false - if the queue is full.
+     */
+    public boolean enqueue(long guildId, long userId, @NotNull Runnable task) {
+        int size;
+
+        do {
+            size = queued.get();
+
+            if (size >= queueSize) {
+                rejected.increment();
+
+                return false;
+            }
+        } while (!queued.compareAndSet(size, size + 1));
+
+        waiters.add(new Waiter(guildId, userId, task));
+
+        // The permits may have been released before the waiter was added
+        drain();
+
+        return true;
+    }
+
+    /**
+     * Release the permits of an invocation, handing the queued invocations that can acquire them now to the executor.
+     * <br>
+     * Never throws, so it's safe in {@code finally} blocks and completion callbacks.
+     *
+     * @param guildId The guild ID, or {@link #NO_GUILD}.
+     * @param userId The user ID.
+     */
+    public void release(long guildId, long userId) {
+        releasePermits(guildId, userId);
+
+        if (queued.get() > 0) {
+            drain();
+        }
+    }
+
+    /**
+     * The policy key of the command (its type and name).
+     *
+     * @return The policy key of the command.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * The limit of concurrent invocations of the command.
+     *
+     * @return The limit, {@code 0} if unlimited.
+     */
+    public int getPerCommand() {
+        return perCommand;
+    }
+
+    /**
+     * The limit of concurrent invocations of the command in a guild.
+     *
+     * @return The limit, {@code 0} if unlimited.
+     */
+    public int getPerGuild() {
+        return perGuild;
+    }
+
+    /**
+     * The limit of concurrent invocations of the command by a user.
+     *
+     * @return The limit, {@code 0} if unlimited.
+     */
+    public int getPerUser() {
+        return perUser;
+    }
+
+    /**
+     * The capacity of the wait queue.
+     *
+     * @return The capacity.
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Number of running invocations.
+     *
+     * @return Number of running invocations.
+     */
+    public int getRunningCount() {
+        return commandPermits.get();
+    }
+
+    /**
+     * Number of running invocations in the guild.
+     *
+     * @param guildId The guild ID.
+     * @return Number of running invocations in the guild.
+     */
+    public int getRunningCount(long guildId) {
+        return guildPermits.getUsed(guildId);
+    }
+
+    /**
+     * Number of queued invocations.
+     *
+     * @return Number of queued invocations.
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * Number of invocations rejected because the queue was full.
+     *
+     * @return Number of rejected invocations.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private void releasePermits(long guildId, long userId) {
+        userPermits.release(userId);
+
+        if (guildId != NO_GUILD) {
+            guildPermits.release(guildId);
+        }
+
+        commandPermits.updateAndGet(used -> Math.max(used - 1, 0));
+    }
+
+    void close() {
+        // Unlimited, so every queued invocation is admitted; new ones go to the replacing bulkhead (if any)
+        setLimits(0, 0, 0, 0);
+    }
+
+    private void drain() {
+        for (Waiter waiter : waiters) {
+            if (!tryAcquire(waiter.guildId, waiter.userId)) {
+                continue;
+            }
+
+            // Another thread may have claimed the waiter meanwhile
+            if (waiters.remove(waiter)) {
+                queued.decrementAndGet();
+
+                execute(waiter);
+            } else {
+                releasePermits(waiter.guildId, waiter.userId);
+            }
+        }
+    }
+
+    private void execute(@NotNull Waiter waiter) {
+        try {
+            executor.execute(waiter.task);
+        } catch (RejectedExecutionException exception) {
+            // Shut down, run it here instead of dropping it with its permits
+            try {
+                waiter.task.run();
+            } catch (RuntimeException failure) {
+                LOG.error("Queued invocation of command '{}' failed", commandName, failure);
+            }
+        }
+    }
+
+    private static int limit(int limit) {
+        return limit == 0 ? Integer.MAX_VALUE : limit;
+    }
+
+    private static final class Waiter {
+        private final long guildId;
+        private final long userId;
+        private final Runnable task;
+
+        private Waiter(long guildId, long userId, @NotNull Runnable task) {
+            this.guildId = guildId;
+            this.userId = userId;
+            this.task = task;
+        }
+    }
+}
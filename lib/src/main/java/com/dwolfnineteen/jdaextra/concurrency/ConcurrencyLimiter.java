@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.concurrency;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of the {@link Bulkhead}s of commands.
+ * <br>
+ * Populated from {@link com.dwolfnineteen.jdaextra.annotations.commands.MaxConcurrency @MaxConcurrency}
+ * when commands are built; limits may be set, changed or removed at runtime.
+ * Commands are identified by their policy key (see
+ * {@link com.dwolfnineteen.jdaextra.JDAExtra#getPolicyKey(com.dwolfnineteen.jdaextra.models.commands.CommandModel) JDAExtra.getPolicyKey()}),
+ * so commands of different types with the same name are limited separately.
+ * <br>
+ * Queued invocations run on a pool of daemon threads, started on demand and stopped when idle.
+ */
+public final class ConcurrencyLimiter {
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private final Map<String, Bulkhead> bulkheads;
+    private final ExecutorService executor;
+
+    /**
+     * Construct new empty {@link ConcurrencyLimiter}.
+     */
+    public ConcurrencyLimiter() {
+        bulkheads = new ConcurrentHashMap<>();
+        executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Rextra-Bulkhead-" + THREAD_IDS.getAndIncrement());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * The {@link Bulkhead} of the command.
+     *
+     * @param commandName The policy key of the command.
+     * @return The {@link Bulkhead}, or {@code null} if the command is not limited.
+     */
+    public @Nullable Bulkhead getBulkhead(@NotNull String commandName) {
+        return bulkheads.get(commandName);
+    }
+
+    /**
+     * Sets the limits of the command, creating its {@link Bulkhead} if needed.
+     *
+     * @param commandName The policy key of the command.
+     * @param perCommand The limit of concurrent invocations, {@code 0} if unlimited.
+     * @param perGuild The limit of concurrent invocations in a guild, {@code 0} if unlimited.
+     * @param perUser The limit of concurrent invocations by a user, {@code 0} if unlimited.
+     * @param queueSize The capacity of the wait queue.
+     * @return The {@link Bulkhead} of the command.
+     * @throws IllegalArgumentException If any of the values is negative.
+     */
+    public @NotNull Bulkhead setLimits(@NotNull String commandName, int perCommand, int perGuild, int perUser, int queueSize) {
+        if (perCommand < 0 || perGuild < 0 || perUser < 0) {
+            throw new IllegalArgumentException("Concurrency limits must not be negative");
+        }
+
+        if (queueSize < 0) {
+            throw new IllegalArgumentException("Queue size must not be negative");
+        }
+
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(commandName, name -> new Bulkhead(name, executor));
+        bulkhead.setLimits(perCommand, perGuild, perUser, queueSize);
+
+        return bulkhead;
+    }
+
+    /**
+     * Removes the limits of the command.
+     * <br>
+     * Running invocations are not affected; queued invocations are started right away, without limits.
+     *
+     * @param commandName The policy key of the command.
+     */
+    public void removeLimits(@NotNull String commandName) {
+        Bulkhead bulkhead = bulkheads.remove(commandName);
+
+        if (bulkhead != null) {
+            bulkhead.close();
+        }
+    }
+
+    /**
+     * Unmodifiable view of the {@link Bulkhead}s by policy key.
+     *
+     * @return {@link Map} of policy key and {@link Bulkhead}.
+     */
+    public @NotNull Map<String, Bulkhead> getBulkheads() {
+        return Collections.unmodifiableMap(bulkheads);
+    }
+
+    /**
+     * Stop the pool of queued invocations. Invocations queued afterwards run on the releasing thread.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.concurrency;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counting semaphores keyed by ID (guild or user).
+ * <br>
+ * Permits are acquired and released with CAS on the counter of the key. A counter is retired
+ * (set to {@code -1}) and removed once it drops to zero, so idle keys don't accumulate;
+ * acquirers that see a retired counter retry with a fresh one.
+ */
+final class PermitTable {
+    private final Map<Long, AtomicInteger> counters;
+
+    PermitTable() {
+        counters = new ConcurrentHashMap<>();
+    }
+
+    boolean tryAcquire(long id, int limit) {
+        while (true) {
+            AtomicInteger counter = counters.computeIfAbsent(id, key -> new AtomicInteger());
+            int used = counter.get();
+
+            if (used < 0) {
+                // Retired, the releasing thread is about to remove it
+                Thread.onSpinWait();
+
+                continue;
+            }
+
+            if (used >= limit) {
+                return false;
+            }
+
+            if (counter.compareAndSet(used, used + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long id) {
+        AtomicInteger counter = counters.get(id);
+
+        if (counter == null) {
+            return;
+        }
+
+        int used;
+
+        do {
+            used = counter.get();
+
+            // Not acquired (or retired), nothing to release
+            if (used <= 0) {
+                return;
+            }
+        } while (!counter.compareAndSet(used, used - 1));
+
+        if (used == 1 && counter.compareAndSet(0, -1)) {
+            counters.remove(id, counter);
+        }
+    }
+
+    int getUsed(long id) {
+        AtomicInteger counter = counters.get(id);
+
+        return counter == null ? 0 : Math.max(counter.get(), 0);
+    }
+}
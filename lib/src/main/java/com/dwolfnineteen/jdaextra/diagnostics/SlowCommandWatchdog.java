@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.diagnostics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Detects stuck command invocations and captures their stacks.
+ * <br>
+ * Running invocations are registered in a fixed-size slot table (command name, thread, start time);
+ * registering claims a slot and writes three array elements, unregistering frees it.
+ * A daemon thread scans the table, and when an invocation exceeds the threshold of its command,
+ * captures the stack of its thread and passes it to the {@link SlowInvocationHandler} (once per invocation).
+ * <br>
+ * If all slots are taken, new invocations are not watched.
+ * <br>
+ * Only the synchronous part of an invocation is watched: the slot is freed when the entry point returns,
+ * so the {@link java.util.concurrent.CompletionStage CompletionStage} or publisher it returns is not,
+ * since no thread's stack would show where an asynchronous completion is stuck.
+ *
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setSlowCommandWatchdog(Duration, SlowInvocationHandler)
+ * JDAExtraBuilder.setSlowCommandWatchdog()
+ */
+public final class SlowCommandWatchdog {
+    /**
+     * Default number of slots, i.e. concurrently watched invocations.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int FREE = 0;
+    private static final int WRITING = 1;
+    private static final int RUNNING = 2;
+    private static final long MIN_SCAN_INTERVAL = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long MAX_SCAN_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final long defaultThresholdNanos;
+    private final Map<String, Long> thresholdNanos;
+    private final SlowInvocationHandler handler;
+    private final int mask;
+    private final AtomicIntegerArray states;
+    private final Thread[] threads;
+    private final String[] commandNames;
+    private final long[] startTimes;
+    // Start times of the reported invocations, accessed only by the watchdog thread
+    private final long[] reportedStartTimes;
+    private final AtomicLong slowCount;
+    private final AtomicLong unwatchedCount;
+    private final Map<String, AtomicLong> slowCounts;
+    private final long scanIntervalNanos;
+    private final Thread thread;
+
+    /**
+     * Construct and start new {@link SlowCommandWatchdog} with {@link #DEFAULT_CAPACITY}.
+     *
+     * @param threshold The default threshold.
+     * @param thresholds Thresholds of specific commands, by command name.
+     * @param handler The {@link SlowInvocationHandler}.
+     * @throws IllegalArgumentException If any threshold is not positive.
+     */
+    public SlowCommandWatchdog(@NotNull Duration threshold,
+                               @NotNull Map<String, Duration> thresholds,
+                               @NotNull SlowInvocationHandler handler) {
+        this(threshold, thresholds, handler, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct and start new {@link SlowCommandWatchdog}.
+     *
+     * @param threshold The default threshold.
+     * @param thresholds Thresholds of specific commands, by command name.
+     * @param handler The {@link SlowInvocationHandler}.
+     * @param capacity Number of slots, rounded up to a power of two.
+     * @throws IllegalArgumentException If any threshold or the capacity is not positive.
+     */
+    public SlowCommandWatchdog(@NotNull Duration threshold,
+                               @NotNull Map<String, Duration> thresholds,
+                               @NotNull SlowInvocationHandler handler,
+                               int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.defaultThresholdNanos = toPositiveNanos(threshold);
+        this.thresholdNanos = new HashMap<>();
+
+        long minThreshold = defaultThresholdNanos;
+
+        for (Map.Entry<String, Duration> entry : thresholds.entrySet()) {
+            long nanos = toPositiveNanos(entry.getValue());
+
+            thresholdNanos.put(entry.getKey(), nanos);
+            minThreshold = Math.min(minThreshold, nanos);
+        }
+
+        int size = Integer.highestOneBit(capacity);
+
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.handler = handler;
+        this.mask = size - 1;
+        this.states = new AtomicIntegerArray(size);
+        this.threads = new Thread[size];
+        this.commandNames = new String[size];
+        this.startTimes = new long[size];
+        this.reportedStartTimes = new long[size];
+        this.slowCount = new AtomicLong();
+        this.unwatchedCount = new AtomicLong();
+        this.slowCounts = new ConcurrentHashMap<>();
+        this.scanIntervalNanos = Math.max(MIN_SCAN_INTERVAL, Math.min(MAX_SCAN_INTERVAL, minThreshold / 4));
+
+        thread = new Thread(this::run, "Rextra-SlowCommandWatchdog");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static long toPositiveNanos(@NotNull Duration threshold) {
+        if (threshold.isNegative() || threshold.isZero()) {
+            throw new IllegalArgumentException("Slow command threshold must be positive");
+        }
+
+        return threshold.toNanos();
+    }
+
+    /**
+     * Register an invocation running on the current thread.
+     *
+     * @param commandName The command name.
+     * @return The slot, to be passed to {@link #unregister(int)}; {@code -1} if all slots are taken.
+     */
+    public int register(@NotNull String commandName) {
+        Thread current = Thread.currentThread();
+        // Start probing from a thread-specific slot, so threads rarely compete for one
+        int start = (int) (current.getId() * 0x9E3779B9L) & mask;
+
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+
+            if (states.get(slot) == FREE && states.compareAndSet(slot, FREE, WRITING)) {
+                threads[slot] = current;
+                commandNames[slot] = commandName;
+                startTimes[slot] = System.nanoTime();
+
+                // Publishes the plain writes above
+                states.set(slot, RUNNING);
+
+                return slot;
+            }
+        }
+
+        unwatchedCount.incrementAndGet();
+
+        return -1;
+    }
+
+    /**
+     * Unregister a finished invocation.
+     *
+     * @param slot The slot returned by {@link #register(String)}.
+     */
+    public void unregister(int slot) {
+        if (slot < 0) {
+            return;
+        }
+
+        threads[slot] = null;
+
+        states.set(slot, FREE);
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(this, scanIntervalNanos);
+            scan();
+        }
+    }
+
+    private void scan() {
+        long now = System.nanoTime();
+
+        for (int slot = 0; slot <= mask; slot++) {
+            if (states.get(slot) != RUNNING) {
+                continue;
+            }
+
+            Thread invocationThread = threads[slot];
+            String commandName = commandNames[slot];
+            long startTime = startTimes[slot];
+
+            // The slot could have been freed (and maybe reused) while reading
+            if (states.get(slot) != RUNNING || startTimes[slot] != startTime || invocationThread == null) {
+                continue;
+            }
+            if (reportedStartTimes[slot] == startTime) {
+                continue;
+            }
+
+            long threshold = thresholdNanos.getOrDefault(commandName, defaultThresholdNanos);
+            long elapsed = now - startTime;
+
+            if (elapsed < threshold) {
+                continue;
+            }
+
+            StackTraceElement[] stackTrace = invocationThread.getStackTrace();
+
+            // Finished while capturing, the stack belongs to something else
+            if (states.get(slot) != RUNNING || startTimes[slot] != startTime) {
+                continue;
+            }
+
+            reportedStartTimes[slot] = startTime;
+
+            slowCount.incrementAndGet();
+            slowCounts.computeIfAbsent(commandName, name -> new AtomicLong()).incrementAndGet();
+
+            try {
+                handler.onSlowInvocation(new SlowInvocation(commandName,
+                        invocationThread,
+                        Duration.ofNanos(elapsed),
+                        Duration.ofNanos(threshold),
+                        stackTrace));
+            } catch (RuntimeException exception) {
+                // The handler must not kill the watchdog
+                Thread current = Thread.currentThread();
+
+                current.getUncaughtExceptionHandler().uncaughtException(current, exception);
+            }
+        }
+    }
+
+    /**
+     * Number of invocations reported as slow.
+     *
+     * @return The number of slow invocations.
+     */
+    public long getSlowCount() {
+        return slowCount.get();
+    }
+
+    /**
+     * Number of invocations of the command reported as slow.
+     *
+     * @param commandName The command name.
+     * @return The number of slow invocations of the command.
+     */
+    public long getSlowCount(@NotNull String commandName) {
+        AtomicLong count = slowCounts.get(commandName);
+
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Number of invocations that weren't watched, because all slots were taken.
+     *
+     * @return The number of unwatched invocations.
+     */
+    public long getUnwatchedCount() {
+        return unwatchedCount.get();
+    }
+
+    /**
+     * Number of currently running (registered) invocations.
+     *
+     * @return The number of running invocations.
+     */
+    public int getRunningCount() {
+        int count = 0;
+
+        for (int slot = 0; slot <= mask; slot++) {
+            if (states.get(slot) == RUNNING) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Stop the watchdog thread.
+     */
+    public void shutdown() {
+        thread.interrupt();
+    }
+}
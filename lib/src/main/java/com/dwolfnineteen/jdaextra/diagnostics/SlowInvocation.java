@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.diagnostics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of an invocation that exceeded its threshold.
+ */
+public final class SlowInvocation {
+    private final String commandName;
+    private final Thread thread;
+    private final Duration elapsed;
+    private final Duration threshold;
+    private final StackTraceElement[] stackTrace;
+
+    SlowInvocation(@NotNull String commandName,
+                   @NotNull Thread thread,
+                   @NotNull Duration elapsed,
+                   @NotNull Duration threshold,
+                   @NotNull StackTraceElement[] stackTrace) {
+        this.commandName = commandName;
+        this.thread = thread;
+        this.elapsed = elapsed;
+        this.threshold = threshold;
+        this.stackTrace = stackTrace;
+    }
+
+    /**
+     * The command name.
+     *
+     * @return The command name.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * The thread running the invocation.
+     *
+     * @return The {@link Thread}.
+     */
+    public @NotNull Thread getThread() {
+        return thread;
+    }
+
+    /**
+     * Time elapsed since the invocation started, when the stack was captured.
+     *
+     * @return The elapsed time.
+     */
+    public @NotNull Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * The exceeded threshold.
+     *
+     * @return The threshold.
+     */
+    public @NotNull Duration getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Stack of the thread, captured when the threshold was exceeded.
+     *
+     * @return Array of {@link StackTraceElement}, empty if the thread finished meanwhile.
+     */
+    public @NotNull StackTraceElement[] getStackTrace() {
+        return stackTrace.clone();
+    }
+
+    /**
+     * Format the invocation and its stack, in the style of {@link Throwable#printStackTrace()}.
+     *
+     * @return The formatted stack.
+     */
+    public @NotNull String formatStackTrace() {
+        StringBuilder builder = new StringBuilder("Command '")
+                .append(commandName)
+                .append("' is running for ")
+                .append(elapsed.toMillis())
+                .append(" ms on thread '")
+                .append(thread.getName())
+                .append("'");
+
+        for (StackTraceElement element : stackTrace) {
+            builder.append(System.lineSeparator()).append("\tat ").append(element);
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "SlowInvocation{command=" + commandName + ", thread=" + thread.getName() + ", elapsed=" + elapsed + "}";
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.errors;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.exceptions.CommandInputException;
+import com.dwolfnineteen.jdaextra.exceptions.EntryPointInvocationException;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Context of an error thrown while dispatching or running a command.
+ */
+public final class CommandErrorContext {
+    private final JDAExtra jdaExtra;
+    private final GenericEvent sourceEvent;
+    private final String commandName;
+    private final RuntimeException exception;
+
+    /**
+     * Construct new {@link CommandErrorContext}.
+     *
+     * @param jdaExtra The {@link JDAExtra} instance.
+     * @param sourceEvent The source JDA event.
+     * @param commandName The command name, {@code null} if unknown.
+     * @param exception The thrown exception.
+     */
+    public CommandErrorContext(@NotNull JDAExtra jdaExtra,
+                               @NotNull GenericEvent sourceEvent,
+                               @Nullable String commandName,
+                               @NotNull RuntimeException exception) {
+        this.jdaExtra = jdaExtra;
+        this.sourceEvent = sourceEvent;
+        this.commandName = commandName;
+        this.exception = exception;
+    }
+
+    /**
+     * The {@link JDAExtra} instance.
+     *
+     * @return The {@link JDAExtra} instance.
+     */
+    public @NotNull JDAExtra getJDAExtra() {
+        return jdaExtra;
+    }
+
+    /**
+     * The source event ({@link MessageReceivedEvent} or {@link SlashCommandInteractionEvent}).
+     *
+     * @return The source {@link GenericEvent}.
+     */
+    public @NotNull GenericEvent getSourceEvent() {
+        return sourceEvent;
+    }
+
+    /**
+     * The (top-level) command name.
+     *
+     * @return The command name, {@code null} if the error was thrown before the command was known.
+     */
+    public @Nullable String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * The thrown exception.
+     *
+     * @return The exception.
+     */
+    public @NotNull RuntimeException getException() {
+        return exception;
+    }
+
+    /**
+     * The root error: the exception thrown by the entry point for {@link EntryPointInvocationException},
+     * the exception itself otherwise.
+     *
+     * @return The root error.
+     */
+    public @NotNull Throwable getRootError() {
+        if (exception instanceof EntryPointInvocationException && exception.getCause() != null) {
+            return exception.getCause();
+        }
+
+        return exception;
+    }
+
+    /**
+     * Whether the error was caused by user input (e.g. unknown command, malformed option value).
+     *
+     * @return True - if the root error is a {@link CommandInputException}, false - otherwise.
+     */
+    public boolean isUserError() {
+        return getRootError() instanceof CommandInputException;
+    }
+
+    /**
+     * Reply to the source event with the content.
+     * <br>
+     * Prefix commands reply to the message; slash commands reply ephemerally
+     * (as a follow-up, if the interaction is already acknowledged).
+     *
+     * @param content The reply content.
+     */
+    public void reply(@NotNull String content) {
+        if (sourceEvent instanceof SlashCommandInteractionEvent) {
+            SlashCommandInteractionEvent event = (SlashCommandInteractionEvent) sourceEvent;
+
+            if (event.isAcknowledged()) {
+                event.getHook().sendMessage(content).setEphemeral(true).queue();
+            } else {
+                event.reply(content).setEphemeral(true).queue();
+            }
+        } else if (sourceEvent instanceof MessageReceivedEvent) {
+            ((MessageReceivedEvent) sourceEvent).getMessage().reply(content).queue();
+        }
+    }
+}
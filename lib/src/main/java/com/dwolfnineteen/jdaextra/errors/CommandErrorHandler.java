@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.errors;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * SPI for handling errors thrown while dispatching and running commands.
+ * <br>
+ * Without a handler, errors propagate into the JDA event loop.
+ * A handler decides what to do with them: reply to the user, log, record metrics.
+ * It's called on the thread that dispatched the event.
+ *
+ * @see DefaultCommandErrorHandler
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setErrorHandler(CommandErrorHandler) JDAExtraBuilder.setErrorHandler()
+ */
+@FunctionalInterface
+public interface CommandErrorHandler {
+    /**
+     * Handle the error.
+     *
+     * @param context The {@link CommandErrorContext}.
+     */
+    void handle(@NotNull CommandErrorContext context);
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.errors;
+
+import com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link CommandErrorHandler}.
+ * <br>
+ * User errors are replied to the user with the exception message (unknown prefix commands are ignored
+ * unless there is a suggestion, since any message starting with the prefix may be one); other errors are logged.
+ */
+public class DefaultCommandErrorHandler implements CommandErrorHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultCommandErrorHandler.class);
+
+    @Override
+    public void handle(@NotNull CommandErrorContext context) {
+        if (context.isUserError()) {
+            boolean unknownPrefixCommand = context.getRootError() instanceof CommandNotFoundException
+                    && ((CommandNotFoundException) context.getRootError()).getSuggestion() == null
+                    && context.getSourceEvent() instanceof MessageReceivedEvent;
+
+            if (!unknownPrefixCommand) {
+                context.reply(context.getRootError().getMessage());
+            }
+
+            return;
+        }
+
+        LOG.error("Command '{}' failed", context.getCommandName(), context.getRootError());
+    }
+}
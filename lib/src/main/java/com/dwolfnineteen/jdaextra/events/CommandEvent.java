@@ -22,11 +22,16 @@
 package com.dwolfnineteen.jdaextra.events;
 
 import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.replies.StreamingReply;
+import com.dwolfnineteen.jdaextra.structured.TaskScope;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
 import net.dv8tion.jda.api.utils.data.DataObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
 
 /**
  * Common methods for command events.
@@ -60,4 +65,34 @@ public interface CommandEvent {
     User getUser();
     long getResponseNumber();
     DataObject getRawData();
+
+    /**
+     * Stream text into the reply, editing it as more text is {@link StreamingReply#append(CharSequence) appended}.
+     *
+     * @return The {@link StreamingReply}, to be {@link StreamingReply#complete() completed} at the end.
+     */
+    @NotNull
+    StreamingReply streamReply();
+
+    /**
+     * Open a {@link TaskScope} for fan-out inside the command,
+     * which the user who ran the command can cancel with its cancel button.
+     * <br>
+     * For slash commands, the scope is also cancelled once the interaction can no longer be replied to.
+     *
+     * @return The {@link TaskScope}, to be closed with try-with-resources.
+     */
+    @NotNull
+    TaskScope openTaskScope();
+
+    /**
+     * Open a {@link TaskScope} (see {@link #openTaskScope()}), cancelled after the timeout.
+     *
+     * @param timeout The timeout.
+     * @return The {@link TaskScope}, to be closed with try-with-resources.
+     */
+    @NotNull
+    default TaskScope openTaskScope(@NotNull Duration timeout) {
+        return openTaskScope().cancelAfter(timeout);
+    }
 }
@@ -24,8 +24,11 @@ package com.dwolfnineteen.jdaextra.events;
 import com.dwolfnineteen.jdaextra.JDAExtra;
 import com.dwolfnineteen.jdaextra.exceptions.InvalidHybridEventException;
 import com.dwolfnineteen.jdaextra.options.mappings.HybridOptionMapping;
+import com.dwolfnineteen.jdaextra.replies.StreamingReply;
+import com.dwolfnineteen.jdaextra.structured.TaskScope;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
@@ -39,6 +42,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 // TODO: Add some interfaces from JDA to signature
 /**
@@ -117,6 +121,51 @@ public class HybridCommandEvent implements CommandEvent {
         return event.getUser();
     }
 
+    /**
+     * Reply through the {@link com.dwolfnineteen.jdaextra.replies.ReplyCoalescer ReplyCoalescer},
+     * if reply coalescing is enabled.
+     *
+     * @param content The reply content.
+     * @return {@link CompletableFuture} of the sent {@link Message}.
+     * @see SlashCommandEvent#queueReply(String)
+     * @see PrefixCommandEvent#queueReply(CharSequence)
+     */
+    @NotNull
+    public CompletableFuture<Message> queueReply(@NotNull String content) {
+        if (event instanceof SlashCommandEvent) {
+            return ((SlashCommandEvent) event).queueReply(content);
+        } else if (event instanceof PrefixCommandEvent) {
+            return ((PrefixCommandEvent) event).queueReply(content);
+        }
+
+        throw new InvalidHybridEventException();
+    }
+
+    /**
+     * Stream text into the reply.
+     *
+     * @return The {@link StreamingReply}, to be {@link StreamingReply#complete() completed} at the end.
+     * @see SlashCommandEvent#streamReply()
+     * @see PrefixCommandEvent#streamReply()
+     */
+    @Override
+    @NotNull
+    public StreamingReply streamReply() {
+        if (event instanceof SlashCommandEvent) {
+            return ((SlashCommandEvent) event).streamReply();
+        } else if (event instanceof PrefixCommandEvent) {
+            return ((PrefixCommandEvent) event).streamReply();
+        }
+
+        throw new InvalidHybridEventException();
+    }
+
+    @Override
+    @NotNull
+    public TaskScope openTaskScope() {
+        return event.openTaskScope();
+    }
+
     // TODO: Replace with HybridReplyAction
 //    @NotNull
 //    public MessageCreateRequest<?> reply(@NotNull String content) {
@@ -23,6 +23,11 @@ package com.dwolfnineteen.jdaextra.events;
 
 import com.dwolfnineteen.jdaextra.JDAExtra;
 import com.dwolfnineteen.jdaextra.options.mappings.PrefixOptionMapping;
+import com.dwolfnineteen.jdaextra.replies.ReplyCoalescer;
+import com.dwolfnineteen.jdaextra.replies.StreamingReply;
+import com.dwolfnineteen.jdaextra.structured.TaskScope;
+import com.dwolfnineteen.jdaextra.tracing.InvocationTrace;
+import com.dwolfnineteen.jdaextra.tracing.Tracer;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -40,6 +45,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 // TODO: Add some interfaces from JDA to signature
 /**
@@ -335,6 +341,82 @@ public class PrefixCommandEvent implements CommandEvent {
         return event.getMessage().replyStickers(stickers);
     }
 
+    /**
+     * Reply to the message through the {@link ReplyCoalescer}, if reply coalescing is enabled.
+     * <br>
+     * Replies to the same message sent within the coalescing window may be merged into one reply;
+     * the flush delay adapts to the rate-limit budget of the channel, shared by all commands replying in it.
+     * If the invocation is traced, the reply is recorded as the {@link com.dwolfnineteen.jdaextra.tracing.Phase#REPLY REPLY} phase.
+     *
+     * @param content The reply content.
+     * @return {@link CompletableFuture} of the sent {@link Message}.
+     * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setReplyCoalescing(java.time.Duration)
+     * JDAExtraBuilder.setReplyCoalescing()
+     */
+    @NotNull
+    public CompletableFuture<Message> queueReply(@NotNull CharSequence content) {
+        Tracer tracer = jdaExtra.getTracer();
+        InvocationTrace trace = tracer == null ? InvocationTrace.NOOP : tracer.find(event);
+
+        if (trace.isSampled()) {
+            return trace.trackReply(() -> submitReply(content));
+        }
+
+        return submitReply(content);
+    }
+
+    /**
+     * Stream text into the reply to the message,
+     * editing it as more text is {@link StreamingReply#append(CharSequence) appended}.
+     *
+     * @return The {@link StreamingReply}, to be {@link StreamingReply#complete() completed} at the end.
+     */
+    @Override
+    @NotNull
+    public StreamingReply streamReply() {
+        return StreamingReply.forMessage(event.getMessage());
+    }
+
+    @Override
+    @NotNull
+    public TaskScope openTaskScope() {
+        return new TaskScope(event.getAuthor().getIdLong());
+    }
+
+    @NotNull
+    private CompletableFuture<Message> submitReply(@NotNull CharSequence content) {
+        ReplyCoalescer coalescer = jdaExtra.getReplyCoalescer();
+
+        if (coalescer == null) {
+            return reply(content).submit();
+        }
+
+        Message message = event.getMessage();
+
+        // Batch per source message, so replies to different authors never merge into one reply
+        return coalescer.send(message.getChannel().getId(), message.getId(), content.toString(), message::reply);
+    }
+
+    /**
+     * Edit the message through the {@link ReplyCoalescer}, if reply coalescing is enabled.
+     * <br>
+     * Consecutive edits of the same message within the coalescing window collapse into the last one.
+     *
+     * @param message The {@link Message} to edit.
+     * @param content The new content.
+     * @return {@link CompletableFuture} of the edited {@link Message}.
+     */
+    @NotNull
+    public CompletableFuture<Message> queueEdit(@NotNull Message message, @NotNull CharSequence content) {
+        ReplyCoalescer coalescer = jdaExtra.getReplyCoalescer();
+
+        if (coalescer == null) {
+            return message.editMessage(content).submit();
+        }
+
+        return coalescer.edit(message.getChannel().getId(), message.getIdLong(), content.toString(), message::editMessage);
+    }
+
     @Override
     public long getResponseNumber() {
         return event.getResponseNumber();
@@ -22,10 +22,17 @@
 package com.dwolfnineteen.jdaextra.events;
 
 import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.interactions.InteractionAcknowledgement;
 import com.dwolfnineteen.jdaextra.options.mappings.SlashOptionMapping;
+import com.dwolfnineteen.jdaextra.replies.ReplyCoalescer;
+import com.dwolfnineteen.jdaextra.replies.StreamingReply;
+import com.dwolfnineteen.jdaextra.structured.TaskScope;
+import com.dwolfnineteen.jdaextra.tracing.InvocationTrace;
+import com.dwolfnineteen.jdaextra.tracing.Tracer;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
@@ -36,6 +43,8 @@ import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
 import net.dv8tion.jda.api.interactions.components.LayoutComponent;
 import net.dv8tion.jda.api.interactions.modals.Modal;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
 import net.dv8tion.jda.api.requests.restaction.interactions.ModalCallbackAction;
 import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
 import net.dv8tion.jda.api.utils.FileUpload;
@@ -44,8 +53,12 @@ import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 // TODO: Add some interfaces from JDA to signature
 /**
@@ -56,6 +69,7 @@ public class SlashCommandEvent implements CommandEvent {
     private final JDAExtra jdaExtra;
     private final List<SlashOptionMapping> options;
     private final String description;
+    private final InteractionAcknowledgement acknowledgement;
 
     /**
      * Construct new {@link SlashCommandEvent}.
@@ -67,10 +81,26 @@ public class SlashCommandEvent implements CommandEvent {
                              @NotNull JDAExtra jdaExtra,
                              @NotNull List<SlashOptionMapping> options,
                              @NotNull String description) {
+        this(event, jdaExtra, options, description, null);
+    }
+
+    /**
+     * Construct new {@link SlashCommandEvent}.
+     *
+     * @param event The source {@link SlashCommandInteractionEvent}.
+     * @param jdaExtra The {@link JDAExtra} instance.
+     * @param acknowledgement The {@link InteractionAcknowledgement}, if the interaction is tracked for auto-defer.
+     */
+    public SlashCommandEvent(@NotNull SlashCommandInteractionEvent event,
+                             @NotNull JDAExtra jdaExtra,
+                             @NotNull List<SlashOptionMapping> options,
+                             @NotNull String description,
+                             @Nullable InteractionAcknowledgement acknowledgement) {
         this.event = event;
         this.jdaExtra = jdaExtra;
         this.options = options;
         this.description = description;
+        this.acknowledgement = acknowledgement;
     }
 
     @Override
@@ -170,7 +200,7 @@ public class SlashCommandEvent implements CommandEvent {
 
     @NotNull
     public ReplyCallbackAction deferReply() {
-        return event.deferReply();
+        return deferReply(false);
     }
 
     @NotNull
@@ -180,52 +210,161 @@ public class SlashCommandEvent implements CommandEvent {
 
     @NotNull
     public ReplyCallbackAction deferReply(boolean ephemeral) {
-        return event.deferReply(ephemeral);
+        return acknowledgement == null ? event.deferReply(ephemeral) : acknowledgement.deferReply(ephemeral);
     }
 
     @NotNull
     public ReplyCallbackAction reply(@NotNull String content) {
-        return event.reply(content);
+        return reply(() -> event.reply(content), hook -> hook.sendMessage(content));
     }
 
     @NotNull
     public ReplyCallbackAction reply(@NotNull MessageCreateData data) {
-        return event.reply(data);
+        return reply(() -> event.reply(data), hook -> hook.sendMessage(data));
     }
 
     @NotNull
     public ReplyCallbackAction replyEmbeds(@NotNull Collection<? extends MessageEmbed> embeds) {
-        return event.replyEmbeds(embeds);
+        return reply(() -> event.replyEmbeds(embeds), hook -> hook.sendMessageEmbeds(embeds));
     }
 
     @NotNull
     public ReplyCallbackAction replyEmbeds(@NotNull MessageEmbed embed, @NotNull MessageEmbed... other) {
-        return event.replyEmbeds(embed, other);
+        return reply(() -> event.replyEmbeds(embed, other), hook -> hook.sendMessageEmbeds(embed, other));
     }
 
     @NotNull
     public ReplyCallbackAction replyComponents(@NotNull Collection<? extends LayoutComponent> components) {
-        return event.replyComponents(components);
+        return reply(() -> event.replyComponents(components), hook -> hook.sendMessageComponents(components));
     }
 
     @NotNull
     public ReplyCallbackAction replyComponents(@NotNull LayoutComponent component, @NotNull LayoutComponent... other) {
-        return event.replyComponents(component, other);
+        return reply(() -> event.replyComponents(component, other),
+                hook -> hook.sendMessageComponents(component, other));
     }
 
     @NotNull
     public ReplyCallbackAction replyFiles(@NotNull Collection<? extends FileUpload> files) {
-        return event.replyFiles(files);
+        return reply(() -> event.replyFiles(files), hook -> hook.sendFiles(files));
     }
 
     @NotNull
     public ReplyCallbackAction replyFiles(@NotNull FileUpload... files) {
-        return event.replyFiles(files);
+        return replyFiles(Arrays.asList(files));
     }
 
     @NotNull
     public ReplyCallbackAction replyFormat(@NotNull String format, @NotNull Object... args) {
-        return event.replyFormat(format, args);
+        return reply(() -> event.replyFormat(format, args), hook -> hook.sendMessageFormat(format, args));
+    }
+
+    /**
+     * Reply to the interaction through the {@link ReplyCoalescer}, if reply coalescing is enabled.
+     * <br>
+     * The first message is sent as the interaction reply, next ones as follow-ups through the {@link InteractionHook}.
+     * If the invocation is traced, the reply is recorded as the {@link com.dwolfnineteen.jdaextra.tracing.Phase#REPLY REPLY} phase.
+     * Messages sent within the coalescing window may be merged into one message.
+     *
+     * @param content The reply content.
+     * @return {@link CompletableFuture} of the sent {@link Message}.
+     * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setReplyCoalescing(java.time.Duration)
+     * JDAExtraBuilder.setReplyCoalescing()
+     */
+    @NotNull
+    public CompletableFuture<Message> queueReply(@NotNull String content) {
+        Tracer tracer = jdaExtra.getTracer();
+        InvocationTrace trace = tracer == null ? InvocationTrace.NOOP : tracer.find(event);
+
+        if (trace.isSampled()) {
+            return trace.trackReply(() -> submitReply(content));
+        }
+
+        return submitReply(content);
+    }
+
+    @NotNull
+    private CompletableFuture<Message> submitReply(@NotNull String content) {
+        ReplyCoalescer coalescer = jdaExtra.getReplyCoalescer();
+
+        if (coalescer == null) {
+            return sendReply(content).submit();
+        }
+
+        // Follow-ups share the rate limit of the interaction token
+        return coalescer.send(event.getToken(), event.getToken(), content, this::sendReply);
+    }
+
+    /**
+     * Edit the interaction reply (or follow-up) through the {@link ReplyCoalescer}, if reply coalescing is enabled.
+     * <br>
+     * Consecutive edits of the same message within the coalescing window collapse into the last one.
+     *
+     * @param messageId The ID of the message to edit.
+     * @param content The new content.
+     * @return {@link CompletableFuture} of the edited {@link Message}.
+     */
+    @NotNull
+    public CompletableFuture<Message> queueEdit(long messageId, @NotNull String content) {
+        ReplyCoalescer coalescer = jdaExtra.getReplyCoalescer();
+
+        if (coalescer == null) {
+            return event.getHook().editMessageById(messageId, content).submit();
+        }
+
+        return coalescer.edit(event.getToken(),
+                messageId,
+                content,
+                text -> event.getHook().editMessageById(messageId, text));
+    }
+
+    /**
+     * Stream text into the reply, editing it as more text is {@link StreamingReply#append(CharSequence) appended}.
+     * <br>
+     * If the interaction was deferred automatically, the deferred response becomes the streamed message.
+     *
+     * @return The {@link StreamingReply}, to be {@link StreamingReply#complete() completed} at the end.
+     */
+    @Override
+    @NotNull
+    public StreamingReply streamReply() {
+        return new StreamingReply(this::startStream,
+                (messageId, content) -> event.getHook().editMessageById(messageId, content),
+                StreamingReply.DEFAULT_INTERVAL);
+    }
+
+    @Override
+    @NotNull
+    public TaskScope openTaskScope() {
+        return new TaskScope(event.getUser().getIdLong()).cancelOnExpiry(event);
+    }
+
+    @NotNull
+    private RestAction<Message> startStream(@NotNull String content) {
+        if (acknowledgement == null) {
+            return sendReply(content);
+        }
+
+        // Claims the interaction like a reply, or loses it to the watchdog's deferral
+        return acknowledgement.acknowledge(() -> sendReply(content), hook -> hook.editOriginal(content));
+    }
+
+    @NotNull
+    private RestAction<Message> sendReply(@NotNull String content) {
+        if (event.isAcknowledged()) {
+            return event.getHook().sendMessage(content);
+        }
+
+        return reply(content).flatMap(InteractionHook::retrieveOriginal);
+    }
+
+    /**
+     * Reply directly or, if the interaction was already deferred automatically, through the {@link InteractionHook}.
+     */
+    @NotNull
+    private ReplyCallbackAction reply(@NotNull Supplier<ReplyCallbackAction> reply,
+                                      @NotNull Function<InteractionHook, WebhookMessageCreateAction<Message>> followUp) {
+        return acknowledgement == null ? reply.get() : acknowledgement.reply(reply, followUp);
     }
 
     public long getIdLong() {
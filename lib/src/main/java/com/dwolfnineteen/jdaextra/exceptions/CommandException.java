@@ -22,6 +22,7 @@
 package com.dwolfnineteen.jdaextra.exceptions;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Base class for all commands related exceptions.
@@ -35,4 +36,17 @@ public class CommandException extends RuntimeException {
     public CommandException(@NotNull String message) {
         super(message);
     }
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.CommandException CommandException}.
+     *
+     * @param message The description for this exception,
+     *                {@code null} if {@link #getMessage()} is overridden to build it lazily.
+     * @param cause The cause.
+     * @param writableStackTrace Whether the stack trace should be filled in.
+     *                           Expected (e.g. user input) errors skip it, since filling it is expensive.
+     */
+    protected CommandException(@Nullable String message, @Nullable Throwable cause, boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.exceptions;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Base class for errors caused by user input (unknown commands, malformed options).
+ * <br>
+ * These are expected at scale, so they are stackless: throwing one doesn't fill in a stack trace.
+ *
+ * @see com.dwolfnineteen.jdaextra.errors.CommandErrorHandler CommandErrorHandler
+ */
+public class CommandInputException extends CommandException {
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.CommandInputException CommandInputException}.
+     *
+     * @param message The description for this exception,
+     *                {@code null} if {@link #getMessage()} is overridden to build it lazily.
+     */
+    protected CommandInputException(@Nullable String message) {
+        super(message, null, false);
+    }
+}
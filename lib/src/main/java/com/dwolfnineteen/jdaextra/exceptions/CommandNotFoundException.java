@@ -22,17 +22,90 @@
 package com.dwolfnineteen.jdaextra.exceptions;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Throws when called command not found.
+ * <br>
+ * Stackless, like other {@link CommandInputException}s.
  */
-public class CommandNotFoundException extends CommandException {
+public class CommandNotFoundException extends CommandInputException {
+    private final String commandName;
+    private final String parentName;
+    private final String suggestion;
+
     /**
      * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException CommandNotFoundException}.
      *
      * @param commandName The command name.
      */
     public CommandNotFoundException(@NotNull String commandName) {
-        super(String.format("Command '%s' not found", commandName));
+        this(commandName, null, null);
+    }
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException CommandNotFoundException}
+     * of the subcommand (group).
+     *
+     * @param commandName The subcommand (group) name.
+     * @param parentName The parent path (e.g. {@code "command"} or {@code "command group"}).
+     */
+    public CommandNotFoundException(@NotNull String commandName, @Nullable String parentName) {
+        this(commandName, parentName, null);
+    }
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException CommandNotFoundException}
+     * with a suggestion.
+     *
+     * @param commandName The command name.
+     * @param parentName The parent path, or {@code null} for top-level commands.
+     * @param suggestion The suggested name.
+     */
+    public CommandNotFoundException(@NotNull String commandName, @Nullable String parentName, @Nullable String suggestion) {
+        super(null);
+
+        this.commandName = commandName;
+        this.parentName = parentName;
+        this.suggestion = suggestion;
+    }
+
+    @Override
+    public @NotNull String getMessage() {
+        String prefix = parentName == null ? "" : parentName + " ";
+
+        if (suggestion == null) {
+            return String.format("Command '%s%s' not found", prefix, commandName);
+        }
+
+        return String.format("Command '%s%s' not found, did you mean '%s%s'?", prefix, commandName, prefix, suggestion);
+    }
+
+    /**
+     * The command name.
+     *
+     * @return The command name.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * The parent path of the subcommand (group).
+     *
+     * @return The parent path, or {@code null} for top-level commands.
+     */
+    public @Nullable String getParentName() {
+        return parentName;
+    }
+
+    /**
+     * The suggested name, closest to the unknown one.
+     *
+     * @return The suggested name, or {@code null} if there is no suggestion.
+     * @see com.dwolfnineteen.jdaextra.suggestions.SuggestionIndex SuggestionIndex
+     */
+    public @Nullable String getSuggestion() {
+        return suggestion;
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+
+/**
+ * Throws when a command entry point throws an exception (or can't be invoked).
+ * <br>
+ * The cause is the exception thrown by the entry point.
+ * This exception is stackless, since the stack trace of the cause already includes the dispatch frames.
+ */
+public class EntryPointInvocationException extends CommandException {
+    private final String commandName;
+    private final transient Method entryPoint;
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.EntryPointInvocationException EntryPointInvocationException}.
+     *
+     * @param commandName The command name.
+     * @param entryPoint The entry point.
+     * @param cause The exception thrown by the entry point.
+     */
+    public EntryPointInvocationException(@NotNull String commandName,
+                                         @NotNull Method entryPoint,
+                                         @NotNull Throwable cause) {
+        super(null, cause, false);
+
+        this.commandName = commandName;
+        this.entryPoint = entryPoint;
+    }
+
+    @Override
+    public @NotNull String getMessage() {
+        return String.format("Entry point '%s' of command '%s' threw %s",
+                entryPoint.getName(),
+                commandName,
+                getCause());
+    }
+
+    /**
+     * The command name.
+     *
+     * @return The command name.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * The entry point.
+     *
+     * @return The entry point {@link Method}.
+     */
+    public @NotNull Method getEntryPoint() {
+        return entryPoint;
+    }
+}
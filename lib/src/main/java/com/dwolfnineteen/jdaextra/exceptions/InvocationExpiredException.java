@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Throws when an interaction was still unacknowledged past its deadline when the
+ * {@link com.dwolfnineteen.jdaextra.scheduling.CommandScheduler CommandScheduler} got to it, so the command wasn't run.
+ * <br>
+ * The interaction can't be answered anymore; the error is for logs and metrics. Stackless, since it's expected under overload.
+ */
+public class InvocationExpiredException extends CommandException {
+    private final String commandName;
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.InvocationExpiredException InvocationExpiredException}.
+     *
+     * @param commandName The command name.
+     */
+    public InvocationExpiredException(@NotNull String commandName) {
+        super(null, null, false);
+
+        this.commandName = commandName;
+    }
+
+    @Override
+    public @NotNull String getMessage() {
+        return String.format("Interaction of command '%s' expired before it could run", commandName);
+    }
+
+    /**
+     * The command name.
+     *
+     * @return The command name.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+}
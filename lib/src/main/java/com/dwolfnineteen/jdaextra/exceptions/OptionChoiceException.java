@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Throws when an option value given by the user doesn't select any of the option choices.
+ *
+ * @see com.dwolfnineteen.jdaextra.options.choices.ChoiceTable ChoiceTable
+ */
+public class OptionChoiceException extends CommandInputException {
+    private final String optionName;
+    private final String input;
+    private final List<String> choiceNames;
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.OptionChoiceException OptionChoiceException}.
+     *
+     * @param optionName The option name.
+     * @param input The option value, as given by the user.
+     * @param choiceNames Names of the option choices.
+     */
+    public OptionChoiceException(@NotNull String optionName, @NotNull String input, @NotNull List<String> choiceNames) {
+        super(null);
+
+        this.optionName = optionName;
+        this.input = input;
+        this.choiceNames = choiceNames;
+    }
+
+    @Override
+    public @NotNull String getMessage() {
+        return String.format("Option '%s' must be one of: %s (got '%s')",
+                optionName,
+                String.join(", ", choiceNames),
+                input);
+    }
+
+    /**
+     * The option name.
+     *
+     * @return The option name.
+     */
+    public @NotNull String getOptionName() {
+        return optionName;
+    }
+
+    /**
+     * The option value, as given by the user.
+     *
+     * @return The option value.
+     */
+    public @NotNull String getInput() {
+        return input;
+    }
+
+    /**
+     * Names of the option choices.
+     *
+     * @return {@link List} of the choice names.
+     */
+    public @NotNull List<String> getChoiceNames() {
+        return choiceNames;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.exceptions;
+
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Throws when a prefix command option value can't be converted to the option type
+ * (e.g. {@code abc} given to an {@link OptionType#INTEGER INTEGER} option).
+ */
+public class OptionParseException extends CommandInputException {
+    private final String optionName;
+    private final String input;
+    private final OptionType type;
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.OptionParseException OptionParseException}.
+     *
+     * @param optionName The option name.
+     * @param input The option value, as given by the user.
+     * @param type The expected {@link OptionType}.
+     */
+    public OptionParseException(@NotNull String optionName, @NotNull String input, @NotNull OptionType type) {
+        super(null);
+
+        this.optionName = optionName;
+        this.input = input;
+        this.type = type;
+    }
+
+    @Override
+    public @NotNull String getMessage() {
+        return String.format("Option '%s' must be %s, got '%s'", optionName, type.name().toLowerCase(Locale.ROOT), input);
+    }
+
+    /**
+     * The option name.
+     *
+     * @return The option name.
+     */
+    public @NotNull String getOptionName() {
+        return optionName;
+    }
+
+    /**
+     * The option value, as given by the user.
+     *
+     * @return The option value.
+     */
+    public @NotNull String getInput() {
+        return input;
+    }
+
+    /**
+     * The expected {@link OptionType}.
+     *
+     * @return The {@link OptionType}.
+     */
+    public @NotNull OptionType getType() {
+        return type;
+    }
+}
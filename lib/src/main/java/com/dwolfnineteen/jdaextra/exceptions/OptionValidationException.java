@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Throws when an option value given by the user violates a constraint of the option.
+ *
+ * @see com.dwolfnineteen.jdaextra.options.validation.OptionValidator OptionValidator
+ */
+public class OptionValidationException extends CommandInputException {
+    private final String optionName;
+    private final String input;
+    private final Constraint constraint;
+    private final Number limit;
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.OptionValidationException OptionValidationException}.
+     *
+     * @param optionName The option name.
+     * @param input The option value, as given by the user. {@code null} if the option is missing.
+     * @param constraint The violated {@link Constraint}.
+     * @param limit The limit of the constraint. {@code null} for {@link Constraint#REQUIRED REQUIRED}.
+     */
+    public OptionValidationException(@NotNull String optionName,
+                                     @Nullable String input,
+                                     @NotNull Constraint constraint,
+                                     @Nullable Number limit) {
+        super(null);
+
+        this.optionName = optionName;
+        this.input = input;
+        this.constraint = constraint;
+        this.limit = limit;
+    }
+
+    @Override
+    public @NotNull String getMessage() {
+        switch (constraint) {
+            case REQUIRED:
+                return String.format("Option '%s' is required", optionName);
+            case MIN_VALUE:
+                return String.format("Option '%s' must be at least %s, got %s", optionName, limit, input);
+            case MAX_VALUE:
+                return String.format("Option '%s' must be at most %s, got %s", optionName, limit, input);
+            case MIN_LENGTH:
+                return String.format("Option '%s' must be at least %s characters long", optionName, limit);
+            case MAX_LENGTH:
+                return String.format("Option '%s' must be at most %s characters long", optionName, limit);
+            default:
+                return String.format("Option '%s' is invalid", optionName);
+        }
+    }
+
+    /**
+     * The option name.
+     *
+     * @return The option name.
+     */
+    public @NotNull String getOptionName() {
+        return optionName;
+    }
+
+    /**
+     * The option value, as given by the user.
+     *
+     * @return The option value, {@code null} if the option is missing.
+     */
+    public @Nullable String getInput() {
+        return input;
+    }
+
+    /**
+     * The violated constraint.
+     *
+     * @return The {@link Constraint}.
+     */
+    public @NotNull Constraint getConstraint() {
+        return constraint;
+    }
+
+    /**
+     * The limit of the violated constraint.
+     *
+     * @return The limit, {@code null} for {@link Constraint#REQUIRED REQUIRED}.
+     */
+    public @Nullable Number getLimit() {
+        return limit;
+    }
+
+    /**
+     * Option constraints.
+     */
+    public enum Constraint {
+        /**
+         * The option must be given.
+         */
+        REQUIRED,
+        /**
+         * Min numeric value.
+         */
+        MIN_VALUE,
+        /**
+         * Max numeric value.
+         */
+        MAX_VALUE,
+        /**
+         * Min string length.
+         */
+        MIN_LENGTH,
+        /**
+         * Max string length.
+         */
+        MAX_LENGTH
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Throws when a command forwarded to a worker fails, or can't be delivered to any worker.
+ *
+ * @see com.dwolfnineteen.jdaextra.remote.WorkerTransport WorkerTransport
+ */
+public class RemoteExecutionException extends CommandException {
+    private final String commandName;
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.RemoteExecutionException RemoteExecutionException}.
+     *
+     * @param commandName The full command name.
+     * @param reason The failure reason (e.g. the error reported by the worker).
+     */
+    public RemoteExecutionException(@NotNull String commandName, @NotNull String reason) {
+        super(String.format("Remote execution of command '%s' failed: %s", commandName, reason));
+
+        this.commandName = commandName;
+    }
+
+    /**
+     * Construct new {@link com.dwolfnineteen.jdaextra.exceptions.RemoteExecutionException RemoteExecutionException}.
+     *
+     * @param commandName The full command name.
+     * @param cause The cause (e.g. a broken connection to the worker).
+     */
+    public RemoteExecutionException(@NotNull String commandName, @NotNull Throwable cause) {
+        super(String.format("Remote execution of command '%s' failed: %s", commandName, cause), cause, true);
+
+        this.commandName = commandName;
+    }
+
+    /**
+     * The full command name.
+     *
+     * @return The full command name.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+}
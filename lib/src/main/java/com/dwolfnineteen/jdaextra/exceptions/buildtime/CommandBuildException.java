@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.exceptions.buildtime;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Throws when one or more commands could not be built.
+ * <br>
+ * Every failure is also attached to this exception as a suppressed exception,
+ * so the full list of broken commands is visible in a single stack trace.
+ */
+public class CommandBuildException extends RuntimeException {
+    private final List<Throwable> failures;
+
+    /**
+     * Construct new {@link CommandBuildException}.
+     *
+     * @param failures {@link List} of failures, in the order of the source commands.
+     */
+    public CommandBuildException(@NotNull List<Throwable> failures) {
+        super(String.format("%d command(s) could not be built", failures.size()));
+
+        this.failures = Collections.unmodifiableList(failures);
+
+        for (Throwable failure : failures) {
+            addSuppressed(failure);
+        }
+    }
+
+    /**
+     * Failures of the commands, in the order of the source commands.
+     *
+     * @return {@link List} of failures.
+     */
+    public @NotNull List<Throwable> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.filters;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suppresses events dispatched twice (e.g. replayed after a gateway resume or a shard reconnect),
+ * keyed by their snowflake (message or interaction ID).
+ * <br>
+ * A fixed-size, set-associative table: an ID hashes to a bucket of {@value #BUCKET_SIZE} slots
+ * (one cache line), each holding a 48-bit fingerprint of an ID and 16 bits of its timestamp.
+ * A new ID takes an empty slot of its bucket, or the one of the oldest ID. The timestamp is the one
+ * encoded in the snowflake itself, so a check reads no clock and takes no lock; the table is sized
+ * for the capacity so that, within the window, buckets practically never overflow.
+ * Memory is constant, 32 bytes per ID of capacity.
+ * <br>
+ * Fingerprints may collide; a false duplicate is below {@code 1e-13} per event.
+ */
+public final class EventDeduplicator {
+    private static final int BUCKET_SIZE = 8;
+    private static final int SNOWFLAKE_TIMESTAMP_SHIFT = 22;
+    private static final long EMPTY = 0;
+
+    private final AtomicLongArray table;
+    private final int bucketMask;
+    private final int timestampShift;
+    private final Duration window;
+    private final int capacity;
+    private final LongAdder duplicates;
+
+    /**
+     * Construct new {@link EventDeduplicator}.
+     *
+     * @param window Time for which an ID must be remembered.
+     * @param capacity Maximal number of IDs expected within the window.
+     * @throws IllegalArgumentException If the window or the capacity is not positive, or the capacity exceeds 2^26.
+     */
+    public EventDeduplicator(@NotNull Duration window, int capacity) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Deduplication window must be positive");
+        }
+
+        if (capacity < 1 || capacity > 1 << 26) {
+            throw new IllegalArgumentException("Deduplication capacity must be between 1 and 2^26");
+        }
+
+        // Load factor of at most 1/4, so a bucket overflows with a probability of about 1e-4
+        int slots = Math.max(Integer.highestOneBit(capacity * 8 - 1), BUCKET_SIZE);
+        // 16 bits of timestamp in units of about 1/16 of the window cover thousands of windows
+        long unitMillis = Math.max(window.toMillis() / 16, 1);
+
+        this.table = new AtomicLongArray(slots);
+        this.bucketMask = slots / BUCKET_SIZE - 1;
+        this.timestampShift = SNOWFLAKE_TIMESTAMP_SHIFT + 63 - Long.numberOfLeadingZeros(unitMillis);
+        this.window = window;
+        this.capacity = capacity;
+        this.duplicates = new LongAdder();
+    }
+
+    /**
+     * Records the ID, checking whether it was seen before.
+     *
+     * @param id The snowflake of the event.
+     * @return True - if the ID was already seen (the event is a duplicate), false - otherwise.
+     */
+    public boolean isDuplicate(long id) {
+        int base = ((int) mix(id) & bucketMask) * BUCKET_SIZE;
+        // Never zero, so an entry is never EMPTY
+        long fingerprint = (mix(id ^ 0x9E3779B97F4A7C15L) >>> 16) | 1;
+        int timestamp = (int) (id >>> timestampShift) & 0xFFFF;
+        long entry = fingerprint << 16 | timestamp;
+
+        while (true) {
+            int victim = -1;
+            int victimAge = Integer.MIN_VALUE;
+            long victimEntry = EMPTY;
+
+            for (int slot = base; slot < base + BUCKET_SIZE; slot++) {
+                long current = table.get(slot);
+
+                if (current == entry) {
+                    duplicates.increment();
+
+                    return true;
+                }
+
+                // Relative to this ID, wrapping around; newer IDs get negative ages
+                int age = current == EMPTY ? Integer.MAX_VALUE : (short) (timestamp - (int) current);
+
+                if (age > victimAge) {
+                    victim = slot;
+                    victimAge = age;
+                    victimEntry = current;
+                }
+            }
+
+            // Lost the slot, rescan, as it may have been taken by the same ID
+            if (table.compareAndSet(victim, victimEntry, entry)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Time for which an ID must be remembered.
+     *
+     * @return The window.
+     */
+    public @NotNull Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Maximal number of IDs expected within the window.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of suppressed duplicates.
+     *
+     * @return Number of duplicates.
+     */
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    private static long mix(long value) {
+        // Snowflake low bits are worker and sequence numbers, mix the timestamp in
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+
+        return value;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.interactions;
+
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Automatically defers slash interactions that weren't acknowledged in time.
+ * <br>
+ * Discord requires an interaction to be acknowledged within 3 seconds.
+ * Every tracked interaction gets a deadline (receive time + threshold);
+ * when it passes and nothing has replied yet, the watchdog calls
+ * {@link SlashCommandInteractionEvent#deferReply(boolean) deferReply()}.
+ * After that, {@link com.dwolfnineteen.jdaextra.events.SlashCommandEvent SlashCommandEvent} reply methods
+ * are transparently sent through the {@link net.dv8tion.jda.api.interactions.InteractionHook InteractionHook}.
+ * <br>
+ * All deadlines are kept in a single {@link DelayQueue} (binary heap) drained by one daemon thread.
+ *
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setAutoDefer(Duration, boolean) JDAExtraBuilder.setAutoDefer()
+ */
+public final class DeferralWatchdog {
+    /**
+     * Discord's interaction acknowledgement deadline.
+     */
+    public static final Duration ACKNOWLEDGEMENT_DEADLINE = Duration.ofSeconds(3);
+
+    private final long thresholdNanos;
+    private final boolean ephemeral;
+    private final DelayQueue<Deadline> deadlines;
+    private final AtomicLong deferredCount;
+    private final Thread thread;
+
+    /**
+     * Construct and start new {@link DeferralWatchdog}.
+     *
+     * @param threshold Time after receiving the interaction when it should be deferred (less than 3 seconds).
+     * @param ephemeral Whether automatically deferred replies should be ephemeral.
+     * @throws IllegalArgumentException If the threshold is not positive or not less than 3 seconds.
+     */
+    public DeferralWatchdog(@NotNull Duration threshold, boolean ephemeral) {
+        if (threshold.isNegative() || threshold.isZero() || threshold.compareTo(ACKNOWLEDGEMENT_DEADLINE) >= 0) {
+            throw new IllegalArgumentException("Auto-defer threshold must be between 0 and 3 seconds");
+        }
+
+        this.thresholdNanos = threshold.toNanos();
+        this.ephemeral = ephemeral;
+        this.deadlines = new DelayQueue<>();
+        this.deferredCount = new AtomicLong();
+
+        thread = new Thread(this::run, "Rextra-DeferralWatchdog");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Start tracking the interaction.
+     *
+     * @param event The {@link SlashCommandInteractionEvent}.
+     * @return The {@link InteractionAcknowledgement} for this interaction.
+     */
+    public @NotNull InteractionAcknowledgement track(@NotNull SlashCommandInteractionEvent event) {
+        InteractionAcknowledgement acknowledgement = new InteractionAcknowledgement(event);
+
+        deadlines.add(new Deadline(acknowledgement, System.nanoTime() + thresholdNanos));
+
+        return acknowledgement;
+    }
+
+    /**
+     * Number of interactions deferred by this watchdog.
+     *
+     * @return The number of deferred interactions.
+     */
+    public long getDeferredCount() {
+        return deferredCount.get();
+    }
+
+    /**
+     * Number of interactions which deadlines haven't passed yet.
+     *
+     * @return The number of tracked interactions.
+     */
+    public int getTrackedCount() {
+        return deadlines.size();
+    }
+
+    /**
+     * Stop the watchdog thread. Pending interactions won't be deferred anymore.
+     */
+    public void shutdown() {
+        thread.interrupt();
+        deadlines.clear();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Deadline deadline;
+
+            try {
+                deadline = deadlines.take();
+            } catch (InterruptedException exception) {
+                return;
+            }
+
+            if (deadline.acknowledgement.defer(ephemeral)) {
+                deferredCount.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class Deadline implements Delayed {
+        private final InteractionAcknowledgement acknowledgement;
+        private final long time;
+
+        private Deadline(@NotNull InteractionAcknowledgement acknowledgement, long time) {
+            this.acknowledgement = acknowledgement;
+            this.time = time;
+        }
+
+        @Override
+        public long getDelay(@NotNull TimeUnit unit) {
+            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@NotNull Delayed other) {
+            return Long.compare(time, ((Deadline) other).time);
+        }
+    }
+}
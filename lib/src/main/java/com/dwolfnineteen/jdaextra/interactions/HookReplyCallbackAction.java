@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.interactions;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.IMentionable;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.exceptions.RateLimitedException;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import net.dv8tion.jda.api.utils.FileUpload;
+import net.dv8tion.jda.api.utils.messages.MessagePollData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * {@link ReplyCallbackAction} that sends a follow-up message for an already deferred interaction.
+ * <br>
+ * Without a follow-up action (deferring an already deferred interaction) it does nothing
+ * and just returns the {@link InteractionHook}.
+ */
+final class HookReplyCallbackAction implements ReplyCallbackAction {
+    private final InteractionHook hook;
+    private final WebhookMessageCreateAction<Message> followUp;
+
+    HookReplyCallbackAction(@NotNull InteractionHook hook, @Nullable WebhookMessageCreateAction<Message> followUp) {
+        this.hook = hook;
+        this.followUp = followUp;
+    }
+
+    private @NotNull WebhookMessageCreateAction<Message> followUp() {
+        if (followUp == null) {
+            throw new IllegalStateException("Interaction is already deferred, use the InteractionHook to send messages");
+        }
+
+        return followUp;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction closeResources() {
+        if (followUp != null) {
+            for (FileUpload file : followUp.getAttachments()) {
+                try {
+                    file.close();
+                } catch (IOException ignored) {
+                    // Same as JDA: closing resources is best-effort
+                }
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setEphemeral(boolean ephemeral) {
+        if (followUp != null) {
+            followUp.setEphemeral(ephemeral);
+        }
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction addContent(@NotNull String content) {
+        followUp().addContent(content);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction addEmbeds(@NotNull Collection<? extends MessageEmbed> embeds) {
+        followUp().addEmbeds(embeds);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction addComponents(@NotNull Collection<? extends LayoutComponent> components) {
+        followUp().addComponents(components);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction addFiles(@NotNull Collection<? extends FileUpload> files) {
+        followUp().addFiles(files);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull List<FileUpload> getAttachments() {
+        return followUp == null ? Collections.emptyList() : followUp.getAttachments();
+    }
+
+    @Override
+    public @Nullable MessagePollData getPoll() {
+        return followUp == null ? null : followUp.getPoll();
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setPoll(@Nullable MessagePollData poll) {
+        followUp().setPoll(poll);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setTTS(boolean tts) {
+        followUp().setTTS(tts);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setSuppressedNotifications(boolean suppressed) {
+        followUp().setSuppressedNotifications(suppressed);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setContent(@Nullable String content) {
+        followUp().setContent(content);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setEmbeds(@NotNull Collection<? extends MessageEmbed> embeds) {
+        followUp().setEmbeds(embeds);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setComponents(@NotNull Collection<? extends LayoutComponent> components) {
+        followUp().setComponents(components);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setSuppressEmbeds(boolean suppress) {
+        followUp().setSuppressEmbeds(suppress);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setFiles(@Nullable Collection<? extends FileUpload> files) {
+        followUp().setFiles(files);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction mentionRepliedUser(boolean mention) {
+        followUp().mentionRepliedUser(mention);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setAllowedMentions(@Nullable Collection<Message.MentionType> allowedMentions) {
+        followUp().setAllowedMentions(allowedMentions);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction mention(@NotNull Collection<? extends IMentionable> mentions) {
+        followUp().mention(mentions);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction mentionUsers(@NotNull Collection<String> userIds) {
+        followUp().mentionUsers(userIds);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction mentionRoles(@NotNull Collection<String> roleIds) {
+        followUp().mentionRoles(roleIds);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction applyMessage(@NotNull Message message) {
+        followUp().applyMessage(message);
+
+        return this;
+    }
+
+    @Override
+    public @NotNull String getContent() {
+        return followUp == null ? "" : followUp.getContent();
+    }
+
+    @Override
+    public @NotNull List<MessageEmbed> getEmbeds() {
+        return followUp == null ? Collections.emptyList() : followUp.getEmbeds();
+    }
+
+    @Override
+    public @NotNull List<LayoutComponent> getComponents() {
+        return followUp == null ? Collections.emptyList() : followUp.getComponents();
+    }
+
+    @Override
+    public boolean isSuppressEmbeds() {
+        return followUp != null && followUp.isSuppressEmbeds();
+    }
+
+    @Override
+    public @NotNull Set<String> getMentionedUsers() {
+        return followUp == null ? Collections.emptySet() : followUp.getMentionedUsers();
+    }
+
+    @Override
+    public @NotNull Set<String> getMentionedRoles() {
+        return followUp == null ? Collections.emptySet() : followUp.getMentionedRoles();
+    }
+
+    @Override
+    public @NotNull EnumSet<Message.MentionType> getAllowedMentions() {
+        return followUp == null ? EnumSet.noneOf(Message.MentionType.class) : followUp.getAllowedMentions();
+    }
+
+    @Override
+    public boolean isMentionRepliedUser() {
+        return followUp != null && followUp.isMentionRepliedUser();
+    }
+
+    @Override
+    public @NotNull ReplyCallbackAction setCheck(@Nullable BooleanSupplier checks) {
+        if (followUp != null) {
+            followUp.setCheck(checks);
+        }
+
+        return this;
+    }
+
+    @Override
+    public @NotNull JDA getJDA() {
+        return hook.getJDA();
+    }
+
+    @Override
+    public void queue(@Nullable Consumer<? super InteractionHook> success,
+                      @Nullable Consumer<? super Throwable> failure) {
+        if (followUp == null) {
+            if (success != null) {
+                success.accept(hook);
+            }
+
+            return;
+        }
+
+        followUp.queue(success == null ? null : message -> success.accept(hook), failure);
+    }
+
+    @Override
+    public InteractionHook complete(boolean shouldQueue) throws RateLimitedException {
+        if (followUp != null) {
+            followUp.complete(shouldQueue);
+        }
+
+        return hook;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<InteractionHook> submit(boolean shouldQueue) {
+        if (followUp == null) {
+            return CompletableFuture.completedFuture(hook);
+        }
+
+        return followUp.submit(shouldQueue).thenApply(message -> hook);
+    }
+}
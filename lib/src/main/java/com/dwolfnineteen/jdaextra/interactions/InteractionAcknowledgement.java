@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.interactions;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Acknowledgement state of a single tracked interaction.
+ * <br>
+ * The state is shared between the command code (through {@link com.dwolfnineteen.jdaextra.events.SlashCommandEvent
+ * SlashCommandEvent}) and {@link DeferralWatchdog}: whoever comes first acknowledges the interaction,
+ * so it's never acknowledged twice.
+ */
+public final class InteractionAcknowledgement {
+    private static final int PENDING = 0;
+    private static final int CLAIMED = 1;
+    private static final int DEFERRED = 2;
+
+    private final SlashCommandInteractionEvent event;
+    private final AtomicInteger state;
+
+    InteractionAcknowledgement(@NotNull SlashCommandInteractionEvent event) {
+        this.event = event;
+        this.state = new AtomicInteger(PENDING);
+    }
+
+    /**
+     * The tracked {@link SlashCommandInteractionEvent}.
+     *
+     * @return The {@link SlashCommandInteractionEvent}.
+     */
+    public @NotNull SlashCommandInteractionEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Whether the interaction was deferred by {@link DeferralWatchdog}.
+     *
+     * @return {@code True} if the interaction was deferred automatically.
+     */
+    public boolean isDeferred() {
+        return state.get() == DEFERRED;
+    }
+
+    /**
+     * Reply to the interaction.
+     * <br>
+     * If the interaction is already deferred automatically,
+     * the follow-up message is sent through the {@link InteractionHook} instead.
+     *
+     * @param reply Supplier of the regular reply action.
+     * @param followUp Function that creates the follow-up message from the {@link InteractionHook}.
+     * @return The {@link ReplyCallbackAction}.
+     */
+    public @NotNull ReplyCallbackAction reply(@NotNull Supplier<ReplyCallbackAction> reply,
+                                              @NotNull Function<InteractionHook, WebhookMessageCreateAction<Message>> followUp) {
+        if (claim()) {
+            return reply.get();
+        }
+
+        InteractionHook hook = event.getHook();
+
+        return new HookReplyCallbackAction(hook, followUp.apply(hook));
+    }
+
+    /**
+     * Acknowledge the interaction with the action of the command code.
+     * <br>
+     * If the interaction is already deferred automatically, the alternative action is created instead,
+     * typically one completing the deferred response (e.g. {@link InteractionHook#editOriginal(String)}).
+     *
+     * @param action Supplier of the action acknowledging the interaction.
+     * @param deferred Function that creates the action from the {@link InteractionHook} of the deferred interaction.
+     * @param <T> The action type.
+     * @return The action.
+     */
+    public <T> @NotNull T acknowledge(@NotNull Supplier<? extends T> action,
+                                      @NotNull Function<InteractionHook, ? extends T> deferred) {
+        return claim() ? action.get() : deferred.apply(event.getHook());
+    }
+
+    /**
+     * Defer the reply to the interaction.
+     * <br>
+     * If the interaction is already deferred automatically, nothing is sent.
+     *
+     * @param ephemeral Whether the reply should be ephemeral.
+     * @return The {@link ReplyCallbackAction}.
+     */
+    public @NotNull ReplyCallbackAction deferReply(boolean ephemeral) {
+        return claim() ? event.deferReply(ephemeral) : new HookReplyCallbackAction(event.getHook(), null);
+    }
+
+    /**
+     * Acknowledge the interaction from the command code.
+     *
+     * @return {@code False} if the interaction was already deferred automatically.
+     */
+    private boolean claim() {
+        return state.compareAndSet(PENDING, CLAIMED) || state.get() == CLAIMED;
+    }
+
+    /**
+     * Defer the interaction, if it wasn't acknowledged yet.
+     *
+     * @param ephemeral Whether the deferred reply should be ephemeral.
+     * @return {@code True} if the interaction was deferred.
+     */
+    boolean defer(boolean ephemeral) {
+        // The command code may also acknowledge it bypassing the event (e.g. through getInteraction())
+        if (event.isAcknowledged() || !state.compareAndSet(PENDING, DEFERRED)) {
+            return false;
+        }
+
+        event.deferReply(ephemeral).queue(null, failure -> { });
+
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.localization;
+
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link LocalizationFunction} backed by a shared {@link LocalizationBundle}.
+ * <br>
+ * Unlike {@link net.dv8tion.jda.api.interactions.commands.localization.ResourceBundleLocalizationFunction
+ * ResourceBundleLocalizationFunction}, it doesn't hold its own bundles,
+ * and results are cached per key as immutable maps.
+ */
+final class BundleLocalizationFunction implements LocalizationFunction {
+    private final LocalizationBundle bundle;
+    private final DiscordLocale[] locales;
+    private final ConcurrentMap<String, Map<DiscordLocale, String>> results;
+
+    BundleLocalizationFunction(@NotNull LocalizationBundle bundle, @NotNull DiscordLocale[] locales) {
+        this.bundle = bundle;
+        this.locales = locales.clone();
+        this.results = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public @NotNull Map<DiscordLocale, String> apply(@NotNull String localizationKey) {
+        return results.computeIfAbsent(localizationKey, this::translate);
+    }
+
+    private @NotNull Map<DiscordLocale, String> translate(@NotNull String localizationKey) {
+        Map<DiscordLocale, String> translations = new EnumMap<>(DiscordLocale.class);
+
+        for (DiscordLocale locale : locales) {
+            String translation = bundle.find(localizationKey, locale);
+
+            if (translation != null) {
+                translations.put(locale, translation);
+            }
+        }
+
+        return translations.isEmpty() ? Map.of() : Map.copyOf(translations);
+    }
+}
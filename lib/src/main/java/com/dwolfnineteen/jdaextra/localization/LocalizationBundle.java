@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.localization;
+
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Translations of a single resource bundle (base name), loaded lazily per locale.
+ * <br>
+ * Every locale is read from its {@link ResourceBundle} only once,
+ * after that translations are served from an immutable table.
+ *
+ * @see LocalizationService#getBundle(String)
+ */
+public final class LocalizationBundle {
+    private final LocalizationService service;
+    private final String baseName;
+    private final AtomicReferenceArray<Map<String, String>> tables;
+
+    LocalizationBundle(@NotNull LocalizationService service, @NotNull String baseName) {
+        this.service = service;
+        this.baseName = baseName;
+        this.tables = new AtomicReferenceArray<>(DiscordLocale.values().length);
+    }
+
+    /**
+     * The base name of the resource bundle.
+     *
+     * @return The base name.
+     */
+    public @NotNull String getBaseName() {
+        return baseName;
+    }
+
+    /**
+     * Translate the key for the given locale.
+     *
+     * @param key The localization key.
+     * @param locale The {@link DiscordLocale} (for example, {@code event.getUserLocale()}).
+     * @return The translated string, or the key itself if there is no translation.
+     */
+    public @NotNull String translate(@NotNull String key, @NotNull DiscordLocale locale) {
+        String translation = getTable(locale).get(key);
+
+        return translation == null ? key : translation;
+    }
+
+    /**
+     * Translate the key for the given locale.
+     *
+     * @param key The localization key.
+     * @param locale The {@link DiscordLocale}.
+     * @return The translated string. {@code null} if there is no translation.
+     */
+    public @Nullable String find(@NotNull String key, @NotNull DiscordLocale locale) {
+        return getTable(locale).get(key);
+    }
+
+    /**
+     * Check that the resource bundle resolves for each of the locales (as {@link ResourceBundle#getBundle(String, Locale)}
+     * does, falling back to the base bundle), without loading the translation tables.
+     *
+     * @param locales The {@link DiscordLocale}s.
+     * @throws IllegalArgumentException If the resource bundle can't be found for one of the locales.
+     */
+    void checkLocales(@NotNull DiscordLocale[] locales) {
+        for (DiscordLocale locale : locales) {
+            if (locale == DiscordLocale.UNKNOWN) {
+                continue;
+            }
+
+            try {
+                ResourceBundle.getBundle(baseName, Locale.forLanguageTag(locale.getLocale()));
+            } catch (MissingResourceException exception) {
+                throw new IllegalArgumentException(String.format("Resource bundle '%s' not found for locale %s",
+                        baseName,
+                        locale.getLocale()), exception);
+            }
+        }
+    }
+
+    /**
+     * Translation table for the locale, loading it on first use.
+     *
+     * @param locale The {@link DiscordLocale}.
+     * @return Immutable {@link Map} of key and translated string.
+     */
+    @NotNull Map<String, String> getTable(@NotNull DiscordLocale locale) {
+        int index = locale.ordinal();
+        Map<String, String> table = tables.get(index);
+
+        if (table != null) {
+            return table;
+        }
+
+        // Concurrent loaders may race here, only the first table is published
+        tables.compareAndSet(index, null, loadTable(locale));
+
+        return tables.get(index);
+    }
+
+    private @NotNull Map<String, String> loadTable(@NotNull DiscordLocale locale) {
+        if (locale == DiscordLocale.UNKNOWN) {
+            return Map.of();
+        }
+
+        ResourceBundle bundle;
+
+        try {
+            bundle = ResourceBundle.getBundle(baseName, Locale.forLanguageTag(locale.getLocale()));
+        } catch (MissingResourceException exception) {
+            // Only locales other than those of the localization functions (checked at build time) may be missing
+            return Map.of();
+        }
+
+        Map<String, String> table = new HashMap<>();
+        Enumeration<String> keys = bundle.getKeys();
+
+        while (keys.hasMoreElements()) {
+            String key = keys.nextElement();
+            Object value = bundle.getObject(key);
+
+            if (value instanceof String) {
+                table.put(service.intern(key), service.intern((String) value));
+            }
+        }
+
+        return Map.copyOf(table);
+    }
+}
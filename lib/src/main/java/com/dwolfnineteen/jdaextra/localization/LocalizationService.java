@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.localization;
+
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide, lazily loaded localization cache.
+ * <br>
+ * Each resource bundle is loaded at most once per base name and locale,
+ * all translated strings are interned, so equal translations share a single instance.
+ * <br>
+ * Commands get their {@link LocalizationFunction} from here
+ * (see {@link com.dwolfnineteen.jdaextra.annotations.commands.CommandLocalizationFunction @CommandLocalizationFunction}),
+ * and reply text can be translated at runtime through {@link LocalizationBundle#translate(String, DiscordLocale)}
+ * without any {@link java.util.ResourceBundle ResourceBundle} lookups.
+ */
+public final class LocalizationService {
+    private static final LocalizationService INSTANCE = new LocalizationService();
+    private static final LocalizationFunction EMPTY_FUNCTION = key -> Collections.emptyMap();
+
+    private final ConcurrentMap<String, LocalizationBundle> bundles;
+    private final ConcurrentMap<FunctionKey, LocalizationFunction> functions;
+    private final ConcurrentMap<String, String> strings;
+
+    private LocalizationService() {
+        bundles = new ConcurrentHashMap<>();
+        functions = new ConcurrentHashMap<>();
+        strings = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The shared {@link LocalizationService} instance.
+     *
+     * @return The {@link LocalizationService}.
+     */
+    public static @NotNull LocalizationService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * {@link LocalizationFunction} without any translations.
+     *
+     * @return The empty {@link LocalizationFunction}.
+     */
+    public static @NotNull LocalizationFunction emptyFunction() {
+        return EMPTY_FUNCTION;
+    }
+
+    /**
+     * Get (or lazily create) the {@link LocalizationBundle} for the given base name.
+     * <br>
+     * The bundle itself loads its locales only on first use.
+     *
+     * @param baseName The base name of the resource bundle.
+     * @return The {@link LocalizationBundle}.
+     */
+    public @NotNull LocalizationBundle getBundle(@NotNull String baseName) {
+        return bundles.computeIfAbsent(baseName, name -> new LocalizationBundle(this, name));
+    }
+
+    /**
+     * Get the shared {@link LocalizationFunction} for the given base name and locales.
+     * <br>
+     * Commands with the same base name and locales share a single function (and its cached translations).
+     * The resource bundle must resolve for all the locales, but their translations are loaded only on first use.
+     *
+     * @param baseName The base name of the resource bundle.
+     * @param locales Locales to get from the resource bundle.
+     * @return The {@link LocalizationFunction}.
+     * @throws IllegalArgumentException If the resource bundle can't be found for one of the locales.
+     */
+    public @NotNull LocalizationFunction getLocalizationFunction(@NotNull String baseName,
+                                                                 @NotNull DiscordLocale... locales) {
+        return functions.computeIfAbsent(new FunctionKey(baseName, locales), key -> {
+            LocalizationBundle bundle = getBundle(baseName);
+
+            // Fails the build on a mistyped base name, like ResourceBundleLocalizationFunction did
+            bundle.checkLocales(locales);
+
+            return new BundleLocalizationFunction(bundle, locales);
+        });
+    }
+
+    /**
+     * Translate the key for the given locale.
+     * <br>
+     * Shortcut for {@code getBundle(baseName).translate(key, locale)}.
+     *
+     * @param baseName The base name of the resource bundle.
+     * @param key The localization key.
+     * @param locale The {@link DiscordLocale} (for example, {@code event.getUserLocale()}).
+     * @return The translated string, or the key itself if there is no translation.
+     */
+    public @NotNull String translate(@NotNull String baseName, @NotNull String key, @NotNull DiscordLocale locale) {
+        return getBundle(baseName).translate(key, locale);
+    }
+
+    /**
+     * Return canonical instance of the string.
+     *
+     * @param string The string.
+     * @return The canonical instance.
+     */
+    @NotNull String intern(@NotNull String string) {
+        String existing = strings.putIfAbsent(string, string);
+
+        return existing == null ? string : existing;
+    }
+
+    private static final class FunctionKey {
+        private final String baseName;
+        private final DiscordLocale[] locales;
+
+        private FunctionKey(@NotNull String baseName, @NotNull DiscordLocale[] locales) {
+            this.baseName = baseName;
+            this.locales = locales.clone();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof FunctionKey)) {
+                return false;
+            }
+
+            FunctionKey other = (FunctionKey) object;
+
+            return baseName.equals(other.baseName) && Arrays.equals(locales, other.locales);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * baseName.hashCode() + Arrays.hashCode(locales);
+        }
+    }
+}
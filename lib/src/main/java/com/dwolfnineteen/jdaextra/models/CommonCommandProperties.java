@@ -38,6 +38,10 @@ public abstract class CommonCommandProperties {
      * The command main entry point.
      */
     protected Method entryPoint;
+    /**
+     * Whether the properties are frozen.
+     */
+    protected boolean frozen;
 
     /**
      * The command entry point (instance of {@link Method}).
@@ -146,4 +150,36 @@ public abstract class CommonCommandProperties {
      * @return The {@link CommonCommandProperties} instance, for chaining.
      */
     public abstract CommonCommandProperties addOptions(CommandOptionData... options);
+
+    /**
+     * Whether the properties are frozen (immutable).
+     *
+     * @return {@code true} after {@link #freeze()}.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Convert the properties (and nested ones) into their immutable, compact form:
+     * array-backed collections, interned strings and translations.
+     * Frozen properties are safe to read from any thread; their setters throw {@link IllegalStateException}.
+     * <br>
+     * Called by {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra} once all commands are built.
+     *
+     * @return The {@link CommonCommandProperties} instance, for chaining.
+     * @see ModelFreezer
+     */
+    public abstract CommonCommandProperties freeze();
+
+    /**
+     * Guard of setters.
+     *
+     * @throws IllegalStateException If the properties are frozen.
+     */
+    protected void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Cannot modify frozen command properties");
+        }
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable {@link Map} of {@link String} keys, stored in flat arrays in the source iteration order.
+ * <br>
+ * Small maps (most subcommand maps) are looked up by a linear scan;
+ * larger ones get an open-addressing index of the arrays.
+ *
+ * @param <V> The value type.
+ */
+final class CompactMap<V> extends AbstractMap<String, V> {
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private final String[] keys;
+    private final Object[] values;
+    // Index + 1 of each key, by hash; null for small maps
+    private final int[] table;
+
+    CompactMap(@NotNull Map<String, ? extends V> map) {
+        int size = map.size();
+        this.keys = new String[size];
+        this.values = new Object[size];
+
+        int index = 0;
+
+        for (Map.Entry<String, ? extends V> entry : map.entrySet()) {
+            keys[index] = entry.getKey().intern();
+            values[index] = entry.getValue();
+            index++;
+        }
+
+        if (size <= LINEAR_SCAN_LIMIT) {
+            this.table = null;
+        } else {
+            this.table = new int[Integer.highestOneBit(size - 1) << 2];
+
+            for (int i = 0; i < size; i++) {
+                int slot = slot(keys[i]);
+
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & (table.length - 1);
+                }
+
+                table[slot] = i + 1;
+            }
+        }
+    }
+
+    private int slot(@NotNull String key) {
+        int hash = key.hashCode();
+
+        return (hash ^ (hash >>> 16)) & (table.length - 1);
+    }
+
+    private int indexOf(@Nullable Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+
+        if (table == null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key || keys[i].equals(key)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        for (int slot = slot((String) key); table[slot] != 0; slot = (slot + 1) & (table.length - 1)) {
+            int index = table[slot] - 1;
+
+            if (keys[index] == key || keys[index].equals(key)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(@Nullable Object key) {
+        int index = indexOf(key);
+
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public @NotNull Set<Map.Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Map.Entry<String, V>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public @NotNull Map.Entry<String, V> next() {
+                        if (index >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+
+                        Map.Entry<String, V> entry = new SimpleImmutableEntry<>(keys[index], (V) values[index]);
+                        index++;
+
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.models;
+
+import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
+import com.dwolfnineteen.jdaextra.options.data.GeneralOptionData;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
+import net.dv8tion.jda.api.interactions.commands.localization.LocalizationMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversions used by the {@code freeze()} methods of models.
+ * <br>
+ * Frozen models hold immutable, array-backed collections and interned strings,
+ * so they can be read from any thread without synchronization once published,
+ * and identical names, descriptions and translations are shared across all commands.
+ *
+ * @see CommonCommandProperties#freeze()
+ * @see com.dwolfnineteen.jdaextra.models.subcommands.groups.SubcommandGroupProperties#freeze()
+ *      SubcommandGroupProperties.freeze()
+ */
+public final class ModelFreezer {
+    private ModelFreezer() { }
+
+    /**
+     * Copy the list into an immutable, array-backed {@link List}.
+     *
+     * @param list The list.
+     * @param <T> The element type.
+     * @return The immutable {@link List}.
+     */
+    public static <T> @NotNull List<T> freezeList(@NotNull List<? extends T> list) {
+        return List.copyOf(list);
+    }
+
+    /**
+     * Copy the map into an immutable, array-backed {@link Map} with interned keys, keeping the iteration order.
+     *
+     * @param map The map.
+     * @param <V> The value type.
+     * @return The immutable {@link Map}.
+     */
+    public static <V> @NotNull Map<String, V> freezeMap(@NotNull Map<String, ? extends V> map) {
+        switch (map.size()) {
+            case 0:
+                return Collections.emptyMap();
+            case 1:
+                Map.Entry<String, ? extends V> entry = map.entrySet().iterator().next();
+
+                return Collections.singletonMap(entry.getKey().intern(), entry.getValue());
+            default:
+                return new CompactMap<>(map);
+        }
+    }
+
+    /**
+     * Intern the string, so equal strings of all models share one instance.
+     *
+     * @param value The string.
+     * @return The interned string. {@code null} if the string is {@code null}.
+     */
+    public static @Nullable String intern(@Nullable String value) {
+        return value == null ? null : value.intern();
+    }
+
+    /**
+     * Replace the translations of the {@link LocalizationMap} with interned ones.
+     *
+     * @param localizations The {@link LocalizationMap}.
+     */
+    public static void intern(@NotNull LocalizationMap localizations) {
+        Map<DiscordLocale, String> translations = new HashMap<>(localizations.toMap());
+
+        if (translations.isEmpty()) {
+            return;
+        }
+
+        translations.replaceAll((locale, translation) -> translation.intern());
+        localizations.setTranslations(translations);
+    }
+
+    /**
+     * Intern the localizations of slash-like options.
+     *
+     * @param options The options.
+     */
+    public static void internOptions(@NotNull List<? extends CommandOptionData> options) {
+        for (CommandOptionData option : options) {
+            if (option instanceof GeneralOptionData) {
+                OptionData data = ((GeneralOptionData) option).toGeneralOptionData();
+
+                intern(data.getNameLocalizations());
+                intern(data.getDescriptionLocalizations());
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ package com.dwolfnineteen.jdaextra.models.commands;
 import com.dwolfnineteen.jdaextra.commands.BaseCommand;
 import com.dwolfnineteen.jdaextra.commands.HybridCommand;
 import com.dwolfnineteen.jdaextra.models.CommonHybridCommandProperties;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.models.subcommands.HybridSubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.SubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.groups.HybridSubcommandGroupProperties;
@@ -66,15 +67,15 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
     /**
      * {@link List} of command options.
      */
-    protected final List<HybridOptionData> options;
+    protected List<HybridOptionData> options;
     /**
      * {@link Map} of subcommand name and {@link HybridSubcommandProperties}.
      */
-    protected final Map<String, HybridSubcommandProperties> subcommands;
+    protected Map<String, HybridSubcommandProperties> subcommands;
     /**
      * {@link Map} of subcommand name and {@link HybridSubcommandGroupProperties}.
      */
-    protected final Map<String, HybridSubcommandGroupProperties> subcommandGroups;
+    protected Map<String, HybridSubcommandGroupProperties> subcommandGroups;
 
     {
         options = new ArrayList<>();
@@ -112,6 +113,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setCommand(@NotNull BaseCommand command) {
+        checkNotFrozen();
+
         this.command = (HybridCommand) command;
 
         return this;
@@ -134,6 +137,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setEntryPoint(@Nullable Method entryPoint) {
+        checkNotFrozen();
+
         this.entryPoint = entryPoint;
 
         return this;
@@ -157,6 +162,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setName(@NotNull String name) {
+        checkNotFrozen();
+
         regularData.setName(name);
 
         return this;
@@ -181,6 +188,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setNameLocalization(@NotNull DiscordLocale locale, @NotNull String name) {
+        checkNotFrozen();
+
         regularData.setNameLocalization(locale, name);
 
         return this;
@@ -194,6 +203,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setNameLocalizations(@NotNull Map<DiscordLocale, String> nameLocalizations) {
+        checkNotFrozen();
+
         regularData.setNameLocalizations(nameLocalizations);
 
         return this;
@@ -217,6 +228,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setDescription(@NotNull String description) {
+        checkNotFrozen();
+
         regularData.setDescription(description);
 
         return this;
@@ -241,6 +254,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setDescriptionLocalization(@NotNull DiscordLocale locale, @NotNull String name) {
+        checkNotFrozen();
+
         regularData.setDescriptionLocalization(locale, name);
 
         return this;
@@ -254,6 +269,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setDescriptionLocalizations(@NotNull Map<DiscordLocale, String> descriptionLocalizations) {
+        checkNotFrozen();
+
         regularData.setDescriptionLocalizations(descriptionLocalizations);
 
         return this;
@@ -267,6 +284,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setLocalizationFunction(@NotNull LocalizationFunction localizationFunction) {
+        checkNotFrozen();
+
         regularData.setLocalizationFunction(localizationFunction);
 
         return this;
@@ -294,6 +313,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
     public @NotNull HybridCommandModel addOption(@NotNull OptionType type,
                                                  @NotNull String name,
                                                  @NotNull String description) {
+        checkNotFrozen();
+
         options.add(new HybridOptionData(type, name, description));
 
         return this;
@@ -313,6 +334,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
                                                  @NotNull String name,
                                                  @NotNull String description,
                                                  boolean required) {
+        checkNotFrozen();
+
         options.add(new HybridOptionData(type, name, description, required));
 
         return this;
@@ -334,6 +357,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
                                                  @NotNull String description,
                                                  boolean required,
                                                  boolean autocomplete) {
+        checkNotFrozen();
+
         options.add(new HybridOptionData(type, name, description, required, autocomplete));
 
         return this;
@@ -348,6 +373,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel addOptions(@NotNull Collection<? extends CommandOptionData> options) {
+        checkNotFrozen();
+
         this.options.addAll(options.stream()
                 .map(option -> (HybridOptionData) option)
                 .collect(Collectors.toList()));
@@ -364,6 +391,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel addOptions(@NotNull CommandOptionData... options) {
+        checkNotFrozen();
+
         this.options.addAll(Arrays.stream(options)
                 .map(option -> (HybridOptionData) option)
                 .collect(Collectors.toList()));
@@ -389,6 +418,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setGuildOnly(boolean guildOnly) {
+        checkNotFrozen();
+
         regularData.setGuildOnly(guildOnly);
 
         return this;
@@ -412,6 +443,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel setNsfw(boolean nsfw) {
+        checkNotFrozen();
+
         regularData.setNSFW(nsfw);
 
         return this;
@@ -446,6 +479,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel addSubcommands(@NotNull Collection<? extends SubcommandProperties> subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(subcommands.stream()
                 .map(subcommand -> (HybridSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(HybridSubcommandProperties::getName, subcommand -> subcommand)));
@@ -462,6 +497,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel addSubcommands(@NotNull SubcommandProperties... subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(Arrays.stream(subcommands)
                 .map(subcommand -> (HybridSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(HybridSubcommandProperties::getName, subcommand -> subcommand)));
@@ -498,6 +535,8 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel addSubcommandGroups(@NotNull Collection<? extends SubcommandGroupProperties> subcommandGroups) {
+        checkNotFrozen();
+
         this.subcommandGroups.putAll(subcommandGroups.stream()
                 .map(group -> (HybridSubcommandGroupProperties) group)
                 .collect(Collectors.toMap(HybridSubcommandGroupProperties::getName, group -> group)));
@@ -514,10 +553,37 @@ public class HybridCommandModel extends CommonHybridCommandProperties implements
      */
     @Override
     public @NotNull HybridCommandModel addSubcommandGroups(@NotNull SubcommandGroupProperties... subcommandGroups) {
+        checkNotFrozen();
+
         this.subcommandGroups.putAll(Arrays.stream(subcommandGroups)
                 .map(group -> (HybridSubcommandGroupProperties) group)
                 .collect(Collectors.toMap(HybridSubcommandGroupProperties::getName, group -> group)));
 
         return this;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link HybridCommandModel} instance, for chaining.
+     */
+    @Override
+    public @NotNull HybridCommandModel freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        subcommands.values().forEach(HybridSubcommandProperties::freeze);
+        subcommandGroups.values().forEach(HybridSubcommandGroupProperties::freeze);
+        ModelFreezer.intern(regularData.getNameLocalizations());
+        ModelFreezer.intern(regularData.getDescriptionLocalizations());
+        ModelFreezer.internOptions(options);
+
+        options = ModelFreezer.freezeList(options);
+        subcommands = ModelFreezer.freezeMap(subcommands);
+        subcommandGroups = ModelFreezer.freezeMap(subcommandGroups);
+        frozen = true;
+
+        return this;
+    }
 }
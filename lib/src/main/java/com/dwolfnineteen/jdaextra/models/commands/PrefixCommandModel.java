@@ -25,6 +25,7 @@ package com.dwolfnineteen.jdaextra.models.commands;
 import com.dwolfnineteen.jdaextra.commands.BaseCommand;
 import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
 import com.dwolfnineteen.jdaextra.models.CommonPrefixCommandProperties;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.models.subcommands.PrefixSubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.SubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.groups.PrefixSubcommandGroupProperties;
@@ -65,15 +66,15 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
     /**
      * {@link List} of command options.
      */
-    protected final List<PrefixOptionData> options;
+    protected List<PrefixOptionData> options;
     /**
      * {@link Map} of subcommand name and {@link PrefixSubcommandProperties}.
      */
-    protected final Map<String, PrefixSubcommandProperties> subcommands;
+    protected Map<String, PrefixSubcommandProperties> subcommands;
     /**
      * {@link Map} of subcommand name and {@link PrefixSubcommandGroupProperties}.
      */
-    protected final Map<String, PrefixSubcommandGroupProperties> subcommandGroups;
+    protected Map<String, PrefixSubcommandGroupProperties> subcommandGroups;
 
     {
         options = new ArrayList<>();
@@ -123,6 +124,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel setCommand(@NotNull BaseCommand command) {
+        checkNotFrozen();
+
         this.command = (PrefixCommand) command;
 
         return this;
@@ -143,6 +146,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel setEntryPoint(Method entryPoint) {
+        checkNotFrozen();
+
         this.entryPoint = entryPoint;
 
         return this;
@@ -156,6 +161,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel setName(@NotNull String name) {
+        checkNotFrozen();
+
         this.name = name;
 
         return this;
@@ -169,6 +176,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel setDescription(@Nullable String description) {
+        checkNotFrozen();
+
         this.description = description;
 
         return this;
@@ -194,6 +203,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel addOption(@NotNull OptionType type, @NotNull String name, @Nullable String description) {
+        checkNotFrozen();
+
         options.add(new PrefixOptionData(type, name, description));
 
         return this;
@@ -213,6 +224,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
                                                  @NotNull String name,
                                                  @Nullable String description,
                                                  boolean required) {
+        checkNotFrozen();
+
         options.add(new PrefixOptionData(type, name, description, required));
 
         return this;
@@ -234,6 +247,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
                                                  @Nullable String description,
                                                  boolean required,
                                                  boolean autocomplete) {
+        checkNotFrozen();
+
         options.add(new PrefixOptionData(type, name, description, required, autocomplete));
 
         return this;
@@ -248,6 +263,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel addOptions(@NotNull Collection<? extends CommandOptionData> options) {
+        checkNotFrozen();
+
         this.options.addAll(options.stream()
                 .map(option -> (PrefixOptionData) option)
                 .collect(Collectors.toList()));
@@ -264,6 +281,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel addOptions(@NotNull CommandOptionData... options) {
+        checkNotFrozen();
+
         this.options.addAll(Arrays.stream(options)
                 .map(option -> (PrefixOptionData) option)
                 .collect(Collectors.toList()));
@@ -289,6 +308,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel setGuildOnly(boolean guildOnly) {
+        checkNotFrozen();
+
         this.guildOnly = guildOnly;
 
         return this;
@@ -312,6 +333,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel setNsfw(boolean nsfw) {
+        checkNotFrozen();
+
         this.nsfw = nsfw;
 
         return this;
@@ -346,6 +369,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel addSubcommands(@NotNull Collection<? extends SubcommandProperties> subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(subcommands.stream()
                 .map(subcommand -> (PrefixSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(PrefixSubcommandProperties::getName, subcommand -> subcommand)));
@@ -362,6 +387,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel addSubcommands(@NotNull SubcommandProperties... subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(Arrays.stream(subcommands)
                 .map(subcommand -> (PrefixSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(PrefixSubcommandProperties::getName, subcommand -> subcommand)));
@@ -398,6 +425,8 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel addSubcommandGroups(@NotNull Collection<? extends SubcommandGroupProperties> subcommandGroups) {
+        checkNotFrozen();
+
         this.subcommandGroups.putAll(subcommandGroups.stream()
                 .map(group -> (PrefixSubcommandGroupProperties) group)
                 .collect(Collectors.toMap(PrefixSubcommandGroupProperties::getName, group -> group)));
@@ -414,10 +443,37 @@ public class PrefixCommandModel extends CommonPrefixCommandProperties implements
      */
     @Override
     public @NotNull PrefixCommandModel addSubcommandGroups(@NotNull SubcommandGroupProperties... subcommandGroups) {
+        checkNotFrozen();
+
         this.subcommandGroups.putAll(Arrays.stream(subcommandGroups)
                 .map(group -> (PrefixSubcommandGroupProperties) group)
                 .collect(Collectors.toMap(PrefixSubcommandGroupProperties::getName, group -> group)));
 
         return this;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link PrefixCommandModel} instance, for chaining.
+     */
+    @Override
+    public @NotNull PrefixCommandModel freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        subcommands.values().forEach(PrefixSubcommandProperties::freeze);
+        subcommandGroups.values().forEach(PrefixSubcommandGroupProperties::freeze);
+        name = ModelFreezer.intern(name);
+        description = ModelFreezer.intern(description);
+        ModelFreezer.internOptions(options);
+
+        options = ModelFreezer.freezeList(options);
+        subcommands = ModelFreezer.freezeMap(subcommands);
+        subcommandGroups = ModelFreezer.freezeMap(subcommandGroups);
+        frozen = true;
+
+        return this;
+    }
 }
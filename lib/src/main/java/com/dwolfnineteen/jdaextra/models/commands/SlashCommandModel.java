@@ -25,6 +25,7 @@ package com.dwolfnineteen.jdaextra.models.commands;
 import com.dwolfnineteen.jdaextra.commands.BaseCommand;
 import com.dwolfnineteen.jdaextra.commands.SlashCommand;
 import com.dwolfnineteen.jdaextra.models.CommonSlashCommandProperties;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.models.subcommands.SlashSubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.SubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.groups.SlashSubcommandGroupProperties;
@@ -66,15 +67,15 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
     /**
      * {@link List} of command options.
      */
-    protected final List<SlashOptionData> options;
+    protected List<SlashOptionData> options;
     /**
      * {@link Map} of subcommand name and {@link SlashSubcommandProperties}.
      */
-    protected final Map<String, SlashSubcommandProperties> subcommands;
+    protected Map<String, SlashSubcommandProperties> subcommands;
     /**
      * {@link Map} of subcommand name and {@link SlashSubcommandGroupProperties}.
      */
-    protected final Map<String, SlashSubcommandGroupProperties> subcommandGroups;
+    protected Map<String, SlashSubcommandGroupProperties> subcommandGroups;
 
     {
         options = new ArrayList<>();
@@ -112,6 +113,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setCommand(@NotNull BaseCommand command) {
+        checkNotFrozen();
+
         this.command = (SlashCommand) command;
 
         return this;
@@ -134,6 +137,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setEntryPoint(@Nullable Method entryPoint) {
+        checkNotFrozen();
+
         this.entryPoint = entryPoint;
 
         return this;
@@ -157,6 +162,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setName(@NotNull String name) {
+        checkNotFrozen();
+
         regularData.setName(name);
 
         return this;
@@ -181,6 +188,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setNameLocalization(@NotNull DiscordLocale locale, @NotNull String name) {
+        checkNotFrozen();
+
         regularData.setNameLocalization(locale, name);
 
         return this;
@@ -194,6 +203,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setNameLocalizations(@NotNull Map<DiscordLocale, String> nameLocalizations) {
+        checkNotFrozen();
+
         regularData.setNameLocalizations(nameLocalizations);
 
         return this;
@@ -217,6 +228,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setDescription(@NotNull String description) {
+        checkNotFrozen();
+
         regularData.setDescription(description);
 
         return this;
@@ -241,6 +254,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setDescriptionLocalization(@NotNull DiscordLocale locale, @NotNull String name) {
+        checkNotFrozen();
+
         regularData.setDescriptionLocalization(locale, name);
 
         return this;
@@ -254,6 +269,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setDescriptionLocalizations(@NotNull Map<DiscordLocale, String> descriptionLocalizations) {
+        checkNotFrozen();
+
         regularData.setDescriptionLocalizations(descriptionLocalizations);
 
         return this;
@@ -267,6 +284,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setLocalizationFunction(@NotNull LocalizationFunction localizationFunction) {
+        checkNotFrozen();
+
         regularData.setLocalizationFunction(localizationFunction);
 
         return this;
@@ -294,6 +313,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
     public @NotNull SlashCommandModel addOption(@NotNull OptionType type,
                                                 @NotNull String name,
                                                 @NotNull String description) {
+        checkNotFrozen();
+
         options.add(new SlashOptionData(type, name, description));
 
         return this;
@@ -313,6 +334,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
                                                 @NotNull String name,
                                                 @NotNull String description,
                                                 boolean required) {
+        checkNotFrozen();
+
         options.add(new SlashOptionData(type, name, description, required));
 
         return this;
@@ -334,6 +357,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
                                                 @NotNull String description,
                                                 boolean required,
                                                 boolean autocomplete) {
+        checkNotFrozen();
+
         options.add(new SlashOptionData(type, name, description, required, autocomplete));
 
         return this;
@@ -348,6 +373,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel addOptions(@NotNull Collection<? extends CommandOptionData> options) {
+        checkNotFrozen();
+
         this.options.addAll(options.stream()
                 .map(option -> (SlashOptionData) option)
                 .collect(Collectors.toList()));
@@ -364,6 +391,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel addOptions(@NotNull CommandOptionData... options) {
+        checkNotFrozen();
+
         this.options.addAll(Arrays.stream(options)
                 .map(option -> (SlashOptionData) option)
                 .collect(Collectors.toList()));
@@ -389,6 +418,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setGuildOnly(boolean guildOnly) {
+        checkNotFrozen();
+
         regularData.setGuildOnly(guildOnly);
 
         return this;
@@ -412,6 +443,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel setNsfw(boolean nsfw) {
+        checkNotFrozen();
+
         regularData.setNSFW(nsfw);
 
         return this;
@@ -446,6 +479,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel addSubcommands(@NotNull Collection<? extends SubcommandProperties> subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(subcommands.stream()
                 .map(subcommand -> (SlashSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(SlashSubcommandProperties::getName, subcommand -> subcommand)));
@@ -462,6 +497,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel addSubcommands(@NotNull SubcommandProperties... subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(Arrays.stream(subcommands)
                 .map(subcommand -> (SlashSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(SlashSubcommandProperties::getName, subcommand -> subcommand)));
@@ -498,6 +535,8 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel addSubcommandGroups(@NotNull Collection<? extends SubcommandGroupProperties> subcommandGroups) {
+        checkNotFrozen();
+
         this.subcommandGroups.putAll(subcommandGroups.stream()
                 .map(group -> (SlashSubcommandGroupProperties) group)
                 .collect(Collectors.toMap(SlashSubcommandGroupProperties::getName, group -> group)));
@@ -514,10 +553,37 @@ public class SlashCommandModel extends CommonSlashCommandProperties implements S
      */
     @Override
     public @NotNull SlashCommandModel addSubcommandGroups(@NotNull SubcommandGroupProperties... subcommandGroups) {
+        checkNotFrozen();
+
         this.subcommandGroups.putAll(Arrays.stream(subcommandGroups)
                 .map(group -> (SlashSubcommandGroupProperties) group)
                 .collect(Collectors.toMap(SlashSubcommandGroupProperties::getName, group -> group)));
 
         return this;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link SlashCommandModel} instance, for chaining.
+     */
+    @Override
+    public @NotNull SlashCommandModel freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        subcommands.values().forEach(SlashSubcommandProperties::freeze);
+        subcommandGroups.values().forEach(SlashSubcommandGroupProperties::freeze);
+        ModelFreezer.intern(regularData.getNameLocalizations());
+        ModelFreezer.intern(regularData.getDescriptionLocalizations());
+        ModelFreezer.internOptions(options);
+
+        options = ModelFreezer.freezeList(options);
+        subcommands = ModelFreezer.freezeMap(subcommands);
+        subcommandGroups = ModelFreezer.freezeMap(subcommandGroups);
+        frozen = true;
+
+        return this;
+    }
 }
@@ -23,6 +23,7 @@
 package com.dwolfnineteen.jdaextra.models.subcommands;
 
 import com.dwolfnineteen.jdaextra.models.CommonHybridCommandProperties;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
 import com.dwolfnineteen.jdaextra.options.data.HybridOptionData;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
@@ -53,7 +54,7 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
     /**
      * {@link List} of command options.
      */
-    protected final List<HybridOptionData> options;
+    protected List<HybridOptionData> options;
 
     {
         options = new ArrayList<>();
@@ -88,6 +89,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
      */
     @Override
     public @NotNull HybridSubcommandProperties setEntryPoint(@NotNull Method entryPoint) {
+        checkNotFrozen();
+
         this.entryPoint = entryPoint;
 
         return this;
@@ -111,6 +114,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
      */
     @Override
     public @NotNull HybridSubcommandProperties setName(@NotNull String name) {
+        checkNotFrozen();
+
         regularData.setName(name);
 
         return this;
@@ -136,6 +141,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
     @Override
     public @NotNull HybridSubcommandProperties setNameLocalization(@NotNull DiscordLocale locale,
                                                                    @NotNull String name) {
+        checkNotFrozen();
+
         regularData.setNameLocalization(locale, name);
 
         return this;
@@ -149,6 +156,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
      */
     @Override
     public @NotNull HybridSubcommandProperties setNameLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        checkNotFrozen();
+
         regularData.setNameLocalizations(localizations);
 
         return this;
@@ -172,6 +181,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
      */
     @Override
     public @NotNull HybridSubcommandProperties setDescription(@NotNull String description) {
+        checkNotFrozen();
+
         regularData.setDescription(description);
 
         return this;
@@ -197,6 +208,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
     @Override
     public @NotNull HybridSubcommandProperties setDescriptionLocalization(@NotNull DiscordLocale locale,
                                                                           @NotNull String name) {
+        checkNotFrozen();
+
         regularData.setDescriptionLocalization(locale, name);
 
         return this;
@@ -210,6 +223,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
      */
     @Override
     public @NotNull HybridSubcommandProperties setDescriptionLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        checkNotFrozen();
+
         regularData.setDescriptionLocalizations(localizations);
 
         return this;
@@ -237,6 +252,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
     public @NotNull HybridSubcommandProperties addOption(@NotNull OptionType type,
                                                          @NotNull String name,
                                                          @NotNull String description) {
+        checkNotFrozen();
+
         regularData.addOption(type, name, description);
 
         return this;
@@ -256,6 +273,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
                                                          @NotNull String name,
                                                          @NotNull String description,
                                                          boolean required) {
+        checkNotFrozen();
+
         regularData.addOption(type, name, description, required);
 
         return this;
@@ -277,6 +296,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
                                                          @NotNull String description,
                                                          boolean required,
                                                          boolean autocomplete) {
+        checkNotFrozen();
+
         regularData.addOption(type, name, description, required, autocomplete);
 
         return this;
@@ -291,6 +312,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
      */
     @Override
     public @NotNull HybridSubcommandProperties addOptions(@NotNull Collection<? extends CommandOptionData> options) {
+        checkNotFrozen();
+
         this.options.addAll(options.stream()
                 .map(option -> (HybridOptionData) option)
                 .collect(Collectors.toList()));
@@ -307,6 +330,8 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
      */
     @Override
     public @NotNull HybridSubcommandProperties addOptions(@NotNull CommandOptionData... options) {
+        checkNotFrozen();
+
         this.options.addAll(Arrays.stream(options)
                 .map(option -> (HybridOptionData) option)
                 .collect(Collectors.toList()));
@@ -325,4 +350,25 @@ public class HybridSubcommandProperties extends CommonHybridCommandProperties im
                 .map(HybridOptionData::toGeneralOptionData)
                 .collect(Collectors.toList()));
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link HybridSubcommandProperties} instance, for chaining.
+     */
+    @Override
+    public @NotNull HybridSubcommandProperties freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        ModelFreezer.intern(regularData.getNameLocalizations());
+        ModelFreezer.intern(regularData.getDescriptionLocalizations());
+        ModelFreezer.internOptions(options);
+
+        options = ModelFreezer.freezeList(options);
+        frozen = true;
+
+        return this;
+    }
 }
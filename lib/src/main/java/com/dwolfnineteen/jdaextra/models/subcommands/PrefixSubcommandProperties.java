@@ -23,6 +23,7 @@
 package com.dwolfnineteen.jdaextra.models.subcommands;
 
 import com.dwolfnineteen.jdaextra.models.CommonPrefixCommandProperties;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
 import com.dwolfnineteen.jdaextra.options.data.PrefixOptionData;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
@@ -45,7 +46,7 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
     /**
      * {@link List} of command options.
      */
-    protected final List<PrefixOptionData> options;
+    protected List<PrefixOptionData> options;
 
     {
         options = new ArrayList<>();
@@ -92,6 +93,8 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
      */
     @Override
     public @NotNull PrefixSubcommandProperties setEntryPoint(@NotNull Method entryPoint) {
+        checkNotFrozen();
+
         this.entryPoint = entryPoint;
 
         return this;
@@ -105,6 +108,8 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
      */
     @Override
     public @NotNull PrefixSubcommandProperties setName(@NotNull String name) {
+        checkNotFrozen();
+
         this.name = name;
 
         return this;
@@ -118,6 +123,8 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
      */
     @Override
     public @NotNull PrefixSubcommandProperties setDescription(@Nullable String description) {
+        checkNotFrozen();
+
         this.description = description;
 
         return this;
@@ -145,6 +152,8 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
     public @NotNull PrefixSubcommandProperties addOption(@NotNull OptionType type,
                                                          @NotNull String name,
                                                          @Nullable String description) {
+        checkNotFrozen();
+
         options.add(new PrefixOptionData(type, name, description));
 
         return this;
@@ -164,6 +173,8 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
                                                          @NotNull String name,
                                                          @Nullable String description,
                                                          boolean required) {
+        checkNotFrozen();
+
         options.add(new PrefixOptionData(type, name, description, required));
 
         return this;
@@ -185,6 +196,8 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
                                                          @Nullable String description,
                                                          boolean required,
                                                          boolean autocomplete) {
+        checkNotFrozen();
+
         options.add(new PrefixOptionData(type, name, description, required, autocomplete));
 
         return this;
@@ -199,6 +212,8 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
      */
     @Override
     public @NotNull PrefixSubcommandProperties addOptions(@NotNull Collection<? extends CommandOptionData> options) {
+        checkNotFrozen();
+
         this.options.addAll(options.stream()
                 .map(option -> (PrefixOptionData) option)
                 .collect(Collectors.toList()));
@@ -215,10 +230,33 @@ public class PrefixSubcommandProperties extends CommonPrefixCommandProperties im
      */
     @Override
     public @NotNull PrefixSubcommandProperties addOptions(@NotNull CommandOptionData... options) {
+        checkNotFrozen();
+
         this.options.addAll(Arrays.stream(options)
                 .map(option -> (PrefixOptionData) option)
                 .collect(Collectors.toList()));
 
         return this;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link PrefixSubcommandProperties} instance, for chaining.
+     */
+    @Override
+    public @NotNull PrefixSubcommandProperties freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        name = ModelFreezer.intern(name);
+        description = ModelFreezer.intern(description);
+        ModelFreezer.internOptions(options);
+
+        options = ModelFreezer.freezeList(options);
+        frozen = true;
+
+        return this;
+    }
 }
@@ -23,6 +23,7 @@
 package com.dwolfnineteen.jdaextra.models.subcommands;
 
 import com.dwolfnineteen.jdaextra.models.CommonSlashCommandProperties;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
 import com.dwolfnineteen.jdaextra.options.data.SlashOptionData;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
@@ -52,7 +53,7 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
     /**
      * {@link List} of command options.
      */
-    protected final List<SlashOptionData> options;
+    protected List<SlashOptionData> options;
 
     {
         options = new ArrayList<>();
@@ -87,6 +88,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
      */
     @Override
     public @NotNull SlashSubcommandProperties setEntryPoint(@NotNull Method entryPoint) {
+        checkNotFrozen();
+
         this.entryPoint = entryPoint;
 
         return this;
@@ -110,6 +113,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
      */
     @Override
     public @NotNull SlashSubcommandProperties setName(@NotNull String name) {
+        checkNotFrozen();
+
         regularData.setName(name);
 
         return this;
@@ -134,6 +139,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
      */
     @Override
     public @NotNull SlashSubcommandProperties setNameLocalization(@NotNull DiscordLocale locale, @NotNull String name) {
+        checkNotFrozen();
+
         regularData.setNameLocalization(locale, name);
 
         return this;
@@ -147,6 +154,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
      */
     @Override
     public @NotNull SlashSubcommandProperties setNameLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        checkNotFrozen();
+
         regularData.setNameLocalizations(localizations);
 
         return this;
@@ -170,6 +179,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
      */
     @Override
     public @NotNull SlashSubcommandProperties setDescription(@NotNull String description) {
+        checkNotFrozen();
+
         regularData.setDescription(description);
 
         return this;
@@ -195,6 +206,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
     @Override
     public @NotNull SlashSubcommandProperties setDescriptionLocalization(@NotNull DiscordLocale locale,
                                                                          @NotNull String name) {
+        checkNotFrozen();
+
         regularData.setDescriptionLocalization(locale, name);
 
         return this;
@@ -208,6 +221,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
      */
     @Override
     public @NotNull SlashSubcommandProperties setDescriptionLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        checkNotFrozen();
+
         regularData.setDescriptionLocalizations(localizations);
 
         return this;
@@ -235,6 +250,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
     public @NotNull SlashSubcommandProperties addOption(@NotNull OptionType type,
                                                         @NotNull String name,
                                                         @NotNull String description) {
+        checkNotFrozen();
+
         this.options.add(new SlashOptionData(type, name, description));
 
         return this;
@@ -254,6 +271,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
                                                         @NotNull String name,
                                                         @NotNull String description,
                                                         boolean required) {
+        checkNotFrozen();
+
         this.options.add(new SlashOptionData(type, name, description, required));
 
         return this;
@@ -275,6 +294,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
                                                         @NotNull String description,
                                                         boolean required,
                                                         boolean autocomplete) {
+        checkNotFrozen();
+
         this.options.add(new SlashOptionData(type, name, description, required, autocomplete));
 
         return this;
@@ -289,6 +310,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
      */
     @Override
     public @NotNull SlashSubcommandProperties addOptions(@NotNull Collection<? extends CommandOptionData> options) {
+        checkNotFrozen();
+
         this.options.addAll(options.stream()
                 .map(option -> (SlashOptionData) option)
                 .collect(Collectors.toList()));
@@ -305,6 +328,8 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
      */
     @Override
     public @NotNull SlashSubcommandProperties addOptions(@NotNull CommandOptionData... options) {
+        checkNotFrozen();
+
         this.options.addAll(Arrays.stream(options)
                 .map(option -> (SlashOptionData) option)
                 .collect(Collectors.toList()));
@@ -323,4 +348,25 @@ public class SlashSubcommandProperties extends CommonSlashCommandProperties impl
                 .map(SlashOptionData::toGeneralOptionData)
                 .collect(Collectors.toList()));
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link SlashSubcommandProperties} instance, for chaining.
+     */
+    @Override
+    public @NotNull SlashSubcommandProperties freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        ModelFreezer.intern(regularData.getNameLocalizations());
+        ModelFreezer.intern(regularData.getDescriptionLocalizations());
+        ModelFreezer.internOptions(options);
+
+        options = ModelFreezer.freezeList(options);
+        frozen = true;
+
+        return this;
+    }
 }
@@ -23,6 +23,7 @@
 package com.dwolfnineteen.jdaextra.models.subcommands.groups;
 
 import com.dwolfnineteen.jdaextra.commands.subcommandgroups.BaseSubcommandGroup;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.models.subcommands.HybridSubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.SubcommandProperties;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
@@ -46,7 +47,7 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
     /**
      * {@link Map} of subcommand name and {@link HybridSubcommandProperties}.
      */
-    protected final Map<String, HybridSubcommandProperties> subcommands;
+    protected Map<String, HybridSubcommandProperties> subcommands;
 
     {
         subcommands = new HashMap<>();
@@ -70,6 +71,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
      */
     @Override
     public @NotNull HybridSubcommandGroupProperties setGroupClass(@NotNull BaseSubcommandGroup groupClass) {
+        checkNotFrozen();
+
         this.groupClass = groupClass;
 
         return this;
@@ -83,6 +86,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
      */
     @Override
     public @NotNull HybridSubcommandGroupProperties setName(@NotNull String name) {
+        checkNotFrozen();
+
         generalData.setName(name);
 
         return this;
@@ -98,6 +103,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
     @Override
     public @NotNull HybridSubcommandGroupProperties setNameLocalization(@NotNull DiscordLocale locale,
                                                                         @NotNull String name) {
+        checkNotFrozen();
+
         generalData.setNameLocalization(locale, name);
         
         return this;
@@ -111,6 +118,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
      */
     @Override
     public @NotNull HybridSubcommandGroupProperties setNameLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        checkNotFrozen();
+
         generalData.setNameLocalizations(localizations);
 
         return this;
@@ -124,6 +133,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
      */
     @Override
     public @NotNull HybridSubcommandGroupProperties setDescription(@NotNull String description) {
+        checkNotFrozen();
+
         generalData.setDescription(description);
 
         return this;
@@ -139,6 +150,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
     @Override
     public @NotNull HybridSubcommandGroupProperties setDescriptionLocalization(@NotNull DiscordLocale locale,
                                                                                @NotNull String name) {
+        checkNotFrozen();
+
         generalData.setDescriptionLocalization(locale, name);
         
         return this;
@@ -152,6 +165,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
      */
     @Override
     public @NotNull HybridSubcommandGroupProperties setDescriptionLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        checkNotFrozen();
+
         generalData.setDescriptionLocalizations(localizations);
 
         return this;
@@ -186,6 +201,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
      */
     @Override
     public @NotNull HybridSubcommandGroupProperties addSubcommands(@NotNull Collection<? extends SubcommandProperties> subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(subcommands.stream()
                 .map(subcommand -> (HybridSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(HybridSubcommandProperties::getName, subcommand -> subcommand)));
@@ -202,6 +219,8 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
      */
     @Override
     public @NotNull HybridSubcommandGroupProperties addSubcommands(@NotNull SubcommandProperties... subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(Arrays.stream(subcommands)
                 .map(subcommand -> (HybridSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(HybridSubcommandProperties::getName, subcommand -> subcommand)));
@@ -221,4 +240,25 @@ public class HybridSubcommandGroupProperties extends SlashLikeSubcommandGroupPro
                 .map(HybridSubcommandProperties::toGeneralSubcommandData)
                 .collect(Collectors.toList()));
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link HybridSubcommandGroupProperties} instance, for chaining.
+     */
+    @Override
+    public @NotNull HybridSubcommandGroupProperties freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        subcommands.values().forEach(HybridSubcommandProperties::freeze);
+        ModelFreezer.intern(generalData.getNameLocalizations());
+        ModelFreezer.intern(generalData.getDescriptionLocalizations());
+
+        subcommands = ModelFreezer.freezeMap(subcommands);
+        frozen = true;
+
+        return this;
+    }
 }
@@ -23,6 +23,7 @@
 package com.dwolfnineteen.jdaextra.models.subcommands.groups;
 
 import com.dwolfnineteen.jdaextra.commands.subcommandgroups.BaseSubcommandGroup;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.models.subcommands.PrefixSubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.SubcommandProperties;
 import org.jetbrains.annotations.NotNull;
@@ -53,7 +54,7 @@ public class PrefixSubcommandGroupProperties extends SubcommandGroupProperties {
     /**
      * {@link List} of subcommands.
      */
-    protected final Map<String, PrefixSubcommandProperties> subcommands;
+    protected Map<String, PrefixSubcommandProperties> subcommands;
 
     {
         subcommands = new HashMap<>();
@@ -87,6 +88,8 @@ public class PrefixSubcommandGroupProperties extends SubcommandGroupProperties {
      */
     @Override
     public @NotNull PrefixSubcommandGroupProperties setGroupClass(@NotNull BaseSubcommandGroup groupClass) {
+        checkNotFrozen();
+
         this.groupClass = groupClass;
 
         return this;
@@ -110,6 +113,8 @@ public class PrefixSubcommandGroupProperties extends SubcommandGroupProperties {
      */
     @Override
     public @NotNull PrefixSubcommandGroupProperties setName(@NotNull String name) {
+        checkNotFrozen();
+
         this.name = name;
 
         return this;
@@ -133,6 +138,8 @@ public class PrefixSubcommandGroupProperties extends SubcommandGroupProperties {
      */
     @Override
     public @NotNull PrefixSubcommandGroupProperties setDescription(@Nullable String description) {
+        checkNotFrozen();
+
         this.description = description;
 
         return this;
@@ -167,6 +174,8 @@ public class PrefixSubcommandGroupProperties extends SubcommandGroupProperties {
      */
     @Override
     public @NotNull PrefixSubcommandGroupProperties addSubcommands(@NotNull Collection<? extends SubcommandProperties> subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(subcommands.stream()
                 .map(subcommand -> (PrefixSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(PrefixSubcommandProperties::getName, subcommand -> subcommand)));
@@ -183,10 +192,33 @@ public class PrefixSubcommandGroupProperties extends SubcommandGroupProperties {
      */
     @Override
     public @NotNull PrefixSubcommandGroupProperties addSubcommands(@NotNull SubcommandProperties... subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(Arrays.stream(subcommands)
                 .map(subcommand -> (PrefixSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(PrefixSubcommandProperties::getName, subcommand -> subcommand)));
 
         return this;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link PrefixSubcommandGroupProperties} instance, for chaining.
+     */
+    @Override
+    public @NotNull PrefixSubcommandGroupProperties freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        subcommands.values().forEach(PrefixSubcommandProperties::freeze);
+        name = ModelFreezer.intern(name);
+        description = ModelFreezer.intern(description);
+
+        subcommands = ModelFreezer.freezeMap(subcommands);
+        frozen = true;
+
+        return this;
+    }
 }
@@ -23,6 +23,7 @@
 package com.dwolfnineteen.jdaextra.models.subcommands.groups;
 
 import com.dwolfnineteen.jdaextra.commands.subcommandgroups.BaseSubcommandGroup;
+import com.dwolfnineteen.jdaextra.models.ModelFreezer;
 import com.dwolfnineteen.jdaextra.models.subcommands.SlashSubcommandProperties;
 import com.dwolfnineteen.jdaextra.models.subcommands.SubcommandProperties;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
@@ -46,7 +47,7 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
     /**
      * {@link Map} of subcommand name and {@link SlashSubcommandProperties}.
      */
-    protected final Map<String, SlashSubcommandProperties> subcommands;
+    protected Map<String, SlashSubcommandProperties> subcommands;
 
     {
         subcommands = new HashMap<>();
@@ -70,6 +71,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
      */
     @Override
     public @NotNull SlashSubcommandGroupProperties setGroupClass(@NotNull BaseSubcommandGroup groupClass) {
+        checkNotFrozen();
+
         this.groupClass = groupClass;
 
         return this;
@@ -83,6 +86,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
      */
     @Override
     public @NotNull SlashSubcommandGroupProperties setName(@NotNull String name) {
+        checkNotFrozen();
+
         generalData.setName(name);
 
         return this;
@@ -98,6 +103,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
     @Override
     public @NotNull SlashSubcommandGroupProperties setNameLocalization(@NotNull DiscordLocale locale,
                                                                        @NotNull String name) {
+        checkNotFrozen();
+
         generalData.setNameLocalization(locale, name);
 
         return this;
@@ -111,6 +118,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
      */
     @Override
     public @NotNull SlashSubcommandGroupProperties setNameLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        checkNotFrozen();
+
         generalData.setNameLocalizations(localizations);
 
         return this;
@@ -124,6 +133,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
      */
     @Override
     public @NotNull SlashSubcommandGroupProperties setDescription(@NotNull String description) {
+        checkNotFrozen();
+
         generalData.setDescription(description);
 
         return this;
@@ -139,6 +150,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
     @Override
     public @NotNull SlashSubcommandGroupProperties setDescriptionLocalization(@NotNull DiscordLocale locale,
                                                                               @NotNull String name) {
+        checkNotFrozen();
+
         generalData.setDescriptionLocalization(locale, name);
 
         return this;
@@ -152,6 +165,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
      */
     @Override
     public @NotNull SlashSubcommandGroupProperties setDescriptionLocalizations(@NotNull Map<DiscordLocale, String> localizations) {
+        checkNotFrozen();
+
         generalData.setDescriptionLocalizations(localizations);
 
         return this;
@@ -186,6 +201,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
      */
     @Override
     public @NotNull SlashSubcommandGroupProperties addSubcommands(@NotNull Collection<? extends SubcommandProperties> subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(subcommands.stream()
                 .map(subcommand -> (SlashSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(SlashSubcommandProperties::getName, subcommand -> subcommand)));
@@ -202,6 +219,8 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
      */
     @Override
     public @NotNull SlashSubcommandGroupProperties addSubcommands(@NotNull SubcommandProperties... subcommands) {
+        checkNotFrozen();
+
         this.subcommands.putAll(Arrays.stream(subcommands)
                 .map(subcommand -> (SlashSubcommandProperties) subcommand)
                 .collect(Collectors.toMap(SlashSubcommandProperties::getName, subcommand -> subcommand)));
@@ -221,4 +240,25 @@ public class SlashSubcommandGroupProperties extends SlashLikeSubcommandGroupProp
                 .map(SlashSubcommandProperties::toGeneralSubcommandData)
                 .collect(Collectors.toList()));
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@link SlashSubcommandGroupProperties} instance, for chaining.
+     */
+    @Override
+    public @NotNull SlashSubcommandGroupProperties freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        subcommands.values().forEach(SlashSubcommandProperties::freeze);
+        ModelFreezer.intern(generalData.getNameLocalizations());
+        ModelFreezer.intern(generalData.getDescriptionLocalizations());
+
+        subcommands = ModelFreezer.freezeMap(subcommands);
+        frozen = true;
+
+        return this;
+    }
 }
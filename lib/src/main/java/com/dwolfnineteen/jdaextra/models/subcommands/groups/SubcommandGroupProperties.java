@@ -38,6 +38,10 @@ public abstract class SubcommandGroupProperties {
      * The group class.
      */
     protected BaseSubcommandGroup groupClass;
+    /**
+     * Whether the properties are frozen.
+     */
+    protected boolean frozen;
 
     /**
      * The group class.
@@ -115,4 +119,36 @@ public abstract class SubcommandGroupProperties {
      * @return The {@link SubcommandGroupProperties} instance, for chaining.
      */
     public abstract SubcommandGroupProperties addSubcommands(SubcommandProperties... subcommands);
+
+    /**
+     * Whether the properties are frozen (immutable).
+     *
+     * @return {@code true} after {@link #freeze()}.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Convert the properties (and nested ones) into their immutable, compact form:
+     * array-backed collections, interned strings and translations.
+     * Frozen properties are safe to read from any thread; their setters throw {@link IllegalStateException}.
+     * <br>
+     * Called by {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra} once all commands are built.
+     *
+     * @return The {@link SubcommandGroupProperties} instance, for chaining.
+     * @see com.dwolfnineteen.jdaextra.models.ModelFreezer ModelFreezer
+     */
+    public abstract SubcommandGroupProperties freeze();
+
+    /**
+     * Guard of setters.
+     *
+     * @throws IllegalStateException If the properties are frozen.
+     */
+    protected void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Cannot modify frozen subcommand group properties");
+        }
+    }
 }
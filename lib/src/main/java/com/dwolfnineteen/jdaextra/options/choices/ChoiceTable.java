@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.options.choices;
+
+import com.dwolfnineteen.jdaextra.options.mappings.PrefixOptionMapping;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lookup table of option choices, compiled once per option.
+ * <br>
+ * Every choice can be selected by its name, its value and its localized names.
+ * All keys are stored in an open-addressing hash table (power-of-two size, load factor at most 1/2)
+ * with precomputed hashes, so a token resolves in O(1) without allocating,
+ * also when matching ignores case.
+ * <br>
+ * Values of INTEGER and NUMBER choices are keyed in canonical form ({@code 7}, {@code 1.0});
+ * numeric tokens that miss the table are normalized and looked up again,
+ * so {@code 07} selects the choice {@code 7}, and {@code 1} selects the choice {@code 1.0}.
+ */
+public final class ChoiceTable {
+    private final OptionType type;
+    private final boolean ignoreCase;
+    private final int mask;
+    private final String[] keys;
+    private final int[] hashes;
+    private final String[] values;
+    private final List<String> names;
+
+    private ChoiceTable(@NotNull OptionType type, boolean ignoreCase, int capacity, @NotNull List<String> names) {
+        this.type = type;
+        this.ignoreCase = ignoreCase;
+        this.mask = capacity - 1;
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new String[capacity];
+        this.names = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Compile the choices of the option.
+     *
+     * @param type The option {@link OptionType}.
+     * @param choices The choices.
+     * @param ignoreCase Whether the tokens should be matched case-insensitively.
+     * @return New {@link ChoiceTable}, or {@code null} if there are no choices.
+     * @throws IllegalArgumentException If the same key selects different choices.
+     */
+    public static @Nullable ChoiceTable compile(@NotNull OptionType type,
+                                                @NotNull List<Command.Choice> choices,
+                                                boolean ignoreCase) {
+        if (choices.isEmpty()) {
+            return null;
+        }
+
+        List<String> names = new ArrayList<>(choices.size());
+        int keyCount = 0;
+
+        for (Command.Choice choice : choices) {
+            names.add(choice.getName());
+            keyCount += 2 + choice.getNameLocalizations().toMap().size();
+        }
+
+        int capacity = Integer.highestOneBit(keyCount * 2 - 1) << 1;
+        ChoiceTable table = new ChoiceTable(type, ignoreCase, capacity, names);
+
+        for (Command.Choice choice : choices) {
+            String value = toValue(type, choice);
+
+            table.put(choice.getName(), value);
+            table.put(value, value);
+
+            for (String localizedName : choice.getNameLocalizations().toMap().values()) {
+                table.put(localizedName, value);
+            }
+        }
+
+        return table;
+    }
+
+    private static @NotNull String toValue(@NotNull OptionType type, @NotNull Command.Choice choice) {
+        if (type == OptionType.INTEGER) {
+            return Long.toString(choice.getAsLong());
+        } else if (type == OptionType.NUMBER) {
+            return Double.toString(choice.getAsDouble());
+        }
+
+        return choice.getAsString();
+    }
+
+    private void put(@NotNull String key, @NotNull String value) {
+        int hash = hash(key);
+
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == null) {
+                keys[slot] = key;
+                hashes[slot] = hash;
+                values[slot] = value;
+
+                return;
+            }
+            if (hashes[slot] == hash && matches(keys[slot], key)) {
+                if (!values[slot].equals(value)) {
+                    throw new IllegalArgumentException(String.format("Choice key '%s' is ambiguous", key));
+                }
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Resolve the token to the choice value.
+     *
+     * @param token The token given by the user.
+     * @return The choice value (as a string), or {@code null} if the token doesn't select any choice.
+     */
+    public @Nullable String lookup(@NotNull String token) {
+        String value = find(token);
+
+        if (value == null && (type == OptionType.INTEGER || type == OptionType.NUMBER)) {
+            // Only misses pay for the normalization
+            String normalized = type == OptionType.INTEGER ? normalizeInteger(token) : normalizeNumber(token);
+
+            if (normalized != null && !normalized.equals(token)) {
+                value = find(normalized);
+            }
+        }
+
+        return value;
+    }
+
+    private @Nullable String find(@NotNull String token) {
+        int hash = hash(token);
+
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matches(keys[slot], token)) {
+                return values[slot];
+            }
+        }
+
+        return null;
+    }
+
+    // Drops the plus sign and leading zeros, as Long.toString() would
+    private static @Nullable String normalizeInteger(@NotNull String token) {
+        int length = token.length();
+        int start = 0;
+        boolean negative = false;
+
+        if (length > 0 && (token.charAt(0) == '-' || token.charAt(0) == '+')) {
+            negative = token.charAt(0) == '-';
+            start = 1;
+        }
+        if (start == length) {
+            return null;
+        }
+
+        for (int i = start; i < length; i++) {
+            if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                return null;
+            }
+        }
+
+        while (start < length - 1 && token.charAt(start) == '0') {
+            start++;
+        }
+
+        String magnitude = token.substring(start);
+
+        return negative && !magnitude.equals("0") ? "-" + magnitude : magnitude;
+    }
+
+    private static @Nullable String normalizeNumber(@NotNull String token) {
+        if (!PrefixOptionMapping.isDecimal(token)) {
+            return null;
+        }
+
+        return Double.toString(Double.parseDouble(token));
+    }
+
+    private int hash(@NotNull String key) {
+        if (!ignoreCase) {
+            return spread(key.hashCode());
+        }
+
+        int hash = 0;
+
+        for (int i = 0; i < key.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+
+        return spread(hash);
+    }
+
+    // Mixes the high bits into the low ones, which select the slot
+    private static int spread(int hash) {
+        hash *= 0x9E3779B9;
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean matches(@NotNull String key, @NotNull String token) {
+        return ignoreCase ? key.equalsIgnoreCase(token) : key.equals(token);
+    }
+
+    /**
+     * Names of the choices, in declaration order.
+     *
+     * @return Unmodifiable {@link List} of the names.
+     */
+    public @NotNull List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Whether the tokens are matched case-insensitively.
+     *
+     * @return True - if case is ignored, false - otherwise.
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+}
@@ -21,10 +21,12 @@
  */
 package com.dwolfnineteen.jdaextra.options.data;
 
+import com.dwolfnineteen.jdaextra.options.validation.OptionValidator;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Basic interface for options data containers.
@@ -93,6 +95,38 @@ public interface CommandOptionData {
      */
     Integer getMaxLength();
 
+    /**
+     * Validator of values given by users for this option, compiled from its constraints.
+     * <br>
+     * Builders compile it with {@link #compileValidator()};
+     * options built by hand (or changed after building) are compiled on first use.
+     *
+     * @return The {@link OptionValidator}.
+     */
+    OptionValidator getValidator();
+
+    /**
+     * Compile the validator of this option from its current constraints.
+     *
+     * @return The {@link OptionValidator}.
+     * @throws IllegalArgumentException If the option choices are ambiguous.
+     */
+    OptionValidator compileValidator();
+
+    /**
+     * Predefined choices for this option.
+     *
+     * @return {@link java.util.List List} of {@link net.dv8tion.jda.api.interactions.commands.Command.Choice Command.Choice}.
+     */
+    List<Command.Choice> getChoices();
+
+    /**
+     * Whether choices are matched case-insensitively (for prefix command calls).
+     *
+     * @return {@code True}, if choices are matched case-insensitively.
+     */
+    boolean isChoicesIgnoreCase();
+
     /**
      * Sets name for this option.
      *
@@ -213,6 +247,15 @@ public interface CommandOptionData {
      */
     CommandOptionData setRequiredLength(int minLength, int maxLength);
 
+    /**
+     * Sets whether choices are matched case-insensitively (for prefix command calls).
+     *
+     * @param ignoreCase Whether choices are matched case-insensitively.
+     * @return Current {@link com.dwolfnineteen.jdaextra.options.data.CommandOptionData CommandOptionData} instance,
+     * for chaining.
+     */
+    CommandOptionData setChoicesIgnoreCase(boolean ignoreCase);
+
     /**
      * Add predefined choice for this option.
      *
@@ -21,6 +21,7 @@
  */
 package com.dwolfnineteen.jdaextra.options.data;
 
+import com.dwolfnineteen.jdaextra.options.validation.OptionValidator;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.OptionData;
@@ -28,6 +29,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Option data container for {@link com.dwolfnineteen.jdaextra.commands.HybridCommand HybridCommand}.
@@ -36,6 +38,8 @@ import java.util.Collection;
  */
 public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     private final OptionData data;
+    private boolean choicesIgnoreCase;
+    private volatile OptionValidator validator;
 
     /**
      * Construct new basic hybrid option data container without advanced settings.
@@ -132,6 +136,40 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
         return data.getMaxLength();
     }
 
+    @Override
+    @NotNull
+    public OptionValidator getValidator() {
+        OptionValidator validator = this.validator;
+
+        // Dropped by any constraint change
+        if (validator == null) {
+            validator = compileValidator();
+        }
+
+        return validator;
+    }
+
+    @Override
+    @NotNull
+    public OptionValidator compileValidator() {
+        OptionValidator validator = OptionValidator.compile(this);
+
+        this.validator = validator;
+
+        return validator;
+    }
+
+    @Override
+    @NotNull
+    public List<Command.Choice> getChoices() {
+        return data.getChoices();
+    }
+
+    @Override
+    public boolean isChoicesIgnoreCase() {
+        return choicesIgnoreCase;
+    }
+
     /**
      * @return Current {@link HybridOptionData} instance, for chaining.
      */
@@ -139,6 +177,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setName(@NotNull String name) {
         data.setName(name);
+        validator = null;
 
         return this;
     }
@@ -161,6 +200,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setRequired(boolean required) {
         data.setRequired(required);
+        validator = null;
 
         return this;
     }
@@ -183,6 +223,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setMinValue(long minValue) {
         data.setMinValue(minValue);
+        validator = null;
 
         return this;
     }
@@ -194,6 +235,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setMinValue(double minValue) {
         data.setMinValue(minValue);
+        validator = null;
 
         return this;
     }
@@ -205,6 +247,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setMaxValue(long maxValue) {
         data.setMaxValue(maxValue);
+        validator = null;
 
         return this;
     }
@@ -216,6 +259,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setMaxValue(double maxValue) {
         data.setMaxValue(maxValue);
+        validator = null;
 
         return this;
     }
@@ -227,6 +271,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setRequiredRange(long minValue, long maxValue) {
         data.setRequiredRange(minValue, maxValue);
+        validator = null;
 
         return this;
     }
@@ -238,6 +283,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setRequiredRange(double minValue, double maxValue) {
         data.setRequiredRange(minValue, maxValue);
+        validator = null;
 
         return this;
     }
@@ -249,6 +295,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setMinLength(int minLength) {
         data.setMinLength(minLength);
+        validator = null;
 
         return this;
     }
@@ -260,6 +307,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setMaxLength(int maxLength) {
         data.setMaxLength(maxLength);
+        validator = null;
 
         return this;
     }
@@ -271,6 +319,19 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @NotNull
     public HybridOptionData setRequiredLength(int minLength, int maxLength) {
         data.setRequiredLength(minLength, maxLength);
+        validator = null;
+
+        return this;
+    }
+
+    /**
+     * @return Current {@link HybridOptionData} instance, for chaining.
+     */
+    @Override
+    @NotNull
+    public HybridOptionData setChoicesIgnoreCase(boolean ignoreCase) {
+        choicesIgnoreCase = ignoreCase;
+        validator = null;
 
         return this;
     }
@@ -281,6 +342,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @Override
     public HybridOptionData addChoice(@NotNull String name, double value) {
         data.addChoice(name, value);
+        validator = null;
 
         return this;
     }
@@ -291,6 +353,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @Override
     public HybridOptionData addChoice(@NotNull String name, long value) {
         data.addChoice(name, value);
+        validator = null;
 
         return this;
     }
@@ -301,6 +364,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @Override
     public HybridOptionData addChoice(@NotNull String name, @NotNull String value) {
         data.addChoice(name, value);
+        validator = null;
 
         return this;
     }
@@ -311,6 +375,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @Override
     public HybridOptionData addChoices(Command.@NotNull Choice... choices) {
         data.addChoices(choices);
+        validator = null;
 
         return this;
     }
@@ -321,6 +386,7 @@ public class HybridOptionData implements CommandOptionData, GeneralOptionData {
     @Override
     public HybridOptionData addChoices(@NotNull Collection<? extends Command.Choice> choices) {
         data.addChoices(choices);
+        validator = null;
 
         return this;
     }
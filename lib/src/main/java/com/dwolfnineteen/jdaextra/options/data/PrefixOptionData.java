@@ -21,12 +21,16 @@
  */
 package com.dwolfnineteen.jdaextra.options.data;
 
+import com.dwolfnineteen.jdaextra.options.validation.OptionValidator;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Option data container for {@link com.dwolfnineteen.jdaextra.commands.PrefixCommand PrefixCommand}.
@@ -41,8 +45,11 @@ public class PrefixOptionData implements CommandOptionData {
     private boolean isAutoComplete;
     private Number minValue;
     private Number maxValue;
-    private int minLength;
+    private Integer minLength;
     private Integer maxLength;
+    private boolean choicesIgnoreCase;
+    private final List<Command.Choice> choices = new ArrayList<>();
+    private volatile OptionValidator validator;
 
     /**
      * Construct new basic prefix option data container without advanced settings.
@@ -190,6 +197,40 @@ public class PrefixOptionData implements CommandOptionData {
         return maxLength;
     }
 
+    @Override
+    @NotNull
+    public OptionValidator getValidator() {
+        OptionValidator validator = this.validator;
+
+        // Dropped by any constraint change
+        if (validator == null) {
+            validator = compileValidator();
+        }
+
+        return validator;
+    }
+
+    @Override
+    @NotNull
+    public OptionValidator compileValidator() {
+        OptionValidator validator = OptionValidator.compile(this);
+
+        this.validator = validator;
+
+        return validator;
+    }
+
+    @Override
+    @NotNull
+    public List<Command.Choice> getChoices() {
+        return choices;
+    }
+
+    @Override
+    public boolean isChoicesIgnoreCase() {
+        return choicesIgnoreCase;
+    }
+
     /**
      * @return Current {@link com.dwolfnineteen.jdaextra.options.data.PrefixOptionData PrefixOptionData} instance,
      * for chaining.
@@ -198,6 +239,7 @@ public class PrefixOptionData implements CommandOptionData {
     @NotNull
     public PrefixOptionData setName(@NotNull String name) {
         this.name = name;
+        validator = null;
 
         return this;
     }
@@ -222,6 +264,7 @@ public class PrefixOptionData implements CommandOptionData {
     @NotNull
     public PrefixOptionData setRequired(boolean required) {
         isRequired = required;
+        validator = null;
 
         return this;
     }
@@ -246,6 +289,7 @@ public class PrefixOptionData implements CommandOptionData {
     @NotNull
     public PrefixOptionData setMinValue(long minValue) {
         this.minValue = minValue;
+        validator = null;
 
         return this;
     }
@@ -258,6 +302,7 @@ public class PrefixOptionData implements CommandOptionData {
     @NotNull
     public PrefixOptionData setMinValue(double minValue) {
         this.minValue= minValue;
+        validator = null;
 
         return this;
     }
@@ -270,6 +315,7 @@ public class PrefixOptionData implements CommandOptionData {
     @NotNull
     public PrefixOptionData setMaxValue(long maxValue) {
         this.maxValue = maxValue;
+        validator = null;
 
         return this;
     }
@@ -282,6 +328,7 @@ public class PrefixOptionData implements CommandOptionData {
     @NotNull
     public PrefixOptionData setMaxValue(double maxValue) {
         this.maxValue = maxValue;
+        validator = null;
 
         return this;
     }
@@ -295,6 +342,7 @@ public class PrefixOptionData implements CommandOptionData {
     public PrefixOptionData setRequiredRange(long minValue, long maxValue) {
         this.minValue = minValue;
         this.maxValue = maxValue;
+        validator = null;
 
         return this;
     }
@@ -308,6 +356,7 @@ public class PrefixOptionData implements CommandOptionData {
     public PrefixOptionData setRequiredRange(double minValue, double maxValue) {
         this.minValue = minValue;
         this.maxValue = maxValue;
+        validator = null;
 
         return this;
     }
@@ -320,6 +369,7 @@ public class PrefixOptionData implements CommandOptionData {
     @NotNull
     public PrefixOptionData setMinLength(int minLength) {
         this.minLength = minLength;
+        validator = null;
 
         return this;
     }
@@ -332,6 +382,7 @@ public class PrefixOptionData implements CommandOptionData {
     @NotNull
     public PrefixOptionData setMaxLength(int maxLength) {
         this.maxLength = maxLength;
+        validator = null;
 
         return this;
     }
@@ -345,11 +396,23 @@ public class PrefixOptionData implements CommandOptionData {
     public PrefixOptionData setRequiredLength(int minLength, int maxLength) {
         this.minLength = minLength;
         this.maxLength = maxLength;
+        validator = null;
 
         return this;
     }
 
-    // TODO: Support for choices
+    /**
+     * @return Current {@link com.dwolfnineteen.jdaextra.options.data.PrefixOptionData PrefixOptionData} instance,
+     * for chaining.
+     */
+    @Override
+    @NotNull
+    public PrefixOptionData setChoicesIgnoreCase(boolean ignoreCase) {
+        choicesIgnoreCase = ignoreCase;
+        validator = null;
+
+        return this;
+    }
 
     /**
      * @return Current {@link com.dwolfnineteen.jdaextra.options.data.PrefixOptionData PrefixOptionData} instance,
@@ -358,6 +421,9 @@ public class PrefixOptionData implements CommandOptionData {
     @Override
     @NotNull
     public PrefixOptionData addChoice(String name, double value) {
+        choices.add(new Command.Choice(name, value));
+        validator = null;
+
         return this;
     }
 
@@ -368,6 +434,9 @@ public class PrefixOptionData implements CommandOptionData {
     @Override
     @NotNull
     public PrefixOptionData addChoice(String name, long value) {
+        choices.add(new Command.Choice(name, value));
+        validator = null;
+
         return this;
     }
 
@@ -378,6 +447,9 @@ public class PrefixOptionData implements CommandOptionData {
     @Override
     @NotNull
     public PrefixOptionData addChoice(String name, String value) {
+        choices.add(new Command.Choice(name, value));
+        validator = null;
+
         return this;
     }
 
@@ -388,6 +460,9 @@ public class PrefixOptionData implements CommandOptionData {
     @Override
     @NotNull
     public PrefixOptionData addChoices(Command.Choice... choices) {
+        this.choices.addAll(Arrays.asList(choices));
+        validator = null;
+
         return this;
     }
 
@@ -398,6 +473,9 @@ public class PrefixOptionData implements CommandOptionData {
     @Override
     @NotNull
     public PrefixOptionData addChoices(Collection<? extends Command.Choice> choices) {
+        this.choices.addAll(choices);
+        validator = null;
+
         return this;
     }
 }
@@ -30,6 +30,10 @@ import net.dv8tion.jda.api.entities.channel.unions.GuildChannelUnion;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
 /**
  * Name/value mapping of {@link com.dwolfnineteen.jdaextra.events.HybridCommandEvent HybridCommandEvent} option.
  */
@@ -46,6 +50,19 @@ public class HybridOptionMapping implements CommandOptionMapping {
         this.mapping = mapping;
     }
 
+    /**
+     * Hybrid view of the source option mappings.
+     * <br>
+     * The view doesn't copy the source list, {@link HybridOptionMapping} instances
+     * are created on first access of each element and reused afterwards.
+     *
+     * @param mappings The source {@link CommandOptionMapping}s.
+     * @return Unmodifiable {@link List} of {@link HybridOptionMapping}.
+     */
+    public static @NotNull List<HybridOptionMapping> listOf(@NotNull List<? extends CommandOptionMapping> mappings) {
+        return new MappingList(mappings);
+    }
+
     @Override
     public OptionType getType() {
         return mapping.getType();
@@ -110,4 +127,32 @@ public class HybridOptionMapping implements CommandOptionMapping {
     public ChannelType getChannelType() {
         return mapping.getChannelType();
     }
+
+    private static final class MappingList extends AbstractList<HybridOptionMapping> implements RandomAccess {
+        private final List<? extends CommandOptionMapping> mappings;
+        private final HybridOptionMapping[] wrappers;
+
+        private MappingList(@NotNull List<? extends CommandOptionMapping> mappings) {
+            this.mappings = mappings;
+            this.wrappers = new HybridOptionMapping[mappings.size()];
+        }
+
+        @Override
+        public HybridOptionMapping get(int index) {
+            HybridOptionMapping wrapper = wrappers[index];
+
+            if (wrapper == null) {
+                // Racing threads may both wrap the same mapping, which is harmless
+                wrapper = new HybridOptionMapping(mappings.get(index));
+                wrappers[index] = wrapper;
+            }
+
+            return wrapper;
+        }
+
+        @Override
+        public int size() {
+            return mappings.size();
+        }
+    }
 }
@@ -21,6 +21,7 @@
  */
 package com.dwolfnineteen.jdaextra.options.mappings;
 
+import com.dwolfnineteen.jdaextra.exceptions.OptionParseException;
 import net.dv8tion.jda.api.entities.IMentionable;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Role;
@@ -83,21 +84,147 @@ public class PrefixOptionMapping implements CommandOptionMapping {
         return Boolean.parseBoolean(option);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws OptionParseException If the value is not an integer (or out of range).
+     */
     @Override
     public long getAsLong() {
-        return Long.parseLong(option);
+        return parseLong(OptionType.INTEGER);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws OptionParseException If the value is not an integer (or out of range).
+     */
     @Override
     public int getAsInt() {
-        return Integer.parseInt(option);
+        long value = parseLong(OptionType.INTEGER);
+
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new OptionParseException(name, option, OptionType.INTEGER);
+        }
+
+        return (int) value;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws OptionParseException If the value is not a decimal number.
+     */
     @Override
     public double getAsDouble() {
+        if (!isDecimal(option)) {
+            throw new OptionParseException(name, option, OptionType.NUMBER);
+        }
+
         return Double.parseDouble(option);
     }
 
+    // Validated by hand, so malformed input doesn't cost a NumberFormatException with a filled stack trace
+    private long parseLong(@NotNull OptionType type) {
+        int length = option.length();
+        int i = 0;
+        boolean negative = false;
+
+        if (length > 0 && (option.charAt(0) == '-' || option.charAt(0) == '+')) {
+            negative = option.charAt(0) == '-';
+            i = 1;
+        }
+        if (i == length) {
+            throw new OptionParseException(name, option, type);
+        }
+
+        // Accumulated negatively, so Long.MIN_VALUE fits
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long limitBeforeMultiply = limit / 10;
+        long result = 0;
+
+        for (; i < length; i++) {
+            int digit = Character.digit(option.charAt(i), 10);
+
+            if (digit < 0 || result < limitBeforeMultiply) {
+                throw new OptionParseException(name, option, type);
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                throw new OptionParseException(name, option, type);
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /**
+     * Whether the string is a decimal number, as accepted by {@link #getAsDouble()}:
+     * an optional sign, digits with an optional fraction and an optional exponent.
+     * {@code NaN}, {@code Infinity} and hexadecimal numbers are not decimal.
+     *
+     * @param option The string.
+     * @return True - if the string is a decimal number, false - otherwise.
+     */
+    public static boolean isDecimal(@NotNull String option) {
+        int length = option.length();
+        int i = 0;
+
+        if (i < length && (option.charAt(i) == '-' || option.charAt(i) == '+')) {
+            i++;
+        }
+
+        int digits = 0;
+
+        while (i < length && isDigit(option.charAt(i))) {
+            i++;
+            digits++;
+        }
+
+        if (i < length && option.charAt(i) == '.') {
+            i++;
+
+            while (i < length && isDigit(option.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+
+        if (digits == 0) {
+            return false;
+        }
+
+        if (i < length && (option.charAt(i) == 'e' || option.charAt(i) == 'E')) {
+            i++;
+
+            if (i < length && (option.charAt(i) == '-' || option.charAt(i) == '+')) {
+                i++;
+            }
+
+            int exponentDigits = 0;
+
+            while (i < length && isDigit(option.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+
+        return i == length;
+    }
+
+    // Double.parseDouble() accepts only ASCII digits
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
     @Override
     @Nullable
     public IMentionable getAsMentionable() {
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.options.validation;
+
+import com.dwolfnineteen.jdaextra.exceptions.OptionChoiceException;
+import com.dwolfnineteen.jdaextra.exceptions.OptionValidationException;
+import com.dwolfnineteen.jdaextra.options.choices.ChoiceTable;
+import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
+import com.dwolfnineteen.jdaextra.options.mappings.CommandOptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Validator of an option value, compiled from the option constraints
+ * ({@link com.dwolfnineteen.jdaextra.annotations.options.Required @Required},
+ * {@link com.dwolfnineteen.jdaextra.annotations.options.MinValue @MinValue},
+ * {@link com.dwolfnineteen.jdaextra.annotations.options.MaxLength @MaxLength}, etc.).
+ * <br>
+ * Constraints are unboxed into primitive fields once, so validating a value doesn't allocate.
+ * Values are checked before the entry point is invoked: choices are resolved through a {@link ChoiceTable},
+ * strings are checked by length, numbers by range; entity options (users, channels, etc.) are never resolved for validation.
+ * <br>
+ * Slash options don't need it, since Discord enforces the same constraints client-side.
+ *
+ * @see com.dwolfnineteen.jdaextra.parsers.PrefixCommandParser#addAsOptionMappings(java.util.List)
+ */
+public final class OptionValidator {
+    private final String optionName;
+    private final OptionType type;
+    private final boolean required;
+    private final boolean checkRange;
+    private final boolean checkLength;
+    private final long minLong;
+    private final long maxLong;
+    private final double minDouble;
+    private final double maxDouble;
+    private final int minLength;
+    private final int maxLength;
+    private final ChoiceTable choices;
+
+    private OptionValidator(@NotNull CommandOptionData data) {
+        Number minValue = data.getMinValue();
+        Number maxValue = data.getMaxValue();
+        Integer minLength = data.getMinLength();
+        Integer maxLength = data.getMaxLength();
+
+        this.optionName = data.getName();
+        this.type = data.getType();
+        this.required = data.isRequired();
+        this.checkRange = minValue != null || maxValue != null;
+        this.checkLength = (minLength != null && minLength > 0) || maxLength != null;
+        this.minLong = minValue == null ? Long.MIN_VALUE : minValue.longValue();
+        this.maxLong = maxValue == null ? Long.MAX_VALUE : maxValue.longValue();
+        this.minDouble = minValue == null ? Double.NEGATIVE_INFINITY : minValue.doubleValue();
+        this.maxDouble = maxValue == null ? Double.POSITIVE_INFINITY : maxValue.doubleValue();
+        this.minLength = minLength == null ? 0 : minLength;
+        this.maxLength = maxLength == null ? Integer.MAX_VALUE : maxLength;
+        this.choices = ChoiceTable.compile(type, data.getChoices(), data.isChoicesIgnoreCase());
+    }
+
+    /**
+     * Compile the validator of the option.
+     *
+     * @param data The {@link CommandOptionData}.
+     * @return New {@link OptionValidator}.
+     * @throws IllegalArgumentException If the option choices are ambiguous.
+     */
+    public static @NotNull OptionValidator compile(@NotNull CommandOptionData data) {
+        return new OptionValidator(data);
+    }
+
+    /**
+     * Resolve the option value given by the user to the selected choice value.
+     *
+     * @param input The option value, as given by the user.
+     * @return The choice value, or the input itself if the option has no choices.
+     * @throws OptionChoiceException If the input doesn't select any choice.
+     */
+    public @NotNull String resolve(@NotNull String input) {
+        if (choices == null) {
+            return input;
+        }
+
+        String value = choices.lookup(input);
+
+        if (value == null) {
+            throw new OptionChoiceException(optionName, input, choices.getNames());
+        }
+
+        return value;
+    }
+
+    /**
+     * Check the option given by the user.
+     *
+     * @param mapping The {@link CommandOptionMapping} of the value.
+     * @throws OptionValidationException If the value violates a constraint.
+     * @throws com.dwolfnineteen.jdaextra.exceptions.OptionParseException If a numeric value is malformed.
+     */
+    public void validate(@NotNull CommandOptionMapping mapping) {
+        if (checkLength && type == OptionType.STRING) {
+            int length = mapping.getAsString().length();
+
+            if (length < minLength) {
+                throw new OptionValidationException(optionName,
+                        mapping.getAsString(),
+                        OptionValidationException.Constraint.MIN_LENGTH,
+                        minLength);
+            }
+            if (length > maxLength) {
+                throw new OptionValidationException(optionName,
+                        mapping.getAsString(),
+                        OptionValidationException.Constraint.MAX_LENGTH,
+                        maxLength);
+            }
+        } else if (checkRange && type == OptionType.INTEGER) {
+            long value = mapping.getAsLong();
+
+            if (value < minLong) {
+                throw new OptionValidationException(optionName,
+                        mapping.getAsString(),
+                        OptionValidationException.Constraint.MIN_VALUE,
+                        minLong);
+            }
+            if (value > maxLong) {
+                throw new OptionValidationException(optionName,
+                        mapping.getAsString(),
+                        OptionValidationException.Constraint.MAX_VALUE,
+                        maxLong);
+            }
+        } else if (checkRange && type == OptionType.NUMBER) {
+            double value = mapping.getAsDouble();
+
+            if (value < minDouble) {
+                throw new OptionValidationException(optionName,
+                        mapping.getAsString(),
+                        OptionValidationException.Constraint.MIN_VALUE,
+                        minDouble);
+            }
+            if (value > maxDouble) {
+                throw new OptionValidationException(optionName,
+                        mapping.getAsString(),
+                        OptionValidationException.Constraint.MAX_VALUE,
+                        maxDouble);
+            }
+        }
+    }
+
+    /**
+     * Check the option not given by the user.
+     *
+     * @throws OptionValidationException If the option is required.
+     */
+    public void validateMissing() {
+        if (required) {
+            throw new OptionValidationException(optionName, null, OptionValidationException.Constraint.REQUIRED, null);
+        }
+    }
+
+    /**
+     * Whether the option is required.
+     *
+     * @return True - if the option is required, false - otherwise.
+     */
+    public boolean isRequired() {
+        return required;
+    }
+}
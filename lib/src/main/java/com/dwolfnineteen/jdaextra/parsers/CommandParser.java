@@ -114,6 +114,8 @@ public abstract class CommandParser {
                 return mapping.getAsMentionable();
             case NUMBER:
                 return mapping.getAsDouble();
+            case ROLE:
+                return mapping.getAsRole();
             case STRING:
                 return mapping.getAsString();
             case USER:
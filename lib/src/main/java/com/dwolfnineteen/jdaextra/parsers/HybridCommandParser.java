@@ -26,22 +26,16 @@ import com.dwolfnineteen.jdaextra.JDAExtra;
 import com.dwolfnineteen.jdaextra.events.HybridCommandEvent;
 import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
 import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.InvalidHybridEventException;
 import com.dwolfnineteen.jdaextra.models.CommonCommandProperties;
 import com.dwolfnineteen.jdaextra.models.CommonHybridCommandProperties;
-import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
 import com.dwolfnineteen.jdaextra.options.mappings.HybridOptionMapping;
-import com.dwolfnineteen.jdaextra.options.mappings.PrefixOptionMapping;
-import com.dwolfnineteen.jdaextra.options.mappings.SlashOptionMapping;
 import net.dv8tion.jda.api.events.GenericEvent;
-import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
-import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Parser for hybrid commands.
@@ -107,6 +101,11 @@ public class HybridCommandParser extends CommandParser {
 
     /**
      * {@inheritDoc}
+     * <br>
+     * Arguments are built by the source parser from its already parsed state (the message is not tokenized again),
+     * only the source event is replaced with {@link HybridCommandEvent}.
+     * For prefix commands, option mappings must be already added to the source parser
+     * (see {@link PrefixCommandParser#addAsOptionMappings(List)}).
      *
      * @return {@inheritDoc}
      */
@@ -115,76 +114,20 @@ public class HybridCommandParser extends CommandParser {
         Objects.requireNonNull(properties);
         Objects.requireNonNull(parser);
 
-        List<Object> arguments = new ArrayList<>();
-        List<? extends CommandOptionData> options = properties.getOptions();
-
-        if (parser instanceof PrefixCommandParser) {
-            PrefixCommandParser prefixParser = (PrefixCommandParser) parser;
-
-            List<PrefixOptionMapping> mappings = new ArrayList<>();
-
-            String trigger = prefixParser.getTrigger();
-            List<String> optionValues = prefixParser.getOptions();
-
-            if (!optionValues.isEmpty()) {
-                for (int i = 0; i < optionValues.size(); i++) {
-                    mappings.add(new PrefixOptionMapping(options.get(i).getType(),
-                            options.get(i).getName(),
-                            optionValues.get(i),
-                            prefixParser.getSourceEvent()));
-                }
-            }
-
-            for (int i = 0; i < options.size(); i++) {
-                if (mappings.size() <= i) {
-                    arguments.add(null);
-
-                    continue;
-                }
-
-                arguments.add(buildInvokeArgumentType(options.get(i).getType(),
-                        new HybridOptionMapping(mappings.get(i))));
-            }
-
-            arguments.add(0, new HybridCommandEvent(new PrefixCommandEvent(prefixParser.getSourceEvent(),
-                    jdaExtra,
-                    trigger,
-                    prefixParser.getName(),
-                    properties.getDescription(),
-                    mappings),
-                    // TODO: Reorganize mappings translation for better look
-                    mappings.stream().map(HybridOptionMapping::new).collect(Collectors.toList())));
-        } else if (parser instanceof SlashCommandParser) {
-            SlashCommandParser slashParser = (SlashCommandParser) parser;
-            SlashCommandInteractionEvent event = slashParser.getSourceEvent();
-
-            List<OptionMapping> regularMappings = event.getOptions();
-
-            List<SlashOptionMapping> mappings = regularMappings.stream()
-                    .map(SlashOptionMapping::new)
-                    .collect(Collectors.toList());
-
-            SlashCommandEvent slashEvent = new SlashCommandEvent(event,
-                    jdaExtra,
-                    mappings,
-                    properties.getDescription());
-
-            for (int i = 0; i < options.size(); i++) {
-                if (mappings.size() <= i) {
-                    arguments.add(null);
-
-                    continue;
-                }
-
-                arguments.add(buildInvokeArgumentType(options.get(i).getType(),
-                        new HybridOptionMapping(mappings.get(i))));
-            }
-
-            arguments.add(0, new HybridCommandEvent(slashEvent,
-                    // TODO: Reorganize mappings translation for better look
-                    mappings.stream().map(HybridOptionMapping::new).collect(Collectors.toList())));
+        Object[] arguments = parser.setProperties(properties).buildInvokeArguments();
+
+        if (arguments[0] instanceof PrefixCommandEvent) {
+            PrefixCommandEvent prefixEvent = (PrefixCommandEvent) arguments[0];
+
+            arguments[0] = new HybridCommandEvent(prefixEvent, HybridOptionMapping.listOf(prefixEvent.getOptions()));
+        } else if (arguments[0] instanceof SlashCommandEvent) {
+            SlashCommandEvent slashEvent = (SlashCommandEvent) arguments[0];
+
+            arguments[0] = new HybridCommandEvent(slashEvent, HybridOptionMapping.listOf(slashEvent.getOptions()));
+        } else {
+            throw new InvalidHybridEventException();
         }
 
-        return arguments.toArray();
+        return arguments;
     }
 }
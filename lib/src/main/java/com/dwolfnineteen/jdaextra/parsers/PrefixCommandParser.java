@@ -28,6 +28,7 @@ import com.dwolfnineteen.jdaextra.models.CommonCommandProperties;
 import com.dwolfnineteen.jdaextra.models.CommonPrefixCommandProperties;
 import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
 import com.dwolfnineteen.jdaextra.options.mappings.PrefixOptionMapping;
+import com.dwolfnineteen.jdaextra.options.validation.OptionValidator;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -80,7 +81,7 @@ public class PrefixCommandParser extends CommandParser {
 
         elements = Arrays.asList(content.substring(trigger.length()).split(" "));
 
-        name = content.substring(trigger.length()).split(" ")[0];
+        name = elements.get(0);
         subcommandName = elements.size() >= 2 ? elements.get(1) : null;
         subcommandGroupName = elements.size() >= 2 ? elements.get(1) : null;
         subcommandInGroupName = elements.size() >= 3 ? elements.get(2) : null;
@@ -170,16 +171,34 @@ public class PrefixCommandParser extends CommandParser {
     }
 
     /**
-     * @param options
+     * Add option values as option mappings of the current properties, resolving choices and validating them.
+     *
+     * @param options The option values.
+     * @throws com.dwolfnineteen.jdaextra.exceptions.OptionValidationException
+     * If a value violates a constraint of its option, or a required option is missing.
+     * @throws com.dwolfnineteen.jdaextra.exceptions.OptionChoiceException
+     * If a value doesn't select any choice of its option.
+     * @see com.dwolfnineteen.jdaextra.options.validation.OptionValidator OptionValidator
      */
     public void addAsOptionMappings(@NotNull List<String> options) {
-        for (int i = 0; i < options.size(); i++) {
-            CommandOptionData data = properties.getOptions().get(i);
+        List<? extends CommandOptionData> data = properties.getOptions();
+        // Extra values (more than declared options) are ignored
+        int count = Math.min(options.size(), data.size());
+
+        for (int i = 0; i < count; i++) {
+            CommandOptionData option = data.get(i);
+            OptionValidator validator = option.getValidator();
+            PrefixOptionMapping mapping = new PrefixOptionMapping(option.getType(),
+                    option.getName(),
+                    validator.resolve(options.get(i)),
+                    (MessageReceivedEvent) sourceEvent);
+
+            validator.validate(mapping);
+            mappings.add(mapping);
+        }
 
-            mappings.add(new PrefixOptionMapping(data.getType(),
-                    data.getName(),
-                    options.get(i),
-                    (MessageReceivedEvent) sourceEvent));
+        for (int i = count; i < data.size(); i++) {
+            data.get(i).getValidator().validateMissing();
         }
     }
 
@@ -213,26 +232,22 @@ public class PrefixCommandParser extends CommandParser {
     public Object[] buildInvokeArguments() {
         Objects.requireNonNull(properties);
 
-        List<Object> arguments = new ArrayList<>();
         List<? extends CommandOptionData> options = properties.getOptions();
+        // Index 0 is reserved for the event, missing options stay null
+        Object[] arguments = new Object[options.size() + 1];
+        int count = Math.min(options.size(), mappings.size());
 
-        for (int i = 0; i < options.size(); i++) {
-            if (mappings.size() <= i) {
-                arguments.add(null);
-
-                continue;
-            }
-
-            arguments.add(buildInvokeArgumentType(options.get(i).getType(), mappings.get(i)));
+        for (int i = 0; i < count; i++) {
+            arguments[i + 1] = buildInvokeArgumentType(options.get(i).getType(), mappings.get(i));
         }
 
-        arguments.add(0, new PrefixCommandEvent((MessageReceivedEvent) sourceEvent,
+        arguments[0] = new PrefixCommandEvent((MessageReceivedEvent) sourceEvent,
                 jdaExtra,
                 trigger,
                 name,
                 properties.getDescription(),
-                mappings));
+                mappings);
 
-        return arguments.toArray();
+        return arguments;
     }
 }
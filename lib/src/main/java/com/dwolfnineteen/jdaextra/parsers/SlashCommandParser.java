@@ -24,6 +24,7 @@ package com.dwolfnineteen.jdaextra.parsers;
 
 import com.dwolfnineteen.jdaextra.JDAExtra;
 import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.interactions.InteractionAcknowledgement;
 import com.dwolfnineteen.jdaextra.models.CommonCommandProperties;
 import com.dwolfnineteen.jdaextra.models.CommonSlashCommandProperties;
 import com.dwolfnineteen.jdaextra.options.data.CommandOptionData;
@@ -34,10 +35,9 @@ import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Parser for slash commands.
@@ -45,6 +45,8 @@ import java.util.stream.Collectors;
  * @see com.dwolfnineteen.jdaextra.parsers parsers
  */
 public class SlashCommandParser extends CommandParser {
+    private final InteractionAcknowledgement acknowledgement;
+
     /**
      * Construct new {@link SlashCommandParser}.
      *
@@ -52,7 +54,22 @@ public class SlashCommandParser extends CommandParser {
      * @param sourceEvent The {@link GenericEvent} for this parser.
      */
     public SlashCommandParser(@NotNull JDAExtra jdaExtra, @NotNull SlashCommandInteractionEvent sourceEvent) {
+        this(jdaExtra, sourceEvent, null);
+    }
+
+    /**
+     * Construct new {@link SlashCommandParser}.
+     *
+     * @param jdaExtra The {@link JDAExtra} instance.
+     * @param sourceEvent The {@link GenericEvent} for this parser.
+     * @param acknowledgement The {@link InteractionAcknowledgement}, if the interaction is tracked for auto-defer.
+     */
+    public SlashCommandParser(@NotNull JDAExtra jdaExtra,
+                              @NotNull SlashCommandInteractionEvent sourceEvent,
+                              @Nullable InteractionAcknowledgement acknowledgement) {
         super(jdaExtra, sourceEvent);
+
+        this.acknowledgement = acknowledgement;
     }
 
     /**
@@ -100,32 +117,31 @@ public class SlashCommandParser extends CommandParser {
     public @NotNull Object[] buildInvokeArguments() {
         Objects.requireNonNull(properties);
 
-        List<Object> arguments = new ArrayList<>();
         List<? extends CommandOptionData> options = properties.getOptions();
         List<OptionMapping> regularMappings = ((SlashCommandInteractionEvent) sourceEvent).getOptions();
+        // The same mapping instances are used for arguments and for the event
+        SlashOptionMapping[] mappings = new SlashOptionMapping[regularMappings.size()];
 
-        for (int i = 0; i < options.size(); i++) {
-            if (regularMappings.size() <= i) {
-                arguments.add(null);
+        for (int i = 0; i < mappings.length; i++) {
+            mappings[i] = new SlashOptionMapping(regularMappings.get(i));
+        }
 
-                continue;
-            }
+        // Index 0 is reserved for the event, missing options stay null
+        Object[] arguments = new Object[options.size() + 1];
+        int count = Math.min(options.size(), mappings.length);
 
-            Object type = buildInvokeArgumentType(options.get(i).getType(),
-                    new SlashOptionMapping(regularMappings.get(i)));
+        for (int i = 0; i < count; i++) {
+            Object type = buildInvokeArgumentType(options.get(i).getType(), mappings[i]);
             // TODO: Doesn't look very reliable (attachment if type is null)
-            arguments.add(type == null ? regularMappings.get(i).getAsAttachment() : type);
+            arguments[i + 1] = type == null ? mappings[i].getAsAttachment() : type;
         }
 
-        List<SlashOptionMapping> mappings = regularMappings.stream()
-                .map(SlashOptionMapping::new)
-                .collect(Collectors.toList());
-
-        arguments.add(0, new SlashCommandEvent((SlashCommandInteractionEvent) sourceEvent,
+        arguments[0] = new SlashCommandEvent((SlashCommandInteractionEvent) sourceEvent,
                 jdaExtra,
-                mappings,
-                properties.getDescription()));
+                Arrays.asList(mappings),
+                properties.getDescription(),
+                acknowledgement);
 
-        return arguments.toArray();
+        return arguments;
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.registry;
+
+import com.dwolfnineteen.jdaextra.models.CommonCommandProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Copy-on-write registry of command models, by command name.
+ * <br>
+ * Readers load the current immutable version and never lock.
+ * Writers publish a new version with a compare-and-set, copying only the path to the changed entry,
+ * so a change costs {@code O(log n)} regardless of the registry size.
+ *
+ * @param <M> The model type.
+ */
+public final class CommandRegistry<M extends CommonCommandProperties> {
+    private final AtomicReference<CommandTrie<M>> trie;
+
+    /**
+     * Construct new {@link CommandRegistry}.
+     *
+     * @param models The initial models.
+     */
+    public CommandRegistry(@NotNull Collection<? extends M> models) {
+        CommandTrie<M> initial = CommandTrie.empty();
+
+        for (M model : models) {
+            initial = initial.put(model.freeze().getName(), model);
+        }
+
+        this.trie = new AtomicReference<>(initial);
+    }
+
+    /**
+     * The model of the command.
+     *
+     * @param name The command name.
+     * @return The model. {@code null} if no such command is registered.
+     */
+    public @Nullable M get(@NotNull String name) {
+        return trie.get().get(name);
+    }
+
+    /**
+     * Add the model (or replace the model with the same name). The model is {@link CommonCommandProperties#freeze()
+     * frozen} before it's published.
+     *
+     * @param model The model.
+     * @return The replaced model. {@code null} if there was no command with the name.
+     */
+    public @Nullable M register(@NotNull M model) {
+        String name = model.freeze().getName();
+
+        while (true) {
+            CommandTrie<M> current = trie.get();
+
+            if (trie.compareAndSet(current, current.put(name, model))) {
+                return current.get(name);
+            }
+        }
+    }
+
+    /**
+     * Remove the model of the command.
+     *
+     * @param name The command name.
+     * @return The removed model. {@code null} if no such command is registered.
+     */
+    public @Nullable M unregister(@NotNull String name) {
+        while (true) {
+            CommandTrie<M> current = trie.get();
+            CommandTrie<M> updated = current.remove(name);
+
+            if (updated == current) {
+                return null;
+            }
+
+            if (trie.compareAndSet(current, updated)) {
+                return current.get(name);
+            }
+        }
+    }
+
+    /**
+     * Number of registered commands.
+     *
+     * @return The number of commands.
+     */
+    public int size() {
+        return trie.get().size();
+    }
+
+    /**
+     * Immutable snapshot of the registry, iterated in registration order.
+     * Later changes of the registry are not visible in it.
+     *
+     * @return {@link Map} of command name and model.
+     */
+    public @NotNull Map<String, M> snapshot() {
+        return trie.get().asMap();
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.registry;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable hash array mapped trie of command names.
+ * <br>
+ * Updates copy only the path to the changed entry (at most 7 nodes of up to 32 slots),
+ * and share the rest of the trie with the previous version.
+ * Entries remember the order in which they were added, which is the iteration order.
+ *
+ * @param <V> The value type.
+ */
+final class CommandTrie<V> {
+    private static final int BITS = 5;
+    private static final Node EMPTY_NODE = new Node(0, new Object[0]);
+
+    private final Node root;
+    private final int size;
+    private final long nextSequence;
+
+    private CommandTrie(@NotNull Node root, int size, long nextSequence) {
+        this.root = root;
+        this.size = size;
+        this.nextSequence = nextSequence;
+    }
+
+    static <V> @NotNull CommandTrie<V> empty() {
+        return new CommandTrie<>(EMPTY_NODE, 0, 0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable V get(@NotNull Object key) {
+        int hash = key.hashCode();
+        Object slot = root;
+
+        for (int shift = 0; ; shift += BITS) {
+            if (slot instanceof Node) {
+                Node node = (Node) slot;
+                int bit = bit(hash, shift);
+
+                if ((node.bitmap & bit) == 0) {
+                    return null;
+                }
+
+                slot = node.slots[index(node.bitmap, bit)];
+            } else if (slot instanceof Leaf) {
+                Leaf leaf = (Leaf) slot;
+
+                return leaf.hash == hash && leaf.key.equals(key) ? (V) leaf.value : null;
+            } else {
+                for (Leaf leaf : ((Collision) slot).leaves) {
+                    if (leaf.key.equals(key)) {
+                        return (V) leaf.value;
+                    }
+                }
+
+                return null;
+            }
+        }
+    }
+
+    /**
+     * New trie with the value for the key. A replaced entry keeps its position in the iteration order.
+     */
+    @NotNull CommandTrie<V> put(@NotNull String key, @NotNull V value) {
+        Leaf existing = find(key);
+        Leaf leaf = new Leaf(key, value, existing == null ? nextSequence : existing.sequence);
+
+        return new CommandTrie<>(asNode(insert(root, leaf, 0)),
+                existing == null ? size + 1 : size,
+                existing == null ? nextSequence + 1 : nextSequence);
+    }
+
+    /**
+     * New trie without the key; this trie if the key is absent.
+     */
+    @NotNull CommandTrie<V> remove(@NotNull String key) {
+        Object slot = delete(root, key, key.hashCode(), 0);
+
+        if (slot == root) {
+            return this;
+        }
+
+        return new CommandTrie<>(asNode(slot), size - 1, nextSequence);
+    }
+
+    /**
+     * Immutable {@link Map} view of this version, iterated in insertion order.
+     */
+    @NotNull Map<String, V> asMap() {
+        return new AbstractMap<>() {
+            private Leaf[] sorted;
+
+            @Override
+            public @Nullable V get(@Nullable Object key) {
+                return key == null ? null : CommandTrie.this.get(key);
+            }
+
+            @Override
+            public boolean containsKey(@Nullable Object key) {
+                return get(key) != null;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public @NotNull Set<Map.Entry<String, V>> entrySet() {
+                if (sorted == null) {
+                    sorted = leaves();
+                }
+
+                return new AbstractSet<>() {
+                    @Override
+                    public @NotNull Iterator<Map.Entry<String, V>> iterator() {
+                        return Arrays.stream(sorted).map(leaf -> leaf.<V>toEntry()).iterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+        };
+    }
+
+    private @Nullable Leaf find(@NotNull String key) {
+        int hash = key.hashCode();
+        Object slot = root;
+
+        for (int shift = 0; slot instanceof Node; shift += BITS) {
+            Node node = (Node) slot;
+            int bit = bit(hash, shift);
+
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+
+            slot = node.slots[index(node.bitmap, bit)];
+        }
+
+        if (slot instanceof Leaf) {
+            return ((Leaf) slot).key.equals(key) ? (Leaf) slot : null;
+        }
+
+        for (Leaf leaf : ((Collision) slot).leaves) {
+            if (leaf.key.equals(key)) {
+                return leaf;
+            }
+        }
+
+        return null;
+    }
+
+    private @NotNull Leaf[] leaves() {
+        Leaf[] leaves = new Leaf[size];
+
+        collect(root, leaves, 0);
+        Arrays.sort(leaves, Comparator.comparingLong(leaf -> leaf.sequence));
+
+        return leaves;
+    }
+
+    private static int collect(@NotNull Object slot, @NotNull Leaf[] leaves, int offset) {
+        if (slot instanceof Node) {
+            for (Object child : ((Node) slot).slots) {
+                offset = collect(child, leaves, offset);
+            }
+        } else if (slot instanceof Leaf) {
+            leaves[offset++] = (Leaf) slot;
+        } else {
+            for (Leaf leaf : ((Collision) slot).leaves) {
+                leaves[offset++] = leaf;
+            }
+        }
+
+        return offset;
+    }
+
+    private static @NotNull Object insert(@NotNull Object slot, @NotNull Leaf leaf, int shift) {
+        if (slot instanceof Node) {
+            Node node = (Node) slot;
+            int bit = bit(leaf.hash, shift);
+            int index = index(node.bitmap, bit);
+
+            if ((node.bitmap & bit) == 0) {
+                Object[] slots = new Object[node.slots.length + 1];
+
+                System.arraycopy(node.slots, 0, slots, 0, index);
+                slots[index] = leaf;
+                System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+
+                return new Node(node.bitmap | bit, slots);
+            }
+
+            return node.with(index, insert(node.slots[index], leaf, shift + BITS));
+        }
+
+        if (slot instanceof Leaf) {
+            Leaf existing = (Leaf) slot;
+
+            if (existing.key.equals(leaf.key)) {
+                return leaf;
+            }
+
+            if (existing.hash == leaf.hash) {
+                return new Collision(new Leaf[] {existing, leaf});
+            }
+
+            return merge(existing, leaf, shift);
+        }
+
+        Collision collision = (Collision) slot;
+
+        if (collision.leaves[0].hash != leaf.hash) {
+            return insert(new Node(bit(collision.leaves[0].hash, shift), new Object[] {collision}), leaf, shift);
+        }
+
+        Leaf[] leaves = collision.leaves;
+
+        for (int i = 0; i < leaves.length; i++) {
+            if (leaves[i].key.equals(leaf.key)) {
+                leaves = leaves.clone();
+                leaves[i] = leaf;
+
+                return new Collision(leaves);
+            }
+        }
+
+        leaves = Arrays.copyOf(leaves, leaves.length + 1);
+        leaves[leaves.length - 1] = leaf;
+
+        return new Collision(leaves);
+    }
+
+    // Hashes differ, so they diverge at the latest in the last level (bits 30-31)
+    private static @NotNull Node merge(@NotNull Leaf first, @NotNull Leaf second, int shift) {
+        int firstBit = bit(first.hash, shift);
+        int secondBit = bit(second.hash, shift);
+
+        if (firstBit == secondBit) {
+            return new Node(firstBit, new Object[] {merge(first, second, shift + BITS)});
+        }
+
+        return new Node(firstBit | secondBit,
+                Integer.compareUnsigned(firstBit, secondBit) < 0
+                        ? new Object[] {first, second}
+                        : new Object[] {second, first});
+    }
+
+    /**
+     * The slot without the key: the same slot if the key is absent, {@code null} if nothing is left.
+     * A node left with a single leaf (or collision) is replaced by it.
+     */
+    private static @Nullable Object delete(@NotNull Object slot, @NotNull String key, int hash, int shift) {
+        if (slot instanceof Node) {
+            Node node = (Node) slot;
+            int bit = bit(hash, shift);
+
+            if ((node.bitmap & bit) == 0) {
+                return node;
+            }
+
+            int index = index(node.bitmap, bit);
+            Object child = node.slots[index];
+            Object updated = delete(child, key, hash, shift + BITS);
+
+            if (updated == child) {
+                return node;
+            }
+
+            if (updated == null) {
+                if (node.slots.length == 1) {
+                    return null;
+                }
+
+                Object[] slots = new Object[node.slots.length - 1];
+
+                System.arraycopy(node.slots, 0, slots, 0, index);
+                System.arraycopy(node.slots, index + 1, slots, index, slots.length - index);
+
+                if (slots.length == 1 && !(slots[0] instanceof Node)) {
+                    return slots[0];
+                }
+
+                return new Node(node.bitmap & ~bit, slots);
+            }
+
+            if (node.slots.length == 1 && !(updated instanceof Node)) {
+                return updated;
+            }
+
+            return node.with(index, updated);
+        }
+
+        if (slot instanceof Leaf) {
+            return ((Leaf) slot).key.equals(key) ? null : slot;
+        }
+
+        Leaf[] leaves = ((Collision) slot).leaves;
+
+        for (int i = 0; i < leaves.length; i++) {
+            if (leaves[i].key.equals(key)) {
+                if (leaves.length == 2) {
+                    return leaves[1 - i];
+                }
+
+                Leaf[] remaining = new Leaf[leaves.length - 1];
+
+                System.arraycopy(leaves, 0, remaining, 0, i);
+                System.arraycopy(leaves, i + 1, remaining, i, remaining.length - i);
+
+                return new Collision(remaining);
+            }
+        }
+
+        return slot;
+    }
+
+    // The root is always a node
+    private static @NotNull Node asNode(@Nullable Object slot) {
+        if (slot == null) {
+            return EMPTY_NODE;
+        }
+
+        if (slot instanceof Node) {
+            return (Node) slot;
+        }
+
+        int hash = slot instanceof Leaf ? ((Leaf) slot).hash : ((Collision) slot).leaves[0].hash;
+
+        return new Node(bit(hash, 0), new Object[] {slot});
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] slots;
+
+        private Node(int bitmap, @NotNull Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private @NotNull Node with(int index, @NotNull Object slot) {
+            Object[] slots = this.slots.clone();
+            slots[index] = slot;
+
+            return new Node(bitmap, slots);
+        }
+    }
+
+    private static final class Leaf {
+        private final String key;
+        private final Object value;
+        private final int hash;
+        private final long sequence;
+
+        private Leaf(@NotNull String key, @NotNull Object value, long sequence) {
+            this.key = key;
+            this.value = value;
+            this.hash = key.hashCode();
+            this.sequence = sequence;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <V> @NotNull Map.Entry<String, V> toEntry() {
+            return new AbstractMap.SimpleImmutableEntry<>(key, (V) value);
+        }
+    }
+
+    // Keys with equal hashes
+    private static final class Collision {
+        private final Leaf[] leaves;
+
+        private Collision(@NotNull Leaf[] leaves) {
+            this.leaves = leaves;
+        }
+    }
+}
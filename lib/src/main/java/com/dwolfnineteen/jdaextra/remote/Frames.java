@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.remote;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Length-prefixed frames over a blocking {@link SocketChannel}.
+ * <br>
+ * Request frames: sequence ({@code long}) and the {@link InvocationEnvelope}.
+ * Response frames: sequence ({@code long}), status ({@code byte}) and, on failure, the error message (UTF).
+ */
+final class Frames {
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_FAILED = 1;
+    static final int MAX_FRAME_LENGTH = 1 << 20;
+
+    private Frames() {
+    }
+
+    static void write(@NotNull SocketChannel channel, @NotNull ByteBuffer frame) throws IOException {
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    static @NotNull ByteBuffer frame(long sequence, @NotNull byte[] payload) {
+        ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES + Long.BYTES + payload.length);
+
+        frame.putInt(Long.BYTES + payload.length).putLong(sequence).put(payload).flip();
+
+        return frame;
+    }
+
+    static @NotNull ByteBuffer read(@NotNull SocketChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+
+        readFully(channel, header);
+
+        int length = header.getInt(0);
+
+        if (length < Long.BYTES || length > MAX_FRAME_LENGTH) {
+            throw new IOException("Invalid frame length: " + length);
+        }
+
+        ByteBuffer frame = ByteBuffer.allocate(length);
+
+        readFully(channel, frame);
+
+        return frame;
+    }
+
+    private static void readFully(@NotNull SocketChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Connection closed");
+            }
+        }
+
+        buffer.flip();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.remote;
+
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Webhook requests authorized by the interaction token, which need no bot token.
+ * <br>
+ * Rate-limited requests are retried after the {@code Retry-After} delay, a few times.
+ */
+final class InteractionWebhook {
+    static final URI DEFAULT_API_URI = URI.create("https://discord.com/api/v10/");
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final HttpClient client;
+    private final URI apiUri;
+
+    InteractionWebhook(@NotNull URI apiUri) {
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        this.apiUri = apiUri.toString().endsWith("/") ? apiUri : URI.create(apiUri + "/");
+    }
+
+    @NotNull CompletableFuture<Void> editOriginal(long applicationId, @NotNull String token, @NotNull String content) {
+        return request("PATCH", "webhooks/" + applicationId + "/" + token + "/messages/@original", content, 1);
+    }
+
+    @NotNull CompletableFuture<Void> sendFollowUp(long applicationId, @NotNull String token, @NotNull String content) {
+        return request("POST", "webhooks/" + applicationId + "/" + token, content, 1);
+    }
+
+    private @NotNull CompletableFuture<Void> request(@NotNull String method,
+                                                     @NotNull String path,
+                                                     @NotNull String content,
+                                                     int attempt) {
+        HttpRequest request = HttpRequest.newBuilder(apiUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(DataObject.empty().put("content", content).toJson()))
+                .build();
+
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenCompose(response -> {
+            int status = response.statusCode();
+
+            if (status == 429 && attempt < MAX_ATTEMPTS) {
+                long delay = response.headers()
+                        .firstValue("Retry-After")
+                        .map(value -> (long) (Double.parseDouble(value) * 1000))
+                        .orElse(1000L);
+
+                return CompletableFuture.runAsync(() -> { },
+                                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                        .thenCompose(ignored -> request(method, path, content, attempt + 1));
+            }
+
+            if (status / 100 != 2) {
+                return CompletableFuture.failedFuture(new IOException("HTTP " + status + ": " + response.body()));
+            }
+
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+}
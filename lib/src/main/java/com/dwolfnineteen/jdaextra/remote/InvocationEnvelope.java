@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.remote;
+
+import net.dv8tion.jda.api.entities.ISnowflake;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.Channel;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact, self-contained description of a command invocation, forwarded to a worker.
+ * <br>
+ * Holds the full command name (with subcommand group and subcommand), the interaction token and IDs,
+ * and the converted arguments (without the event). Discord entities are sent as {@link Entity} references,
+ * since the worker has no JDA cache; other arguments are {@link Boolean}, {@link Long}, {@link Double}
+ * or {@link String} (missing options are {@code null}).
+ */
+public final class InvocationEnvelope {
+    private static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte STRING = 4;
+    private static final byte ENTITY = 5;
+
+    private final String commandName;
+    private final long interactionId;
+    private final long applicationId;
+    private final String token;
+    private final long guildId;
+    private final long channelId;
+    private final long userId;
+    private final String locale;
+    private final List<Object> arguments;
+
+    /**
+     * Construct new {@link InvocationEnvelope}.
+     *
+     * @param commandName The full command name.
+     * @param interactionId The interaction ID.
+     * @param applicationId The application ID.
+     * @param token The interaction token.
+     * @param guildId The guild ID, {@code 0} in direct messages.
+     * @param channelId The channel ID.
+     * @param userId The user ID.
+     * @param locale The user locale tag.
+     * @param arguments The arguments, see {@link InvocationEnvelope}.
+     */
+    public InvocationEnvelope(@NotNull String commandName,
+                              long interactionId,
+                              long applicationId,
+                              @NotNull String token,
+                              long guildId,
+                              long channelId,
+                              long userId,
+                              @NotNull String locale,
+                              @NotNull List<?> arguments) {
+        this.commandName = commandName;
+        this.interactionId = interactionId;
+        this.applicationId = applicationId;
+        this.token = token;
+        this.guildId = guildId;
+        this.channelId = channelId;
+        this.userId = userId;
+        this.locale = locale;
+        this.arguments = Collections.unmodifiableList(new ArrayList<>(arguments));
+    }
+
+    /**
+     * Create the envelope of the slash command invocation.
+     *
+     * @param interaction The {@link SlashCommandInteraction}.
+     * @param arguments The converted arguments (without the event).
+     *                  Discord entities are replaced by {@link Entity} references.
+     * @return The {@link InvocationEnvelope}.
+     * @throws IllegalArgumentException If an argument type is not supported.
+     */
+    public static @NotNull InvocationEnvelope fromInteraction(@NotNull SlashCommandInteraction interaction,
+                                                              @NotNull List<?> arguments) {
+        List<Object> values = new ArrayList<>(arguments.size());
+
+        for (Object argument : arguments) {
+            values.add(argument instanceof ISnowflake ? Entity.of((ISnowflake) argument) : argument);
+        }
+
+        return new InvocationEnvelope(interaction.getFullCommandName(),
+                interaction.getIdLong(),
+                interaction.getJDA().getSelfUser().getApplicationIdLong(),
+                interaction.getToken(),
+                interaction.getGuild() == null ? 0 : interaction.getGuild().getIdLong(),
+                interaction.getChannelIdLong(),
+                interaction.getUser().getIdLong(),
+                interaction.getUserLocale().getLocale(),
+                values);
+    }
+
+    /**
+     * Whether arguments of the option type can be sent in the envelope.
+     *
+     * @param type The {@link OptionType}.
+     * @return {@code True} if the converted argument of the option type is supported.
+     */
+    public static boolean isSupported(@NotNull OptionType type) {
+        switch (type) {
+            case BOOLEAN:
+            case INTEGER:
+            case NUMBER:
+            case STRING:
+            case USER:
+            case ROLE:
+            case CHANNEL:
+            case MENTIONABLE:
+            case ATTACHMENT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Encode the envelope.
+     *
+     * @return The encoded envelope.
+     * @throws IllegalArgumentException If an argument type is not supported.
+     */
+    public @NotNull byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeUTF(commandName);
+            output.writeLong(interactionId);
+            output.writeLong(applicationId);
+            output.writeUTF(token);
+            output.writeLong(guildId);
+            output.writeLong(channelId);
+            output.writeLong(userId);
+            output.writeUTF(locale);
+            output.writeShort(arguments.size());
+
+            for (Object argument : arguments) {
+                writeArgument(output, argument);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode the envelope.
+     *
+     * @param bytes The encoded envelope.
+     * @return The {@link InvocationEnvelope}.
+     * @throws IOException If the envelope is malformed or of an unsupported version.
+     */
+    public static @NotNull InvocationEnvelope decode(@NotNull byte[] bytes) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = input.readByte();
+
+            if (version != VERSION) {
+                throw new IOException("Unsupported envelope version: " + version);
+            }
+
+            String commandName = input.readUTF();
+            long interactionId = input.readLong();
+            long applicationId = input.readLong();
+            String token = input.readUTF();
+            long guildId = input.readLong();
+            long channelId = input.readLong();
+            long userId = input.readLong();
+            String locale = input.readUTF();
+            int count = input.readUnsignedShort();
+            List<Object> arguments = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                arguments.add(readArgument(input));
+            }
+
+            return new InvocationEnvelope(commandName,
+                    interactionId,
+                    applicationId,
+                    token,
+                    guildId,
+                    channelId,
+                    userId,
+                    locale,
+                    arguments);
+        }
+    }
+
+    private static void writeArgument(@NotNull DataOutputStream output, @Nullable Object argument) throws IOException {
+        if (argument == null) {
+            output.writeByte(NULL);
+        } else if (argument instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) argument);
+        } else if (argument instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) argument);
+        } else if (argument instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) argument);
+        } else if (argument instanceof String) {
+            output.writeByte(STRING);
+            output.writeUTF((String) argument);
+        } else if (argument instanceof Entity) {
+            Entity entity = (Entity) argument;
+
+            output.writeByte(ENTITY);
+            output.writeByte(entity.type.ordinal());
+            output.writeLong(entity.id);
+            output.writeUTF(entity.url == null ? "" : entity.url);
+        } else {
+            throw new IllegalArgumentException("Argument type is not supported: " + argument.getClass().getName());
+        }
+    }
+
+    private static @Nullable Object readArgument(@NotNull DataInputStream input) throws IOException {
+        byte tag = input.readByte();
+
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return input.readBoolean();
+            case LONG:
+                return input.readLong();
+            case DOUBLE:
+                return input.readDouble();
+            case STRING:
+                return input.readUTF();
+            case ENTITY:
+                int type = input.readUnsignedByte();
+
+                if (type >= Entity.Type.values().length) {
+                    throw new IOException("Unknown entity type: " + type);
+                }
+
+                long id = input.readLong();
+                String url = input.readUTF();
+
+                return new Entity(Entity.Type.values()[type], id, url.isEmpty() ? null : url);
+            default:
+                throw new IOException("Unknown argument tag: " + tag);
+        }
+    }
+
+    /**
+     * The full command name (e.g. {@code "admin ban"}).
+     *
+     * @return The full command name.
+     */
+    public @NotNull String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * The interaction ID.
+     *
+     * @return The interaction ID.
+     */
+    public long getInteractionId() {
+        return interactionId;
+    }
+
+    /**
+     * The application ID, for webhook requests with the interaction token.
+     *
+     * @return The application ID.
+     */
+    public long getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * The interaction token, valid for 15 minutes after the interaction.
+     *
+     * @return The interaction token.
+     */
+    public @NotNull String getToken() {
+        return token;
+    }
+
+    /**
+     * The guild ID.
+     *
+     * @return The guild ID, {@code 0} in direct messages.
+     */
+    public long getGuildId() {
+        return guildId;
+    }
+
+    /**
+     * The channel ID.
+     *
+     * @return The channel ID.
+     */
+    public long getChannelId() {
+        return channelId;
+    }
+
+    /**
+     * The user ID.
+     *
+     * @return The user ID.
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * The user locale tag (e.g. {@code "en-US"}).
+     *
+     * @return The user locale tag.
+     */
+    public @NotNull String getLocale() {
+        return locale;
+    }
+
+    /**
+     * The converted arguments (without the event), in the entry point parameter order.
+     *
+     * @return Unmodifiable list of the arguments.
+     */
+    public @NotNull List<Object> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Reference to a Discord entity given as an argument.
+     */
+    public static final class Entity {
+        private final Type type;
+        private final long id;
+        private final String url;
+
+        /**
+         * Construct new {@link Entity}.
+         *
+         * @param type The entity type.
+         * @param id The entity ID.
+         * @param url The attachment URL, {@code null} for other types.
+         */
+        public Entity(@NotNull Type type, long id, @Nullable String url) {
+            this.type = type;
+            this.id = id;
+            this.url = url;
+        }
+
+        private static @NotNull Entity of(@NotNull ISnowflake snowflake) {
+            if (snowflake instanceof Message.Attachment) {
+                return new Entity(Type.ATTACHMENT, snowflake.getIdLong(), ((Message.Attachment) snowflake).getUrl());
+            } else if (snowflake instanceof User || snowflake instanceof Member) {
+                return new Entity(Type.USER, snowflake.getIdLong(), null);
+            } else if (snowflake instanceof Role) {
+                return new Entity(Type.ROLE, snowflake.getIdLong(), null);
+            } else if (snowflake instanceof Channel) {
+                return new Entity(Type.CHANNEL, snowflake.getIdLong(), null);
+            }
+
+            return new Entity(Type.OTHER, snowflake.getIdLong(), null);
+        }
+
+        /**
+         * The entity type.
+         *
+         * @return The {@link Type}.
+         */
+        public @NotNull Type getType() {
+            return type;
+        }
+
+        /**
+         * The entity ID.
+         *
+         * @return The ID.
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * The attachment URL.
+         *
+         * @return The URL, {@code null} if the entity is not an attachment.
+         */
+        public @Nullable String getUrl() {
+            return url;
+        }
+
+        @Override
+        public String toString() {
+            return type + ":" + id;
+        }
+
+        /**
+         * Type of the {@link Entity}.
+         */
+        public enum Type {
+            /**
+             * User or member.
+             */
+            USER,
+            /**
+             * Role.
+             */
+            ROLE,
+            /**
+             * Channel.
+             */
+            CHANNEL,
+            /**
+             * Attachment, with its URL.
+             */
+            ATTACHMENT,
+            /**
+             * Other mentionable.
+             */
+            OTHER
+        }
+    }
+}
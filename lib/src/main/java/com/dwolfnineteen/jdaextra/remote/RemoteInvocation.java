@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.remote;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Command invocation running in a worker, replying through the interaction token.
+ */
+public final class RemoteInvocation {
+    private final InvocationEnvelope envelope;
+    private final InteractionWebhook webhook;
+
+    RemoteInvocation(@NotNull InvocationEnvelope envelope, @NotNull InteractionWebhook webhook) {
+        this.envelope = envelope;
+        this.webhook = webhook;
+    }
+
+    /**
+     * The {@link InvocationEnvelope} received from the gateway.
+     *
+     * @return The {@link InvocationEnvelope}.
+     */
+    public @NotNull InvocationEnvelope getEnvelope() {
+        return envelope;
+    }
+
+    /**
+     * The argument at the index (in the entry point parameter order, without the event).
+     *
+     * @param index The argument index.
+     * @param type The argument type (see {@link InvocationEnvelope}).
+     * @param <T> The argument type.
+     * @return The argument, {@code null} if the option is missing.
+     * @throws IndexOutOfBoundsException If there is no argument at the index.
+     * @throws ClassCastException If the argument is not of the type.
+     */
+    public <T> @Nullable T getArgument(int index, @NotNull Class<T> type) {
+        return type.cast(envelope.getArguments().get(index));
+    }
+
+    /**
+     * Edit the (deferred) reply to the interaction.
+     *
+     * @param content The new content.
+     * @return {@link CompletableFuture} completed once the reply is edited.
+     */
+    public @NotNull CompletableFuture<Void> editReply(@NotNull String content) {
+        return webhook.editOriginal(envelope.getApplicationId(), envelope.getToken(), content);
+    }
+
+    /**
+     * Send a follow-up message to the interaction.
+     *
+     * @param content The message content.
+     * @return {@link CompletableFuture} completed once the message is sent.
+     */
+    public @NotNull CompletableFuture<Void> sendFollowUp(@NotNull String content) {
+        return webhook.sendFollowUp(envelope.getApplicationId(), envelope.getToken(), content);
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.remote;
+
+import com.dwolfnineteen.jdaextra.exceptions.RemoteExecutionException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link WorkerTransport} over Unix domain sockets, to workers on the same machine
+ * (see {@link WorkerServer}).
+ * <br>
+ * Each worker socket gets one connection, with a writer and a reader thread, so sending never blocks
+ * the caller: envelopes are queued (up to the queue capacity per worker) and written in the background.
+ * Envelopes go to the worker with the fewest invocations in progress.
+ * <br>
+ * When a connection breaks, its invocations in progress fail and the worker is reconnected on the next send
+ * (at most once per second); meanwhile, other workers take over.
+ */
+public final class UnixSocketTransport implements WorkerTransport {
+    private static final long RECONNECT_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final AtomicLong THREAD_IDS = new AtomicLong();
+
+    private final List<Connection> connections;
+    private final int queueCapacity;
+    private final AtomicLong sequence;
+    private volatile boolean closed;
+
+    /**
+     * Construct new {@link UnixSocketTransport}. Workers are connected on the first send.
+     *
+     * @param socketPaths Paths of the worker sockets.
+     * @param queueCapacity Maximal number of envelopes waiting to be written, per worker.
+     * @throws IllegalArgumentException If there are no socket paths or the queue capacity is not positive.
+     */
+    public UnixSocketTransport(@NotNull Collection<Path> socketPaths, int queueCapacity) {
+        if (socketPaths.isEmpty()) {
+            throw new IllegalArgumentException("At least one worker socket is required");
+        }
+
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+
+        this.connections = new ArrayList<>(socketPaths.size());
+        this.queueCapacity = queueCapacity;
+        this.sequence = new AtomicLong();
+
+        for (Path path : socketPaths) {
+            connections.add(new Connection(path));
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> send(@NotNull InvocationEnvelope envelope) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        String commandName = envelope.getCommandName();
+
+        if (closed) {
+            future.completeExceptionally(new RemoteExecutionException(commandName, "Transport is closed"));
+
+            return future;
+        }
+
+        byte[] payload;
+
+        try {
+            payload = envelope.encode();
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(new RemoteExecutionException(commandName, exception));
+
+            return future;
+        }
+
+        Pending pending = new Pending(commandName, future);
+        long sequenceNumber = sequence.incrementAndGet();
+        List<Connection> tried = new ArrayList<>(connections.size());
+
+        while (tried.size() < connections.size()) {
+            Connection connection = leastLoaded(tried);
+
+            if (connection.submit(sequenceNumber, payload, pending)) {
+                return future;
+            }
+
+            tried.add(connection);
+        }
+
+        future.completeExceptionally(new RemoteExecutionException(commandName, "No worker available"));
+
+        return future;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private @NotNull Connection leastLoaded(@NotNull List<Connection> excluded) {
+        Connection best = null;
+
+        for (Connection connection : connections) {
+            if (!excluded.contains(connection) && (best == null || connection.load() < best.load())) {
+                best = connection;
+            }
+        }
+
+        return best;
+    }
+
+    private static final class Pending {
+        private final String commandName;
+        private final CompletableFuture<Void> future;
+
+        private Pending(@NotNull String commandName, @NotNull CompletableFuture<Void> future) {
+            this.commandName = commandName;
+            this.future = future;
+        }
+    }
+
+    private final class Connection {
+        private final Path path;
+        private volatile Link link;
+        private long reconnectAt;
+
+        private Connection(@NotNull Path path) {
+            this.path = path;
+        }
+
+        private int load() {
+            Link current = link;
+
+            // Unreachable workers come last
+            return current == null || !current.alive ? Integer.MAX_VALUE : current.pending.size();
+        }
+
+        private boolean submit(long sequence, @NotNull byte[] payload, @NotNull Pending pending) {
+            Link current = connect();
+
+            if (current == null) {
+                return false;
+            }
+
+            current.pending.put(sequence, pending);
+
+            if (!current.outbound.offer(Frames.frame(sequence, payload)) || !current.alive) {
+                // Taken back unless the broken link has failed it already
+                return current.pending.remove(sequence) == null;
+            }
+
+            return true;
+        }
+
+        private synchronized @Nullable Link connect() {
+            if (closed) {
+                return null;
+            }
+
+            if (link != null && link.alive) {
+                return link;
+            }
+
+            long now = System.nanoTime();
+
+            if (link != null && now - reconnectAt < 0) {
+                return null;
+            }
+
+            try {
+                SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+
+                try {
+                    channel.connect(UnixDomainSocketAddress.of(path));
+                } catch (IOException exception) {
+                    channel.close();
+
+                    throw exception;
+                }
+
+                link = new Link(channel);
+                link.start();
+            } catch (IOException exception) {
+                if (link == null) {
+                    link = new Link(null);
+                    link.alive = false;
+                }
+
+                reconnectAt = now + RECONNECT_DELAY_NANOS;
+
+                return null;
+            }
+
+            return link;
+        }
+
+        private synchronized void close() {
+            if (link != null) {
+                link.fail(new IOException("Transport is closed"));
+            }
+        }
+    }
+
+    private final class Link {
+        private final SocketChannel channel;
+        private final BlockingQueue<ByteBuffer> outbound;
+        private final ConcurrentMap<Long, Pending> pending;
+        private Thread writer;
+        private volatile boolean alive;
+
+        private Link(@Nullable SocketChannel channel) {
+            this.channel = channel;
+            this.outbound = new ArrayBlockingQueue<>(queueCapacity);
+            this.pending = new ConcurrentHashMap<>();
+            this.alive = true;
+        }
+
+        private void start() {
+            long id = THREAD_IDS.getAndIncrement();
+
+            writer = new Thread(this::write, "Rextra-UnixSocketTransport-" + id + "-writer");
+            writer.setDaemon(true);
+            writer.start();
+
+            Thread reader = new Thread(this::read, "Rextra-UnixSocketTransport-" + id + "-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private void write() {
+            try {
+                while (alive) {
+                    Frames.write(channel, outbound.take());
+                }
+            } catch (IOException exception) {
+                fail(exception);
+            } catch (InterruptedException exception) {
+                // Failed meanwhile
+            }
+        }
+
+        private void read() {
+            try {
+                while (alive) {
+                    ByteBuffer frame = Frames.read(channel);
+                    Pending request = pending.remove(frame.getLong());
+
+                    if (request == null) {
+                        continue;
+                    }
+
+                    if (frame.get() == Frames.STATUS_OK) {
+                        request.future.complete(null);
+                    } else {
+                        DataInputStream input = new DataInputStream(new ByteArrayInputStream(frame.array(),
+                                frame.position(),
+                                frame.remaining()));
+
+                        request.future.completeExceptionally(new RemoteExecutionException(request.commandName,
+                                input.readUTF()));
+                    }
+                }
+            } catch (IOException exception) {
+                fail(exception);
+            }
+        }
+
+        private void fail(@NotNull IOException cause) {
+            synchronized (this) {
+                if (!alive) {
+                    return;
+                }
+
+                alive = false;
+            }
+
+            try {
+                channel.close();
+            } catch (IOException exception) {
+                // Closing anyway
+            }
+
+            if (writer != null) {
+                writer.interrupt();
+            }
+
+            for (Long sequence : pending.keySet()) {
+                Pending request = pending.remove(sequence);
+
+                if (request != null) {
+                    request.future.completeExceptionally(new RemoteExecutionException(request.commandName, cause));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.remote;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker side of the remote execution: runs forwarded commands, listening on a Unix domain socket
+ * (see {@link UnixSocketTransport}).
+ * <br>
+ * Usually runs in a separate JVM, with the handlers of the {@link com.dwolfnineteen.jdaextra.annotations.commands.Remote
+ * Remote} commands registered under their full names:
+ * <pre>{@code
+ * WorkerServer worker = new WorkerServer(Path.of("/run/bot/worker-1.sock"), 4)
+ *         .register("render chart", invocation -> {
+ *             byte[] chart = renderChart(invocation.getArgument(0, String.class));
+ *
+ *             invocation.editReply(uploadChart(chart)).join();
+ *         });
+ *
+ * worker.start();
+ * }</pre>
+ */
+public final class WorkerServer implements AutoCloseable {
+    private static final AtomicLong THREAD_IDS = new AtomicLong();
+
+    private final Path socketPath;
+    private final Map<String, RemoteCommandHandler> handlers;
+    private final ExecutorService executor;
+    private final InteractionWebhook webhook;
+    private ServerSocketChannel server;
+    private volatile boolean closed;
+
+    /**
+     * Construct new {@link WorkerServer}, replying through the Discord API.
+     *
+     * @param socketPath Path of the socket to listen on.
+     * @param threads Number of threads running the commands.
+     * @throws IllegalArgumentException If the number of threads is not positive.
+     */
+    public WorkerServer(@NotNull Path socketPath, int threads) {
+        this(socketPath, threads, InteractionWebhook.DEFAULT_API_URI);
+    }
+
+    /**
+     * Construct new {@link WorkerServer}.
+     *
+     * @param socketPath Path of the socket to listen on.
+     * @param threads Number of threads running the commands.
+     * @param apiUri Base URI of the Discord API (e.g. a local stub, for testing).
+     * @throws IllegalArgumentException If the number of threads is not positive.
+     */
+    public WorkerServer(@NotNull Path socketPath, int threads, @NotNull URI apiUri) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of worker threads must be positive");
+        }
+
+        this.socketPath = socketPath;
+        this.handlers = new ConcurrentHashMap<>();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Rextra-Worker-" + THREAD_IDS.getAndIncrement());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.webhook = new InteractionWebhook(apiUri);
+    }
+
+    /**
+     * Register the handler of the command.
+     *
+     * @param commandName The full command name (e.g. {@code "admin ban"}).
+     * @param handler The {@link RemoteCommandHandler}.
+     * @return Current {@link WorkerServer} instance, for chaining.
+     */
+    public @NotNull WorkerServer register(@NotNull String commandName, @NotNull RemoteCommandHandler handler) {
+        handlers.put(commandName, handler);
+
+        return this;
+    }
+
+    /**
+     * Start listening. A stale socket file at the path (e.g. of a crashed worker) is deleted.
+     *
+     * @throws IOException If the socket can't be bound.
+     * @throws IllegalStateException If the server is already started or closed.
+     */
+    public synchronized void start() throws IOException {
+        if (server != null || closed) {
+            throw new IllegalStateException("Worker server is already started or closed");
+        }
+
+        Files.deleteIfExists(socketPath);
+
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+
+        Thread acceptor = new Thread(this::accept, "Rextra-WorkerServer-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Stop listening, close the connections and delete the socket file.
+     * <br>
+     * Commands already running complete, but their results are not reported.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        executor.shutdown();
+
+        try {
+            if (server != null) {
+                server.close();
+                Files.deleteIfExists(socketPath);
+            }
+        } catch (IOException exception) {
+            // Closing anyway
+        }
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                SocketChannel channel = server.accept();
+
+                Thread reader = new Thread(() -> read(channel), "Rextra-WorkerServer-" + THREAD_IDS.getAndIncrement());
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException exception) {
+                // Closed, or the connection failed before it was accepted
+            }
+        }
+    }
+
+    private void read(@NotNull SocketChannel channel) {
+        try (channel) {
+            while (!closed) {
+                ByteBuffer frame = Frames.read(channel);
+                long sequence = frame.getLong();
+                byte[] payload = new byte[frame.remaining()];
+
+                frame.get(payload);
+
+                try {
+                    executor.execute(() -> run(channel, sequence, payload));
+                } catch (RejectedExecutionException exception) {
+                    return;
+                }
+            }
+        } catch (IOException exception) {
+            // The gateway disconnected, its pending invocations failed on its side
+        }
+    }
+
+    private void run(@NotNull SocketChannel channel, long sequence, @NotNull byte[] payload) {
+        String error;
+
+        try {
+            InvocationEnvelope envelope = InvocationEnvelope.decode(payload);
+            RemoteCommandHandler handler = handlers.get(envelope.getCommandName());
+
+            if (handler == null) {
+                error = "Unknown remote command '" + envelope.getCommandName() + "'";
+            } else {
+                handler.execute(new RemoteInvocation(envelope, webhook));
+
+                error = null;
+            }
+        } catch (Exception exception) {
+            error = exception.toString();
+        }
+
+        respond(channel, sequence, error);
+    }
+
+    private void respond(@NotNull SocketChannel channel, long sequence, @Nullable String error) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(error == null ? Frames.STATUS_OK : Frames.STATUS_FAILED);
+
+            if (error != null) {
+                // writeUTF is limited to 64 KB
+                output.writeUTF(error.length() > 4096 ? error.substring(0, 4096) : error);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        // Responses of concurrent commands share the connection
+        synchronized (channel) {
+            try {
+                Frames.write(channel, Frames.frame(sequence, bytes.toByteArray()));
+            } catch (IOException exception) {
+                // The gateway disconnected, its pending invocations failed on its side
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.replies;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Client-side estimation of the remaining rate-limit budget of one bucket (channel/interaction).
+ * <br>
+ * JDA doesn't expose bucket state, so the budget is tracked from our own requests in a sliding window.
+ * Not thread-safe, guarded by the {@link ReplyCoalescer}.
+ */
+final class RateBudget {
+    private final int limit;
+    private final long periodNanos;
+    private final Deque<Long> requests;
+
+    RateBudget(int limit, long periodNanos) {
+        this.limit = limit;
+        this.periodNanos = periodNanos;
+        this.requests = new ArrayDeque<>(limit);
+    }
+
+    void record(long now) {
+        purge(now);
+
+        if (requests.size() == limit) {
+            requests.removeFirst();
+        }
+
+        requests.addLast(now);
+    }
+
+    int remaining(long now) {
+        purge(now);
+
+        return limit - requests.size();
+    }
+
+    boolean isIdle(long now) {
+        purge(now);
+
+        return requests.isEmpty();
+    }
+
+    /**
+     * Delay before the next flush.
+     * <br>
+     * With enough budget, the base window is used. When the budget is (almost) exhausted,
+     * the flush waits until the oldest request leaves the window, so more content is merged meanwhile.
+     *
+     * @param now Current {@link System#nanoTime()}.
+     * @param windowNanos The base coalescing window.
+     * @return The delay, in nanoseconds.
+     */
+    long nextDelay(long now, long windowNanos) {
+        if (remaining(now) > 1 || requests.isEmpty()) {
+            return windowNanos;
+        }
+
+        return Math.max(windowNanos, requests.peekFirst() + periodNanos - now);
+    }
+
+    private void purge(long now) {
+        while (!requests.isEmpty() && now - requests.peekFirst() >= periodNanos) {
+            requests.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.replies;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.requests.RestAction;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Buffers outbound replies and edits, merging them into fewer REST calls.
+ * <br>
+ * Replies to the same source (key: the replied-to message, interaction) sent within a short window are joined
+ * (with a line break) into one message, as long as it fits {@link Message#MAX_CONTENT_LENGTH};
+ * otherwise the current batch is sent and a new one is started, so no content is lost.
+ * Consecutive edits of the same message collapse into the last one.
+ * <br>
+ * The flush delay adapts to the remaining rate-limit budget, estimated per bucket (the channel of messages,
+ * the token of interactions), which is shared by all batches sent to it:
+ * while it's plenty, buffers are flushed after the base window;
+ * when it's (almost) exhausted, the flush waits for the next free slot and merges everything sent meanwhile.
+ * <br>
+ * All flushes run on a single daemon thread.
+ *
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setReplyCoalescing(Duration) JDAExtraBuilder.setReplyCoalescing()
+ */
+public final class ReplyCoalescer {
+    /**
+     * Estimated number of messages per route allowed in {@link #RATE_LIMIT_PERIOD}.
+     */
+    public static final int RATE_LIMIT = 5;
+    /**
+     * Estimated rate-limit period of a route.
+     */
+    public static final Duration RATE_LIMIT_PERIOD = Duration.ofSeconds(5);
+
+    private final long windowNanos;
+    private final ConcurrentMap<String, Buffer> buffers;
+    private final ConcurrentMap<String, RateBudget> budgets;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Construct new {@link ReplyCoalescer}.
+     *
+     * @param window The base coalescing window.
+     * @throws IllegalArgumentException If the window is negative.
+     */
+    public ReplyCoalescer(@NotNull Duration window) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Coalescing window must not be negative");
+        }
+
+        this.windowNanos = window.toNanos();
+        this.buffers = new ConcurrentHashMap<>();
+        this.budgets = new ConcurrentHashMap<>();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Rextra-ReplyCoalescer");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Queue a message to the source.
+     *
+     * @param bucket The rate-limit bucket (e.g. channel ID).
+     * @param key The source key (e.g. ID of the replied-to message).
+     * @param content The message content.
+     * @param sender Function that creates the send action from the (merged) content.
+     *               The function of the first message in the batch is used.
+     * @return {@link CompletableFuture} of the sent (maybe merged) {@link Message}.
+     */
+    public @NotNull CompletableFuture<Message> send(@NotNull String bucket,
+                                                    @NotNull String key,
+                                                    @NotNull String content,
+                                                    @NotNull Function<String, RestAction<Message>> sender) {
+        CompletableFuture<Message> future = new CompletableFuture<>();
+
+        while (true) {
+            Buffer buffer = buffers.computeIfAbsent(key, id -> new Buffer(bucket, id));
+
+            synchronized (buffer) {
+                if (!buffer.evicted) {
+                    buffer.addMessage(content, sender, future);
+
+                    return future;
+                }
+            }
+        }
+    }
+
+    /**
+     * Queue an edit of the message.
+     * <br>
+     * If the message already has a pending edit, it's replaced by this one.
+     *
+     * @param bucket The rate-limit bucket (e.g. channel ID), also the key of the batched edits.
+     * @param messageId The ID of the message to edit.
+     * @param content The new message content.
+     * @param editor Function that creates the edit action from the content.
+     * @return {@link CompletableFuture} of the edited {@link Message}.
+     */
+    public @NotNull CompletableFuture<Message> edit(@NotNull String bucket,
+                                                    long messageId,
+                                                    @NotNull String content,
+                                                    @NotNull Function<String, RestAction<Message>> editor) {
+        CompletableFuture<Message> future = new CompletableFuture<>();
+
+        while (true) {
+            Buffer buffer = buffers.computeIfAbsent(bucket, id -> new Buffer(bucket, id));
+
+            synchronized (buffer) {
+                if (!buffer.evicted) {
+                    buffer.addEdit(messageId, content, editor, future);
+
+                    return future;
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush all buffered messages and edits immediately.
+     */
+    public void flush() {
+        for (Buffer buffer : buffers.values()) {
+            buffer.flush();
+        }
+    }
+
+    /**
+     * Flush all buffers and stop the flushing thread.
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    /**
+     * Estimated number of requests the bucket may still send now.
+     *
+     * @param bucket The rate-limit bucket.
+     * @return The remaining budget, {@link #RATE_LIMIT} if nothing was sent recently.
+     */
+    public int getRemainingBudget(@NotNull String bucket) {
+        int[] remaining = {RATE_LIMIT};
+
+        budgets.computeIfPresent(bucket, (id, budget) -> {
+            remaining[0] = budget.remaining(System.nanoTime());
+
+            return budget;
+        });
+
+        return remaining[0];
+    }
+
+    // Budgets are only touched inside compute(), which serializes the buffers of a bucket
+
+    private void record(@NotNull String bucket, long now) {
+        budgets.compute(bucket, (id, budget) -> {
+            RateBudget updated = budget == null ? new RateBudget(RATE_LIMIT, RATE_LIMIT_PERIOD.toNanos()) : budget;
+            updated.record(now);
+
+            return updated;
+        });
+    }
+
+    private long nextDelay(@NotNull String bucket, long now) {
+        long[] delay = {windowNanos};
+
+        budgets.computeIfPresent(bucket, (id, budget) -> {
+            delay[0] = budget.nextDelay(now, windowNanos);
+
+            return budget;
+        });
+
+        return delay[0];
+    }
+
+    private void evictBudget(@NotNull String bucket) {
+        budgets.computeIfPresent(bucket, (id, budget) -> budget.isIdle(System.nanoTime()) ? null : budget);
+    }
+
+    private static void execute(@NotNull Function<String, RestAction<Message>> function,
+                                @NotNull String content,
+                                @NotNull List<CompletableFuture<Message>> futures) {
+        try {
+            function.apply(content).queue(message -> futures.forEach(future -> future.complete(message)),
+                    failure -> futures.forEach(future -> future.completeExceptionally(failure)));
+        } catch (RuntimeException exception) {
+            futures.forEach(future -> future.completeExceptionally(exception));
+        }
+    }
+
+    private final class Buffer {
+        private final String bucket;
+        private final String key;
+        private final Map<Long, PendingEdit> edits;
+        private StringBuilder content;
+        private Function<String, RestAction<Message>> sender;
+        private List<CompletableFuture<Message>> futures;
+        private ScheduledFuture<?> scheduled;
+        private boolean evicted;
+
+        private Buffer(@NotNull String bucket, @NotNull String key) {
+            this.bucket = bucket;
+            this.key = key;
+            this.edits = new LinkedHashMap<>();
+            this.futures = new ArrayList<>();
+        }
+
+        private void addMessage(@NotNull String message,
+                                @NotNull Function<String, RestAction<Message>> sender,
+                                @NotNull CompletableFuture<Message> future) {
+            if (content != null && content.length() + 1 + message.length() > Message.MAX_CONTENT_LENGTH) {
+                // Doesn't fit, send what we have
+                sendMessages(System.nanoTime());
+            }
+
+            if (content == null) {
+                content = new StringBuilder(message);
+                this.sender = sender;
+            } else {
+                content.append('\n').append(message);
+            }
+
+            futures.add(future);
+            schedule();
+        }
+
+        private void addEdit(long messageId,
+                             @NotNull String content,
+                             @NotNull Function<String, RestAction<Message>> editor,
+                             @NotNull CompletableFuture<Message> future) {
+            PendingEdit edit = edits.computeIfAbsent(messageId, id -> new PendingEdit());
+
+            edit.content = content;
+            edit.editor = editor;
+            edit.futures.add(future);
+
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled != null) {
+                return;
+            }
+
+            try {
+                scheduled = scheduler.schedule(this::flush,
+                        nextDelay(bucket, System.nanoTime()),
+                        TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException exception) {
+                // Shut down, don't buffer anymore
+                flushNow();
+            }
+        }
+
+        private synchronized void flush() {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+
+            flushNow();
+        }
+
+        private void flushNow() {
+            long now = System.nanoTime();
+            scheduled = null;
+
+            if (content != null) {
+                sendMessages(now);
+            }
+
+            for (PendingEdit edit : edits.values()) {
+                record(bucket, now);
+                execute(edit.editor, edit.content, edit.futures);
+            }
+
+            edits.clear();
+            evict();
+
+            try {
+                // Keep the budget history for a period, then drop it if the bucket is quiet
+                scheduler.schedule(() -> evictBudget(bucket), RATE_LIMIT_PERIOD.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException exception) {
+                evictBudget(bucket);
+            }
+        }
+
+        private void sendMessages(long now) {
+            record(bucket, now);
+            execute(sender, content.toString(), futures);
+
+            content = null;
+            sender = null;
+            futures = new ArrayList<>();
+        }
+
+        private void evict() {
+            if (evicted || scheduled != null || content != null || !edits.isEmpty()) {
+                return;
+            }
+
+            evicted = true;
+            buffers.remove(key, this);
+        }
+    }
+
+    private static final class PendingEdit {
+        private final List<CompletableFuture<Message>> futures = new ArrayList<>();
+        private String content;
+        private Function<String, RestAction<Message>> editor;
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.replies;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.requests.RestAction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Renders streamed text into a message, editing it as more text arrives.
+ * <br>
+ * Chunks are appended as is (without separators), either by a {@link Flow.Publisher} this reply subscribes to
+ * (command entry points may return one), or directly with {@link #append(CharSequence)} and {@link #complete()}.
+ * <br>
+ * At most one request is in flight at a time. The next edit is sent once the previous one is done,
+ * no earlier than the minimal interval after it, and no earlier than the rate-limit budget
+ * of the message allows; text received meanwhile is rendered at once, so intermediate states nobody would see
+ * are never sent. Slow (e.g. rate-limited) requests therefore slow the edits down by themselves.
+ * <br>
+ * Text exceeding {@link Message#MAX_CONTENT_LENGTH} continues in a new message.
+ * While more than two messages worth of text wait to be rendered, no more chunks are requested from the publisher.
+ */
+public final class StreamingReply implements Flow.Subscriber<CharSequence> {
+    /**
+     * Default minimal interval between two edits of the message.
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+
+    private static final int MAX_BUFFERED = 2 * Message.MAX_CONTENT_LENGTH;
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private final Function<String, RestAction<Message>> sender;
+    private final BiFunction<Long, String, RestAction<Message>> editor;
+    private final long intervalNanos;
+    private final RateBudget budget;
+    private final CompletableFuture<Void> completion;
+    private final StringBuilder text;
+    private Flow.Subscription subscription;
+    private ScheduledFuture<?> scheduled;
+    private long messageId;
+    private long lastRender;
+    private boolean dirty;
+    private boolean inFlight;
+    private boolean paused;
+    private boolean done;
+    private Throwable failure;
+
+    /**
+     * Construct new {@link StreamingReply}.
+     *
+     * @param sender Function that creates the action sending a new message from its content.
+     * @param editor Function that creates the action editing the message (by ID) from its new content.
+     * @param interval Minimal interval between two edits of the message.
+     * @throws IllegalArgumentException If the interval is negative.
+     */
+    public StreamingReply(@NotNull Function<String, RestAction<Message>> sender,
+                          @NotNull BiFunction<Long, String, RestAction<Message>> editor,
+                          @NotNull Duration interval) {
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("Streaming interval must not be negative");
+        }
+
+        this.sender = sender;
+        this.editor = editor;
+        this.intervalNanos = interval.toNanos();
+        this.budget = new RateBudget(ReplyCoalescer.RATE_LIMIT, ReplyCoalescer.RATE_LIMIT_PERIOD.toNanos());
+        this.completion = new CompletableFuture<>();
+        this.text = new StringBuilder();
+    }
+
+    /**
+     * Stream into the reply to the message.
+     *
+     * @param message The {@link Message} to reply to.
+     * @return The {@link StreamingReply}.
+     */
+    public static @NotNull StreamingReply forMessage(@NotNull Message message) {
+        return new StreamingReply(message::reply,
+                (messageId, content) -> message.getChannel().editMessageById(messageId, content),
+                DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Append the chunk to the streamed text.
+     *
+     * @param chunk The chunk.
+     * @return Current {@link StreamingReply} instance, for chaining.
+     * @throws IllegalStateException If the reply is already completed.
+     */
+    public synchronized @NotNull StreamingReply append(@NotNull CharSequence chunk) {
+        if (done) {
+            throw new IllegalStateException("Streaming reply is completed");
+        }
+
+        if (chunk.length() > 0) {
+            text.append(chunk);
+            dirty = true;
+
+            schedule();
+        }
+
+        return this;
+    }
+
+    /**
+     * Complete the reply: render the remaining text, then complete {@link #getCompletion()}.
+     */
+    public void complete() {
+        finish(null);
+    }
+
+    /**
+     * {@link CompletableFuture} completed once the whole text is rendered, or completed exceptionally
+     * if the publisher fails or a message can't be sent or edited.
+     *
+     * @return The {@link CompletableFuture}.
+     */
+    public @NotNull CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(@NotNull Flow.Subscription subscription) {
+        synchronized (this) {
+            if (this.subscription != null || done) {
+                subscription.cancel();
+
+                return;
+            }
+
+            this.subscription = subscription;
+        }
+
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(@NotNull CharSequence item) {
+        boolean request;
+
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+
+            append(item);
+
+            paused = text.length() > MAX_BUFFERED;
+            request = !paused;
+        }
+
+        if (request) {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onError(@NotNull Throwable throwable) {
+        finish(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        finish(null);
+    }
+
+    private synchronized void finish(@Nullable Throwable throwable) {
+        if (done) {
+            return;
+        }
+
+        done = true;
+        failure = throwable;
+
+        schedule();
+    }
+
+    private void schedule() {
+        if (inFlight || scheduled != null) {
+            return;
+        }
+
+        if (!dirty) {
+            if (done && !completion.isDone()) {
+                if (failure == null) {
+                    completion.complete(null);
+                } else {
+                    completion.completeExceptionally(failure);
+                }
+            }
+
+            return;
+        }
+
+        long now = System.nanoTime();
+        // The first message goes out at once, edits keep the interval
+        long delay = messageId == 0
+                ? budget.nextDelay(now, 0)
+                : Math.max(budget.nextDelay(now, 0), lastRender + intervalNanos - now);
+
+        try {
+            scheduled = SCHEDULER.schedule(this::render, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException exception) {
+            render();
+        }
+    }
+
+    private void render() {
+        boolean request = false;
+
+        synchronized (this) {
+            scheduled = null;
+
+            if (done && completion.isDone()) {
+                return;
+            }
+
+            boolean full = text.length() > Message.MAX_CONTENT_LENGTH;
+            int end = full ? pageEnd() : text.length();
+            String content = text.substring(0, end);
+
+            if (full) {
+                text.delete(0, end);
+
+                if (text.length() > 0 && text.charAt(0) == '\n') {
+                    text.deleteCharAt(0);
+                }
+
+                dirty = text.length() > 0;
+            } else {
+                dirty = false;
+            }
+
+            long now = System.nanoTime();
+
+            inFlight = true;
+            lastRender = now;
+            budget.record(now);
+
+            try {
+                RestAction<Message> action = messageId == 0 ? sender.apply(content) : editor.apply(messageId, content);
+
+                action.queue(message -> rendered(message, full, null), throwable -> rendered(null, full, throwable));
+            } catch (RuntimeException exception) {
+                rendered(null, full, exception);
+            }
+
+            if (paused && !done && text.length() <= MAX_BUFFERED) {
+                paused = false;
+                request = true;
+            }
+        }
+
+        if (request) {
+            subscription.request(1);
+        }
+    }
+
+    private void rendered(@Nullable Message message, boolean full, @Nullable Throwable throwable) {
+        Flow.Subscription cancelled = null;
+
+        synchronized (this) {
+            inFlight = false;
+
+            if (throwable != null) {
+                // Retrying would most likely fail the same way (e.g. missing permissions, deleted message)
+                cancelled = done ? null : subscription;
+                done = true;
+                dirty = false;
+
+                completion.completeExceptionally(throwable);
+            } else {
+                // A full message is final, the rest continues in a new one
+                messageId = full ? 0 : message.getIdLong();
+
+                schedule();
+            }
+        }
+
+        if (cancelled != null) {
+            cancelled.cancel();
+        }
+    }
+
+    private int pageEnd() {
+        int limit = Message.MAX_CONTENT_LENGTH;
+        int newline = text.lastIndexOf("\n", limit);
+
+        if (newline > limit / 2) {
+            return newline;
+        }
+
+        // Don't split a surrogate pair
+        return Character.isHighSurrogate(text.charAt(limit - 1)) ? limit - 1 : limit;
+    }
+
+    private static @NotNull ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Rextra-StreamingReply");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        return scheduler;
+    }
+}
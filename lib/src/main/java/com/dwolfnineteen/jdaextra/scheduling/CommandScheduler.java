@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.scheduling;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import net.dv8tion.jda.api.utils.TimeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs command invocations on a pool of worker threads, ordered by deadline instead of arrival.
+ * <br>
+ * The effective deadline of an invocation is the creation time of its event (taken from the snowflake)
+ * plus 3 seconds for slash interactions, which must be acknowledged by then, or plus the configured slack
+ * for prefix commands. Invocations with a higher priority (see
+ * {@link com.dwolfnineteen.jdaextra.annotations.commands.Priority @Priority}) go first regardless of deadlines;
+ * ties go in arrival order. Priorities are set by the policy key of the command (see
+ * {@link com.dwolfnineteen.jdaextra.JDAExtra#getPolicyKey(com.dwolfnineteen.jdaextra.models.commands.CommandModel) JDAExtra.getPolicyKey()}).
+ * <br>
+ * Under overload, an interaction still unacknowledged past its deadline can't be answered in time anyway;
+ * running it would only make the next ones miss theirs too. Such invocations are not run:
+ * their expiry callback is called instead, as soon as they are submitted or reach the head of the queue.
+ * <br>
+ * Expiry is measured with {@link System#nanoTime()} from the moment the event was submitted, minus the time
+ * the event spent in delivery. The delivery time is the age of the snowflake with the offset of the local clock
+ * removed; the offset is estimated as the smallest age seen in the last minute or two. So a host clock that runs
+ * ahead (or behind) never expires invocations, while events delivered late (e.g. replayed after a reconnect)
+ * are still recognized.
+ * <br>
+ * The queue is bounded; when it's full, new invocations are rejected.
+ */
+public final class CommandScheduler {
+    /**
+     * Default capacity of the queue.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final long INTERACTION_DEADLINE_MILLIS = 3000;
+    private static final long SKEW_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long prefixSlackMillis;
+    private final int queueCapacity;
+    private final Map<String, Integer> priorities;
+    private final PriorityBlockingQueue<Invocation> queue;
+    private final AtomicInteger queued;
+    private final AtomicLong sequence;
+    private final LongAdder expiredCount;
+    private final LongAdder rejectedCount;
+    private final Thread[] workers;
+    private final LongSupplier wallClock;
+    private final LongSupplier nanoClock;
+    // Smallest event ages (local clock offset plus the fastest delivery) of the current and the previous window
+    private long skewWindowStart;
+    private long skewWindowMinAge;
+    private long previousSkewWindowMinAge;
+
+    /**
+     * Construct new {@link CommandScheduler} and start its workers.
+     *
+     * @param threads Number of worker threads.
+     * @param queueCapacity Maximal number of waiting invocations.
+     * @param prefixSlack Deadline of prefix commands, relative to the message creation.
+     * @throws IllegalArgumentException If the number of threads or the capacity is not positive, or the slack is negative.
+     */
+    public CommandScheduler(int threads, int queueCapacity, @NotNull Duration prefixSlack) {
+        this(threads, queueCapacity, prefixSlack, System::currentTimeMillis, System::nanoTime);
+    }
+
+    CommandScheduler(int threads,
+                     int queueCapacity,
+                     @NotNull Duration prefixSlack,
+                     @NotNull LongSupplier wallClock,
+                     @NotNull LongSupplier nanoClock) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of scheduler threads must be positive");
+        }
+
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Scheduler queue capacity must be positive");
+        }
+
+        if (prefixSlack.isNegative()) {
+            throw new IllegalArgumentException("Prefix command slack must not be negative");
+        }
+
+        this.prefixSlackMillis = prefixSlack.toMillis();
+        this.queueCapacity = queueCapacity;
+        this.priorities = new ConcurrentHashMap<>();
+        this.queue = new PriorityBlockingQueue<>();
+        this.queued = new AtomicInteger();
+        this.sequence = new AtomicLong();
+        this.expiredCount = new LongAdder();
+        this.rejectedCount = new LongAdder();
+        this.workers = new Thread[threads];
+        this.wallClock = wallClock;
+        this.nanoClock = nanoClock;
+        this.skewWindowStart = nanoClock.getAsLong();
+        this.skewWindowMinAge = Long.MAX_VALUE;
+        this.previousSkewWindowMinAge = Long.MAX_VALUE;
+
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(this::run, "Rextra-CommandScheduler-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Schedule an invocation.
+     *
+     * @param commandName The policy key of the command.
+     * @param event The source event ({@link MessageReceivedEvent} or {@link SlashCommandInteractionEvent}).
+     * @param task The invocation.
+     * @param onExpired Called instead of the invocation if its interaction expires before it runs.
+     * @return True - if the invocation is scheduled (or already expired), false - if the queue is full.
+     */
+    public boolean submit(@NotNull String commandName,
+                          @NotNull GenericEvent event,
+                          @NotNull Runnable task,
+                          @NotNull Runnable onExpired) {
+        long receivedNanos = nanoClock.getAsLong();
+        SlashCommandInteractionEvent interaction = null;
+        long creation;
+        long deadline;
+
+        if (event instanceof SlashCommandInteractionEvent) {
+            interaction = (SlashCommandInteractionEvent) event;
+            creation = creationMillis(interaction.getIdLong());
+            deadline = creation + INTERACTION_DEADLINE_MILLIS;
+        } else {
+            creation = creationMillis(((MessageReceivedEvent) event).getMessageIdLong());
+            deadline = creation + prefixSlackMillis;
+        }
+
+        long deliveryMillis = deliveryMillis(wallClock.getAsLong() - creation, receivedNanos);
+        Invocation invocation = new Invocation(getPriority(commandName),
+                deadline,
+                receivedNanos + TimeUnit.MILLISECONDS.toNanos(INTERACTION_DEADLINE_MILLIS - deliveryMillis),
+                sequence.getAndIncrement(),
+                interaction,
+                task,
+                onExpired);
+
+        // Already late (e.g. delivered after a reconnect), don't take a place in the queue
+        if (invocation.isExpired(receivedNanos)) {
+            expire(invocation);
+
+            return true;
+        }
+
+        int size;
+
+        do {
+            size = queued.get();
+
+            if (size >= queueCapacity) {
+                rejectedCount.increment();
+
+                return false;
+            }
+        } while (!queued.compareAndSet(size, size + 1));
+
+        queue.add(invocation);
+
+        return true;
+    }
+
+    /**
+     * The priority of the command.
+     *
+     * @param commandName The policy key of the command.
+     * @return The priority, {@code 0} by default.
+     */
+    public int getPriority(@NotNull String commandName) {
+        Integer priority = priorities.get(commandName);
+
+        return priority == null ? 0 : priority;
+    }
+
+    /**
+     * Sets the priority of the command. Invocations with a higher priority run first.
+     *
+     * @param commandName The policy key of the command.
+     * @param priority The priority.
+     */
+    public void setPriority(@NotNull String commandName, int priority) {
+        priorities.put(commandName, priority);
+    }
+
+    /**
+     * Number of invocations waiting to run.
+     *
+     * @return Number of waiting invocations.
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * Maximal number of waiting invocations.
+     *
+     * @return The capacity of the queue.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Number of interactions that were still unacknowledged past their deadline when submitted or when their turn came.
+     *
+     * @return Number of expired interactions.
+     */
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    /**
+     * Number of invocations rejected because the queue was full.
+     *
+     * @return Number of rejected invocations.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Stop the worker threads. Waiting invocations are not run.
+     */
+    public void shutdown() {
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Invocation invocation;
+
+            try {
+                invocation = queue.take();
+            } catch (InterruptedException exception) {
+                return;
+            }
+
+            queued.decrementAndGet();
+
+            if (invocation.isExpired(nanoClock.getAsLong())) {
+                expire(invocation);
+
+                continue;
+            }
+
+            run(invocation.task);
+        }
+    }
+
+    private void expire(@NotNull Invocation invocation) {
+        expiredCount.increment();
+
+        run(invocation.onExpired);
+    }
+
+    private static void run(@NotNull Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException | Error exception) {
+            // The worker survives, so the pool doesn't shrink
+            Thread current = Thread.currentThread();
+
+            current.getUncaughtExceptionHandler().uncaughtException(current, exception);
+        }
+    }
+
+    /**
+     * Time the event spent in delivery, with the offset of the local clock removed.
+     *
+     * @param ageMillis The age of the event by the local clock.
+     * @param nowNanos The current {@link System#nanoTime()}.
+     * @return The delivery time.
+     */
+    private synchronized long deliveryMillis(long ageMillis, long nowNanos) {
+        if (nowNanos - skewWindowStart >= SKEW_WINDOW_NANOS) {
+            previousSkewWindowMinAge = skewWindowMinAge;
+            skewWindowMinAge = Long.MAX_VALUE;
+            skewWindowStart = nowNanos;
+        }
+
+        skewWindowMinAge = Math.min(skewWindowMinAge, ageMillis);
+
+        return ageMillis - Math.min(skewWindowMinAge, previousSkewWindowMinAge);
+    }
+
+    private static long creationMillis(long snowflake) {
+        return (snowflake >>> TimeUtil.TIMESTAMP_OFFSET) + TimeUtil.DISCORD_EPOCH;
+    }
+
+    private static final class Invocation implements Comparable<Invocation> {
+        private final int priority;
+        private final long deadline;
+        private final long expiryNanos;
+        private final long sequence;
+        private final SlashCommandInteractionEvent interaction;
+        private final Runnable task;
+        private final Runnable onExpired;
+
+        private Invocation(int priority,
+                           long deadline,
+                           long expiryNanos,
+                           long sequence,
+                           @Nullable SlashCommandInteractionEvent interaction,
+                           @NotNull Runnable task,
+                           @NotNull Runnable onExpired) {
+            this.priority = priority;
+            this.deadline = deadline;
+            this.expiryNanos = expiryNanos;
+            this.sequence = sequence;
+            this.interaction = interaction;
+            this.task = task;
+            this.onExpired = onExpired;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return interaction != null && nowNanos - expiryNanos > 0 && !interaction.isAcknowledged();
+        }
+
+        @Override
+        public int compareTo(@NotNull Invocation other) {
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+
+            if (deadline != other.deadline) {
+                return Long.compare(deadline, other.deadline);
+            }
+
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
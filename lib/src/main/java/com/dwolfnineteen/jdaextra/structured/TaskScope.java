@@ -0,0 +1,555 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.structured;
+
+import com.dwolfnineteen.jdaextra.exceptions.TaskScopeCancelledException;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scope of subtasks forked by a command, each on its own thread: virtual threads on JDK 21+,
+ * daemon platform threads otherwise.
+ * <br>
+ * When any subtask fails, the others are cancelled (interrupted). The whole scope is cancelled
+ * when the timeout passes, when the interaction can no longer be replied to (unacknowledged after 3 seconds,
+ * or its token expired after 15 minutes), or when the user clicks the {@link #createCancelButton(String) cancel
+ * button}. Closing the scope cancels what still runs and waits for it to stop, so no work outlives the command:
+ * <pre>{@code
+ * try (TaskScope scope = event.openTaskScope(Duration.ofSeconds(10))) {
+ *     TaskScope.Subtask<Stats> stats = scope.fork(() -> fetchStats(user));
+ *     TaskScope.Subtask<List<Game>> games = scope.fork(() -> fetchGames(user));
+ *
+ *     scope.join();
+ *     scope.throwIfFailed();
+ *
+ *     event.reply(format(stats.get(), games.get())).queue();
+ * }
+ * }</pre>
+ * {@code java.util.concurrent.StructuredTaskScope} is a preview API (unavailable without
+ * {@code --enable-preview}), so the scope follows its shutdown-on-failure semantics itself.
+ */
+public final class TaskScope implements AutoCloseable {
+    /**
+     * Prefix of the cancel button IDs.
+     */
+    public static final String CANCEL_BUTTON_PREFIX = "rextra:cancel-scope:";
+
+    private static final long INTERACTION_ACKNOWLEDGE_MILLIS = 3000;
+    private static final long INTERACTION_TOKEN_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    private static final ThreadFactory THREAD_FACTORY = createThreadFactory();
+    private static final AtomicLong IDS = new AtomicLong();
+    private static final Map<Long, TaskScope> CANCELLABLE = new ConcurrentHashMap<>();
+
+    private final long id;
+    private final long userId;
+    private final ReentrantLock lock;
+    private final Condition changed;
+    private final List<Subtask<?>> subtasks;
+    private final List<ScheduledFuture<?>> timers;
+    private int running;
+    private volatile Reason cancellationReason;
+    private Throwable failure;
+    private boolean closed;
+
+    /**
+     * Open new {@link TaskScope}.
+     *
+     * @param userId ID of the user allowed to cancel the scope with the cancel button, {@code 0} if anyone.
+     */
+    public TaskScope(long userId) {
+        this.id = IDS.incrementAndGet();
+        this.userId = userId;
+        this.lock = new ReentrantLock();
+        this.changed = lock.newCondition();
+        this.subtasks = new ArrayList<>();
+        this.timers = new ArrayList<>();
+    }
+
+    /**
+     * Cancel the scope after the timeout.
+     *
+     * @param timeout The timeout.
+     * @return Current {@link TaskScope} instance, for chaining.
+     */
+    public @NotNull TaskScope cancelAfter(@NotNull Duration timeout) {
+        schedule(timeout.toMillis(), () -> cancel(Reason.TIMEOUT));
+
+        return this;
+    }
+
+    /**
+     * Cancel the scope once the interaction can no longer be replied to: if it's still unacknowledged
+     * 3 seconds after its creation, or when its token expires.
+     *
+     * @param interaction The interaction.
+     * @return Current {@link TaskScope} instance, for chaining.
+     */
+    public @NotNull TaskScope cancelOnExpiry(@NotNull IReplyCallback interaction) {
+        long created = interaction.getTimeCreated().toInstant().toEpochMilli();
+
+        schedule(created + INTERACTION_ACKNOWLEDGE_MILLIS - System.currentTimeMillis(), () -> {
+            if (!interaction.isAcknowledged()) {
+                cancel(Reason.INTERACTION_EXPIRED);
+            } else {
+                schedule(created + INTERACTION_TOKEN_MILLIS - System.currentTimeMillis(),
+                        () -> cancel(Reason.INTERACTION_EXPIRED));
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Create a button cancelling the scope, to attach to a reply. It works until the scope is closed.
+     *
+     * @param label The button label.
+     * @return The {@link Button}.
+     */
+    public @NotNull Button createCancelButton(@NotNull String label) {
+        CANCELLABLE.put(id, this);
+
+        return Button.danger(CANCEL_BUTTON_PREFIX + id, label);
+    }
+
+    /**
+     * Fork a subtask, starting it on a new thread.
+     * <br>
+     * If the scope is already cancelled, the subtask is not started.
+     *
+     * @param task The subtask.
+     * @param <T> The result type.
+     * @return The {@link Subtask}.
+     * @throws IllegalStateException If the scope is closed.
+     */
+    public <T> @NotNull Subtask<T> fork(@NotNull Callable<? extends T> task) {
+        Subtask<T> subtask = new Subtask<>(task);
+
+        lock.lock();
+
+        try {
+            if (closed) {
+                throw new IllegalStateException("Task scope is closed");
+            }
+
+            if (cancellationReason != null) {
+                subtask.state = State.CANCELLED;
+
+                return subtask;
+            }
+
+            subtask.thread = THREAD_FACTORY.newThread(subtask);
+            subtasks.add(subtask);
+            running++;
+
+            // Started under the lock, so a concurrent cancellation can't miss the thread
+            subtask.thread.start();
+        } finally {
+            lock.unlock();
+        }
+
+        return subtask;
+    }
+
+    /**
+     * Wait until all subtasks complete, any of them fails, or the scope is cancelled.
+     *
+     * @throws InterruptedException If the current thread is interrupted while waiting.
+     * @throws TaskScopeCancelledException If the scope is cancelled (other than by a failed subtask).
+     */
+    public void join() throws InterruptedException {
+        Reason reason;
+
+        lock.lockInterruptibly();
+
+        try {
+            while (running > 0 && cancellationReason == null) {
+                changed.await();
+            }
+
+            reason = cancellationReason;
+        } finally {
+            lock.unlock();
+        }
+
+        if (reason != null && reason != Reason.FAILED) {
+            throw new TaskScopeCancelledException(reason);
+        }
+    }
+
+    /**
+     * Throws the exception of the first failed subtask, if any.
+     *
+     * @throws ExecutionException If a subtask failed, with its exception as the cause.
+     */
+    public void throwIfFailed() throws ExecutionException {
+        Throwable exception;
+
+        lock.lock();
+
+        try {
+            exception = failure;
+        } finally {
+            lock.unlock();
+        }
+
+        if (exception != null) {
+            throw new ExecutionException(exception);
+        }
+    }
+
+    /**
+     * Cancel the scope, interrupting the running subtasks.
+     */
+    public void cancel() {
+        cancel(Reason.CANCELLED);
+    }
+
+    /**
+     * Whether the scope is cancelled.
+     *
+     * @return True - if cancelled, false - otherwise.
+     */
+    public boolean isCancelled() {
+        return cancellationReason != null;
+    }
+
+    /**
+     * Why the scope is cancelled.
+     *
+     * @return The {@link Reason}, or {@code null} if the scope is not cancelled.
+     */
+    public @Nullable Reason getCancellationReason() {
+        return cancellationReason;
+    }
+
+    /**
+     * Close the scope: cancel the running subtasks and wait for them to stop.
+     */
+    @Override
+    public void close() {
+        boolean interrupted = false;
+
+        lock.lock();
+
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            if (running > 0) {
+                cancel(Reason.CLOSED);
+            }
+
+            while (running > 0) {
+                try {
+                    changed.await();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+
+            for (ScheduledFuture<?> timer : timers) {
+                timer.cancel(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        CANCELLABLE.remove(id, this);
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Handle a click on a {@link #createCancelButton(String) cancel button}.
+     *
+     * @param event The {@link ButtonInteractionEvent}.
+     * @return True - if the button is a cancel button (the event is handled), false - otherwise.
+     */
+    public static boolean handleCancelButton(@NotNull ButtonInteractionEvent event) {
+        String componentId = event.getComponentId();
+
+        if (!componentId.startsWith(CANCEL_BUTTON_PREFIX)) {
+            return false;
+        }
+
+        TaskScope scope;
+
+        try {
+            scope = CANCELLABLE.get(Long.parseLong(componentId.substring(CANCEL_BUTTON_PREFIX.length())));
+        } catch (NumberFormatException exception) {
+            scope = null;
+        }
+
+        if (scope == null) {
+            event.reply("Nothing to cancel").setEphemeral(true).queue();
+        } else if (scope.userId != 0 && scope.userId != event.getUser().getIdLong()) {
+            event.reply("Only the user who ran the command can cancel it").setEphemeral(true).queue();
+        } else {
+            scope.cancel(Reason.USER);
+
+            event.deferEdit().queue();
+        }
+
+        return true;
+    }
+
+    private void cancel(@NotNull Reason reason) {
+        lock.lock();
+
+        try {
+            if (cancellationReason != null) {
+                return;
+            }
+
+            cancellationReason = reason;
+
+            for (Subtask<?> subtask : subtasks) {
+                if (subtask.state == State.RUNNING) {
+                    subtask.thread.interrupt();
+                }
+            }
+
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void complete(@NotNull Subtask<?> subtask, @Nullable Throwable exception) {
+        lock.lock();
+
+        try {
+            running--;
+
+            if (exception == null) {
+                subtask.state = State.SUCCESS;
+            } else if (cancellationReason != null) {
+                // Failures after the cancellation are the effect of the interruption
+                subtask.state = State.CANCELLED;
+            } else {
+                subtask.state = State.FAILED;
+                failure = exception;
+
+                cancel(Reason.FAILED);
+            }
+
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(long delayMillis, @NotNull Runnable action) {
+        lock.lock();
+
+        try {
+            if (!closed) {
+                timers.add(Timer.EXECUTOR.schedule(action, Math.max(delayMillis, 0), TimeUnit.MILLISECONDS));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static @NotNull ThreadFactory createThreadFactory() {
+        try {
+            // Thread.ofVirtual().name("Rextra-TaskScope-", 0).factory(), compiled against JDK 17
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "Rextra-TaskScope-", 0L);
+
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            // Before JDK 21 (or with virtual threads as a disabled preview)
+            AtomicLong threadNumber = new AtomicLong();
+
+            return task -> {
+                Thread thread = new Thread(task, "Rextra-TaskScope-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * Why the scope was cancelled.
+     */
+    public enum Reason {
+        /**
+         * The timeout passed.
+         */
+        TIMEOUT,
+        /**
+         * The interaction can no longer be replied to.
+         */
+        INTERACTION_EXPIRED,
+        /**
+         * The user clicked the cancel button.
+         */
+        USER,
+        /**
+         * {@link #cancel()} was called.
+         */
+        CANCELLED,
+        /**
+         * A subtask failed.
+         */
+        FAILED,
+        /**
+         * The scope was closed while subtasks were still running.
+         */
+        CLOSED
+    }
+
+    /**
+     * State of a {@link Subtask}.
+     */
+    public enum State {
+        /**
+         * Not completed yet.
+         */
+        RUNNING,
+        /**
+         * Completed with a result.
+         */
+        SUCCESS,
+        /**
+         * Completed with an exception.
+         */
+        FAILED,
+        /**
+         * Cancelled before completion (or not started, since the scope was already cancelled).
+         */
+        CANCELLED
+    }
+
+    /**
+     * Subtask forked in a {@link TaskScope}.
+     *
+     * @param <T> The result type.
+     */
+    public final class Subtask<T> implements Runnable {
+        private final Callable<? extends T> task;
+        private volatile State state;
+        private Thread thread;
+        private T result;
+        private Throwable exception;
+
+        private Subtask(@NotNull Callable<? extends T> task) {
+            this.task = task;
+            this.state = State.RUNNING;
+        }
+
+        /**
+         * Runs the subtask. Called by its thread only.
+         */
+        @Override
+        public void run() {
+            if (Thread.currentThread() != thread) {
+                throw new IllegalStateException("Subtask can only be run by its thread");
+            }
+
+            try {
+                result = task.call();
+            } catch (Throwable throwable) {
+                exception = throwable;
+            }
+
+            complete(this, exception);
+        }
+
+        /**
+         * The result of the subtask.
+         *
+         * @return The result.
+         * @throws IllegalStateException If the subtask hasn't completed successfully.
+         */
+        public T get() {
+            if (state != State.SUCCESS) {
+                throw new IllegalStateException("Subtask is " + state + ", not " + State.SUCCESS);
+            }
+
+            return result;
+        }
+
+        /**
+         * The exception of the subtask.
+         *
+         * @return The exception, or {@code null} if the subtask hasn't failed.
+         */
+        public @Nullable Throwable getException() {
+            return state == State.FAILED ? exception : null;
+        }
+
+        /**
+         * The state of the subtask.
+         *
+         * @return The {@link State}.
+         */
+        public @NotNull State getState() {
+            return state;
+        }
+    }
+
+    private static final class Timer {
+        private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static @NotNull ScheduledThreadPoolExecutor createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+                Thread thread = new Thread(task, "Rextra-TaskScopeTimer");
+                thread.setDaemon(true);
+
+                return thread;
+            });
+
+            executor.setRemoveOnCancelPolicy(true);
+
+            return executor;
+        }
+    }
+}
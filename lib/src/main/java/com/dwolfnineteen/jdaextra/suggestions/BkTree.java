@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.suggestions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * BK-tree over the Levenshtein distance, stored in flat arrays.
+ * <br>
+ * Children of a node are kept as a linked list of siblings, each labeled with its distance to the parent.
+ * A search only descends into children whose label is within the tolerance of the distance to the query,
+ * which is sound because the Levenshtein distance is a metric.
+ */
+final class BkTree {
+    private String[] keys;
+    private String[] targets;
+    private int[] labels;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int size;
+    private int maxKeyLength;
+
+    BkTree() {
+        keys = new String[8];
+        targets = new String[8];
+        labels = new int[8];
+        firstChild = new int[8];
+        nextSibling = new int[8];
+    }
+
+    /**
+     * Adds the key, resolving to the target. Keys already present are ignored, so the first target wins.
+     *
+     * @param key The key.
+     * @param target The target.
+     */
+    void add(@NotNull String key, @NotNull String target) {
+        if (size == 0) {
+            append(key, target, 0);
+
+            return;
+        }
+
+        int node = 0;
+
+        while (true) {
+            int distance = distance(key, keys[node], new int[key.length() + 1], new int[key.length() + 1]);
+
+            if (distance == 0) {
+                return;
+            }
+
+            int child = firstChild[node];
+
+            while (child != -1 && labels[child] != distance) {
+                child = nextSibling[child];
+            }
+
+            if (child == -1) {
+                int added = append(key, target, distance);
+
+                nextSibling[added] = firstChild[node];
+                firstChild[node] = added;
+
+                return;
+            }
+
+            node = child;
+        }
+    }
+
+    /**
+     * Finds the target of the key closest to the query.
+     * Among the keys at the same distance, the earliest added one wins.
+     *
+     * @param query The query.
+     * @param tolerance The maximal distance.
+     * @return The target, or {@code null} if no key is within the tolerance or the query is a key itself.
+     */
+    @Nullable
+    String search(@NotNull String query, int tolerance) {
+        // Keys never exceed this length, so longer queries can't be within the tolerance
+        if (size == 0 || query.length() > maxKeyLength + tolerance) {
+            return null;
+        }
+
+        int[] previousRow = new int[query.length() + 1];
+        int[] currentRow = new int[query.length() + 1];
+        int[] stack = new int[size];
+        int depth = 0;
+        int best = -1;
+        int bestDistance = tolerance + 1;
+
+        stack[depth++] = 0;
+
+        while (depth > 0) {
+            int node = stack[--depth];
+            int distance = distance(query, keys[node], previousRow, currentRow);
+
+            if (distance == 0) {
+                return null;
+            }
+
+            if (distance < bestDistance || (distance == bestDistance && node < best)) {
+                best = node;
+                bestDistance = distance;
+            }
+
+            for (int child = firstChild[node]; child != -1; child = nextSibling[child]) {
+                if (Math.abs(labels[child] - distance) <= tolerance) {
+                    stack[depth++] = child;
+                }
+            }
+        }
+
+        return best == -1 ? null : targets[best];
+    }
+
+    private int append(@NotNull String key, @NotNull String target, int label) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+
+            keys = Arrays.copyOf(keys, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+        }
+
+        keys[size] = key;
+        targets[size] = target;
+        labels[size] = label;
+        firstChild[size] = -1;
+        nextSibling[size] = -1;
+        maxKeyLength = Math.max(maxKeyLength, key.length());
+
+        return size++;
+    }
+
+    private static int distance(@NotNull String query, @NotNull String key, int[] previousRow, int[] currentRow) {
+        int queryLength = query.length();
+
+        for (int i = 0; i <= queryLength; i++) {
+            previousRow[i] = i;
+        }
+
+        for (int j = 1; j <= key.length(); j++) {
+            char keyChar = key.charAt(j - 1);
+
+            currentRow[0] = j;
+
+            for (int i = 1; i <= queryLength; i++) {
+                int substitution = previousRow[i - 1] + (query.charAt(i - 1) == keyChar ? 0 : 1);
+
+                currentRow[i] = Math.min(substitution, Math.min(previousRow[i], currentRow[i - 1]) + 1);
+            }
+
+            int[] row = previousRow;
+
+            previousRow = currentRow;
+            currentRow = row;
+        }
+
+        return previousRow[queryLength];
+    }
+}
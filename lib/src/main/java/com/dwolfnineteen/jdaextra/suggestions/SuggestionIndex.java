@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.suggestions;
+
+import com.dwolfnineteen.jdaextra.models.CommonCommandProperties;
+import com.dwolfnineteen.jdaextra.models.CommonSlashLikeCommandProperties;
+import com.dwolfnineteen.jdaextra.models.commands.CommandModel;
+import com.dwolfnineteen.jdaextra.models.subcommands.SubcommandProperties;
+import com.dwolfnineteen.jdaextra.models.subcommands.groups.SlashLikeSubcommandGroupProperties;
+import com.dwolfnineteen.jdaextra.models.subcommands.groups.SubcommandGroupProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Precomputed index of command names for "did you mean" suggestions.
+ * <br>
+ * Built once from the names of all commands, subcommand groups and subcommands, including their localized names
+ * (a localized name resolves to the name it localizes). Every level of the command tree is a separate
+ * {@link BkTree BK-tree}, so a mistyped subcommand is only matched against the siblings it could have meant.
+ * Matching is case-insensitive.
+ */
+public final class SuggestionIndex {
+    /**
+     * Names longer than this are never looked up (Discord limits names to 32 characters).
+     */
+    private static final int MAX_QUERY_LENGTH = 64;
+
+    private final int maxDistance;
+    private final Map<String, BkTree> levels;
+
+    /**
+     * Build the index of the commands.
+     *
+     * @param maxDistance The maximal edit distance of a suggestion.
+     * @param commands {@link Collection} of command models.
+     * @throws IllegalArgumentException If the maximal distance is not positive.
+     */
+    public SuggestionIndex(int maxDistance, @NotNull Collection<? extends CommonCommandProperties> commands) {
+        if (maxDistance < 1) {
+            throw new IllegalArgumentException("Maximal suggestion distance must be positive");
+        }
+
+        this.maxDistance = maxDistance;
+        this.levels = new HashMap<>();
+
+        for (CommonCommandProperties command : commands) {
+            String commandName = command.getName();
+
+            addCommand(level(""), command);
+
+            if (!(command instanceof CommandModel)) {
+                continue;
+            }
+
+            for (SubcommandProperties subcommand : ((CommandModel) command).getSubcommandMap().values()) {
+                addCommand(level(commandName), (CommonCommandProperties) subcommand);
+            }
+
+            for (SubcommandGroupProperties group : ((CommandModel) command).getSubcommandGroupMap().values()) {
+                addGroup(level(commandName), group);
+
+                BkTree groupLevel = level(commandName + " " + group.getName());
+
+                for (SubcommandProperties subcommand : group.getSubcommandMap().values()) {
+                    addCommand(groupLevel, (CommonCommandProperties) subcommand);
+                }
+            }
+        }
+    }
+
+    /**
+     * Suggests the name closest to the unknown one.
+     * <br>
+     * At most half of the name may be edited, so that a couple of letters don't match everything.
+     *
+     * @param parentName The parent path (e.g. {@code "command"} or {@code "command group"}),
+     *                   or {@code null} for top-level commands.
+     * @param name The unknown name.
+     * @return The suggested name, or {@code null} if nothing is close enough.
+     */
+    public @Nullable String suggest(@Nullable String parentName, @NotNull String name) {
+        BkTree level = levels.get(parentName == null ? "" : parentName);
+        int tolerance = Math.min(maxDistance, name.length() / 2);
+
+        if (level == null || tolerance == 0 || name.length() > MAX_QUERY_LENGTH) {
+            return null;
+        }
+
+        return level.search(name.toLowerCase(Locale.ROOT), tolerance);
+    }
+
+    /**
+     * The maximal edit distance of a suggestion.
+     *
+     * @return The maximal distance.
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    private @NotNull BkTree level(@NotNull String path) {
+        return levels.computeIfAbsent(path, key -> new BkTree());
+    }
+
+    private void addCommand(@NotNull BkTree level, @NotNull CommonCommandProperties command) {
+        level.add(command.getName().toLowerCase(Locale.ROOT), command.getName());
+
+        if (command instanceof CommonSlashLikeCommandProperties) {
+            addLocalizations(level, command.getName(), ((CommonSlashLikeCommandProperties) command)
+                    .getNameLocalizations()
+                    .toMap());
+        }
+    }
+
+    private void addGroup(@NotNull BkTree level, @NotNull SubcommandGroupProperties group) {
+        level.add(group.getName().toLowerCase(Locale.ROOT), group.getName());
+
+        if (group instanceof SlashLikeSubcommandGroupProperties) {
+            addLocalizations(level, group.getName(), ((SlashLikeSubcommandGroupProperties) group)
+                    .getNameLocalization()
+                    .toMap());
+        }
+    }
+
+    private void addLocalizations(@NotNull BkTree level, @NotNull String name, @NotNull Map<?, String> localizations) {
+        for (String localizedName : localizations.values()) {
+            level.add(localizedName.toLowerCase(Locale.ROOT), name);
+        }
+    }
+}
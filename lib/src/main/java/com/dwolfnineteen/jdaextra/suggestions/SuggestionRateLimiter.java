@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.suggestions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-channel rate limiter of suggestions, so that typo spam doesn't turn into reply spam.
+ * <br>
+ * A channel gets at most one suggestion per cooldown. Lock-free; expired channels are pruned
+ * once the number of tracked channels grows large.
+ */
+public final class SuggestionRateLimiter {
+    private static final int PRUNE_THRESHOLD = 4096;
+
+    private final long cooldownNanos;
+    private final Map<Long, Long> lastSuggestions;
+
+    /**
+     * Construct new {@link SuggestionRateLimiter}.
+     *
+     * @param cooldown The cooldown of a channel.
+     * @throws IllegalArgumentException If the cooldown is negative.
+     */
+    public SuggestionRateLimiter(@NotNull Duration cooldown) {
+        if (cooldown.isNegative()) {
+            throw new IllegalArgumentException("Suggestion cooldown must not be negative");
+        }
+
+        this.cooldownNanos = cooldown.toNanos();
+        this.lastSuggestions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Acquires a suggestion for the channel.
+     *
+     * @param channelId The channel ID.
+     * @return Whether a suggestion may be sent to the channel now.
+     */
+    public boolean tryAcquire(long channelId) {
+        long now = System.nanoTime();
+        Long last = lastSuggestions.get(channelId);
+
+        if (last != null && now - last < cooldownNanos) {
+            return false;
+        }
+
+        // Only one of the concurrent callers wins the swap
+        boolean acquired = last == null
+                ? lastSuggestions.putIfAbsent(channelId, now) == null
+                : lastSuggestions.replace(channelId, last, now);
+
+        if (acquired && lastSuggestions.size() > PRUNE_THRESHOLD) {
+            lastSuggestions.values().removeIf(time -> now - time >= cooldownNanos);
+        }
+
+        return acquired;
+    }
+
+    /**
+     * The cooldown of a channel.
+     *
+     * @return The cooldown.
+     */
+    public @NotNull Duration getCooldown() {
+        return Duration.ofNanos(cooldownNanos);
+    }
+}
@@ -0,0 +1,582 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.sync;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Pushes the command sets assigned to guilds to Discord, with {@link Guild#updateCommands()}.
+ * <br>
+ * The command data of each guild is hashed, and a guild is updated only when the hash differs from the last pushed one.
+ * Updates are paced (a fixed number of requests per second, and at most {@value #MAX_IN_FLIGHT} in flight),
+ * so thousands of guilds are synchronized without hitting rate limits.
+ * <br>
+ * The assigned command sets are saved into a state file with the pushed hashes, so after a restart
+ * the guilds keep their sets without being assigned again, and only the guilds whose command sets changed
+ * (or whose update didn't finish) are updated. Assigning the same sets again after a restart is a no-op.
+ *
+ * @see com.dwolfnineteen.jdaextra.annotations.commands.GuildScoped GuildScoped
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setGuildCommandSync(Path, int) JDAExtraBuilder.setGuildCommandSync()
+ */
+public final class GuildCommandSynchronizer {
+    /**
+     * Maximal number of updates in flight.
+     */
+    public static final int MAX_IN_FLIGHT = 4;
+
+    private static final Logger LOG = LoggerFactory.getLogger(GuildCommandSynchronizer.class);
+    private static final int STATE_MAGIC = 0x52584753; // "RXGS"
+    private static final short STATE_VERSION = 2;
+    private static final long RETRY_DELAY_MILLIS = 30_000;
+    private static final long SAVE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final Path stateFile;
+    private final long intervalNanos;
+    private final long retryDelayMillis;
+    private final Map<Long, Set<String>> assignments;
+    // Hash of the command data last pushed to each guild
+    private final Map<Long, Long> state;
+    private final Set<Long> pending;
+    private final ReentrantLock lock;
+    private final Condition hasPending;
+    private final Semaphore inFlight;
+    private final LongAdder updatedCount;
+    private final LongAdder unchangedCount;
+    private final LongAdder failedCount;
+    // Replaced (not cleared) when commands change, so builds in progress can't leave stale entries
+    private volatile Map<String, CommandSet> commandSets;
+    private volatile Function<Long, Guild> guildLookup;
+    private volatile Function<Set<String>, List<CommandData>> commandData;
+    private volatile boolean stateChanged;
+    private volatile boolean closed;
+    private Thread worker;
+
+    /**
+     * Construct new {@link GuildCommandSynchronizer}.
+     *
+     * @param stateFile The state file. {@code null} to keep the state in memory only.
+     * @param requestsPerSecond Maximal number of updates started per second (Discord allows 50 requests per second).
+     * @throws IllegalArgumentException If the number of requests per second is not between 1 and 50.
+     * @throws UncheckedIOException If the state file exists but can't be read.
+     */
+    public GuildCommandSynchronizer(@Nullable Path stateFile, int requestsPerSecond) {
+        this(stateFile, requestsPerSecond, RETRY_DELAY_MILLIS);
+    }
+
+    GuildCommandSynchronizer(@Nullable Path stateFile, int requestsPerSecond, long retryDelayMillis) {
+        if (requestsPerSecond < 1 || requestsPerSecond > 50) {
+            throw new IllegalArgumentException("Number of requests per second must be between 1 and 50");
+        }
+
+        this.stateFile = stateFile;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        this.retryDelayMillis = retryDelayMillis;
+        this.assignments = new ConcurrentHashMap<>();
+        this.state = new ConcurrentHashMap<>();
+        this.commandSets = new ConcurrentHashMap<>();
+        this.pending = new LinkedHashSet<>();
+        this.lock = new ReentrantLock();
+        this.hasPending = lock.newCondition();
+        this.inFlight = new Semaphore(MAX_IN_FLIGHT);
+        this.updatedCount = new LongAdder();
+        this.unchangedCount = new LongAdder();
+        this.failedCount = new LongAdder();
+
+        if (stateFile != null) {
+            try {
+                readState(stateFile, assignments, state);
+            } catch (NoSuchFileException exception) {
+                // First start
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    /**
+     * Start synchronizing all known guilds (called by {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra} on ready).
+     *
+     * @param jda The {@link JDA} (or one of its shards).
+     * @param commandData Function building the command data of a combination of command sets.
+     */
+    public void start(@NotNull JDA jda, @NotNull Function<Set<String>, List<CommandData>> commandData) {
+        ShardManager shardManager = jda.getShardManager();
+
+        start(shardManager == null ? jda::getGuildById : shardManager::getGuildById, commandData);
+    }
+
+    synchronized void start(@NotNull Function<Long, Guild> guildLookup,
+                            @NotNull Function<Set<String>, List<CommandData>> commandData) {
+        this.guildLookup = guildLookup;
+        this.commandData = commandData;
+
+        markAllPending();
+
+        if (worker == null && !closed) {
+            worker = new Thread(this::run, "Rextra-GuildCommandSync");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Assign command sets to the guild, replacing the previous ones.
+     * <br>
+     * Assignments are saved into the state file, so they don't need to be repeated after a restart.
+     *
+     * @param guildId The guild ID.
+     * @param sets The command set names. Empty to remove all guild-scoped commands from the guild.
+     */
+    public void assign(long guildId, @NotNull Collection<String> sets) {
+        Set<String> previous = sets.isEmpty()
+                ? assignments.remove(guildId)
+                : assignments.put(guildId, Set.copyOf(sets));
+
+        if (Set.copyOf(sets).equals(previous == null ? Set.of() : previous)) {
+            return;
+        }
+
+        stateChanged = true;
+
+        markPending(guildId);
+    }
+
+    /**
+     * Command sets assigned to the guild.
+     *
+     * @param guildId The guild ID.
+     * @return Immutable {@link Set} of command set names.
+     */
+    public @NotNull Set<String> getAssignedSets(long guildId) {
+        return assignments.getOrDefault(guildId, Collections.emptySet());
+    }
+
+    /**
+     * Whether the guild is assigned any of the command sets.
+     *
+     * @param guildId The guild ID.
+     * @param sets The command set names.
+     * @return {@code true} if at least one of the sets is assigned to the guild.
+     */
+    public boolean isAssignedAny(long guildId, @NotNull String[] sets) {
+        Set<String> assigned = assignments.get(guildId);
+
+        if (assigned == null) {
+            return false;
+        }
+
+        for (String set : sets) {
+            if (assigned.contains(set)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Check the guild again once it's in the cache (called by {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra}
+     * when the guild becomes ready or available, or is joined). Guilds missing from the cache are skipped until then.
+     *
+     * @param guildId The guild ID.
+     */
+    public void guildAvailable(long guildId) {
+        // Other guilds have nothing to push
+        if (assignments.containsKey(guildId) || state.containsKey(guildId)) {
+            markPending(guildId);
+        }
+    }
+
+    /**
+     * Re-check all guilds after guild-scoped commands changed.
+     */
+    public void commandsChanged() {
+        commandSets = new ConcurrentHashMap<>();
+        markAllPending();
+    }
+
+    /**
+     * Number of guilds waiting to be checked.
+     *
+     * @return The number of pending guilds.
+     */
+    public int getPendingCount() {
+        lock.lock();
+
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of guild updates pushed to Discord.
+     *
+     * @return The number of updates.
+     */
+    public long getUpdatedCount() {
+        return updatedCount.sum();
+    }
+
+    /**
+     * Number of guild checks that found the commands up to date (so no request was made).
+     *
+     * @return The number of unchanged guilds.
+     */
+    public long getUnchangedCount() {
+        return unchangedCount.sum();
+    }
+
+    /**
+     * Number of failed guild updates.
+     *
+     * @return The number of failures.
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Stop synchronizing and save the state.
+     */
+    public void close() {
+        Thread worker;
+
+        synchronized (this) {
+            closed = true;
+            worker = this.worker;
+        }
+
+        if (worker != null) {
+            worker.interrupt();
+        }
+
+        saveState();
+    }
+
+    private void markPending(long guildId) {
+        lock.lock();
+
+        try {
+            pending.add(guildId);
+            hasPending.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void markAllPending() {
+        Set<Long> guildIds = new HashSet<>(assignments.keySet());
+        guildIds.addAll(state.keySet());
+
+        lock.lock();
+
+        try {
+            pending.addAll(guildIds);
+            hasPending.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        long nextRequest = System.nanoTime();
+        long nextSave = nextRequest + SAVE_INTERVAL_NANOS;
+
+        try {
+            while (!closed) {
+                Long guildId = takePending(nextSave);
+
+                if (guildId != null) {
+                    nextRequest = synchronize(guildId, nextRequest);
+                }
+
+                if (System.nanoTime() - nextSave >= 0) {
+                    saveState();
+                    nextSave = System.nanoTime() + SAVE_INTERVAL_NANOS;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private @Nullable Long takePending(long deadline) throws InterruptedException {
+        lock.lock();
+
+        try {
+            while (pending.isEmpty()) {
+                long remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0) {
+                    return null;
+                }
+
+                hasPending.awaitNanos(remaining);
+            }
+
+            Iterator<Long> iterator = pending.iterator();
+            Long guildId = iterator.next();
+            iterator.remove();
+
+            return guildId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Push the commands of the guild if they changed.
+     *
+     * @return When the next request may start.
+     */
+    private long synchronize(long guildId, long nextRequest) throws InterruptedException {
+        Set<String> sets = getAssignedSets(guildId);
+        Long pushed = state.get(guildId);
+
+        // Nothing was pushed and there is nothing to push
+        if (sets.isEmpty() && pushed == null) {
+            return nextRequest;
+        }
+
+        CommandSet commandSet = getCommandSet(sets);
+
+        if (pushed != null && pushed == commandSet.hash) {
+            unchangedCount.increment();
+
+            return nextRequest;
+        }
+
+        Guild guild = guildLookup.apply(guildId);
+
+        // Not in the cache (left or unavailable); checked again once it's available, see guildAvailable()
+        if (guild == null) {
+            return nextRequest;
+        }
+
+        long delay = nextRequest - System.nanoTime();
+
+        if (delay > 0) {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+
+        inFlight.acquire();
+
+        guild.updateCommands().addCommands(commandSet.commands).queue(commands -> {
+            inFlight.release();
+            updatedCount.increment();
+            recordPushed(guildId, sets.isEmpty() ? null : commandSet.hash);
+        }, failure -> {
+            inFlight.release();
+            failedCount.increment();
+
+            if (failure instanceof ErrorResponseException && isPermanent((ErrorResponseException) failure)) {
+                // Retrying won't help until the commands change
+                LOG.warn("Cannot update commands of guild {}: {}", guildId, failure.getMessage());
+                recordPushed(guildId, commandSet.hash);
+            } else {
+                LOG.warn("Failed to update commands of guild {}, retrying", guildId, failure);
+                CompletableFuture.delayedExecutor(retryDelayMillis, TimeUnit.MILLISECONDS)
+                        .execute(() -> markPending(guildId));
+            }
+        });
+
+        return Math.max(nextRequest, System.nanoTime()) + intervalNanos;
+    }
+
+    private boolean isPermanent(@NotNull ErrorResponseException exception) {
+        return exception.getErrorResponse() == ErrorResponse.MISSING_ACCESS
+                || exception.getErrorResponse() == ErrorResponse.UNKNOWN_GUILD;
+    }
+
+    private void recordPushed(long guildId, @Nullable Long hash) {
+        if (hash == null) {
+            state.remove(guildId);
+        } else {
+            state.put(guildId, hash);
+        }
+
+        stateChanged = true;
+    }
+
+    // Guilds mostly share a few combinations of sets, so the data is built and hashed once per combination
+    private @NotNull CommandSet getCommandSet(@NotNull Set<String> sets) {
+        return commandSets.computeIfAbsent(String.join("\0", new TreeSet<>(sets)), key -> {
+            List<CommandData> commands = new ArrayList<>(commandData.apply(sets));
+
+            commands.sort(Comparator.comparing(CommandData::getName));
+
+            return new CommandSet(commands, hash(commands));
+        });
+    }
+
+    private static long hash(@NotNull List<CommandData> commands) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            for (CommandData command : commands) {
+                digest.update(command.toData().toJson());
+            }
+
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException exception) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private synchronized void saveState() {
+        if (stateFile == null || !stateChanged) {
+            return;
+        }
+
+        stateChanged = false;
+
+        Map<Long, Set<String>> assignmentSnapshot = new HashMap<>(assignments);
+        Map<Long, Long> stateSnapshot = new HashMap<>(state);
+        Set<Long> guildIds = new HashSet<>(assignmentSnapshot.keySet());
+        Path temporary = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+
+        guildIds.addAll(stateSnapshot.keySet());
+
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(STATE_MAGIC);
+                output.writeShort(STATE_VERSION);
+                output.writeInt(guildIds.size());
+
+                for (Long guildId : guildIds) {
+                    Long hash = stateSnapshot.get(guildId);
+                    Set<String> sets = assignmentSnapshot.getOrDefault(guildId, Collections.emptySet());
+
+                    output.writeLong(guildId);
+                    output.writeBoolean(hash != null);
+                    output.writeLong(hash == null ? 0 : hash);
+                    output.writeInt(sets.size());
+
+                    for (String set : sets) {
+                        output.writeUTF(set);
+                    }
+                }
+            }
+
+            // A crash leaves either the old or the new state, never a partial one
+            Files.move(temporary, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            stateChanged = true;
+
+            LOG.warn("Failed to save guild command state to {}", stateFile, exception);
+        }
+    }
+
+    private static void readState(@NotNull Path file,
+                                  @NotNull Map<Long, Set<String>> assignments,
+                                  @NotNull Map<Long, Long> state) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != STATE_MAGIC) {
+                throw new IOException("Not a guild command state file: " + file);
+            }
+
+            short version = input.readShort();
+
+            if (version != STATE_VERSION) {
+                throw new IOException("Unsupported guild command state file version " + version + ": " + file);
+            }
+
+            int count = input.readInt();
+
+            for (int i = 0; i < count; i++) {
+                long guildId = input.readLong();
+                boolean pushed = input.readBoolean();
+                long hash = input.readLong();
+                String[] sets = new String[input.readInt()];
+
+                for (int j = 0; j < sets.length; j++) {
+                    sets[j] = input.readUTF();
+                }
+
+                if (pushed) {
+                    state.put(guildId, hash);
+                }
+
+                if (sets.length > 0) {
+                    assignments.put(guildId, Set.of(sets));
+                }
+            }
+        }
+    }
+
+    private static final class CommandSet {
+        private final List<CommandData> commands;
+        private final long hash;
+
+        private CommandSet(@NotNull List<CommandData> commands, long hash) {
+            this.commands = commands;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.tracing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Trace of one command invocation.
+ * <br>
+ * Holds the nanosecond ({@link System#nanoTime()}) timestamps at which each {@link Phase} ended.
+ * Unsampled invocations share {@link #NOOP}, so they allocate nothing.
+ * <br>
+ * The trace is exported once the invocation has {@link #finish() finished}
+ * and all replies started with {@link #replyStarted()} have completed.
+ *
+ * @see Tracer
+ */
+public final class InvocationTrace {
+    /**
+     * Shared trace of unsampled invocations. All methods are no-ops.
+     */
+    public static final InvocationTrace NOOP = new InvocationTrace();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final Tracer tracer;
+    private final Object source;
+    private final String eventType;
+    private final long startNanos;
+    private final long[] phaseNanos;
+    // Pending replies + 1 for the invocation itself
+    private final AtomicInteger pending;
+    private volatile String commandName;
+    private volatile Throwable error;
+    private long replyStartNanos;
+    private long endNanos;
+
+    private InvocationTrace() {
+        tracer = null;
+        source = null;
+        eventType = null;
+        startNanos = 0;
+        phaseNanos = null;
+        pending = null;
+    }
+
+    InvocationTrace(@NotNull Tracer tracer, @NotNull Object source, @NotNull String eventType) {
+        this.tracer = tracer;
+        this.source = source;
+        this.eventType = eventType;
+        this.startNanos = System.nanoTime();
+        this.phaseNanos = new long[PHASES.length];
+        this.pending = new AtomicInteger(1);
+    }
+
+    /**
+     * Whether this trace is sampled (not {@link #NOOP}).
+     *
+     * @return True - if sampled, false - otherwise.
+     */
+    public boolean isSampled() {
+        return tracer != null;
+    }
+
+    /**
+     * Mark the end of the phase.
+     *
+     * @param phase The {@link Phase}.
+     */
+    public void mark(@NotNull Phase phase) {
+        if (tracer == null) {
+            return;
+        }
+
+        phaseNanos[phase.ordinal()] = System.nanoTime();
+    }
+
+    /**
+     * Set the (full) command name and mark the end of {@link Phase#ROUTE}.
+     *
+     * @param commandName The command name, with subcommand groups and subcommands separated by spaces.
+     */
+    public void route(@NotNull String commandName) {
+        if (tracer == null) {
+            return;
+        }
+
+        this.commandName = commandName;
+
+        mark(Phase.ROUTE);
+    }
+
+    /**
+     * Record an error thrown by the invocation.
+     *
+     * @param error The error.
+     */
+    public void setError(@NotNull Throwable error) {
+        if (tracer == null) {
+            return;
+        }
+
+        this.error = error;
+    }
+
+    /**
+     * Track a reply REST call. Each call must be followed by {@link #replyCompleted()}.
+     *
+     * @return True - if the reply is tracked, false - if the trace is unsampled or already exported.
+     */
+    public boolean replyStarted() {
+        if (!retain()) {
+            return false;
+        }
+
+        synchronized (this) {
+            if (replyStartNanos == 0) {
+                replyStartNanos = System.nanoTime();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Complete a reply tracked with {@link #replyStarted()}.
+     */
+    public void replyCompleted() {
+        if (tracer == null) {
+            return;
+        }
+
+        mark(Phase.REPLY);
+        release();
+    }
+
+    /**
+     * Send a reply, tracking it as {@link Phase#REPLY} until the returned future completes.
+     *
+     * @param reply Supplier that sends the reply.
+     * @param <T> The reply result type.
+     * @return {@link CompletableFuture} of the reply.
+     */
+    public <T> @NotNull CompletableFuture<T> trackReply(@NotNull Supplier<CompletableFuture<T>> reply) {
+        if (!replyStarted()) {
+            return reply.get();
+        }
+
+        CompletableFuture<T> future;
+
+        try {
+            future = reply.get();
+        } catch (RuntimeException | Error exception) {
+            replyCompleted();
+
+            throw exception;
+        }
+
+        future.whenComplete((result, throwable) -> replyCompleted());
+
+        return future;
+    }
+
+    /**
+     * Keep the trace open while the invocation continues on another thread (e.g. a scheduled one).
+     * Each call must be followed by {@link #finish()} on that thread.
+     *
+     * @return True - if the trace is kept open, false - if the trace is unsampled or already exported.
+     */
+    public boolean fork() {
+        return retain();
+    }
+
+    /**
+     * Finish the invocation. The trace is exported now or after the last tracked reply
+     * (or {@link #fork() forked} invocation) completes.
+     */
+    public void finish() {
+        if (tracer == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        synchronized (this) {
+            // A forked invocation may finish before the dispatching thread
+            endNanos = Math.max(endNanos, now);
+        }
+
+        release();
+    }
+
+    private boolean retain() {
+        if (tracer == null) {
+            return false;
+        }
+
+        int current;
+
+        do {
+            current = pending.get();
+
+            if (current == 0) {
+                return false;
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    private void release() {
+        if (pending.decrementAndGet() == 0) {
+            tracer.export(this, source);
+        }
+    }
+
+    /**
+     * Get the source event type, {@code message} or {@code slash_command}.
+     *
+     * @return The event type, or {@code null} for {@link #NOOP}.
+     */
+    public @Nullable String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Get the command name.
+     *
+     * @return The command name, or {@code null} if no command was routed.
+     */
+    public @Nullable String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Get the error thrown by the invocation.
+     *
+     * @return The error, or {@code null} if none.
+     */
+    public @Nullable Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Get the {@link System#nanoTime()} at which the trace was started.
+     *
+     * @return The start time.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Get the {@link System#nanoTime()} at which the invocation finished (not counting replies).
+     *
+     * @return The end time.
+     */
+    public long getEndNanos() {
+        return endNanos;
+    }
+
+    /**
+     * Get the {@link System#nanoTime()} at which the phase ended.
+     *
+     * @param phase The {@link Phase}.
+     * @return The time, or {@code 0} if the phase was not reached.
+     */
+    public long getPhaseEndNanos(@NotNull Phase phase) {
+        return phaseNanos == null ? 0 : phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Get the {@link System#nanoTime()} at which the phase started.
+     * <br>
+     * That is the end of the latest preceding phase, or the trace start;
+     * {@link Phase#REPLY} starts when the first reply was sent.
+     *
+     * @param phase The {@link Phase}.
+     * @return The time, or {@code 0} if the phase was not reached.
+     */
+    public long getPhaseStartNanos(@NotNull Phase phase) {
+        long end = getPhaseEndNanos(phase);
+
+        if (end == 0) {
+            return 0;
+        }
+        if (phase == Phase.REPLY) {
+            return replyStartNanos;
+        }
+
+        long start = startNanos;
+
+        for (int i = 0; i < phase.ordinal(); i++) {
+            long previous = phaseNanos[i];
+
+            if (previous > start && previous <= end) {
+                start = previous;
+            }
+        }
+
+        return start;
+    }
+
+    /**
+     * Get the phase duration.
+     *
+     * @param phase The {@link Phase}.
+     * @return The duration in nanoseconds, or {@code 0} if the phase was not reached.
+     */
+    public long getPhaseDurationNanos(@NotNull Phase phase) {
+        long end = getPhaseEndNanos(phase);
+
+        return end == 0 ? 0 : end - getPhaseStartNanos(phase);
+    }
+
+    /**
+     * Convert a {@link System#nanoTime()} of this trace to nanoseconds since the Unix epoch.
+     *
+     * @param nanos The {@link System#nanoTime()}.
+     * @return The Unix epoch time in nanoseconds.
+     */
+    public long toEpochNanos(long nanos) {
+        return tracer == null ? 0 : nanos + tracer.getEpochOffsetNanos();
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.tracing;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TraceSink} exporting traces to an OpenTelemetry collector, over OTLP/HTTP with JSON encoding.
+ * <br>
+ * Each trace becomes a server span named after the command, with one internal child span per reached {@link Phase}.
+ * Traces are queued (dropping when the queue is full) and posted in batches from a single daemon thread,
+ * so {@link #export(InvocationTrace)} never blocks the invocation.
+ */
+public final class OtlpHttpTraceSink implements TraceSink {
+    /**
+     * Default endpoint, of a collector on the local machine.
+     */
+    public static final URI DEFAULT_ENDPOINT = URI.create("http://localhost:4318/v1/traces");
+    /**
+     * Maximum number of traces waiting for export.
+     */
+    public static final int MAX_QUEUE_SIZE = 2048;
+    /**
+     * Maximum number of traces in one request.
+     */
+    public static final int MAX_BATCH_SIZE = 256;
+    /**
+     * Delay between exports.
+     */
+    public static final Duration EXPORT_INTERVAL = Duration.ofSeconds(1);
+
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_SERVER = 2;
+    private static final int STATUS_CODE_ERROR = 2;
+    private static final Phase[] PHASES = Phase.values();
+
+    private final URI endpoint;
+    private final String serviceName;
+    private final HttpClient client;
+    private final BlockingQueue<InvocationTrace> queue;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong exported;
+    private final AtomicLong dropped;
+    private final AtomicLong failed;
+
+    /**
+     * Construct new {@link OtlpHttpTraceSink}, exporting to {@link #DEFAULT_ENDPOINT}.
+     *
+     * @param serviceName The {@code service.name} resource attribute.
+     */
+    public OtlpHttpTraceSink(@NotNull String serviceName) {
+        this(DEFAULT_ENDPOINT, serviceName);
+    }
+
+    /**
+     * Construct new {@link OtlpHttpTraceSink}.
+     *
+     * @param endpoint The OTLP/HTTP traces endpoint (usually ending with {@code /v1/traces}).
+     * @param serviceName The {@code service.name} resource attribute.
+     */
+    public OtlpHttpTraceSink(@NotNull URI endpoint, @NotNull String serviceName) {
+        this.endpoint = endpoint;
+        this.serviceName = serviceName;
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.queue = new ArrayBlockingQueue<>(MAX_QUEUE_SIZE);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Rextra-OtlpExporter");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.exported = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.failed = new AtomicLong();
+
+        long interval = EXPORT_INTERVAL.toMillis();
+
+        scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void export(@NotNull InvocationTrace trace) {
+        if (!queue.offer(trace)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Post all queued traces now, on the calling thread.
+     */
+    public void flush() {
+        List<InvocationTrace> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (queue.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(endpoint)
+                                .timeout(Duration.ofSeconds(10))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(encode(batch)))
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding());
+
+                if (response.statusCode() / 100 == 2) {
+                    exported.addAndGet(batch.size());
+                } else {
+                    failed.addAndGet(batch.size());
+                }
+            } catch (IOException exception) {
+                failed.addAndGet(batch.size());
+            } catch (InterruptedException exception) {
+                failed.addAndGet(batch.size());
+                Thread.currentThread().interrupt();
+
+                return;
+            }
+
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stop the export thread and post the remaining traces.
+     */
+    @Override
+    public void shutdown() {
+        scheduler.shutdown();
+
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+    }
+
+    /**
+     * Encode traces as an OTLP {@code ExportTraceServiceRequest} JSON.
+     *
+     * @param traces The traces.
+     * @return The JSON.
+     */
+    @NotNull String encode(@NotNull List<InvocationTrace> traces) {
+        StringBuilder json = new StringBuilder(512 * traces.size());
+
+        json.append("{\"resourceSpans\":[{\"resource\":{\"attributes\":[");
+        appendAttribute(json, "service.name", serviceName);
+        json.append("]},\"scopeSpans\":[{\"scope\":{\"name\":\"com.dwolfnineteen.jdaextra\"},\"spans\":[");
+
+        boolean first = true;
+
+        for (InvocationTrace trace : traces) {
+            String traceId = randomHex(32);
+            String rootId = randomHex(16);
+
+            if (!first) {
+                json.append(',');
+            }
+
+            first = false;
+
+            json.append('{');
+            appendIds(json, traceId, rootId, null);
+            json.append(",\"name\":");
+            appendString(json, trace.getCommandName());
+            json.append(",\"kind\":").append(SPAN_KIND_SERVER);
+
+            long end = Math.max(trace.getEndNanos(), trace.getPhaseEndNanos(Phase.REPLY));
+
+            appendTimes(json, trace, trace.getStartNanos(), end);
+            json.append(",\"attributes\":[");
+            appendAttribute(json, "rextra.event.type", trace.getEventType());
+            json.append(',');
+            appendAttribute(json, "rextra.command", trace.getCommandName());
+            json.append(']');
+
+            Throwable error = trace.getError();
+
+            if (error != null) {
+                json.append(",\"status\":{\"code\":").append(STATUS_CODE_ERROR).append(",\"message\":");
+                appendString(json, String.valueOf(error));
+                json.append('}');
+            }
+
+            json.append('}');
+
+            for (Phase phase : PHASES) {
+                long phaseEnd = trace.getPhaseEndNanos(phase);
+
+                if (phaseEnd == 0) {
+                    continue;
+                }
+
+                json.append(",{");
+                appendIds(json, traceId, randomHex(16), rootId);
+                json.append(",\"name\":");
+                appendString(json, phase.name().toLowerCase(Locale.ROOT));
+                json.append(",\"kind\":").append(SPAN_KIND_INTERNAL);
+                appendTimes(json, trace, trace.getPhaseStartNanos(phase), phaseEnd);
+                json.append('}');
+            }
+        }
+
+        json.append("]}]}]}");
+
+        return json.toString();
+    }
+
+    private static void appendIds(@NotNull StringBuilder json,
+                                  @NotNull String traceId,
+                                  @NotNull String spanId,
+                                  String parentSpanId) {
+        json.append("\"traceId\":\"").append(traceId).append("\",\"spanId\":\"").append(spanId).append('"');
+
+        if (parentSpanId != null) {
+            json.append(",\"parentSpanId\":\"").append(parentSpanId).append('"');
+        }
+    }
+
+    private static void appendTimes(@NotNull StringBuilder json, @NotNull InvocationTrace trace, long start, long end) {
+        // OTLP JSON encodes 64-bit integers as strings
+        json.append(",\"startTimeUnixNano\":\"").append(trace.toEpochNanos(start))
+                .append("\",\"endTimeUnixNano\":\"").append(trace.toEpochNanos(end)).append('"');
+    }
+
+    private static void appendAttribute(@NotNull StringBuilder json, @NotNull String key, String value) {
+        json.append("{\"key\":");
+        appendString(json, key);
+        json.append(",\"value\":{\"stringValue\":");
+        appendString(json, value == null ? "" : value);
+        json.append("}}");
+    }
+
+    private static void appendString(@NotNull StringBuilder json, @NotNull String value) {
+        json.append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+
+            if (character == '"' || character == '\\') {
+                json.append('\\').append(character);
+            } else if (character < 0x20) {
+                json.append(String.format("\\u%04x", (int) character));
+            } else {
+                json.append(character);
+            }
+        }
+
+        json.append('"');
+    }
+
+    private static @NotNull String randomHex(int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(length);
+
+        for (int i = 0; i < length; i += 16) {
+            String part = Long.toHexString(random.nextLong());
+
+            hex.append("0".repeat(16 - part.length())).append(part);
+        }
+
+        return hex.substring(0, length);
+    }
+
+    /**
+     * Get the number of traces accepted by the collector.
+     *
+     * @return The number of exported traces.
+     */
+    public long getExportedCount() {
+        return exported.get();
+    }
+
+    /**
+     * Get the number of traces dropped because the queue was full.
+     *
+     * @return The number of dropped traces.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Get the number of traces that failed to export (network error or non-2xx response).
+     *
+     * @return The number of failed traces.
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Get the OTLP/HTTP traces endpoint.
+     *
+     * @return The endpoint.
+     */
+    public @NotNull URI getEndpoint() {
+        return endpoint;
+    }
+}
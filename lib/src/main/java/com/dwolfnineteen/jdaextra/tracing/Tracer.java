@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.tracing;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Head sampler of {@link InvocationTrace}s.
+ * <br>
+ * The sampling decision is made once, when the invocation starts;
+ * unsampled invocations get {@link InvocationTrace#NOOP}.
+ * Traces of events that turned out not to be commands are dropped.
+ *
+ * @see com.dwolfnineteen.jdaextra.JDAExtraBuilder#setTracing(double, TraceSink)
+ */
+public final class Tracer {
+    private final double sampleRate;
+    private final TraceSink sink;
+    private final long epochOffsetNanos;
+    // Sampled traces in flight, by source event
+    private final Map<Object, InvocationTrace> active = new ConcurrentHashMap<>();
+
+    /**
+     * Construct new {@link Tracer}.
+     *
+     * @param sampleRate Fraction of invocations to trace, from 0 to 1.
+     * @param sink The {@link TraceSink}.
+     * @throws IllegalArgumentException If the sample rate is out of range.
+     */
+    public Tracer(double sampleRate, @NotNull TraceSink sink) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+
+        this.sampleRate = sampleRate;
+        this.sink = sink;
+        this.epochOffsetNanos = System.currentTimeMillis() * 1_000_000 - System.nanoTime();
+    }
+
+    /**
+     * Start tracing an invocation.
+     *
+     * @param source The source JDA event.
+     * @param eventType The event type, {@code message} or {@code slash_command}.
+     * @return New {@link InvocationTrace} if sampled, {@link InvocationTrace#NOOP} otherwise.
+     */
+    public @NotNull InvocationTrace start(@NotNull Object source, @NotNull String eventType) {
+        if (sampleRate < 1 && (sampleRate == 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return InvocationTrace.NOOP;
+        }
+
+        InvocationTrace trace = new InvocationTrace(this, source, eventType);
+
+        active.put(source, trace);
+
+        return trace;
+    }
+
+    /**
+     * Find the trace of an invocation in flight.
+     *
+     * @param source The source JDA event.
+     * @return The {@link InvocationTrace}, or {@link InvocationTrace#NOOP} if the invocation is unsampled or finished.
+     */
+    public @NotNull InvocationTrace find(@NotNull Object source) {
+        if (active.isEmpty()) {
+            return InvocationTrace.NOOP;
+        }
+
+        InvocationTrace trace = active.get(source);
+
+        return trace == null ? InvocationTrace.NOOP : trace;
+    }
+
+    void export(@NotNull InvocationTrace trace, @NotNull Object source) {
+        active.remove(source, trace);
+
+        if (trace.getCommandName() != null) {
+            sink.export(trace);
+        }
+    }
+
+    /**
+     * Shut down the {@link TraceSink}.
+     */
+    public void shutdown() {
+        sink.shutdown();
+    }
+
+    /**
+     * Get the sample rate.
+     *
+     * @return The fraction of invocations traced.
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Get the {@link TraceSink}.
+     *
+     * @return The {@link TraceSink}.
+     */
+    public @NotNull TraceSink getSink() {
+        return sink;
+    }
+
+    long getEpochOffsetNanos() {
+        return epochOffsetNanos;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.analytics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UsageLogTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsAreReadBack() throws IOException {
+        try (UsageLog log = new UsageLog(directory, 16, 4)) {
+            log.record("ping", 10, 20, 1_500_000, UsageLog.Outcome.SUCCESS);
+            log.record("ban", 0, 21, 3_000, UsageLog.Outcome.USER_ERROR);
+        }
+
+        List<String> records = read();
+
+        assertEquals(List.of("ping 10 20 1500 SUCCESS", "ban 0 21 3 USER_ERROR"), records);
+    }
+
+    @Test
+    void concurrentWritersClaimDistinctSlots() throws IOException, InterruptedException {
+        int threads = 8;
+        int perThread = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+
+        // Small segments, so the writers also race on the roll to the next one
+        try (UsageLog log = new UsageLog(directory, 500, 1_000)) {
+            for (int t = 0; t < threads; t++) {
+                long userId = t;
+                Thread writer = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException exception) {
+                        return;
+                    }
+
+                    for (int i = 0; i < perThread; i++) {
+                        log.record("command" + (i % 3), i, userId, 0, UsageLog.Outcome.SUCCESS);
+                    }
+                });
+
+                writer.start();
+                writers.add(writer);
+            }
+
+            start.countDown();
+
+            for (Thread writer : writers) {
+                writer.join();
+            }
+
+            assertEquals(0, log.getDroppedCount());
+        }
+
+        Set<String> unique = new HashSet<>();
+        List<String> records = read();
+
+        for (String record : records) {
+            // Command, guild and user identify the record
+            unique.add(record.substring(0, record.indexOf(" 0 SUCCESS")));
+        }
+
+        assertEquals(threads * perThread, records.size());
+        assertEquals(threads * perThread, unique.size());
+        assertEquals(threads * perThread / 500 - 1, UsageLog.lastSegment(directory));
+    }
+
+    @Test
+    void rollingKeepsOnlyRetainedSegments() throws IOException {
+        try (UsageLog log = new UsageLog(directory, 10, 2)) {
+            for (int i = 0; i < 55; i++) {
+                log.record("ping", i, 1, 0, UsageLog.Outcome.SUCCESS);
+            }
+        }
+
+        assertFalse(Files.exists(UsageLog.segmentPath(directory, 3)));
+        assertTrue(Files.exists(UsageLog.segmentPath(directory, 4)));
+        assertTrue(Files.exists(UsageLog.segmentPath(directory, 5)));
+        // Segments 4 and 5 hold records 40 to 54
+        assertEquals(15, read().size());
+    }
+
+    @Test
+    void reopenedLogContinuesInNewSegment() throws IOException {
+        try (UsageLog log = new UsageLog(directory, 10, 4)) {
+            log.record("ping", 1, 1, 0, UsageLog.Outcome.SUCCESS);
+        }
+
+        try (UsageLog log = new UsageLog(directory, 10, 4)) {
+            log.record("pong", 2, 2, 0, UsageLog.Outcome.FAILURE);
+            log.record("ping", 3, 3, 0, UsageLog.Outcome.SUCCESS);
+        }
+
+        assertEquals(1, UsageLog.lastSegment(directory));
+        assertEquals(List.of("ping 1 1 0 SUCCESS", "pong 2 2 0 FAILURE", "ping 3 3 0 SUCCESS"), read());
+        // The command ID of "ping" is reused, not listed again
+        assertEquals(2, Files.readAllLines(directory.resolve(UsageLog.COMMANDS_FILE)).size());
+    }
+
+    @Test
+    void closedLogDropsRecords() throws IOException {
+        UsageLog log = new UsageLog(directory, 10, 4);
+
+        log.record("ping", 1, 1, 0, UsageLog.Outcome.SUCCESS);
+        log.close();
+        log.record("ping", 2, 2, 0, UsageLog.Outcome.SUCCESS);
+
+        assertEquals(1, log.getDroppedCount());
+        assertEquals(1, read().size());
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new UsageLog(directory, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new UsageLog(directory, Integer.MAX_VALUE, 1));
+        assertThrows(IllegalArgumentException.class, () -> new UsageLog(directory, 10, 0));
+    }
+
+    private List<String> read() throws IOException {
+        List<String> records = new ArrayList<>();
+
+        new UsageReader(directory).forEach(Instant.EPOCH, Instant.now().plusSeconds(60), record ->
+                records.add(record.getCommandName() + " " + record.getGuildId() + " " + record.getUserId() + " "
+                        + record.getLatencyMicros() + " " + record.getOutcome()));
+
+        return records;
+    }
+}
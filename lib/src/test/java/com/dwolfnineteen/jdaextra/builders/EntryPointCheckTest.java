@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.builders;
+
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.commands.Cached;
+import com.dwolfnineteen.jdaextra.annotations.commands.SingleFlight;
+import com.dwolfnineteen.jdaextra.annotations.subcommands.RextraSlashSubcommand;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EntryPointCheckTest {
+    @Test
+    void cachedEntryPointsReturningTheReplyBuild() {
+        assertDoesNotThrow(() -> new SlashCommandBuilder(new CachedReply()).buildModel());
+        assertDoesNotThrow(() -> new SlashCommandBuilder(new CachedFuture()).buildModel());
+        assertDoesNotThrow(() -> new PrefixCommandBuilder(new CachedPrefixStage()).buildModel());
+    }
+
+    @Test
+    void uncachedEntryPointsAreNotChecked() {
+        assertDoesNotThrow(() -> new SlashCommandBuilder(new Uncached()).buildModel());
+    }
+
+    @Test
+    void cachedCommandReturningNothingFails() {
+        assertThrows(IllegalArgumentException.class, () -> new SlashCommandBuilder(new CachedVoid()).buildModel());
+    }
+
+    @Test
+    void cachedSubcommandReturningOtherTypeFails() {
+        assertThrows(IllegalArgumentException.class, () -> new SlashCommandBuilder(new CachedSubcommand()).buildModel());
+    }
+
+    @Test
+    void cachedStageOfOtherTypeFails() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixCommandBuilder(new CachedPrefixString()).buildModel());
+    }
+
+    @Test
+    void singleFlightEntryPointReturningTheReplyBuilds() {
+        assertDoesNotThrow(() -> new SlashCommandBuilder(new SingleFlightFuture()).buildModel());
+    }
+
+    @Test
+    void singleFlightCommandReturningNothingFails() {
+        assertThrows(IllegalArgumentException.class, () -> new SlashCommandBuilder(new SingleFlightVoid()).buildModel());
+    }
+
+    @Test
+    void publisherOfCharSequenceBuilds() {
+        assertDoesNotThrow(() -> new SlashCommandBuilder(new PublishedText()).buildModel());
+    }
+
+    @Test
+    void publisherOfOtherTypeFails() {
+        assertThrows(IllegalArgumentException.class, () -> new SlashCommandBuilder(new PublishedNumbers()).buildModel());
+        assertThrows(IllegalArgumentException.class, () -> new PrefixCommandBuilder(new PublishedRaw()).buildModel());
+    }
+
+    @Cached(ttl = 1)
+    @ExtraSlashCommand(name = "reply", description = "Reply.")
+    public static class CachedReply extends SlashCommand {
+        @ExtraMainCommand
+        public MessageCreateData reply(SlashCommandEvent event) {
+            return MessageCreateData.fromContent("reply");
+        }
+    }
+
+    @ExtraSlashCommand(name = "future", description = "Future.")
+    public static class CachedFuture extends SlashCommand {
+        @Cached(ttl = 1)
+        @ExtraMainCommand
+        public CompletableFuture<MessageCreateData> future(SlashCommandEvent event) {
+            return CompletableFuture.completedFuture(MessageCreateData.fromContent("future"));
+        }
+    }
+
+    @ExtraSlashCommand(name = "uncached", description = "Uncached.")
+    public static class Uncached extends SlashCommand {
+        @ExtraMainCommand
+        public void uncached(SlashCommandEvent event) { }
+    }
+
+    @Cached(ttl = 1)
+    @ExtraSlashCommand(name = "void", description = "Void.")
+    public static class CachedVoid extends SlashCommand {
+        @ExtraMainCommand
+        public void replies(SlashCommandEvent event) {
+            event.reply("void").queue();
+        }
+    }
+
+    @ExtraSlashCommand(name = "sub", description = "Subcommand.")
+    public static class CachedSubcommand extends SlashCommand {
+        @Cached(ttl = 1)
+        @RextraSlashSubcommand(name = "text", description = "Text.")
+        public String text(SlashCommandEvent event) {
+            return "text";
+        }
+    }
+
+    @Cached(ttl = 1)
+    @ExtraPrefixCommand(name = "stage")
+    public static class CachedPrefixStage extends PrefixCommand {
+        @ExtraMainCommand
+        public CompletionStage<? extends MessageCreateData> stage(PrefixCommandEvent event) {
+            return CompletableFuture.completedFuture(MessageCreateData.fromContent("stage"));
+        }
+    }
+
+    @Cached(ttl = 1)
+    @ExtraPrefixCommand(name = "string")
+    public static class CachedPrefixString extends PrefixCommand {
+        @ExtraMainCommand
+        public CompletionStage<String> string(PrefixCommandEvent event) {
+            return CompletableFuture.completedFuture("string");
+        }
+    }
+
+    @SingleFlight
+    @ExtraSlashCommand(name = "shared", description = "Shared.")
+    public static class SingleFlightFuture extends SlashCommand {
+        @ExtraMainCommand
+        public CompletableFuture<MessageCreateData> shared(SlashCommandEvent event) {
+            return CompletableFuture.completedFuture(MessageCreateData.fromContent("shared"));
+        }
+    }
+
+    @ExtraSlashCommand(name = "silent", description = "Silent.")
+    public static class SingleFlightVoid extends SlashCommand {
+        @SingleFlight
+        @ExtraMainCommand
+        public void silent(SlashCommandEvent event) {
+            event.reply("silent").queue();
+        }
+    }
+
+    @ExtraSlashCommand(name = "text", description = "Text.")
+    public static class PublishedText extends SlashCommand {
+        @ExtraMainCommand
+        public Flow.Publisher<String> text(SlashCommandEvent event) {
+            return new SubmissionPublisher<>();
+        }
+
+        @RextraSlashSubcommand(name = "bounded", description = "Bounded.")
+        public Flow.Publisher<? extends CharSequence> bounded(SlashCommandEvent event) {
+            return new SubmissionPublisher<>();
+        }
+
+        @RextraSlashSubcommand(name = "submission", description = "Submission.")
+        public SubmissionPublisher<StringBuilder> submission(SlashCommandEvent event) {
+            return new SubmissionPublisher<>();
+        }
+
+        @RextraSlashSubcommand(name = "lines", description = "Lines.")
+        public LinePublisher lines(SlashCommandEvent event) {
+            return new LinePublisher();
+        }
+    }
+
+    @ExtraSlashCommand(name = "numbers", description = "Numbers.")
+    public static class PublishedNumbers extends SlashCommand {
+        @ExtraMainCommand
+        public Flow.Publisher<Integer> numbers(SlashCommandEvent event) {
+            return new SubmissionPublisher<>();
+        }
+    }
+
+    @ExtraPrefixCommand(name = "raw")
+    public static class PublishedRaw extends PrefixCommand {
+        @ExtraMainCommand
+        @SuppressWarnings("rawtypes")
+        public SubmissionPublisher raw(PrefixCommandEvent event) {
+            return new SubmissionPublisher<>();
+        }
+    }
+
+    public static class LinePublisher extends SubmissionPublisher<String> { }
+}
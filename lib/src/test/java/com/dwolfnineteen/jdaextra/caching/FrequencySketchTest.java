@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.caching;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrequencySketchTest {
+    @Test
+    void unseenKeyHasZeroFrequency() {
+        assertEquals(0, new FrequencySketch(64).frequency(42));
+    }
+
+    @Test
+    void countsIncrements() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(42);
+        }
+
+        assertEquals(5, sketch.frequency(42));
+    }
+
+    @Test
+    void countersSaturateAtFifteen() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(42);
+        }
+
+        assertEquals(15, sketch.frequency(42));
+    }
+
+    @Test
+    void neverUnderestimates() {
+        FrequencySketch sketch = new FrequencySketch(512);
+
+        // Collisions may only add to a key's estimate (Count-Min)
+        for (int key = 0; key < 256; key++) {
+            for (int i = 0; i < key % 8; i++) {
+                sketch.increment(key);
+            }
+        }
+
+        for (int key = 0; key < 256; key++) {
+            assertTrue(sketch.frequency(key) >= key % 8, "Key " + key);
+        }
+    }
+
+    @Test
+    void resetHalvesCounters() {
+        int maximumSize = 16;
+        FrequencySketch sketch = new FrequencySketch(maximumSize);
+
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(42);
+        }
+
+        // Sample size is 10 * maximumSize increments; other keys fill it up
+        for (int key = 1000; sketch.frequency(42) == 8 && key < 1000 + 10 * maximumSize; key++) {
+            sketch.increment(key);
+        }
+
+        assertTrue(sketch.frequency(42) <= 4 + 1, "Frequency " + sketch.frequency(42));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.caching;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightGroupTest {
+    private static final Method ENTRY_POINT = entryPoint();
+
+    @Test
+    void equalInvocationsShareTheExecution() {
+        SingleFlightGroup group = new SingleFlightGroup();
+        SingleFlightGroup.Call leader = group.join(key("a"));
+        SingleFlightGroup.Call waiter = group.join(key("a"));
+
+        assertTrue(leader.isLeader());
+        assertFalse(waiter.isLeader());
+        assertSame(leader.getResult(), waiter.getResult());
+        assertEquals(1, group.getInFlightCount());
+        assertEquals(1, group.getCoalescedCount());
+
+        leader.complete("result");
+
+        assertEquals("result", waiter.getResult().join());
+        assertEquals(0, group.getInFlightCount());
+    }
+
+    @Test
+    void differentKeysRunSeparately() {
+        SingleFlightGroup group = new SingleFlightGroup();
+
+        assertTrue(group.join(key("a")).isLeader());
+        assertTrue(group.join(key("b")).isLeader());
+        assertTrue(group.join(ResultCache.key(ENTRY_POINT, "guild", new Object[] {null, "a"})).isLeader());
+        assertEquals(3, group.getInFlightCount());
+        assertEquals(0, group.getCoalescedCount());
+    }
+
+    @Test
+    void completedExecutionIsNotJoinedAgain() {
+        SingleFlightGroup group = new SingleFlightGroup();
+
+        group.join(key("a")).complete("first");
+
+        SingleFlightGroup.Call next = group.join(key("a"));
+
+        assertTrue(next.isLeader());
+        assertFalse(next.getResult().isDone());
+    }
+
+    @Test
+    void failureIsSharedAndClearsTheEntry() {
+        SingleFlightGroup group = new SingleFlightGroup();
+        SingleFlightGroup.Call leader = group.join(key("a"));
+        SingleFlightGroup.Call waiter = group.join(key("a"));
+        IllegalStateException failure = new IllegalStateException("failed");
+
+        leader.fail(failure);
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> waiter.getResult().join());
+
+        assertSame(failure, exception.getCause());
+        assertEquals(0, group.getInFlightCount());
+    }
+
+    @Test
+    void completionStageKeepsTheExecutionInFlight() {
+        SingleFlightGroup group = new SingleFlightGroup();
+        SingleFlightGroup.Call leader = group.join(key("a"));
+        CompletableFuture<String> stage = new CompletableFuture<>();
+
+        leader.complete(stage);
+
+        SingleFlightGroup.Call waiter = group.join(key("a"));
+
+        assertFalse(waiter.isLeader());
+        assertFalse(waiter.getResult().isDone());
+
+        stage.complete("later");
+
+        assertEquals("later", waiter.getResult().join());
+        assertEquals(0, group.getInFlightCount());
+    }
+
+    @Test
+    void concurrentJoinsElectOneLeader() throws InterruptedException {
+        SingleFlightGroup group = new SingleFlightGroup();
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger leaders = new AtomicInteger();
+        List<Thread> joiners = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            Thread joiner = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exception) {
+                    return;
+                }
+
+                if (group.join(key("a")).isLeader()) {
+                    leaders.incrementAndGet();
+                }
+            });
+
+            joiner.start();
+            joiners.add(joiner);
+        }
+
+        start.countDown();
+
+        for (Thread joiner : joiners) {
+            joiner.join();
+        }
+
+        assertEquals(1, leaders.get());
+        assertEquals(threads - 1, group.getCoalescedCount());
+    }
+
+    private static ResultCache.Key key(String argument) {
+        // Index 0 is the event, it's not part of the key
+        return ResultCache.key(ENTRY_POINT, null, new Object[] {null, argument});
+    }
+
+    private static Method entryPoint() {
+        try {
+            return SingleFlightGroupTest.class.getDeclaredMethod("key", String.class);
+        } catch (NoSuchMethodException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
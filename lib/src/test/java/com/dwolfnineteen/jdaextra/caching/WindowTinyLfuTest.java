@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.caching;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WindowTinyLfuTest {
+    private static final long TTL = 1_000_000_000L;
+
+    @Test
+    void returnsStoredValue() {
+        WindowTinyLfu<String, String> cache = new WindowTinyLfu<>(100);
+
+        cache.put("key", "value", 0, TTL);
+
+        assertEquals("value", cache.get("key", 1));
+        assertNull(cache.get("other", 1));
+    }
+
+    @Test
+    void replacesValue() {
+        WindowTinyLfu<String, String> cache = new WindowTinyLfu<>(100);
+
+        cache.put("key", "first", 0, TTL);
+        cache.put("key", "second", 0, TTL);
+
+        assertEquals("second", cache.get("key", 1));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void expiredEntryIsDropped() {
+        WindowTinyLfu<String, String> cache = new WindowTinyLfu<>(100);
+
+        cache.put("key", "value", 0, TTL);
+
+        assertNull(cache.get("key", TTL));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void staysWithinMaximumSize() {
+        WindowTinyLfu<Integer, Integer> cache = new WindowTinyLfu<>(100);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, i, 0, TTL);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(900, cache.getEvictionCount());
+    }
+
+    @Test
+    void popularKeysSurviveOneOffScan() {
+        int maximumSize = 100;
+        WindowTinyLfu<Integer, Integer> cache = new WindowTinyLfu<>(maximumSize);
+
+        // Popular keys, accessed repeatedly
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 50; key++) {
+                if (cache.get(key, 0) == null) {
+                    cache.put(key, key, 0, TTL);
+                }
+            }
+        }
+
+        // A scan of one-off keys, which an LRU would let flush the popular ones
+        for (int key = 1_000; key < 3_000; key++) {
+            cache.put(key, key, 0, TTL);
+        }
+
+        int survivors = 0;
+
+        for (int key = 0; key < 50; key++) {
+            if (cache.get(key, 0) != null) {
+                survivors++;
+            }
+        }
+
+        assertTrue(survivors >= 45, "Survivors " + survivors);
+        assertEquals(maximumSize, cache.size());
+    }
+
+    @Test
+    void expiredVictimIsEvictedInsteadOfCandidate() {
+        WindowTinyLfu<Integer, Integer> cache = new WindowTinyLfu<>(10);
+
+        // Key 0 ends up first in line for eviction, and expires at 1
+        for (int key = 0; key < 10; key++) {
+            cache.put(key, key, 0, key == 0 ? 1 : TTL);
+            cache.get(key, 0);
+        }
+
+        // Pushes key 9 out of the window; as frequent as key 0, it would lose to a live victim
+        cache.put(100, 100, 10, TTL);
+
+        assertEquals(10, cache.size());
+        assertNotNull(cache.get(9, 10));
+        assertNotNull(cache.get(100, 10));
+        assertNull(cache.get(0, 10));
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        WindowTinyLfu<Integer, Integer> cache = new WindowTinyLfu<>(10);
+
+        for (int key = 0; key < 10; key++) {
+            cache.put(key, key, 0, TTL);
+        }
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get(0, 0));
+    }
+}
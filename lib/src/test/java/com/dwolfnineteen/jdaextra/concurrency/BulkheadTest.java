@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadTest {
+    private static final long GUILD = 1;
+    private static final long OTHER_GUILD = 2;
+    private static final long USER = 10;
+    private static final long OTHER_USER = 20;
+
+    private ConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ConcurrencyLimiter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.shutdown();
+    }
+
+    @Test
+    void limitsPerCommand() {
+        Bulkhead bulkhead = limiter.setLimits("ping", 2, 0, 0, 0);
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+        assertTrue(bulkhead.tryAcquire(OTHER_GUILD, OTHER_USER));
+        assertFalse(bulkhead.tryAcquire(GUILD, OTHER_USER));
+
+        bulkhead.release(GUILD, USER);
+
+        assertTrue(bulkhead.tryAcquire(GUILD, OTHER_USER));
+        assertEquals(2, bulkhead.getRunningCount());
+    }
+
+    @Test
+    void limitsPerGuildAndUser() {
+        Bulkhead bulkhead = limiter.setLimits("ping", 0, 1, 1, 0);
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+        // Same guild
+        assertFalse(bulkhead.tryAcquire(GUILD, OTHER_USER));
+        // Same user
+        assertFalse(bulkhead.tryAcquire(OTHER_GUILD, USER));
+        assertTrue(bulkhead.tryAcquire(OTHER_GUILD, OTHER_USER));
+        // A failed acquisition gives back the permits of the other levels
+        assertEquals(2, bulkhead.getRunningCount());
+        assertEquals(1, bulkhead.getRunningCount(GUILD));
+    }
+
+    @Test
+    void directMessagesAreNotLimitedPerGuild() {
+        Bulkhead bulkhead = limiter.setLimits("ping", 0, 1, 0, 0);
+
+        assertTrue(bulkhead.tryAcquire(Bulkhead.NO_GUILD, USER));
+        assertTrue(bulkhead.tryAcquire(Bulkhead.NO_GUILD, OTHER_USER));
+    }
+
+    @Test
+    void queuedInvocationRunsOnTheExecutorAfterRelease() throws Exception {
+        Bulkhead bulkhead = limiter.setLimits("ping", 1, 0, 0, 1);
+        CompletableFuture<Thread> ranOn = new CompletableFuture<>();
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+        assertTrue(bulkhead.enqueue(GUILD, OTHER_USER, () -> ranOn.complete(Thread.currentThread())));
+        assertFalse(ranOn.isDone());
+        assertEquals(1, bulkhead.getQueuedCount());
+
+        bulkhead.release(GUILD, USER);
+
+        Thread thread = ranOn.get(5, TimeUnit.SECONDS);
+
+        assertNotSame(Thread.currentThread(), thread);
+        assertTrue(thread.getName().startsWith("Rextra-Bulkhead-"));
+        assertEquals(0, bulkhead.getQueuedCount());
+        // The queued invocation holds the permit until it releases it
+        assertEquals(1, bulkhead.getRunningCount());
+    }
+
+    @Test
+    void releaseDoesNotThrowWhenQueuedInvocationFails() throws Exception {
+        Bulkhead bulkhead = limiter.setLimits("ping", 1, 0, 0, 1);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+        assertTrue(bulkhead.enqueue(GUILD, USER, () -> {
+            ran.countDown();
+
+            throw new IllegalStateException("Command failed");
+        }));
+
+        assertDoesNotThrow(() -> bulkhead.release(GUILD, USER));
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        Bulkhead bulkhead = limiter.setLimits("ping", 1, 0, 0, 1);
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+        assertTrue(bulkhead.enqueue(GUILD, USER, () -> {}));
+        assertFalse(bulkhead.enqueue(GUILD, USER, () -> {}));
+        assertEquals(1, bulkhead.getRejectedCount());
+    }
+
+    @Test
+    void raisedLimitAdmitsQueuedInvocations() throws Exception {
+        Bulkhead bulkhead = limiter.setLimits("ping", 1, 0, 0, 2);
+        CountDownLatch ran = new CountDownLatch(2);
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+        assertTrue(bulkhead.enqueue(GUILD, USER, ran::countDown));
+        assertTrue(bulkhead.enqueue(GUILD, USER, ran::countDown));
+
+        limiter.setLimits("ping", 3, 0, 0, 2);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void removedLimitsRunQueuedInvocations() throws Exception {
+        Bulkhead bulkhead = limiter.setLimits("ping", 1, 0, 0, 3);
+        CountDownLatch ran = new CountDownLatch(3);
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(bulkhead.enqueue(GUILD, USER, ran::countDown));
+        }
+
+        limiter.removeLimits("ping");
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.getQueuedCount());
+        assertNull(limiter.getBulkhead("ping"));
+        // The invocation running before the removal still releases into the old bulkhead
+        assertDoesNotThrow(() -> bulkhead.release(GUILD, USER));
+    }
+
+    @Test
+    void queuedInvocationsRunInlineAfterShutdown() {
+        Bulkhead bulkhead = limiter.setLimits("ping", 1, 0, 0, 1);
+        AtomicInteger ran = new AtomicInteger();
+
+        limiter.shutdown();
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+        assertTrue(bulkhead.enqueue(GUILD, USER, () -> {
+            ran.incrementAndGet();
+
+            throw new IllegalStateException("Command failed");
+        }));
+        assertDoesNotThrow(() -> bulkhead.release(GUILD, USER));
+        assertEquals(1, ran.get());
+    }
+
+    @Test
+    void extraReleaseIsIgnored() {
+        Bulkhead bulkhead = limiter.setLimits("ping", 1, 1, 1, 0);
+
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+
+        bulkhead.release(GUILD, USER);
+        bulkhead.release(GUILD, USER);
+
+        assertEquals(0, bulkhead.getRunningCount());
+        assertTrue(bulkhead.tryAcquire(GUILD, USER));
+        assertFalse(bulkhead.tryAcquire(GUILD, USER));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermitTableTest {
+    @Test
+    void acquiresUpToTheLimitPerKey() {
+        PermitTable table = new PermitTable();
+
+        assertTrue(table.tryAcquire(1, 2));
+        assertTrue(table.tryAcquire(1, 2));
+        assertFalse(table.tryAcquire(1, 2));
+        assertTrue(table.tryAcquire(2, 2));
+        assertEquals(2, table.getUsed(1));
+        assertEquals(1, table.getUsed(2));
+    }
+
+    @Test
+    void idleKeysAreRemovedAndReusable() {
+        PermitTable table = new PermitTable();
+
+        assertTrue(table.tryAcquire(1, 1));
+
+        table.release(1);
+
+        assertEquals(0, table.getUsed(1));
+        assertTrue(table.tryAcquire(1, 1));
+        assertFalse(table.tryAcquire(1, 1));
+    }
+
+    @Test
+    void releaseWithoutAcquireIsIgnored() {
+        PermitTable table = new PermitTable();
+
+        table.release(1);
+
+        assertTrue(table.tryAcquire(1, 1));
+
+        table.release(1);
+        table.release(1);
+
+        assertEquals(0, table.getUsed(1));
+        assertTrue(table.tryAcquire(1, 1));
+        assertFalse(table.tryAcquire(1, 1));
+    }
+
+    @Test
+    void neverExceedsTheLimitUnderContention() throws InterruptedException {
+        PermitTable table = new PermitTable();
+        int limit = 3;
+        AtomicInteger holders = new AtomicInteger();
+        AtomicInteger maxHolders = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exception) {
+                    return;
+                }
+
+                for (int j = 0; j < 20_000; j++) {
+                    // Few keys, so counters are retired and recreated all the time
+                    long key = j % 2;
+
+                    if (key == 0 && table.tryAcquire(key, limit)) {
+                        maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+                        holders.decrementAndGet();
+                        table.release(key);
+                    } else if (key == 1 && table.tryAcquire(key, Integer.MAX_VALUE)) {
+                        table.release(key);
+                    }
+                }
+            });
+
+            threads.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(maxHolders.get() <= limit, "max holders: " + maxHolders.get());
+        assertEquals(0, table.getUsed(0));
+        assertEquals(0, table.getUsed(1));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.diagnostics;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowCommandWatchdogTest {
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private final BlockingQueue<SlowInvocation> reports = new LinkedBlockingQueue<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private SlowCommandWatchdog watchdog;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+
+        if (watchdog != null) {
+            watchdog.shutdown();
+        }
+    }
+
+    @Test
+    void registeredInvocationsAreRunning() {
+        watchdog = new SlowCommandWatchdog(Duration.ofHours(1), Map.of(), reports::add, 4);
+
+        int first = watchdog.register("ping");
+        int second = watchdog.register("ping");
+
+        assertNotEquals(first, second);
+        assertEquals(2, watchdog.getRunningCount());
+
+        watchdog.unregister(first);
+
+        assertEquals(1, watchdog.getRunningCount());
+
+        watchdog.unregister(second);
+        watchdog.unregister(-1);
+
+        assertEquals(0, watchdog.getRunningCount());
+    }
+
+    @Test
+    void freedSlotIsReusedAndFullTableIsUnwatched() {
+        // Rounded up to 4 slots
+        watchdog = new SlowCommandWatchdog(Duration.ofHours(1), Map.of(), reports::add, 3);
+
+        int[] slots = new int[4];
+
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = watchdog.register("ping");
+
+            assertTrue(slots[i] >= 0 && slots[i] < 4);
+        }
+
+        assertEquals(-1, watchdog.register("ping"));
+        assertEquals(1, watchdog.getUnwatchedCount());
+
+        watchdog.unregister(slots[2]);
+
+        assertEquals(slots[2], watchdog.register("ping"));
+        assertEquals(4, watchdog.getRunningCount());
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SlowCommandWatchdog(Duration.ZERO, Map.of(), reports::add));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SlowCommandWatchdog(THRESHOLD, Map.of("ping", Duration.ofMillis(-1)), reports::add));
+        assertThrows(IllegalArgumentException.class, () -> new SlowCommandWatchdog(THRESHOLD, Map.of(), reports::add, 0));
+    }
+
+    @Test
+    void stackIsCapturedPastTheThreshold() throws Exception {
+        watchdog = new SlowCommandWatchdog(THRESHOLD, Map.of(), reports::add);
+
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Thread> invocation = executor.submit(() -> runStuck(watchdog, "report", release));
+        SlowInvocation report = reports.poll(10, TimeUnit.SECONDS);
+
+        assertNotNull(report);
+        assertEquals("report", report.getCommandName());
+        assertEquals(THRESHOLD, report.getThreshold());
+        assertTrue(report.getElapsed().compareTo(THRESHOLD) >= 0);
+        assertTrue(Arrays.stream(report.getStackTrace()).anyMatch(element -> element.getMethodName().equals("runStuck")),
+                report.formatStackTrace());
+
+        // Reported once, however long it stays stuck
+        assertNull(reports.poll(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+
+        assertSame(invocation.get(), report.getThread());
+        assertEquals(1, watchdog.getSlowCount());
+        assertEquals(1, watchdog.getSlowCount("report"));
+        assertEquals(0, watchdog.getRunningCount());
+    }
+
+    @Test
+    void reusedSlotIsReportedAgain() throws Exception {
+        watchdog = new SlowCommandWatchdog(THRESHOLD, Map.of(), reports::add, 1);
+
+        for (int i = 0; i < 2; i++) {
+            CountDownLatch release = new CountDownLatch(1);
+            Future<Thread> invocation = executor.submit(() -> runStuck(watchdog, "report", release));
+
+            assertNotNull(reports.poll(10, TimeUnit.SECONDS));
+
+            release.countDown();
+            invocation.get();
+        }
+
+        assertEquals(2, watchdog.getSlowCount("report"));
+    }
+
+    @Test
+    void commandThresholdOverridesTheDefault() throws Exception {
+        watchdog = new SlowCommandWatchdog(THRESHOLD, Map.of("patient", Duration.ofHours(1)), reports::add);
+
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Thread>> invocations = List.of(executor.submit(() -> runStuck(watchdog, "patient", release)),
+                executor.submit(() -> runStuck(watchdog, "report", release)));
+
+        assertEquals("report", reports.poll(10, TimeUnit.SECONDS).getCommandName());
+        // Several more scans
+        assertNull(reports.poll(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+
+        for (Future<Thread> invocation : invocations) {
+            invocation.get();
+        }
+
+        assertEquals(0, watchdog.getSlowCount("patient"));
+    }
+
+    private static @NotNull Thread runStuck(@NotNull SlowCommandWatchdog watchdog,
+                                            @NotNull String commandName,
+                                            @NotNull CountDownLatch release) throws InterruptedException {
+        int slot = watchdog.register(commandName);
+
+        try {
+            release.await();
+        } finally {
+            watchdog.unregister(slot);
+        }
+
+        return Thread.currentThread();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.filters;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventDeduplicatorTest {
+    // 2024-01-01, relative to the Discord epoch
+    private static final long BASE_MILLIS = 1704067200000L - 1420070400000L;
+
+    @Test
+    void secondSightingIsDuplicate() {
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 100);
+        long id = snowflake(0, 1);
+
+        assertFalse(deduplicator.isDuplicate(id));
+        assertTrue(deduplicator.isDuplicate(id));
+        assertTrue(deduplicator.isDuplicate(id));
+        assertEquals(2, deduplicator.getDuplicateCount());
+    }
+
+    @Test
+    void distinctIdsWithinCapacityAreNotDuplicates() {
+        int capacity = 10_000;
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofSeconds(10), capacity);
+
+        // Same millisecond (sequence numbers) and consecutive milliseconds
+        for (int i = 0; i < capacity; i++) {
+            assertFalse(deduplicator.isDuplicate(snowflake(i / 64, i % 64)), "ID " + i);
+        }
+
+        assertEquals(0, deduplicator.getDuplicateCount());
+    }
+
+    @Test
+    void remembersCapacityIdsWithinTheWindow() {
+        int capacity = 10_000;
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofSeconds(10), capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            deduplicator.isDuplicate(snowflake(i, 0));
+        }
+
+        for (int i = 0; i < capacity; i++) {
+            assertTrue(deduplicator.isDuplicate(snowflake(i, 0)), "ID " + i);
+        }
+    }
+
+    @Test
+    void oldestIdsAreForgottenFirst() {
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofSeconds(1), 8);
+        int count = 10_000;
+
+        for (int i = 0; i < count; i++) {
+            deduplicator.isDuplicate(snowflake(i, 0));
+        }
+
+        assertTrue(deduplicator.isDuplicate(snowflake(count - 1, 0)));
+        assertFalse(deduplicator.isDuplicate(snowflake(0, 0)));
+    }
+
+    @Test
+    void concurrentSightingsReportOneOriginal() throws InterruptedException {
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 1000);
+        AtomicInteger originals = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exception) {
+                    return;
+                }
+
+                for (int j = 0; j < 1000; j++) {
+                    if (!deduplicator.isDuplicate(snowflake(j, 0))) {
+                        originals.incrementAndGet();
+                    }
+                }
+            });
+
+            threads.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1000, originals.get());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new EventDeduplicator(Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new EventDeduplicator(Duration.ofSeconds(-1), 10));
+        assertThrows(IllegalArgumentException.class, () -> new EventDeduplicator(Duration.ofSeconds(1), 0));
+        assertThrows(IllegalArgumentException.class, () -> new EventDeduplicator(Duration.ofSeconds(1), (1 << 26) + 1));
+    }
+
+    private static long snowflake(long millis, long sequence) {
+        return (BASE_MILLIS + millis) << 22 | sequence;
+    }
+}
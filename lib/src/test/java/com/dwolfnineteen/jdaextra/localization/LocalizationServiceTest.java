@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.localization;
+
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.commands.localization.LocalizationFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalizationServiceTest {
+    private static final String PACKAGE = "com.dwolfnineteen.jdaextra.localization.";
+    private static final String GREETINGS = PACKAGE + "Greetings";
+
+    private final LocalizationService service = LocalizationService.getInstance();
+
+    @Test
+    void translatesRequestedLocales() {
+        LocalizationFunction function = service.getLocalizationFunction(GREETINGS, DiscordLocale.FRENCH, DiscordLocale.GERMAN);
+
+        assertEquals(Map.of(DiscordLocale.FRENCH, "Bonjour", DiscordLocale.GERMAN, "Hallo"), function.apply("greeting"));
+        assertEquals(Map.of(DiscordLocale.FRENCH, "Au revoir"), function.apply("farewell"));
+        assertEquals(Map.of(), function.apply("missing"));
+    }
+
+    @Test
+    void missingBundleFailsTheBuild() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getLocalizationFunction(PACKAGE + "Mistyped", DiscordLocale.FRENCH));
+    }
+
+    @Test
+    void functionsAreSharedByBaseNameAndLocales() {
+        LocalizationFunction function = service.getLocalizationFunction(GREETINGS, DiscordLocale.FRENCH);
+
+        assertSame(function, service.getLocalizationFunction(GREETINGS, DiscordLocale.FRENCH));
+        assertNotSame(function, service.getLocalizationFunction(GREETINGS, DiscordLocale.GERMAN));
+        assertSame(service.getBundle(GREETINGS), service.getBundle(GREETINGS));
+    }
+
+    @Test
+    void translationsLoadLazilyAndOnce() {
+        LocalizationFunction function = service.getLocalizationFunction(PACKAGE + "CountingBundle", DiscordLocale.FRENCH);
+
+        assertEquals(0, CountingBundle_fr.LOADS.get());
+        assertEquals(Map.of(DiscordLocale.FRENCH, "Salut"), function.apply("greeting"));
+        assertEquals(Map.of(DiscordLocale.FRENCH, "Comment vas-tu ?"), function.apply("question"));
+        assertEquals("Salut", service.translate(PACKAGE + "CountingBundle", "greeting", DiscordLocale.FRENCH));
+        assertEquals(1, CountingBundle_fr.LOADS.get());
+    }
+
+    @Test
+    void equalTranslationsShareOneInstance() {
+        String greetings = service.getBundle(GREETINGS).find("farewell", DiscordLocale.FRENCH);
+        String farewells = service.getBundle(PACKAGE + "Farewells").find("farewell", DiscordLocale.FRENCH);
+
+        assertEquals("Au revoir", greetings);
+        assertSame(greetings, farewells);
+    }
+
+    @Test
+    void untranslatedKeyIsReturnedAsIs() {
+        LocalizationBundle bundle = service.getBundle(GREETINGS);
+
+        assertEquals("greeting", bundle.translate("greeting", DiscordLocale.JAPANESE));
+        assertNull(bundle.find("greeting", DiscordLocale.UNKNOWN));
+    }
+}
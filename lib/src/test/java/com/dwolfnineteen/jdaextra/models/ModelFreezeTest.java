@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.models;
+
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.SlashOption;
+import com.dwolfnineteen.jdaextra.annotations.subcommands.RextraSlashSubcommand;
+import com.dwolfnineteen.jdaextra.builders.SlashCommandBuilder;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.models.commands.SlashCommandModel;
+import com.dwolfnineteen.jdaextra.models.subcommands.SlashSubcommandProperties;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.localization.LocalizationMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelFreezeTest {
+    private static final DiscordLocale[] LOCALES = {
+            DiscordLocale.GERMAN, DiscordLocale.FRENCH, DiscordLocale.SPANISH, DiscordLocale.POLISH
+    };
+
+    @Test
+    void freezingReplacesHashMapsAndArrayLists() throws IllegalAccessException {
+        SlashCommandModel model = buildModel();
+        Map<Class<?>, Integer> before = census(model);
+
+        model.freeze();
+
+        Map<Class<?>, Integer> after = census(model);
+
+        // The subcommand and subcommand group maps
+        assertEquals(before.get(HashMap.class) - 2, after.get(HashMap.class));
+        // The option lists of the command and its subcommands
+        assertEquals(before.get(ArrayList.class) - 4, after.get(ArrayList.class));
+        assertEquals(1, after.get(CompactMap.class));
+        // All remaining hash maps hold the translations of JDA's localization maps
+        assertEquals(after.get(LocalizationMap.class), after.get(HashMap.class));
+    }
+
+    @Test
+    void frozenModelRejectsMutation() {
+        SlashCommandModel model = buildModel().freeze();
+        SlashSubcommandProperties subcommand = model.getSubcommandMap().get("first");
+
+        assertTrue(model.isFrozen());
+        assertTrue(subcommand.isFrozen());
+        assertThrows(IllegalStateException.class, () -> model.setName("other"));
+        assertThrows(IllegalStateException.class, () -> model.setDescription("Other."));
+        assertThrows(IllegalStateException.class, () -> model.setNameLocalization(DiscordLocale.ITALIAN, "altro"));
+        assertThrows(IllegalStateException.class, () -> model.addOption(OptionType.STRING, "text", "Text."));
+        assertThrows(IllegalStateException.class, () -> subcommand.setDescription("Other."));
+        assertThrows(UnsupportedOperationException.class, () -> model.getOptions().clear());
+        assertThrows(UnsupportedOperationException.class, () -> model.getSubcommandMap().remove("first"));
+        assertThrows(UnsupportedOperationException.class, () -> subcommand.getOptions().clear());
+    }
+
+    @Test
+    void frozenModelKeepsItsContent() {
+        SlashCommandModel model = buildModel().freeze();
+
+        assertEquals("frozen", model.getName());
+        assertEquals(Set.of("first", "second", "third"), model.getSubcommandMap().keySet());
+        assertEquals(1, model.getSubcommandMap().get("second").getOptions().size());
+        assertEquals("zweite", model.getSubcommandMap().get("second").getNameLocalizations().get(DiscordLocale.GERMAN));
+        // Equal translations of different models share one instance
+        assertSame(model.getSubcommandMap().get("first").getDescriptionLocalizations().get(DiscordLocale.FRENCH),
+                buildModel().freeze().getSubcommandMap().get("first").getDescriptionLocalizations().get(DiscordLocale.FRENCH));
+    }
+
+    private static SlashCommandModel buildModel() {
+        SlashCommandModel model = new SlashCommandBuilder(new Frozen()).buildModel();
+
+        // Translations loaded at runtime (e.g. from bundles) are equal, but separate instances
+        for (SlashSubcommandProperties subcommand : model.getSubcommandMap().values()) {
+            for (DiscordLocale locale : LOCALES) {
+                subcommand.setDescriptionLocalization(locale, new String("Translated description of the subcommand."));
+            }
+        }
+
+        model.getSubcommandMap().get("second").setNameLocalization(DiscordLocale.GERMAN, "zweite");
+
+        return model;
+    }
+
+    // Counts the objects reachable from the root, by class; JDK objects are walked through their public API only
+    private static @NotNull Map<Class<?>, Integer> census(@NotNull Object root) throws IllegalAccessException {
+        Map<Class<?>, Integer> counts = new HashMap<>();
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+
+        pending.push(root);
+
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+
+            if (!seen.add(object)) {
+                continue;
+            }
+
+            counts.merge(object.getClass(), 1, Integer::sum);
+
+            if (object instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                    pushIfPresent(pending, entry.getKey());
+                    pushIfPresent(pending, entry.getValue());
+                }
+            } else if (object instanceof Collection) {
+                for (Object element : (Collection<?>) object) {
+                    pushIfPresent(pending, element);
+                }
+            } else if (object instanceof Object[]) {
+                for (Object element : (Object[]) object) {
+                    pushIfPresent(pending, element);
+                }
+            }
+
+            if (object instanceof Class || object instanceof Member || object instanceof Enum) {
+                continue;
+            }
+
+            for (Class<?> type = object.getClass();
+                 type != null && !type.isArray() && !type.getName().startsWith("java.");
+                 type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        pushIfPresent(pending, field.get(object));
+                    }
+                }
+            }
+        }
+
+        return counts;
+    }
+
+    private static void pushIfPresent(@NotNull Deque<Object> pending, @Nullable Object object) {
+        if (object != null) {
+            pending.push(object);
+        }
+    }
+
+    @ExtraSlashCommand(name = "frozen", description = "Frozen command.")
+    public static class Frozen extends SlashCommand {
+        @RextraSlashSubcommand(name = "first", description = "First.")
+        public void first(SlashCommandEvent event) { }
+
+        @RextraSlashSubcommand(name = "second", description = "Second.")
+        public void second(SlashCommandEvent event, @SlashOption(name = "text", description = "Text.") String text) { }
+
+        @RextraSlashSubcommand(name = "third", description = "Third.")
+        public void third(SlashCommandEvent event) { }
+    }
+}
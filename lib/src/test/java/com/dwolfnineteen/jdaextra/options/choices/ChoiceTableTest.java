@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.options.choices;
+
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.ChoiceString;
+import com.dwolfnineteen.jdaextra.annotations.options.IgnoreCase;
+import com.dwolfnineteen.jdaextra.annotations.options.PrefixOption;
+import com.dwolfnineteen.jdaextra.builders.PrefixCommandBuilder;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.OptionChoiceException;
+import com.dwolfnineteen.jdaextra.options.data.PrefixOptionData;
+import com.dwolfnineteen.jdaextra.options.validation.OptionValidator;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChoiceTableTest {
+    private static final List<Command.Choice> COLORS = List.of(new Command.Choice("Red", "#f00"),
+            new Command.Choice("Green", "#0f0"));
+
+    @Test
+    void nameAndValueSelectTheChoice() {
+        ChoiceTable table = ChoiceTable.compile(OptionType.STRING, COLORS, false);
+
+        assertEquals("#f00", table.lookup("Red"));
+        assertEquals("#f00", table.lookup("#f00"));
+        assertEquals("#0f0", table.lookup("Green"));
+        assertNull(table.lookup("red"));
+        assertNull(table.lookup("Blue"));
+        assertEquals(List.of("Red", "Green"), table.getNames());
+    }
+
+    @Test
+    void ignoreCaseMatchesAnyCase() {
+        ChoiceTable table = ChoiceTable.compile(OptionType.STRING, COLORS, true);
+
+        assertTrue(table.isIgnoreCase());
+        assertEquals("#f00", table.lookup("red"));
+        assertEquals("#f00", table.lookup("RED"));
+        assertEquals("#0f0", table.lookup("#0F0"));
+        assertNull(table.lookup("reds"));
+    }
+
+    @Test
+    void localizedNamesSelectTheChoice() {
+        Command.Choice red = new Command.Choice("Red", "#f00")
+                .setNameLocalization(DiscordLocale.FRENCH, "Rouge")
+                .setNameLocalization(DiscordLocale.GERMAN, "Rot");
+        ChoiceTable table = ChoiceTable.compile(OptionType.STRING, List.of(red), true);
+
+        assertEquals("#f00", table.lookup("Rouge"));
+        assertEquals("#f00", table.lookup("rot"));
+        assertEquals(List.of("Red"), table.getNames());
+    }
+
+    @Test
+    void integerTokensAreNormalized() {
+        ChoiceTable table = ChoiceTable.compile(OptionType.INTEGER,
+                List.of(new Command.Choice("Seven", 7), new Command.Choice("Zero", 0), new Command.Choice("Minus", -3)),
+                false);
+
+        assertEquals("7", table.lookup("7"));
+        assertEquals("7", table.lookup("07"));
+        assertEquals("7", table.lookup("+007"));
+        assertEquals("0", table.lookup("-0"));
+        assertEquals("0", table.lookup("000"));
+        assertEquals("-3", table.lookup("-03"));
+        assertNull(table.lookup("7.0"));
+        assertNull(table.lookup("+"));
+        assertNull(table.lookup(""));
+        assertNull(table.lookup("70"));
+    }
+
+    @Test
+    void numberTokensAreNormalized() {
+        ChoiceTable table = ChoiceTable.compile(OptionType.NUMBER,
+                List.of(new Command.Choice("One", 1.0), new Command.Choice("Half", 0.5)),
+                false);
+
+        assertEquals("1.0", table.lookup("1"));
+        assertEquals("1.0", table.lookup("1.0"));
+        assertEquals("1.0", table.lookup("+1.00"));
+        assertEquals("1.0", table.lookup("1e0"));
+        assertEquals("0.5", table.lookup(".5"));
+        assertEquals("0.5", table.lookup("5E-1"));
+        assertNull(table.lookup("NaN"));
+        assertNull(table.lookup("0x1p0"));
+        assertNull(table.lookup("1.5"));
+    }
+
+    @Test
+    void ambiguousKeysFail() {
+        List<Command.Choice> caseClash = List.of(new Command.Choice("Red", "a"), new Command.Choice("RED", "b"));
+        List<Command.Choice> nameValueClash = List.of(new Command.Choice("a", "b"), new Command.Choice("b", "c"));
+
+        assertDoesNotThrow(() -> ChoiceTable.compile(OptionType.STRING, caseClash, false));
+        assertThrows(IllegalArgumentException.class, () -> ChoiceTable.compile(OptionType.STRING, caseClash, true));
+        assertThrows(IllegalArgumentException.class, () -> ChoiceTable.compile(OptionType.STRING, nameValueClash, false));
+        // The same key selecting the same choice is not ambiguous
+        assertDoesNotThrow(() -> ChoiceTable.compile(OptionType.STRING, List.of(new Command.Choice("a", "a")), false));
+    }
+
+    @Test
+    void ambiguousChoicesFailTheBuild() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixCommandBuilder(new Ambiguous()).buildModel());
+    }
+
+    @Test
+    void noChoicesCompileToNull() {
+        assertNull(ChoiceTable.compile(OptionType.STRING, List.of(), true));
+    }
+
+    @Test
+    void unknownTokenFailsWithTheChoiceNames() {
+        PrefixOptionData color = new PrefixCommandBuilder(new Paint()).buildModel().getOptions().get(0);
+        OptionValidator validator = color.getValidator();
+
+        assertEquals("#f00", validator.resolve("RED"));
+
+        OptionChoiceException exception = assertThrows(OptionChoiceException.class, () -> validator.resolve("Blue"));
+
+        assertEquals("color", exception.getOptionName());
+        assertEquals("Blue", exception.getInput());
+        assertEquals(List.of("Red", "Green"), exception.getChoiceNames());
+        assertEquals("Option 'color' must be one of: Red, Green (got 'Blue')", exception.getMessage());
+    }
+
+    @ExtraPrefixCommand(name = "paint")
+    public static class Paint extends PrefixCommand {
+        @ExtraMainCommand
+        public void paint(PrefixCommandEvent event,
+                          @PrefixOption(name = "color")
+                          @ChoiceString(name = "Red", val = "#f00")
+                          @ChoiceString(name = "Green", val = "#0f0")
+                          @IgnoreCase String color) { }
+    }
+
+    @ExtraPrefixCommand(name = "ambiguous")
+    public static class Ambiguous extends PrefixCommand {
+        @ExtraMainCommand
+        public void ambiguous(PrefixCommandEvent event,
+                              @PrefixOption(name = "color")
+                              @ChoiceString(name = "Red", val = "#f00")
+                              @ChoiceString(name = "red", val = "#e00")
+                              @IgnoreCase String color) { }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.options.mappings;
+
+import com.dwolfnineteen.jdaextra.exceptions.OptionParseException;
+import com.dwolfnineteen.jdaextra.testkit.FakeDiscord;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixOptionMappingTest {
+    private static final FakeDiscord DISCORD = new FakeDiscord();
+    private static final List<String> INTEGERS = List.of("0", "-0", "+0", "7", "+7", "-7", "007", "-007",
+            "9223372036854775807", "-9223372036854775808", "+9223372036854775807", "0009223372036854775807",
+            "9223372036854775808", "-9223372036854775809", "92233720368547758070", "-92233720368547758080",
+            "18446744073709551616", "", "-", "+", "--1", "+-1", "1-", " 1", "1 ", "1.0", "1e3", "0x10", "1_000",
+            "\u0663", "-\u0661\u0662");
+    private static final List<String> NUMBERS = List.of("0", "-0", "+1", "1.5", "-1.5", ".5", "5.", "1e3", "1E3",
+            "1e+3", "1e-3", "-1.5e-3", "1.7976931348623157e308", "1e309", "4.9e-324", "1e-400", "007.50");
+    private static final List<String> NOT_NUMBERS = List.of("", "-", "+", ".", "-.", "e3", ".e3", "1e", "1e+", "1e-",
+            "1.5.5", "1e3e3", "1e3.5", "NaN", "-NaN", "Infinity", "-Infinity", "+Infinity", "0x1p3", "1d", "1f",
+            " 1", "1 ", "1,5", "\u0661");
+
+    @Test
+    void integersParseLikeLongParseLong() {
+        for (String input : INTEGERS) {
+            Long expected;
+
+            try {
+                expected = Long.parseLong(input);
+            } catch (NumberFormatException exception) {
+                expected = null;
+            }
+
+            if (expected == null) {
+                assertThrows(OptionParseException.class, () -> mapping(OptionType.INTEGER, input).getAsLong(), input);
+            } else {
+                assertEquals(expected, mapping(OptionType.INTEGER, input).getAsLong(), input);
+            }
+        }
+    }
+
+    @Test
+    void integerBoundsParseExactly() {
+        assertEquals(Long.MAX_VALUE, mapping(OptionType.INTEGER, "9223372036854775807").getAsLong());
+        assertEquals(Long.MIN_VALUE, mapping(OptionType.INTEGER, "-9223372036854775808").getAsLong());
+        assertThrows(OptionParseException.class, () -> mapping(OptionType.INTEGER, "9223372036854775808").getAsLong());
+        assertThrows(OptionParseException.class, () -> mapping(OptionType.INTEGER, "-9223372036854775809").getAsLong());
+    }
+
+    @Test
+    void intOutOfRangeFails() {
+        assertEquals(Integer.MAX_VALUE, mapping(OptionType.INTEGER, "2147483647").getAsInt());
+        assertEquals(Integer.MIN_VALUE, mapping(OptionType.INTEGER, "-2147483648").getAsInt());
+        assertThrows(OptionParseException.class, () -> mapping(OptionType.INTEGER, "2147483648").getAsInt());
+        assertThrows(OptionParseException.class, () -> mapping(OptionType.INTEGER, "-2147483649").getAsInt());
+    }
+
+    @Test
+    void decimalsParseLikeDoubleParseDouble() {
+        for (String input : NUMBERS) {
+            assertTrue(PrefixOptionMapping.isDecimal(input), input);
+            assertEquals(Double.parseDouble(input), mapping(OptionType.NUMBER, input).getAsDouble(), input);
+        }
+    }
+
+    @Test
+    void nonDecimalsFail() {
+        for (String input : NOT_NUMBERS) {
+            assertFalse(PrefixOptionMapping.isDecimal(input), input);
+            assertThrows(OptionParseException.class, () -> mapping(OptionType.NUMBER, input).getAsDouble(), input);
+        }
+    }
+
+    @Test
+    void parseExceptionDescribesTheInput() {
+        OptionParseException exception = assertThrows(OptionParseException.class,
+                () -> mapping(OptionType.INTEGER, "ten").getAsLong());
+
+        assertEquals("count", exception.getOptionName());
+        assertEquals("ten", exception.getInput());
+        assertEquals(OptionType.INTEGER, exception.getType());
+        assertEquals(OptionType.NUMBER,
+                assertThrows(OptionParseException.class, () -> mapping(OptionType.NUMBER, "NaN").getAsDouble()).getType());
+    }
+
+    private static @NotNull PrefixOptionMapping mapping(@NotNull OptionType type, @NotNull String input) {
+        return new PrefixOptionMapping(type, "count", input, DISCORD.message("!count " + input).build());
+    }
+}
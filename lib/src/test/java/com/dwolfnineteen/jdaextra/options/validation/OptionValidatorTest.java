@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.options.validation;
+
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.MaxValue;
+import com.dwolfnineteen.jdaextra.annotations.options.MinValue;
+import com.dwolfnineteen.jdaextra.annotations.options.PrefixOption;
+import com.dwolfnineteen.jdaextra.annotations.options.Required;
+import com.dwolfnineteen.jdaextra.annotations.options.RequiredLength;
+import com.dwolfnineteen.jdaextra.annotations.options.RequiredRange;
+import com.dwolfnineteen.jdaextra.builders.PrefixCommandBuilder;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.OptionParseException;
+import com.dwolfnineteen.jdaextra.exceptions.OptionValidationException;
+import com.dwolfnineteen.jdaextra.models.commands.PrefixCommandModel;
+import com.dwolfnineteen.jdaextra.options.data.PrefixOptionData;
+import com.dwolfnineteen.jdaextra.options.mappings.PrefixOptionMapping;
+import com.dwolfnineteen.jdaextra.testkit.FakeDiscord;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OptionValidatorTest {
+    private static final FakeDiscord DISCORD = new FakeDiscord();
+    private static List<PrefixOptionData> options;
+
+    @BeforeAll
+    static void setUp() {
+        options = new PrefixCommandBuilder(new Constrained()).buildModel().getOptions();
+    }
+
+    @Test
+    void integerRangeIsChecked() {
+        assertDoesNotThrow(() -> validate(0, "1"));
+        assertDoesNotThrow(() -> validate(0, "+10"));
+        assertViolation(OptionValidationException.Constraint.MIN_VALUE, 1L, () -> validate(0, "0"));
+        assertViolation(OptionValidationException.Constraint.MIN_VALUE, 1L, () -> validate(0, "-9223372036854775808"));
+        assertViolation(OptionValidationException.Constraint.MAX_VALUE, 10L, () -> validate(0, "11"));
+    }
+
+    @Test
+    void numberRangeIsChecked() {
+        assertDoesNotThrow(() -> validate(1, "0.5"));
+        assertDoesNotThrow(() -> validate(1, "1e-1"));
+        assertDoesNotThrow(() -> validate(1, "1"));
+        assertViolation(OptionValidationException.Constraint.MIN_VALUE, -1.0, () -> validate(1, "-1.01"));
+        assertViolation(OptionValidationException.Constraint.MAX_VALUE, 1.0, () -> validate(1, "1.5"));
+    }
+
+    @Test
+    void stringLengthIsChecked() {
+        assertDoesNotThrow(() -> validate(2, "ab"));
+        assertDoesNotThrow(() -> validate(2, "abcd"));
+        assertViolation(OptionValidationException.Constraint.MIN_LENGTH, 2, () -> validate(2, "a"));
+        assertViolation(OptionValidationException.Constraint.MAX_LENGTH, 4, () -> validate(2, "abcde"));
+    }
+
+    @Test
+    void unconstrainedOptionAcceptsAnything() {
+        assertDoesNotThrow(() -> validate(3, ""));
+        assertDoesNotThrow(() -> options.get(3).getValidator().validateMissing());
+    }
+
+    @Test
+    void missingRequiredOptionFails() {
+        OptionValidationException exception = assertThrows(OptionValidationException.class,
+                () -> options.get(0).getValidator().validateMissing());
+
+        assertEquals(OptionValidationException.Constraint.REQUIRED, exception.getConstraint());
+        assertNull(exception.getLimit());
+        assertEquals("Option 'count' is required", exception.getMessage());
+    }
+
+    @Test
+    void valueOfWrongTypeFails() {
+        assertEquals("ten", assertThrows(OptionParseException.class, () -> validate(0, "ten")).getInput());
+        assertThrows(OptionParseException.class, () -> validate(0, "1.0"));
+        assertThrows(OptionParseException.class, () -> validate(0, "9223372036854775808"));
+        assertThrows(OptionParseException.class, () -> validate(1, "0,5"));
+        assertThrows(OptionParseException.class, () -> validate(1, "NaN"));
+    }
+
+    @Test
+    void validatorIsCompiledOnceAndRecompiledAfterChanges() {
+        PrefixCommandModel model = new PrefixCommandBuilder(new Constrained()).buildModel();
+        PrefixOptionData count = model.getOptions().get(0);
+        OptionValidator validator = count.getValidator();
+
+        assertSame(validator, count.getValidator());
+
+        count.setMaxValue(20);
+
+        assertNotSame(validator, count.getValidator());
+        assertDoesNotThrow(() -> count.getValidator().validate(mapping(count, "15")));
+    }
+
+    @Test
+    void nonIntegralIntegerBoundFails() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixCommandBuilder(new FractionalBound()).buildModel());
+        assertThrows(IllegalArgumentException.class, () -> new PrefixCommandBuilder(new HugeRange()).buildModel());
+    }
+
+    private static void validate(int option, @NotNull String input) {
+        PrefixOptionData data = options.get(option);
+
+        data.getValidator().validate(mapping(data, input));
+    }
+
+    private static @NotNull PrefixOptionMapping mapping(@NotNull PrefixOptionData data, @NotNull String input) {
+        return new PrefixOptionMapping(data.getType(), data.getName(), input, DISCORD.message("!constrained").build());
+    }
+
+    private static void assertViolation(@NotNull OptionValidationException.Constraint constraint,
+                                        @NotNull Number limit,
+                                        @NotNull Runnable validation) {
+        OptionValidationException exception = assertThrows(OptionValidationException.class, validation::run);
+
+        assertEquals(constraint, exception.getConstraint());
+        assertEquals(limit, exception.getLimit());
+    }
+
+    @ExtraPrefixCommand(name = "constrained")
+    public static class Constrained extends PrefixCommand {
+        @ExtraMainCommand
+        public void constrained(PrefixCommandEvent event,
+                                @PrefixOption(name = "count") @Required @MinValue(1) @MaxValue(10) Long count,
+                                @PrefixOption(name = "ratio") @RequiredRange(minValue = -1, maxValue = 1) Double ratio,
+                                @PrefixOption(name = "tag") @RequiredLength(minLength = 2, maxLength = 4) String tag,
+                                @PrefixOption(name = "note") String note) { }
+    }
+
+    @ExtraPrefixCommand(name = "fractional")
+    public static class FractionalBound extends PrefixCommand {
+        @ExtraMainCommand
+        public void fractional(PrefixCommandEvent event, @PrefixOption(name = "count") @MinValue(0.5) Long count) { }
+    }
+
+    @ExtraPrefixCommand(name = "huge")
+    public static class HugeRange extends PrefixCommand {
+        @ExtraMainCommand
+        public void huge(PrefixCommandEvent event,
+                         @PrefixOption(name = "count") @RequiredRange(minValue = 0, maxValue = 1e19) Long count) { }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CommandTrieTest {
+    @Test
+    void emptyTrieHasNoEntries() {
+        CommandTrie<Integer> trie = CommandTrie.empty();
+
+        assertEquals(0, trie.size());
+        assertNull(trie.get("ping"));
+        assertEquals(Map.of(), trie.asMap());
+    }
+
+    @Test
+    void putAndGet() {
+        CommandTrie<Integer> trie = CommandTrie.<Integer>empty()
+                .put("ping", 1)
+                .put("help", 2);
+
+        assertEquals(2, trie.size());
+        assertEquals(1, trie.get("ping"));
+        assertEquals(2, trie.get("help"));
+        assertNull(trie.get("info"));
+    }
+
+    @Test
+    void replacedEntryKeepsItsPosition() {
+        CommandTrie<Integer> trie = CommandTrie.<Integer>empty()
+                .put("ping", 1)
+                .put("help", 2)
+                .put("info", 3)
+                .put("ping", 4);
+
+        assertEquals(3, trie.size());
+        assertEquals(List.of("ping", "help", "info"), new ArrayList<>(trie.asMap().keySet()));
+        assertEquals(4, trie.get("ping"));
+    }
+
+    @Test
+    void removingAbsentKeyReturnsSameTrie() {
+        CommandTrie<Integer> trie = CommandTrie.<Integer>empty().put("ping", 1);
+
+        assertSame(trie, trie.remove("help"));
+    }
+
+    @Test
+    void updatesDontChangePreviousVersions() {
+        CommandTrie<Integer> first = CommandTrie.<Integer>empty().put("ping", 1);
+        CommandTrie<Integer> second = first.put("help", 2).put("ping", 3);
+        CommandTrie<Integer> third = second.remove("ping");
+
+        assertEquals(Map.of("ping", 1), first.asMap());
+        assertEquals(Map.of("ping", 3, "help", 2), second.asMap());
+        assertEquals(Map.of("help", 2), third.asMap());
+    }
+
+    @Test
+    void collidingKeys() {
+        // All four have the same hash code
+        List<String> keys = List.of("AaAa", "AaBB", "BBAa", "BBBB");
+        CommandTrie<Integer> trie = CommandTrie.empty();
+
+        for (int i = 0; i < keys.size(); i++) {
+            trie = trie.put(keys.get(i), i);
+        }
+
+        trie = trie.put("ping", 4).put("AaBB", 5);
+
+        assertEquals(5, trie.size());
+        assertEquals(List.of("AaAa", "AaBB", "BBAa", "BBBB", "ping"), new ArrayList<>(trie.asMap().keySet()));
+        assertEquals(5, trie.get("AaBB"));
+
+        trie = trie.remove("AaAa").remove("BBBB").remove("BBAa");
+
+        assertEquals(Map.of("AaBB", 5, "ping", 4), trie.asMap());
+        assertNull(trie.get("AaAa"));
+
+        trie = trie.remove("AaBB");
+
+        assertEquals(Map.of("ping", 4), trie.asMap());
+    }
+
+    @Test
+    void matchesLinkedHashMap() {
+        Random random = new Random(42);
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        CommandTrie<Integer> trie = CommandTrie.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            String key = "command-" + random.nextInt(2000);
+
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                trie = trie.remove(key);
+            } else {
+                // LinkedHashMap keeps the position of a replaced key too
+                expected.put(key, i);
+                trie = trie.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), trie.size());
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(trie.asMap().entrySet()));
+
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key), trie.get(key));
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.scheduling;
+
+import com.dwolfnineteen.jdaextra.testkit.FakeDiscord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandSchedulerTest {
+    private static final Runnable NOTHING = () -> {};
+
+    private final AtomicLong nanos = new AtomicLong();
+    private volatile long clockOffsetMillis;
+    private FakeDiscord discord;
+    private CommandScheduler scheduler;
+    private CountDownLatch blocker;
+
+    @BeforeEach
+    void setUp() {
+        discord = new FakeDiscord();
+        scheduler = newScheduler(3);
+        blocker = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blocker.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void runsEarlierDeadlinesAndHigherPrioritiesFirst() throws InterruptedException {
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+
+        blockWorker();
+        scheduler.setPriority("urgent", 1);
+
+        scheduler.submit("prefix", discord.message("!prefix").build(), () -> record(order, "prefix", done), NOTHING);
+        scheduler.submit("slash", discord.slashCommand("slash").build(), () -> record(order, "slash", done), NOTHING);
+        scheduler.submit("urgent", discord.message("!urgent").build(), () -> record(order, "urgent", done), NOTHING);
+
+        blocker.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("urgent", "slash", "prefix"), order);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        blockWorker();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(scheduler.submit("ping", discord.message("!ping").build(), NOTHING, NOTHING));
+        }
+
+        assertFalse(scheduler.submit("ping", discord.message("!ping").build(), NOTHING, NOTHING));
+        assertEquals(3, scheduler.getQueuedCount());
+        assertEquals(1, scheduler.getRejectedCount());
+    }
+
+    @Test
+    void expiredInteractionIsFailedOnSubmit() {
+        List<String> calls = new CopyOnWriteArrayList<>();
+
+        // Submits a fresh event, so the clock offset is known
+        blockWorker();
+
+        boolean accepted = scheduler.submit("ping",
+                discord.slashCommand("ping").setAge(Duration.ofSeconds(5)).build(),
+                () -> calls.add("run"),
+                () -> calls.add("expired"));
+
+        assertTrue(accepted);
+        assertEquals(List.of("expired"), calls);
+        assertEquals(0, scheduler.getQueuedCount());
+        assertEquals(1, scheduler.getExpiredCount());
+    }
+
+    @Test
+    void interactionExpiringInTheQueueIsFailedWhenItsTurnComes() throws InterruptedException {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        blockWorker();
+
+        scheduler.submit("ping",
+                discord.slashCommand("ping").setAge(Duration.ofMillis(2900)).build(),
+                () -> calls.add("run"),
+                () -> {
+                    calls.add("expired");
+                    done.countDown();
+                });
+
+        // Past the deadline of 3 seconds
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        blocker.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("expired"), calls);
+        assertEquals(0, scheduler.getQueuedCount());
+    }
+
+    @Test
+    void skewedClockDoesntExpireInteractions() throws InterruptedException {
+        for (long offset : new long[]{3500, -3500}) {
+            CountDownLatch done = new CountDownLatch(1);
+
+            clockOffsetMillis = offset;
+            blocker.countDown();
+            blocker = new CountDownLatch(1);
+            scheduler.shutdown();
+            scheduler = newScheduler(3);
+
+            blockWorker();
+            scheduler.submit("ping", discord.slashCommand("ping").build(), done::countDown, NOTHING);
+            // Within the 3 seconds since the interaction was received
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(2900));
+            blocker.countDown();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(0, scheduler.getExpiredCount());
+        }
+    }
+
+    @Test
+    void expiresFewerInteractionsThanFifoUnderOverload() throws InterruptedException {
+        int events = 40;
+        long costNanos = TimeUnit.MILLISECONDS.toNanos(170);
+        CountDownLatch done = new CountDownLatch(events);
+        List<Boolean> interactions = new ArrayList<>();
+
+        scheduler.shutdown();
+        scheduler = newScheduler(events);
+        blockWorker();
+
+        // Prefix commands and interactions arriving alternately, faster than they run
+        for (int i = 0; i < events; i++) {
+            boolean interaction = i % 2 == 1;
+            Runnable task = () -> {
+                nanos.addAndGet(costNanos);
+                done.countDown();
+            };
+
+            interactions.add(interaction);
+            scheduler.submit("ping",
+                    interaction ? discord.slashCommand("ping").build() : discord.message("!ping").build(),
+                    task,
+                    done::countDown);
+        }
+
+        blocker.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        // The same invocations run in arrival order
+        long now = 0;
+        int fifoExpired = 0;
+
+        for (boolean interaction : interactions) {
+            if (interaction && now > TimeUnit.MILLISECONDS.toNanos(3000)) {
+                fifoExpired++;
+            } else {
+                now += costNanos;
+            }
+        }
+
+        assertTrue(scheduler.getExpiredCount() < fifoExpired,
+                String.format("%d expired, %d in arrival order", scheduler.getExpiredCount(), fifoExpired));
+    }
+
+    @Test
+    void workerSurvivesFailingInvocation() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        scheduler.submit("fail", discord.message("!fail").build(), () -> {
+            throw new IllegalStateException("Command failed");
+        }, NOTHING);
+        scheduler.submit("ping", discord.message("!ping").build(), done::countDown, NOTHING);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandScheduler(0, 1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new CommandScheduler(1, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new CommandScheduler(1, 1, Duration.ofSeconds(-1)));
+    }
+
+    private CommandScheduler newScheduler(int queueCapacity) {
+        return new CommandScheduler(1,
+                queueCapacity,
+                Duration.ofSeconds(10),
+                () -> System.currentTimeMillis() + clockOffsetMillis,
+                nanos::get);
+    }
+
+    private void blockWorker() {
+        CountDownLatch started = new CountDownLatch(1);
+
+        scheduler.submit("block", discord.message("!block").build(), () -> {
+            started.countDown();
+
+            try {
+                blocker.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }, NOTHING);
+
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+
+    private static void record(List<String> order, String name, CountDownLatch done) {
+        order.add(name);
+        done.countDown();
+    }
+}
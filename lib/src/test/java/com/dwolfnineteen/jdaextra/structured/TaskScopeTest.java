@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.structured;
+
+import com.dwolfnineteen.jdaextra.exceptions.TaskScopeCancelledException;
+import com.dwolfnineteen.jdaextra.testkit.FakeDiscord;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskScopeTest {
+    @Test
+    void joinsAllSubtasks() throws Exception {
+        try (TaskScope scope = new TaskScope(0)) {
+            TaskScope.Subtask<Integer> first = scope.fork(() -> 1);
+            TaskScope.Subtask<String> second = scope.fork(() -> "two");
+
+            scope.join();
+            scope.throwIfFailed();
+
+            assertEquals(1, first.get());
+            assertEquals("two", second.get());
+            assertEquals(TaskScope.State.SUCCESS, first.getState());
+            assertFalse(scope.isCancelled());
+        }
+    }
+
+    @Test
+    void failedSubtaskCancelsTheOthers() throws Exception {
+        IllegalStateException failure = new IllegalStateException("Subtask failed");
+
+        try (TaskScope scope = new TaskScope(0)) {
+            TaskScope.Subtask<Object> slow = scope.fork(() -> {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+
+                return null;
+            });
+            TaskScope.Subtask<Object> failing = scope.fork(() -> {
+                throw failure;
+            });
+
+            scope.join();
+
+            ExecutionException exception = assertThrows(ExecutionException.class, scope::throwIfFailed);
+
+            assertSame(failure, exception.getCause());
+            assertSame(failure, failing.getException());
+            assertEquals(TaskScope.Reason.FAILED, scope.getCancellationReason());
+
+            scope.close();
+
+            assertEquals(TaskScope.State.CANCELLED, slow.getState());
+            assertThrows(IllegalStateException.class, slow::get);
+        }
+    }
+
+    @Test
+    void timeoutCancelsTheScope() {
+        try (TaskScope scope = new TaskScope(0).cancelAfter(Duration.ofMillis(50))) {
+            scope.fork(() -> {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+
+                return null;
+            });
+
+            TaskScopeCancelledException exception = assertThrows(TaskScopeCancelledException.class, scope::join);
+
+            assertEquals(TaskScope.Reason.TIMEOUT, exception.getReason());
+        }
+    }
+
+    @Test
+    void expiredInteractionCancelsTheScope() {
+        FakeDiscord discord = new FakeDiscord();
+
+        // Created 5 seconds ago and never acknowledged
+        try (TaskScope scope = new TaskScope(0).cancelOnExpiry(discord.slashCommand("ping").setAge(Duration.ofSeconds(5)).build())) {
+            scope.fork(() -> {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+
+                return null;
+            });
+
+            TaskScopeCancelledException exception = assertThrows(TaskScopeCancelledException.class, scope::join);
+
+            assertEquals(TaskScope.Reason.INTERACTION_EXPIRED, exception.getReason());
+        }
+    }
+
+    @Test
+    void closeStopsRunningSubtasks() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        TaskScope scope = new TaskScope(0);
+
+        scope.fork(() -> {
+            started.countDown();
+
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } finally {
+                stopped.countDown();
+            }
+
+            return null;
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        scope.close();
+
+        // close() returns only once the subtask has stopped
+        assertEquals(0, stopped.getCount());
+        assertEquals(TaskScope.Reason.CLOSED, scope.getCancellationReason());
+        assertThrows(IllegalStateException.class, () -> scope.fork(() -> null));
+    }
+
+    @Test
+    void subtasksForkedAfterCancellationDontStart() {
+        try (TaskScope scope = new TaskScope(0)) {
+            scope.cancel();
+
+            TaskScope.Subtask<Object> subtask = scope.fork(() -> {
+                throw new AssertionError("Must not run");
+            });
+
+            assertEquals(TaskScope.State.CANCELLED, subtask.getState());
+            assertNull(subtask.getException());
+            assertEquals(TaskScope.Reason.CANCELLED,
+                    assertThrows(TaskScopeCancelledException.class, scope::join).getReason());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.suggestions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BkTreeTest {
+    @Test
+    void emptyTreeFindsNothing() {
+        assertNull(new BkTree().search("ping", 2));
+    }
+
+    @Test
+    void findsClosestKey() {
+        BkTree tree = tree("ping", "pong", "help", "info", "kick");
+
+        assertEquals("help", tree.search("hepl", 2));
+        assertEquals("kick", tree.search("kik", 1));
+        assertNull(tree.search("ban", 1));
+    }
+
+    @Test
+    void exactMatchIsNotSuggested() {
+        assertNull(tree("ping", "pong").search("ping", 2));
+    }
+
+    @Test
+    void earliestKeyWinsTies() {
+        // "pang" is one edit away from both
+        assertEquals("ping", tree("ping", "pong").search("pang", 1));
+        assertEquals("pong", tree("pong", "ping").search("pang", 1));
+    }
+
+    @Test
+    void duplicateKeyKeepsFirstTarget() {
+        BkTree tree = new BkTree();
+
+        tree.add("ping", "ping");
+        tree.add("ping", "other");
+
+        assertEquals("ping", tree.search("pin", 1));
+    }
+
+    @Test
+    void longQueryIsRejected() {
+        assertNull(tree("ping").search("pingpingping", 2));
+    }
+
+    @Test
+    void matchesLinearScan() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        BkTree tree = new BkTree();
+
+        for (int i = 0; i < 500; i++) {
+            String key = randomWord(random);
+
+            if (!keys.contains(key)) {
+                keys.add(key);
+                tree.add(key, key);
+            }
+        }
+
+        for (int i = 0; i < 500; i++) {
+            String query = randomWord(random);
+
+            assertEquals(linearSearch(keys, query, 2), tree.search(query, 2), query);
+        }
+    }
+
+    private static BkTree tree(String... keys) {
+        BkTree tree = new BkTree();
+
+        for (String key : keys) {
+            tree.add(key, key);
+        }
+
+        return tree;
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[3 + random.nextInt(6)];
+
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(4));
+        }
+
+        return new String(chars);
+    }
+
+    private static String linearSearch(List<String> keys, String query, int tolerance) {
+        String best = null;
+        int bestDistance = tolerance + 1;
+
+        for (String key : keys) {
+            int distance = levenshtein(query, key);
+
+            if (distance == 0) {
+                return null;
+            }
+
+            if (distance < bestDistance) {
+                best = key;
+                bestDistance = distance;
+            }
+        }
+
+        return best;
+    }
+
+    private static int levenshtein(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int substitution = distances[i - 1][j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+
+                    distances[i][j] = Math.min(substitution, Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+
+        return distances[first.length()][second.length()];
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.suggestions;
+
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.subcommands.RextraSlashSubcommand;
+import com.dwolfnineteen.jdaextra.builders.PrefixCommandBuilder;
+import com.dwolfnineteen.jdaextra.builders.SlashCommandBuilder;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.models.commands.SlashCommandModel;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SuggestionIndexTest {
+    @Test
+    void suggestsTopLevelCommand() {
+        SuggestionIndex index = index();
+
+        assertEquals("settings", index.suggest(null, "setings"));
+        assertEquals("kick", index.suggest(null, "KICK2"));
+        assertNull(index.suggest(null, "unrelated"));
+    }
+
+    @Test
+    void subcommandsAreMatchedOnlyAgainstSiblings() {
+        SuggestionIndex index = index();
+
+        assertEquals("language", index.suggest("settings", "langauge"));
+        // A top-level command, not a subcommand of "settings"
+        assertNull(index.suggest("settings", "kik"));
+        assertNull(index.suggest("kick", "langauge"));
+    }
+
+    @Test
+    void localizedNameResolvesToTheName() {
+        assertEquals("settings", index().suggest(null, "einstelungen"));
+    }
+
+    @Test
+    void shortNameIsNotSuggested() {
+        // Half of the name at most, so one letter can't be edited
+        assertNull(index().suggest(null, "k"));
+    }
+
+    @Test
+    void nonPositiveDistanceIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SuggestionIndex(0, List.of()));
+    }
+
+    private static SuggestionIndex index() {
+        SlashCommandModel settings = new SlashCommandBuilder(new Settings()).buildModel();
+
+        settings.setNameLocalization(DiscordLocale.GERMAN, "einstellungen");
+
+        return new SuggestionIndex(2, List.of(settings, new PrefixCommandBuilder(new Kick()).buildModel()));
+    }
+
+    @ExtraSlashCommand(name = "settings", description = "Settings.")
+    public static class Settings extends SlashCommand {
+        @RextraSlashSubcommand(name = "language", description = "Language.")
+        public void language(SlashCommandEvent event) { }
+
+        @RextraSlashSubcommand(name = "timezone", description = "Time zone.")
+        public void timezone(SlashCommandEvent event) { }
+    }
+
+    @ExtraPrefixCommand(name = "kick")
+    public static class Kick extends PrefixCommand {
+        @ExtraMainCommand
+        public void kick(PrefixCommandEvent event) { }
+    }
+}
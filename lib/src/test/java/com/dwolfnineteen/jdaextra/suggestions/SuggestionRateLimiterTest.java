@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.suggestions;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionRateLimiterTest {
+    @Test
+    void channelGetsOneSuggestionPerCooldown() {
+        SuggestionRateLimiter limiter = new SuggestionRateLimiter(Duration.ofHours(1));
+
+        assertTrue(limiter.tryAcquire(1));
+        assertFalse(limiter.tryAcquire(1));
+        assertTrue(limiter.tryAcquire(2));
+    }
+
+    @Test
+    void zeroCooldownNeverLimits() {
+        SuggestionRateLimiter limiter = new SuggestionRateLimiter(Duration.ZERO);
+
+        assertTrue(limiter.tryAcquire(1));
+        assertTrue(limiter.tryAcquire(1));
+    }
+
+    @Test
+    void negativeCooldownIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SuggestionRateLimiter(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void manyChannelsArePrunedWithoutLosingActiveOnes() {
+        SuggestionRateLimiter limiter = new SuggestionRateLimiter(Duration.ofHours(1));
+
+        for (long channelId = 0; channelId < 10_000; channelId++) {
+            assertTrue(limiter.tryAcquire(channelId));
+        }
+
+        // None expired, so none was pruned
+        assertFalse(limiter.tryAcquire(0));
+        assertFalse(limiter.tryAcquire(9_999));
+    }
+
+    @Test
+    void concurrentCallersGetOneSuggestion() throws Exception {
+        int threads = 8;
+        SuggestionRateLimiter limiter = new SuggestionRateLimiter(Duration.ofHours(1));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+
+                    return limiter.tryAcquire(1);
+                }));
+            }
+
+            start.countDown();
+
+            int acquired = 0;
+
+            for (Future<Boolean> result : results) {
+                acquired += result.get() ? 1 : 0;
+            }
+
+            assertEquals(1, acquired);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
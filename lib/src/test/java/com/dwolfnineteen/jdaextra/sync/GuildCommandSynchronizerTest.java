@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.sync;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import net.dv8tion.jda.api.requests.Response;
+import net.dv8tion.jda.api.requests.restaction.CommandListUpdateAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GuildCommandSynchronizerTest {
+    @TempDir
+    Path directory;
+
+    private final FakeGuilds guilds = new FakeGuilds();
+    private GuildCommandSynchronizer synchronizer;
+
+    @AfterEach
+    void tearDown() {
+        if (synchronizer != null) {
+            synchronizer.close();
+        }
+    }
+
+    @Test
+    void availableGuildWithoutCommandsIsNotPending() {
+        synchronizer = new GuildCommandSynchronizer(null, 10);
+
+        synchronizer.guildAvailable(1);
+
+        assertEquals(0, synchronizer.getPendingCount());
+    }
+
+    @Test
+    void availableAssignedGuildIsQueuedOnce() {
+        synchronizer = new GuildCommandSynchronizer(null, 10);
+
+        // Not started, so pending guilds stay in the queue
+        synchronizer.assign(1, List.of("beta"));
+        synchronizer.guildAvailable(1);
+        synchronizer.guildAvailable(2);
+
+        assertEquals(1, synchronizer.getPendingCount());
+    }
+
+    @Test
+    void unchangedCommandsAreNotPushedAgain() throws InterruptedException {
+        synchronizer = new GuildCommandSynchronizer(null, 50);
+
+        synchronizer.assign(1, List.of("beta"));
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        await(() -> synchronizer.getUpdatedCount() == 1);
+
+        synchronizer.commandsChanged();
+        await(() -> synchronizer.getUnchangedCount() == 1);
+
+        assertEquals(List.of(1L), guilds.getPushedGuildIds());
+    }
+
+    @Test
+    void updatesArePaced() throws InterruptedException {
+        int requestsPerSecond = 20;
+        synchronizer = new GuildCommandSynchronizer(null, requestsPerSecond);
+
+        for (long guildId = 1; guildId <= 5; guildId++) {
+            synchronizer.assign(guildId, List.of("beta"));
+        }
+
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        await(() -> synchronizer.getUpdatedCount() == 5);
+
+        List<Long> times = guilds.getPushNanos();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+
+        for (int i = 1; i < times.size(); i++) {
+            assertTrue(times.get(i) - times.get(i - 1) >= intervalNanos, "Updates " + i + " and " + (i + 1));
+        }
+    }
+
+    @Test
+    void inFlightUpdatesAreLimited() throws InterruptedException {
+        synchronizer = new GuildCommandSynchronizer(null, 50);
+        guilds.setResponding(false);
+
+        for (long guildId = 1; guildId <= GuildCommandSynchronizer.MAX_IN_FLIGHT + 2; guildId++) {
+            synchronizer.assign(guildId, List.of("beta"));
+        }
+
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        await(() -> guilds.getPushedGuildIds().size() == GuildCommandSynchronizer.MAX_IN_FLIGHT);
+        // Enough for two more updates, if they weren't blocked
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        assertEquals(GuildCommandSynchronizer.MAX_IN_FLIGHT, guilds.getPushedGuildIds().size());
+
+        guilds.completeAll();
+        await(() -> synchronizer.getUpdatedCount() == GuildCommandSynchronizer.MAX_IN_FLIGHT + 2);
+    }
+
+    @Test
+    void stateAndAssignmentsSurviveRestart() throws InterruptedException {
+        Path stateFile = directory.resolve("guilds.state");
+        synchronizer = new GuildCommandSynchronizer(stateFile, 50);
+
+        synchronizer.assign(1, List.of("beta", "admin"));
+        synchronizer.assign(2, List.of("beta"));
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        await(() -> synchronizer.getUpdatedCount() == 2);
+        synchronizer.close();
+
+        // Restarted, and the application hasn't assigned anything yet
+        synchronizer = new GuildCommandSynchronizer(stateFile, 50);
+
+        assertEquals(Set.of("beta", "admin"), synchronizer.getAssignedSets(1));
+        assertEquals(Set.of("beta"), synchronizer.getAssignedSets(2));
+
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        await(() -> synchronizer.getUnchangedCount() == 2);
+        synchronizer.assign(2, List.of("beta"));
+
+        assertEquals(0, synchronizer.getPendingCount());
+        assertEquals(2, guilds.getPushedGuildIds().size());
+    }
+
+    @Test
+    void unassignedGuildIsClearedOnce() throws InterruptedException {
+        Path stateFile = directory.resolve("guilds.state");
+        synchronizer = new GuildCommandSynchronizer(stateFile, 50);
+
+        synchronizer.assign(1, List.of("beta"));
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        await(() -> synchronizer.getUpdatedCount() == 1);
+        synchronizer.assign(1, List.of());
+        await(() -> synchronizer.getUpdatedCount() == 2);
+        synchronizer.close();
+
+        synchronizer = new GuildCommandSynchronizer(stateFile, 50);
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        synchronizer.guildAvailable(1);
+
+        assertEquals(0, synchronizer.getPendingCount());
+        assertEquals(List.of(1, 0), guilds.getPushedCommandCounts());
+    }
+
+    @Test
+    void permanentFailureIsNotRetried() throws InterruptedException {
+        synchronizer = new GuildCommandSynchronizer(null, 50, 10);
+        guilds.failNext(ErrorResponseException.create(ErrorResponse.MISSING_ACCESS,
+                new Response(new IOException("Missing access"), Set.of())));
+
+        synchronizer.assign(1, List.of("beta"));
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        await(() -> synchronizer.getFailedCount() == 1);
+
+        // Checked again, but the failed commands are remembered as pushed
+        synchronizer.guildAvailable(1);
+        await(() -> synchronizer.getUnchangedCount() == 1);
+
+        assertEquals(List.of(1L), guilds.getPushedGuildIds());
+        assertEquals(0, synchronizer.getUpdatedCount());
+    }
+
+    @Test
+    void temporaryFailureIsRetried() throws InterruptedException {
+        synchronizer = new GuildCommandSynchronizer(null, 50, 10);
+        guilds.failNext(new IOException("Connection reset"));
+
+        synchronizer.assign(1, List.of("beta"));
+        synchronizer.start(guilds::get, GuildCommandSynchronizerTest::commandData);
+        await(() -> synchronizer.getUpdatedCount() == 1);
+
+        assertEquals(1, synchronizer.getFailedCount());
+        assertEquals(List.of(1L, 1L), guilds.getPushedGuildIds());
+    }
+
+    private static List<CommandData> commandData(Set<String> sets) {
+        List<CommandData> commands = new ArrayList<>();
+
+        for (String set : sets) {
+            commands.add(Commands.slash(set, "Commands of " + set + "."));
+        }
+
+        return commands;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() - deadline < 0, "Timed out");
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+
+    /**
+     * Guilds whose command updates are recorded and answered by the test.
+     */
+    private static final class FakeGuilds {
+        private final List<Push> pushes = new ArrayList<>();
+        private final List<Push> unanswered = new ArrayList<>();
+        private final Deque<Throwable> failures = new ArrayDeque<>();
+        private boolean responding = true;
+
+        Guild get(long guildId) {
+            return (Guild) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Guild.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getIdLong":
+                                return guildId;
+                            case "updateCommands":
+                                return updateCommands(guildId);
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        @SuppressWarnings("unchecked")
+        private CommandListUpdateAction updateCommands(long guildId) {
+            List<CommandData> commands = new ArrayList<>();
+
+            return (CommandListUpdateAction) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{CommandListUpdateAction.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "addCommands":
+                                commands.addAll((Collection<? extends CommandData>) args[0]);
+
+                                return proxy;
+                            case "queue":
+                                push(new Push(guildId, commands.size(), (Consumer<Object>) args[0], (Consumer<Throwable>) args[1]));
+
+                                return null;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private void push(Push push) {
+            Throwable failure;
+
+            synchronized (this) {
+                pushes.add(push);
+                failure = failures.poll();
+
+                if (failure == null && !responding) {
+                    unanswered.add(push);
+
+                    return;
+                }
+            }
+
+            if (failure != null) {
+                push.failure.accept(failure);
+            } else {
+                push.success.accept(List.of());
+            }
+        }
+
+        synchronized void failNext(Throwable failure) {
+            failures.add(failure);
+        }
+
+        synchronized void setResponding(boolean responding) {
+            this.responding = responding;
+        }
+
+        void completeAll() {
+            List<Push> snapshot;
+
+            synchronized (this) {
+                responding = true;
+                snapshot = new ArrayList<>(unanswered);
+                unanswered.clear();
+            }
+
+            for (Push push : snapshot) {
+                push.success.accept(List.of());
+            }
+        }
+
+        synchronized List<Long> getPushedGuildIds() {
+            return pushes.stream().map(push -> push.guildId).toList();
+        }
+
+        synchronized List<Integer> getPushedCommandCounts() {
+            return pushes.stream().map(push -> push.commandCount).toList();
+        }
+
+        synchronized List<Long> getPushNanos() {
+            return pushes.stream().map(push -> push.nanos).toList();
+        }
+    }
+
+    private static final class Push {
+        private final long guildId;
+        private final int commandCount;
+        private final long nanos;
+        private final Consumer<Object> success;
+        private final Consumer<Throwable> failure;
+
+        private Push(long guildId, int commandCount, Consumer<Object> success, Consumer<Throwable> failure) {
+            this.guildId = guildId;
+            this.commandCount = commandCount;
+            this.nanos = System.nanoTime();
+            this.success = success;
+            this.failure = failure;
+        }
+    }
+}
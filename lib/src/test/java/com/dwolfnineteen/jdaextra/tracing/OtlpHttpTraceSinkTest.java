@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.tracing;
+
+import com.dwolfnineteen.jdaextra.testkit.FakeOtlpCollector;
+import net.dv8tion.jda.api.utils.data.DataArray;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OtlpHttpTraceSinkTest {
+    private FakeOtlpCollector collector;
+    private OtlpHttpTraceSink sink;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        collector = new FakeOtlpCollector();
+        sink = new OtlpHttpTraceSink(collector.getEndpoint(), "test \"bot\"");
+        tracer = new Tracer(1, sink);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracer.shutdown();
+        collector.close();
+    }
+
+    @Test
+    void exportedSpansDescribeTheInvocation() {
+        long before = System.currentTimeMillis() * 1_000_000;
+        InvocationTrace trace = tracer.start(new Object(), "message");
+
+        trace.mark(Phase.FILTER);
+        trace.route("ping");
+        trace.mark(Phase.PARSE);
+        trace.mark(Phase.INVOKE);
+        trace.finish();
+        tracer.shutdown();
+
+        long after = System.currentTimeMillis() * 1_000_000;
+
+        assertEquals(1, collector.getRequests().size());
+        assertEquals(1, collector.getTraceCount());
+        assertEquals(5, collector.getSpanCount());
+        assertEquals(1, sink.getExportedCount());
+
+        DataObject request = DataObject.fromJson(collector.getRequests().get(0));
+        DataObject resourceSpans = request.getArray("resourceSpans").getObject(0);
+        DataObject serviceName = resourceSpans.getObject("resource").getArray("attributes").getObject(0);
+
+        assertEquals("service.name", serviceName.getString("key"));
+        assertEquals("test \"bot\"", serviceName.getObject("value").getString("stringValue"));
+
+        List<DataObject> spans = spans(request);
+        DataObject root = spans.get(0);
+
+        assertEquals("ping", root.getString("name"));
+        assertEquals(2, root.getInt("kind"));
+        assertFalse(root.hasKey("parentSpanId"));
+        assertFalse(root.hasKey("status"));
+        assertEquals(32, root.getString("traceId").length());
+        assertEquals(16, root.getString("spanId").length());
+
+        long rootStart = Long.parseLong(root.getString("startTimeUnixNano"));
+        long rootEnd = Long.parseLong(root.getString("endTimeUnixNano"));
+
+        assertEquals(trace.toEpochNanos(trace.getStartNanos()), rootStart);
+        assertEquals(trace.toEpochNanos(trace.getEndNanos()), rootEnd);
+        // The epoch offset is taken from the millisecond clock
+        assertTrue(rootStart >= before - 1_000_000 && rootEnd <= after + 1_000_000);
+
+        List<String> names = new ArrayList<>();
+        long previousEnd = rootStart;
+
+        for (DataObject span : spans.subList(1, spans.size())) {
+            long start = Long.parseLong(span.getString("startTimeUnixNano"));
+            long end = Long.parseLong(span.getString("endTimeUnixNano"));
+
+            names.add(span.getString("name"));
+
+            assertEquals(1, span.getInt("kind"));
+            assertEquals(root.getString("traceId"), span.getString("traceId"));
+            assertEquals(root.getString("spanId"), span.getString("parentSpanId"));
+            assertNotEquals(root.getString("spanId"), span.getString("spanId"));
+            // Phases follow each other within the root span
+            assertEquals(previousEnd, start);
+            assertTrue(start <= end && end <= rootEnd);
+
+            previousEnd = end;
+        }
+
+        assertEquals(List.of("filter", "route", "parse", "invoke"), names);
+    }
+
+    @Test
+    void errorSetsTheRootStatus() {
+        IllegalStateException error = new IllegalStateException("bad \"input\"\n\tat line 1");
+        InvocationTrace failed = tracer.start(new Object(), "slash_command");
+        InvocationTrace succeeded = tracer.start(new Object(), "slash_command");
+
+        failed.route("admin ban");
+        failed.setError(error);
+        failed.finish();
+        succeeded.route("ping");
+        succeeded.finish();
+        tracer.shutdown();
+
+        assertEquals(2, collector.getTraceCount());
+
+        List<DataObject> roots = new ArrayList<>();
+
+        for (DataObject span : spans(DataObject.fromJson(collector.getRequests().get(0)))) {
+            if (!span.hasKey("parentSpanId")) {
+                roots.add(span);
+            }
+        }
+
+        DataObject status = roots.get(0).getObject("status");
+
+        assertEquals("admin ban", roots.get(0).getString("name"));
+        assertEquals(2, status.getInt("code"));
+        assertEquals(error.toString(), status.getString("message"));
+        assertNotEquals(roots.get(0).getString("traceId"), roots.get(1).getString("traceId"));
+        assertFalse(roots.get(1).hasKey("status"));
+    }
+
+    @Test
+    void unreachableCollectorCountsFailures() {
+        collector.close();
+
+        InvocationTrace trace = tracer.start(new Object(), "message");
+
+        trace.route("ping");
+        trace.finish();
+        tracer.shutdown();
+
+        assertEquals(0, sink.getExportedCount());
+        assertEquals(1, sink.getFailedCount());
+    }
+
+    private static @NotNull List<DataObject> spans(@NotNull DataObject request) {
+        DataArray array = request.getArray("resourceSpans").getObject(0)
+                .getArray("scopeSpans").getObject(0)
+                .getArray("spans");
+        List<DataObject> spans = new ArrayList<>(array.length());
+
+        for (int i = 0; i < array.length(); i++) {
+            spans.add(array.getObject(i));
+        }
+
+        return spans;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.tracing;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TracerTest {
+    @Test
+    void unsampledInvocationsGetNoop() {
+        RecordingSink sink = new RecordingSink();
+        Tracer tracer = new Tracer(0, sink);
+        Object source = new Object();
+        InvocationTrace trace = tracer.start(source, "message");
+
+        assertSame(InvocationTrace.NOOP, trace);
+        assertFalse(trace.isSampled());
+        assertSame(InvocationTrace.NOOP, tracer.find(source));
+
+        trace.route("ping");
+        trace.mark(Phase.INVOKE);
+        trace.setError(new IllegalStateException());
+
+        assertFalse(trace.fork());
+        assertFalse(trace.replyStarted());
+
+        trace.finish();
+
+        assertEquals(0, trace.getPhaseEndNanos(Phase.INVOKE));
+        assertEquals(List.of(), sink.getTraces());
+    }
+
+    @Test
+    void sampleRateIsTheTracedFraction() {
+        Tracer tracer = new Tracer(0.5, new RecordingSink());
+        int sampled = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            if (tracer.start(new Object(), "message").isSampled()) {
+                sampled++;
+            }
+        }
+
+        // 20 standard deviations either way
+        assertTrue(sampled > 4_000 && sampled < 6_000, String.valueOf(sampled));
+        assertTrue(new Tracer(1, new RecordingSink()).start(new Object(), "message").isSampled());
+    }
+
+    @Test
+    void sampleRateOutOfRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Tracer(-0.1, new RecordingSink()));
+        assertThrows(IllegalArgumentException.class, () -> new Tracer(1.1, new RecordingSink()));
+        assertThrows(IllegalArgumentException.class, () -> new Tracer(Double.NaN, new RecordingSink()));
+    }
+
+    @Test
+    void finishedTraceIsExportedOnce() {
+        RecordingSink sink = new RecordingSink();
+        Tracer tracer = new Tracer(1, sink);
+        Object source = new Object();
+        InvocationTrace trace = tracer.start(source, "slash_command");
+
+        assertSame(trace, tracer.find(source));
+
+        trace.mark(Phase.FILTER);
+        trace.route("ping");
+        trace.mark(Phase.INVOKE);
+        trace.finish();
+
+        assertEquals(List.of(trace), sink.getTraces());
+        assertSame(InvocationTrace.NOOP, tracer.find(source));
+        assertFalse(trace.fork());
+        assertEquals("ping", trace.getCommandName());
+        assertEquals("slash_command", trace.getEventType());
+        assertEquals(trace.getPhaseEndNanos(Phase.ROUTE), trace.getPhaseStartNanos(Phase.INVOKE));
+        assertEquals(0, trace.getPhaseStartNanos(Phase.PARSE));
+        assertTrue(trace.getEndNanos() >= trace.getPhaseEndNanos(Phase.INVOKE));
+    }
+
+    @Test
+    void traceWithoutCommandIsDropped() {
+        RecordingSink sink = new RecordingSink();
+        Tracer tracer = new Tracer(1, sink);
+        Object source = new Object();
+        InvocationTrace trace = tracer.start(source, "message");
+
+        trace.mark(Phase.FILTER);
+        trace.finish();
+
+        assertEquals(List.of(), sink.getTraces());
+        assertSame(InvocationTrace.NOOP, tracer.find(source));
+    }
+
+    @Test
+    void forkedInvocationIsExportedByTheLastThread() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        Tracer tracer = new Tracer(1, sink);
+        InvocationTrace trace = tracer.start(new Object(), "message");
+        ExecutorService scheduler = Executors.newSingleThreadExecutor();
+
+        try {
+            trace.route("ping");
+
+            assertTrue(trace.fork());
+
+            trace.finish();
+
+            assertEquals(List.of(), sink.getTraces());
+
+            Thread worker = scheduler.submit(() -> {
+                trace.mark(Phase.INVOKE);
+                trace.finish();
+
+                return Thread.currentThread();
+            }).get();
+
+            assertEquals(List.of(trace), sink.getTraces());
+            assertSame(worker, sink.getThreads().get(0));
+            assertTrue(trace.getEndNanos() >= trace.getPhaseEndNanos(Phase.INVOKE));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void traceIsExportedAfterTheLastReply() {
+        RecordingSink sink = new RecordingSink();
+        Tracer tracer = new Tracer(1, sink);
+        InvocationTrace trace = tracer.start(new Object(), "message");
+
+        trace.route("ping");
+
+        assertTrue(trace.replyStarted());
+        assertTrue(trace.replyStarted());
+
+        trace.finish();
+        trace.replyCompleted();
+
+        assertEquals(List.of(), sink.getTraces());
+
+        trace.replyCompleted();
+
+        assertEquals(List.of(trace), sink.getTraces());
+        assertNotEquals(0, trace.getPhaseStartNanos(Phase.REPLY));
+        assertTrue(trace.getPhaseStartNanos(Phase.REPLY) <= trace.getPhaseEndNanos(Phase.REPLY));
+    }
+
+    @Test
+    void failedReplyIsTracked() {
+        RecordingSink sink = new RecordingSink();
+        Tracer tracer = new Tracer(1, sink);
+        InvocationTrace trace = tracer.start(new Object(), "message");
+        CompletableFuture<Void> reply = new CompletableFuture<>();
+
+        trace.route("ping");
+        trace.trackReply(() -> reply);
+        assertThrows(IllegalStateException.class, () -> trace.trackReply(() -> {
+            throw new IllegalStateException();
+        }));
+        trace.finish();
+
+        assertEquals(List.of(), sink.getTraces());
+
+        reply.completeExceptionally(new IllegalStateException());
+
+        assertEquals(List.of(trace), sink.getTraces());
+    }
+
+    private static final class RecordingSink implements TraceSink {
+        private final List<InvocationTrace> traces = new ArrayList<>();
+        private final List<Thread> threads = new ArrayList<>();
+
+        @Override
+        public synchronized void export(@NotNull InvocationTrace trace) {
+            traces.add(trace);
+            threads.add(Thread.currentThread());
+        }
+
+        synchronized @NotNull List<InvocationTrace> getTraces() {
+            return new ArrayList<>(traces);
+        }
+
+        synchronized @NotNull List<Thread> getThreads() {
+            return new ArrayList<>(threads);
+        }
+    }
+}
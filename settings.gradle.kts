@@ -24,3 +24,4 @@ rootProject.name = "Rextra"
 
 include("lib")
 include("samples")
+include("testkit")
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+group = "com.dwolfnineteen"
+version = "1.0.0-alpha.2"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    api(project(":lib"))
+    // OptionMapping constructor signature (JDA has it as a runtime dependency)
+    compileOnly("net.sf.trove4j:core:3.1.0")
+    compileOnly("org.jetbrains:annotations:24.1.0")
+
+    testImplementation(platform("org.junit:junit-bom:5.10.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+java {
+    toolchain.languageVersion.set(JavaLanguageVersion.of(17))
+    withSourcesJar()
+    withJavadocJar()
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+tasks.withType<Javadoc>().configureEach {
+    title = rootProject.name + " TestKit " + version
+}
+
+publishing {
+    repositories {
+        maven {
+            val repo = "https://repo.dwolfnineteen.com/"
+
+            url = if (version.toString().contains("alpha")) {
+                uri(repo + "alpha")
+            } else if (version.toString().contains("beta")) {
+                uri(repo + "beta")
+            } else if (version.toString().contains("exp")) {
+                uri(repo + "experimental")
+            } else {
+                uri(repo + "releases")
+            }
+
+            credentials {
+                username = System.getenv("MAVEN_USERNAME")
+                password = System.getenv("MAVEN_PASSWORD")
+            }
+        }
+    }
+    publications {
+        create<MavenPublication>("mavenJava") {
+            from(components["java"])
+
+            artifactId = "rextra-testkit"
+
+            pom {
+                name = rootProject.name + " TestKit"
+                description = "In-memory JDA stand-ins and event builders for testing Rextra bots without Discord."
+                url = "https://github.com/DWolf-19/JDA-Extra"
+
+                licenses {
+                    license {
+                        name = "MIT License"
+                        url = "https://github.com/DWolf-19/JDA-Extra/blob/main/LICENSE.md"
+                    }
+                }
+            }
+        }
+    }
+}
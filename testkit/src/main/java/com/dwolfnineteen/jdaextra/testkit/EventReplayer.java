@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.capture.CapturedEvent;
+import com.dwolfnineteen.jdaextra.capture.CapturedOption;
+import com.dwolfnineteen.jdaextra.capture.EventLogReader;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays event logs recorded by {@link com.dwolfnineteen.jdaextra.capture.EventRecorder EventRecorder}
+ * into an {@link EventListener} (usually {@link com.dwolfnineteen.jdaextra.JDAExtra JDAExtra}),
+ * using the fakes of {@link FakeDiscord}.
+ * <br>
+ * Events are replayed at the recorded pace multiplied by the speed, or as fast as possible.
+ * When paced, latency is measured from the scheduled time of the event (not the actual start),
+ * so a slow handler delaying next events shows up in the percentiles.
+ */
+public final class EventReplayer {
+    private final FakeDiscord discord;
+    private final EventListener listener;
+    private final Map<Long, User> users;
+    private final Map<Long, Member> members;
+    private double speed;
+    private long skippedOptions;
+
+    /**
+     * Construct new {@link EventReplayer}.
+     *
+     * @param discord The {@link FakeDiscord}.
+     * @param listener The {@link EventListener} to replay events into.
+     */
+    public EventReplayer(@NotNull FakeDiscord discord, @NotNull EventListener listener) {
+        this.discord = discord;
+        this.listener = listener;
+        this.users = new HashMap<>();
+        this.members = new HashMap<>();
+        this.speed = 1;
+    }
+
+    /**
+     * Sets the replay speed.
+     *
+     * @param speed Multiplier of the recorded pace (1 = real time), or {@link Double#POSITIVE_INFINITY}
+     *              for max speed.
+     * @return Current {@link EventReplayer} instance, for chaining.
+     * @throws IllegalArgumentException If the speed is not positive.
+     */
+    public @NotNull EventReplayer setSpeed(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Speed must be positive");
+        }
+
+        this.speed = speed;
+
+        return this;
+    }
+
+    /**
+     * Replay events as fast as possible.
+     *
+     * @return Current {@link EventReplayer} instance, for chaining.
+     */
+    public @NotNull EventReplayer setMaxSpeed() {
+        return setSpeed(Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Replay the event log.
+     *
+     * @param log The event log file.
+     * @return The {@link ReplayReport}.
+     * @throws IOException If an I/O error occurs reading the log.
+     */
+    public @NotNull ReplayReport replay(@NotNull Path log) throws IOException {
+        boolean paced = !Double.isInfinite(speed);
+        long[] latencies = new long[1024];
+        int count = 0;
+        long errors = 0;
+        skippedOptions = 0;
+        long start = System.nanoTime();
+
+        try (EventLogReader reader = new EventLogReader(log)) {
+            for (CapturedEvent captured = reader.next(); captured != null; captured = reader.next()) {
+                GenericEvent event = toEvent(captured);
+                long scheduled = start;
+
+                if (paced) {
+                    scheduled = start + (long) (captured.getOffsetNanos() / speed);
+
+                    for (long now = System.nanoTime(); now < scheduled; now = System.nanoTime()) {
+                        LockSupport.parkNanos(scheduled - now);
+                    }
+                }
+
+                long begin = System.nanoTime();
+
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException exception) {
+                    errors++;
+                }
+
+                long end = System.nanoTime();
+
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+
+                latencies[count++] = end - (paced ? scheduled : begin);
+            }
+        }
+
+        return new ReplayReport(count, errors, skippedOptions, System.nanoTime() - start, Arrays.copyOf(latencies, count));
+    }
+
+    private @NotNull GenericEvent toEvent(@NotNull CapturedEvent captured) {
+        boolean fromGuild = captured.getGuildId() != 0;
+        User user = users.computeIfAbsent(captured.getUserId(),
+                id -> discord.createUser(id, "user" + id, captured.isBot()));
+        Member member = fromGuild ? members.computeIfAbsent(captured.getUserId(), id -> discord.createMember(user)) : null;
+
+        if (captured.getType() == CapturedEvent.Type.MESSAGE) {
+            MessageEventBuilder builder = discord.message(captured.getContent()).setAuthor(user, member);
+
+            return (fromGuild ? builder : builder.inPrivateChannel()).build();
+        }
+
+        SlashEventBuilder builder = discord.slashCommand(captured.getContent()).setUser(user, member);
+
+        if (captured.getSubcommandName() != null) {
+            builder.setSubcommand(captured.getSubcommandGroup(), captured.getSubcommandName());
+        }
+
+        for (CapturedOption option : captured.getOptions()) {
+            switch (option.getType()) {
+                case STRING:
+                    builder.addOption(option.getName(), option.getType(), option.getValue());
+                    break;
+                case INTEGER:
+                    builder.addOption(option.getName(), option.getType(), Long.parseLong(option.getValue()));
+                    break;
+                case NUMBER:
+                    builder.addOption(option.getName(), option.getType(), Double.parseDouble(option.getValue()));
+                    break;
+                case BOOLEAN:
+                    builder.addOption(option.getName(), option.getType(), Boolean.parseBoolean(option.getValue()));
+                    break;
+                default:
+                    skippedOptions++;
+            }
+        }
+
+        return (fromGuild ? builder : builder.inPrivateChannel()).build();
+    }
+}
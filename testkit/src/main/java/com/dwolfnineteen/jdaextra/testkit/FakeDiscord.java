@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.SelfUser;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.entities.channel.unions.GuildMessageChannelUnion;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.utils.TimeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory Discord: the entry point of the testkit.
+ * <br>
+ * Holds a fake {@link JDA}, a guild with a text channel, a private channel, a user with a member,
+ * and the {@link FakeRestLayer}, which records all requests instead of sending them.
+ * Synthetic events are created with {@link #message(String)} and {@link #slashCommand(String)}
+ * and can be passed directly to {@link com.dwolfnineteen.jdaextra.JDAExtra#onEvent(net.dv8tion.jda.api.events.GenericEvent)
+ * JDAExtra.onEvent()}.
+ * <br>
+ * Example:
+ * <pre>{@code
+ * FakeDiscord discord = new FakeDiscord();
+ * JDAExtra jdaExtra = new JDAExtraBuilder().setPrefix("!").addPrefixCommands(new PingCommand()).build();
+ *
+ * jdaExtra.onEvent(discord.message("!ping").build());
+ *
+ * assert "Pong!".equals(discord.getRestLayer().getLastRequest().getContent());
+ * }</pre>
+ * Requests are recorded with routes of the faked entity and method, e.g. {@code Message#reply}
+ * or {@code Hook#sendMessage}. Interaction replies are recorded as {@code Interaction#deferReply},
+ * since JDA implements {@code reply()} of the event on top of it.
+ * <br>
+ * Fakes are thread-safe and cheap (proxies with a few fields), so events can be built at a high rate for load tests.
+ * Methods which are not faked throw {@link UnsupportedOperationException}.
+ */
+public final class FakeDiscord {
+    private final AtomicLong ids;
+    private final AtomicLong responseNumbers;
+    private final Map<String, Long> commandIds;
+    private final FakeRestLayer restLayer;
+    private final JDA jda;
+    private final SelfUser selfUser;
+    private final Guild guild;
+    private final Member selfMember;
+    private final MessageChannelUnion channel;
+    private final MessageChannelUnion privateChannel;
+    private final User user;
+    private final Member member;
+
+    /**
+     * Construct new {@link FakeDiscord}.
+     */
+    public FakeDiscord() {
+        // Snowflake-like IDs (non-zero timestamp part)
+        ids = new AtomicLong(1L << 42);
+        responseNumbers = new AtomicLong();
+        commandIds = new ConcurrentHashMap<>();
+        restLayer = new FakeRestLayer();
+
+        jda = StubHandler.newProxy(new Stubs.JDAHandler(this), JDA.class);
+        selfUser = StubHandler.newProxy(new Stubs.UserHandler(this, nextId(), "Rextra", true), SelfUser.class);
+        guild = StubHandler.newProxy(new Stubs.GuildHandler(this, nextId(), "Fake Guild"), Guild.class);
+        selfMember = createMember(selfUser);
+        channel = StubHandler.newProxy(new Stubs.ChannelHandler(this, nextId(), "general", ChannelType.TEXT, guild),
+                MessageChannelUnion.class,
+                GuildMessageChannelUnion.class,
+                TextChannel.class);
+        privateChannel = StubHandler.newProxy(new Stubs.ChannelHandler(this, nextId(), "private", ChannelType.PRIVATE, null),
+                MessageChannelUnion.class,
+                PrivateChannel.class);
+        user = createUser("user", false);
+        member = createMember(user);
+    }
+
+    /**
+     * The fake {@link JDA}.
+     *
+     * @return The {@link JDA}.
+     */
+    public @NotNull JDA getJDA() {
+        return jda;
+    }
+
+    /**
+     * The {@link FakeRestLayer}, which records all executed requests.
+     *
+     * @return The {@link FakeRestLayer}.
+     */
+    public @NotNull FakeRestLayer getRestLayer() {
+        return restLayer;
+    }
+
+    /**
+     * The bot user.
+     *
+     * @return The {@link SelfUser}.
+     */
+    public @NotNull SelfUser getSelfUser() {
+        return selfUser;
+    }
+
+    /**
+     * The guild.
+     *
+     * @return The {@link Guild}.
+     */
+    public @NotNull Guild getGuild() {
+        return guild;
+    }
+
+    /**
+     * The bot member of the guild.
+     *
+     * @return The {@link Member}.
+     */
+    public @NotNull Member getSelfMember() {
+        return selfMember;
+    }
+
+    /**
+     * The text channel of the guild (default channel of events).
+     *
+     * @return The {@link MessageChannelUnion}.
+     */
+    public @NotNull MessageChannelUnion getChannel() {
+        return channel;
+    }
+
+    /**
+     * The private channel with {@link #getUser()}.
+     *
+     * @return The {@link MessageChannelUnion}.
+     */
+    public @NotNull MessageChannelUnion getPrivateChannel() {
+        return privateChannel;
+    }
+
+    /**
+     * The user (default author of events).
+     *
+     * @return The {@link User}.
+     */
+    public @NotNull User getUser() {
+        return user;
+    }
+
+    /**
+     * The member of {@link #getUser()}.
+     *
+     * @return The {@link Member}.
+     */
+    public @NotNull Member getMember() {
+        return member;
+    }
+
+    /**
+     * Generate new unique ID.
+     * <br>
+     * IDs are snowflakes of the current time, since Rextra derives the creation time of events from them.
+     *
+     * @return The ID.
+     */
+    public long nextId() {
+        long timestamp = TimeUtil.getDiscordTimestamp(System.currentTimeMillis());
+
+        return ids.updateAndGet(previous -> Math.max(previous + 1, timestamp));
+    }
+
+    /**
+     * Create new fake user.
+     *
+     * @param name The user name.
+     * @param bot Whether the user is a bot.
+     * @return The {@link User}.
+     */
+    public @NotNull User createUser(@NotNull String name, boolean bot) {
+        return createUser(nextId(), name, bot);
+    }
+
+    /**
+     * Create new fake user with the ID.
+     *
+     * @param id The user ID.
+     * @param name The user name.
+     * @param bot Whether the user is a bot.
+     * @return The {@link User}.
+     */
+    public @NotNull User createUser(long id, @NotNull String name, boolean bot) {
+        return StubHandler.newProxy(new Stubs.UserHandler(this, id, name, bot), User.class);
+    }
+
+    /**
+     * Create new fake member of the guild.
+     *
+     * @param user The {@link User} of the member.
+     * @return The {@link Member}.
+     */
+    public @NotNull Member createMember(@NotNull User user) {
+        return StubHandler.newProxy(new Stubs.MemberHandler(this, user), Member.class);
+    }
+
+    /**
+     * Start building new {@link net.dv8tion.jda.api.events.message.MessageReceivedEvent MessageReceivedEvent}.
+     *
+     * @param content The message content.
+     * @return New {@link MessageEventBuilder}.
+     */
+    public @NotNull MessageEventBuilder message(@NotNull String content) {
+        return new MessageEventBuilder(this).setContent(content);
+    }
+
+    /**
+     * Start building new {@link net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent
+     * SlashCommandInteractionEvent}.
+     *
+     * @param name The command name.
+     * @return New {@link SlashEventBuilder}.
+     */
+    public @NotNull SlashEventBuilder slashCommand(@NotNull String name) {
+        return new SlashEventBuilder(this, name);
+    }
+
+    long nextResponseNumber() {
+        return responseNumbers.incrementAndGet();
+    }
+
+    long getCommandId(@NotNull String name) {
+        return commandIds.computeIfAbsent(name, key -> nextId());
+    }
+
+    @NotNull Message createMessage(long id,
+                                   @NotNull String content,
+                                   @NotNull User author,
+                                   @Nullable Member member,
+                                   @NotNull MessageChannelUnion channel) {
+        return StubHandler.newProxy(new Stubs.MessageHandler(this, id, content, author, member, channel), Message.class);
+    }
+
+    @NotNull Message createSentMessage(@NotNull MessageChannelUnion channel, @Nullable String content) {
+        return createMessage(nextId(),
+                content == null ? "" : content,
+                selfUser,
+                channel.getType().isGuild() ? selfMember : null,
+                channel);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for an OpenTelemetry collector, accepting OTLP/HTTP JSON trace exports.
+ * <br>
+ * Use it as the endpoint of {@link com.dwolfnineteen.jdaextra.tracing.OtlpHttpTraceSink OtlpHttpTraceSink}
+ * to check exported traces without running a real collector.
+ */
+public final class FakeOtlpCollector implements Closeable {
+    private static final String SPAN_ID_KEY = "\"spanId\"";
+    private static final String PARENT_SPAN_ID_KEY = "\"parentSpanId\"";
+
+    private final HttpServer server;
+    private final Queue<String> requests;
+    private final AtomicLong spanCount;
+    private final AtomicLong traceCount;
+
+    /**
+     * Start new {@link FakeOtlpCollector} on a free port of the loopback address.
+     *
+     * @throws IOException If the server can't be started.
+     */
+    public FakeOtlpCollector() throws IOException {
+        requests = new ConcurrentLinkedQueue<>();
+        spanCount = new AtomicLong();
+        traceCount = new AtomicLong();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+
+        server.createContext("/v1/traces", this::handle);
+        server.start();
+    }
+
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+
+                return;
+            }
+
+            String body;
+
+            try (InputStream input = exchange.getRequestBody()) {
+                body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            long spans = count(body, SPAN_ID_KEY);
+            long childSpans = count(body, PARENT_SPAN_ID_KEY);
+
+            requests.add(body);
+            spanCount.addAndGet(spans);
+            // Every trace has exactly one root span
+            traceCount.addAndGet(spans - childSpans);
+
+            byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+        }
+    }
+
+    private static long count(@NotNull String body, @NotNull String key) {
+        long count = 0;
+
+        for (int index = body.indexOf(key); index != -1; index = body.indexOf(key, index + key.length())) {
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * The traces endpoint of this collector.
+     *
+     * @return The endpoint {@link URI}.
+     */
+    public @NotNull URI getEndpoint() {
+        InetSocketAddress address = server.getAddress();
+
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort() + "/v1/traces");
+    }
+
+    /**
+     * Received request bodies (OTLP JSON), in order of arrival.
+     *
+     * @return {@link List} of the request bodies.
+     */
+    public @NotNull List<String> getRequests() {
+        return new ArrayList<>(requests);
+    }
+
+    /**
+     * Number of received spans (root and phase spans).
+     *
+     * @return The span count.
+     */
+    public long getSpanCount() {
+        return spanCount.get();
+    }
+
+    /**
+     * Number of received traces (root spans).
+     *
+     * @return The trace count.
+     */
+    public long getTraceCount() {
+        return traceCount.get();
+    }
+
+    /**
+     * Stop the server.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.utils.messages.MessageData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Fake {@link RestAction} of any action interface.
+ * <br>
+ * Collects message content/embeds from the creating method and mutators,
+ * and on execution records a {@link RecordedRequest} and succeeds immediately.
+ */
+final class FakeRestAction extends StubHandler {
+    private final String route;
+    private final Object[] arguments;
+    private final Function<RecordedRequest, Object> result;
+    private final Runnable onExecute;
+    private final List<MessageEmbed> embeds;
+    private StringBuilder content;
+    private boolean ephemeral;
+
+    private FakeRestAction(@NotNull FakeDiscord discord,
+                           @NotNull String route,
+                           @NotNull Object[] arguments,
+                           @NotNull Function<RecordedRequest, Object> result,
+                           @Nullable Runnable onExecute) {
+        super(discord, "RestAction", 0);
+
+        this.route = route;
+        this.arguments = arguments.clone();
+        this.result = result;
+        this.onExecute = onExecute;
+        this.embeds = new ArrayList<>();
+    }
+
+    /**
+     * Create the fake action.
+     *
+     * @param type The action interface.
+     * @param route The route of recorded requests.
+     * @param arguments Arguments of the creating method (message content/embeds are taken from them).
+     * @param result Function that creates the result of the action.
+     * @param onExecute Callback, called before recording the request (may throw to fail the action).
+     * @return The action proxy.
+     */
+    static @NotNull Object create(@NotNull FakeDiscord discord,
+                                  @NotNull Class<?> type,
+                                  @NotNull String route,
+                                  @NotNull Object[] arguments,
+                                  @NotNull Function<RecordedRequest, Object> result,
+                                  @Nullable Runnable onExecute) {
+        FakeRestAction action = new FakeRestAction(discord, route, arguments, result, onExecute);
+
+        if (MessageData.class.isAssignableFrom(type)) {
+            action.collect(route.endsWith("Format"), arguments);
+        }
+
+        if (route.endsWith("#deferReply") && arguments.length == 1) {
+            action.ephemeral = (boolean) arguments[0];
+        }
+
+        return newProxy(action, type);
+    }
+
+    private void collect(boolean format, @NotNull Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            Object argument = args[i];
+
+            if (argument instanceof CharSequence && content == null) {
+                content = new StringBuilder(format && i + 1 < args.length
+                        ? String.format(argument.toString(), (Object[]) args[i + 1])
+                        : argument.toString());
+            } else if (argument instanceof MessageData) {
+                content = new StringBuilder(((MessageData) argument).getContent());
+                embeds.addAll(((MessageData) argument).getEmbeds());
+            } else {
+                collectEmbeds(argument);
+            }
+        }
+    }
+
+    private void collectEmbeds(@Nullable Object argument) {
+        if (argument instanceof MessageEmbed) {
+            embeds.add((MessageEmbed) argument);
+        } else if (argument instanceof MessageEmbed[]) {
+            embeds.addAll(Arrays.asList((MessageEmbed[]) argument));
+        } else if (argument instanceof Collection) {
+            for (Object element : (Collection<?>) argument) {
+                collectEmbeds(element);
+            }
+        }
+    }
+
+    @Override
+    @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "setContent":
+                content = args[0] == null ? null : new StringBuilder(args[0].toString());
+
+                return proxy;
+            case "addContent":
+                if (content == null) {
+                    content = new StringBuilder();
+                }
+
+                content.append(args[0]);
+
+                return proxy;
+            case "setEmbeds":
+                embeds.clear();
+                collectEmbeds(args[0]);
+
+                return proxy;
+            case "addEmbeds":
+                collectEmbeds(args[0]);
+
+                return proxy;
+            case "applyData":
+                embeds.clear();
+                collect(false, args);
+
+                return proxy;
+            case "setEphemeral":
+                ephemeral = (boolean) args[0];
+
+                return proxy;
+            case "getContent":
+                return content == null ? "" : content.toString();
+            case "getEmbeds":
+                return new ArrayList<>(embeds);
+            case "getJDA":
+                return discord.getJDA();
+            case "queue":
+                if (args.length == 2) {
+                    queue(args);
+
+                    return null;
+                }
+
+                break;
+            case "complete":
+                if (args.length == 1) {
+                    return execute();
+                }
+
+                break;
+            case "submit":
+                if (args.length == 1) {
+                    try {
+                        return CompletableFuture.completedFuture(execute());
+                    } catch (RuntimeException exception) {
+                        return CompletableFuture.failedFuture(exception);
+                    }
+                }
+
+                break;
+        }
+
+        Class<?> returnType = method.getReturnType();
+
+        if (method.isDefault()) {
+            // map(), flatMap() etc. are implemented by JDA on top of queue()
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+
+        if (returnType.isInstance(proxy)) {
+            // Other mutators (setCheck(), setTTS(), mention...())
+            return proxy;
+        }
+
+        if (returnType == List.class) {
+            return List.of();
+        } else if (returnType == Set.class) {
+            return Set.of();
+        } else if (returnType == EnumSet.class) {
+            return EnumSet.noneOf(Message.MentionType.class);
+        } else if (!returnType.isPrimitive() && method.getName().startsWith("get")) {
+            return null;
+        }
+
+        return UNHANDLED;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void queue(@NotNull Object[] args) {
+        Consumer<Object> success = (Consumer<Object>) args[0];
+        Consumer<Throwable> failure = (Consumer<Throwable>) args[1];
+        Object value;
+
+        try {
+            value = execute();
+        } catch (RuntimeException exception) {
+            if (failure == null) {
+                RestAction.getDefaultFailure().accept(exception);
+            } else {
+                failure.accept(exception);
+            }
+
+            return;
+        }
+
+        if (success != null) {
+            success.accept(value);
+        }
+    }
+
+    private @Nullable Object execute() {
+        if (onExecute != null) {
+            onExecute.run();
+        }
+
+        RecordedRequest request = new RecordedRequest(route,
+                Arrays.asList(arguments),
+                content == null ? null : content.toString(),
+                new ArrayList<>(embeds),
+                ephemeral);
+
+        discord.getRestLayer().record(request);
+
+        return result.apply(request);
+    }
+}
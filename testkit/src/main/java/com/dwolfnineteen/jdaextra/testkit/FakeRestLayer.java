@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fake REST layer, which records executed requests instead of sending them to Discord.
+ * <br>
+ * Every {@link net.dv8tion.jda.api.requests.RestAction RestAction} created by the fakes
+ * is recorded here when it's queued/completed/submitted, and succeeds immediately.
+ */
+public final class FakeRestLayer {
+    private final Queue<RecordedRequest> requests;
+    private final LongAdder requestCount;
+    private volatile boolean retaining;
+
+    FakeRestLayer() {
+        requests = new ConcurrentLinkedQueue<>();
+        requestCount = new LongAdder();
+        retaining = true;
+    }
+
+    /**
+     * Sets whether requests should be retained.
+     * <br>
+     * For long load tests, disable it to only count requests.
+     *
+     * @param retaining Whether requests should be retained (default: {@code true}).
+     * @return Current {@link FakeRestLayer} instance, for chaining.
+     */
+    public @NotNull FakeRestLayer setRetaining(boolean retaining) {
+        this.retaining = retaining;
+
+        return this;
+    }
+
+    /**
+     * Recorded requests, in order of execution.
+     *
+     * @return {@link List} of {@link RecordedRequest}.
+     */
+    public @NotNull List<RecordedRequest> getRequests() {
+        return new ArrayList<>(requests);
+    }
+
+    /**
+     * Recorded requests of the route.
+     *
+     * @param route The route (e.g. {@code Message#reply}).
+     * @return {@link List} of {@link RecordedRequest}.
+     */
+    public @NotNull List<RecordedRequest> getRequests(@NotNull String route) {
+        List<RecordedRequest> result = new ArrayList<>();
+
+        for (RecordedRequest request : requests) {
+            if (request.getRoute().equals(route)) {
+                result.add(request);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The last recorded request.
+     *
+     * @return The {@link RecordedRequest}. {@code null} if no requests were recorded.
+     */
+    public @Nullable RecordedRequest getLastRequest() {
+        RecordedRequest last = null;
+
+        for (RecordedRequest request : requests) {
+            last = request;
+        }
+
+        return last;
+    }
+
+    /**
+     * Number of executed requests (including not retained ones).
+     *
+     * @return The number of requests.
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Remove all recorded requests and reset the counter.
+     */
+    public void clear() {
+        requests.clear();
+        requestCount.reset();
+    }
+
+    void record(@NotNull RecordedRequest request) {
+        requestCount.increment();
+
+        if (retaining) {
+            requests.add(request);
+        }
+    }
+}
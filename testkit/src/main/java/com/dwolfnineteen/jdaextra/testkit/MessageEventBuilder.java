@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Builder of synthetic {@link MessageReceivedEvent}s.
+ * <br>
+ * The builder can be reused: every {@link #build()} creates a new message and event.
+ *
+ * @see FakeDiscord#message(String)
+ */
+public final class MessageEventBuilder {
+    private final FakeDiscord discord;
+    private String content;
+    private User author;
+    private Member member;
+    private MessageChannelUnion channel;
+
+    MessageEventBuilder(@NotNull FakeDiscord discord) {
+        this.discord = discord;
+        this.content = "";
+        this.author = discord.getUser();
+        this.member = discord.getMember();
+        this.channel = discord.getChannel();
+    }
+
+    /**
+     * Sets the message content.
+     *
+     * @param content The content.
+     * @return Current {@link MessageEventBuilder} instance, for chaining.
+     */
+    public @NotNull MessageEventBuilder setContent(@NotNull String content) {
+        this.content = content;
+
+        return this;
+    }
+
+    /**
+     * Sets the message author.
+     *
+     * @param author The {@link User}.
+     * @param member The {@link Member} of the author. {@code null} in private channels.
+     * @return Current {@link MessageEventBuilder} instance, for chaining.
+     */
+    public @NotNull MessageEventBuilder setAuthor(@NotNull User author, @Nullable Member member) {
+        this.author = author;
+        this.member = member;
+
+        return this;
+    }
+
+    /**
+     * Send the message to the private channel instead of the guild channel.
+     *
+     * @return Current {@link MessageEventBuilder} instance, for chaining.
+     */
+    public @NotNull MessageEventBuilder inPrivateChannel() {
+        channel = discord.getPrivateChannel();
+        member = null;
+
+        return this;
+    }
+
+    /**
+     * Build new {@link MessageReceivedEvent}.
+     *
+     * @return New {@link MessageReceivedEvent}.
+     */
+    public @NotNull MessageReceivedEvent build() {
+        Message message = discord.createMessage(discord.nextId(), content, author, member, channel);
+
+        return new MessageReceivedEvent(discord.getJDA(), discord.nextResponseNumber(), message);
+    }
+}
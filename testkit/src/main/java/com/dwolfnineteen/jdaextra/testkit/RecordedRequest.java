@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * REST request recorded by {@link FakeRestLayer}.
+ */
+public final class RecordedRequest {
+    private final String route;
+    private final List<Object> arguments;
+    private final String content;
+    private final List<MessageEmbed> embeds;
+    private final boolean ephemeral;
+
+    RecordedRequest(@NotNull String route,
+                    @NotNull List<Object> arguments,
+                    @Nullable String content,
+                    @NotNull List<MessageEmbed> embeds,
+                    boolean ephemeral) {
+        this.route = route;
+        this.arguments = Collections.unmodifiableList(arguments);
+        this.content = content;
+        this.embeds = Collections.unmodifiableList(embeds);
+        this.ephemeral = ephemeral;
+    }
+
+    /**
+     * The route: faked entity and the method that created the request (e.g. {@code Message#reply}).
+     *
+     * @return The route.
+     */
+    public @NotNull String getRoute() {
+        return route;
+    }
+
+    /**
+     * Arguments of the method that created the request.
+     *
+     * @return {@link List} of arguments.
+     */
+    public @NotNull List<Object> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Message content of the request.
+     *
+     * @return The content. {@code null} if the request has no content.
+     */
+    public @Nullable String getContent() {
+        return content;
+    }
+
+    /**
+     * Message embeds of the request.
+     *
+     * @return {@link List} of {@link MessageEmbed}.
+     */
+    public @NotNull List<MessageEmbed> getEmbeds() {
+        return embeds;
+    }
+
+    /**
+     * Whether the reply is ephemeral.
+     *
+     * @return {@code True} if the reply is ephemeral.
+     */
+    public boolean isEphemeral() {
+        return ephemeral;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordedRequest{route=" + route + ", content=" + content + ", embeds=" + embeds.size() + "}";
+    }
+}
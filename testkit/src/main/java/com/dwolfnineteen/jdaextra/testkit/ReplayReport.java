@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of {@link EventReplayer#replay(java.nio.file.Path)}.
+ */
+public final class ReplayReport {
+    private final long eventCount;
+    private final long errorCount;
+    private final long skippedOptionCount;
+    private final long durationNanos;
+    private final long[] latencies;
+
+    ReplayReport(long eventCount, long errorCount, long skippedOptionCount, long durationNanos, long @NotNull [] latencies) {
+        this.eventCount = eventCount;
+        this.errorCount = errorCount;
+        this.skippedOptionCount = skippedOptionCount;
+        this.durationNanos = durationNanos;
+        this.latencies = latencies;
+
+        Arrays.sort(this.latencies);
+    }
+
+    /**
+     * Number of replayed events.
+     *
+     * @return The number of events.
+     */
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Number of events whose handling threw an exception.
+     *
+     * @return The number of failed events.
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Number of slash command options which couldn't be replayed (entity options).
+     *
+     * @return The number of skipped options.
+     */
+    public long getSkippedOptionCount() {
+        return skippedOptionCount;
+    }
+
+    /**
+     * Wall-clock duration of the replay.
+     *
+     * @return The duration, in nanoseconds.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Replay throughput.
+     *
+     * @return Events per second.
+     */
+    public double getThroughput() {
+        return durationNanos == 0 ? 0 : eventCount * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+
+    /**
+     * Handling latency percentile (nearest-rank).
+     *
+     * @param percentile The percentile, from 0 to 100 (e.g. {@code 99.9}).
+     * @return The latency, in nanoseconds. {@code 0} if no events were replayed.
+     * @throws IllegalArgumentException If the percentile is out of range.
+     */
+    public long getLatencyPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+
+        if (latencies.length == 0) {
+            return 0;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+
+        return latencies[Math.max(rank - 1, 0)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReplayReport{events=%d, errors=%d, throughput=%.1f/s, "
+                        + "p50=%.3fms, p90=%.3fms, p99=%.3fms, p99.9=%.3fms, max=%.3fms}",
+                eventCount,
+                errorCount,
+                getThroughput(),
+                getLatencyPercentile(50) / 1e6,
+                getLatencyPercentile(90) / 1e6,
+                getLatencyPercentile(99) / 1e6,
+                getLatencyPercentile(99.9) / 1e6,
+                getLatencyPercentile(100) / 1e6);
+    }
+}
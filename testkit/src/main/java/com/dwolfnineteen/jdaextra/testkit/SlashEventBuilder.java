@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import net.dv8tion.jda.api.utils.TimeUtil;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builder of synthetic {@link SlashCommandInteractionEvent}s.
+ * <br>
+ * The builder can be reused: every {@link #build()} creates a new interaction (with its own acknowledgement state)
+ * and event. Option mappings are shared between built events.
+ *
+ * @see FakeDiscord#slashCommand(String)
+ */
+public final class SlashEventBuilder {
+    private final FakeDiscord discord;
+    private final String name;
+    private final List<OptionMapping> options;
+    private final List<OptionMapping> optionsView;
+    private String subcommandName;
+    private String subcommandGroup;
+    private User user;
+    private Member member;
+    private MessageChannelUnion channel;
+    private Duration age;
+
+    SlashEventBuilder(@NotNull FakeDiscord discord, @NotNull String name) {
+        this.discord = discord;
+        this.name = name;
+        this.options = new ArrayList<>();
+        this.optionsView = Collections.unmodifiableList(options);
+        this.user = discord.getUser();
+        this.member = discord.getMember();
+        this.channel = discord.getChannel();
+    }
+
+    /**
+     * Sets the subcommand.
+     *
+     * @param subcommandName The subcommand name.
+     * @return Current {@link SlashEventBuilder} instance, for chaining.
+     */
+    public @NotNull SlashEventBuilder setSubcommand(@NotNull String subcommandName) {
+        return setSubcommand(null, subcommandName);
+    }
+
+    /**
+     * Sets the subcommand in the subcommand group.
+     *
+     * @param subcommandGroup The subcommand group name. {@code null} if the subcommand is not in the group.
+     * @param subcommandName The subcommand name.
+     * @return Current {@link SlashEventBuilder} instance, for chaining.
+     */
+    public @NotNull SlashEventBuilder setSubcommand(@Nullable String subcommandGroup, @NotNull String subcommandName) {
+        this.subcommandGroup = subcommandGroup;
+        this.subcommandName = subcommandName;
+
+        return this;
+    }
+
+    /**
+     * Add the option value.
+     * <br>
+     * Only {@link OptionType#STRING STRING}, {@link OptionType#INTEGER INTEGER}, {@link OptionType#NUMBER NUMBER}
+     * and {@link OptionType#BOOLEAN BOOLEAN} options are supported (others need resolved entities).
+     *
+     * @param name The option name.
+     * @param type The {@link OptionType}.
+     * @param value The option value.
+     * @return Current {@link SlashEventBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the option type is not supported.
+     */
+    public @NotNull SlashEventBuilder addOption(@NotNull String name, @NotNull OptionType type, @NotNull Object value) {
+        switch (type) {
+            case STRING:
+            case INTEGER:
+            case NUMBER:
+            case BOOLEAN:
+                break;
+            default:
+                throw new IllegalArgumentException("Option type " + type + " is not supported by the testkit");
+        }
+
+        DataObject data = DataObject.empty()
+                .put("name", name)
+                .put("type", type.getKey())
+                .put("value", value);
+
+        // JDA and Guild are only used to resolve mentions, which fakes don't have
+        options.add(new OptionMapping(data, null, null, null));
+
+        return this;
+    }
+
+    /**
+     * Sets the user, who called the command.
+     *
+     * @param user The {@link User}.
+     * @param member The {@link Member} of the user. {@code null} in private channels.
+     * @return Current {@link SlashEventBuilder} instance, for chaining.
+     */
+    public @NotNull SlashEventBuilder setUser(@NotNull User user, @Nullable Member member) {
+        this.user = user;
+        this.member = member;
+
+        return this;
+    }
+
+    /**
+     * Call the command in the private channel instead of the guild channel.
+     *
+     * @return Current {@link SlashEventBuilder} instance, for chaining.
+     */
+    public @NotNull SlashEventBuilder inPrivateChannel() {
+        channel = discord.getPrivateChannel();
+        member = null;
+
+        return this;
+    }
+
+    /**
+     * Sets how long ago the interactions were created (e.g. to test deadlines). Zero by default.
+     *
+     * @param age The age of built interactions.
+     * @return Current {@link SlashEventBuilder} instance, for chaining.
+     * @throws IllegalArgumentException If the age is negative.
+     */
+    public @NotNull SlashEventBuilder setAge(@NotNull Duration age) {
+        if (age.isNegative()) {
+            throw new IllegalArgumentException("Age must not be negative");
+        }
+
+        this.age = age.isZero() ? null : age;
+
+        return this;
+    }
+
+    /**
+     * Build new {@link SlashCommandInteractionEvent}.
+     *
+     * @return New {@link SlashCommandInteractionEvent}.
+     */
+    public @NotNull SlashCommandInteractionEvent build() {
+        long id = discord.nextId();
+
+        if (age != null) {
+            // Keep the unique low bits, move the timestamp back
+            id = TimeUtil.getDiscordTimestamp(System.currentTimeMillis() - age.toMillis()) | id & ((1L << TimeUtil.TIMESTAMP_OFFSET) - 1);
+        }
+
+        Stubs.InteractionHandler handler = new Stubs.InteractionHandler(discord,
+                id,
+                name,
+                subcommandName,
+                subcommandGroup,
+                optionsView,
+                user,
+                member,
+                channel);
+        SlashCommandInteraction interaction = StubHandler.newProxy(handler, SlashCommandInteraction.class);
+        handler.interaction = interaction;
+
+        return new FakeSlashCommandInteractionEvent(discord.getJDA(), discord.nextResponseNumber(), interaction);
+    }
+
+    // Named (not anonymous) because ListenerAdapter derives handler names from event class names
+    private static final class FakeSlashCommandInteractionEvent extends SlashCommandInteractionEvent {
+        private FakeSlashCommandInteractionEvent(@NotNull JDA api,
+                                                 long responseNumber,
+                                                 @NotNull SlashCommandInteraction interaction) {
+            super(api, responseNumber, interaction);
+        }
+
+        @Override
+        public @NotNull ReplyCallbackAction reply(@NotNull MessageCreateData message) {
+            // JDA's default implementation casts deferReply() to its internal action class
+            return deferReply().applyData(message);
+        }
+    }
+}
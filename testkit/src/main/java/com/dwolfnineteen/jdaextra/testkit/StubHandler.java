@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.requests.RestAction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Map;
+
+/**
+ * Base {@link InvocationHandler} of the fakes.
+ * <br>
+ * Methods are answered by {@link #answer(Object, Method, Object[])} first. Then:
+ * methods returning {@link RestAction} create a recorded fake action,
+ * default methods are invoked as is, primitives get their zero value,
+ * and anything else is unsupported.
+ */
+abstract class StubHandler implements InvocationHandler {
+    static final Object UNHANDLED = new Object();
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final Map<Class<?>, Object> ZERO_VALUES = Map.of(boolean.class, false,
+            byte.class, (byte) 0,
+            short.class, (short) 0,
+            char.class, (char) 0,
+            int.class, 0,
+            long.class, 0L,
+            float.class, 0F,
+            double.class, 0D);
+
+    final FakeDiscord discord;
+    final String kind;
+    private final long id;
+
+    StubHandler(@NotNull FakeDiscord discord, @NotNull String kind, long id) {
+        this.discord = discord;
+        this.kind = kind;
+        this.id = id;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull T newProxy(@NotNull StubHandler handler, @NotNull Class<?>... interfaces) {
+        return (T) Proxy.newProxyInstance(StubHandler.class.getClassLoader(), interfaces, handler);
+    }
+
+    @Override
+    public final Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+        Object[] args = arguments == null ? NO_ARGUMENTS : arguments;
+
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "Fake" + kind + (id == 0 ? "" : ":" + id);
+            }
+        }
+
+        Object answer = answer(proxy, method, args);
+
+        if (answer != UNHANDLED) {
+            return answer;
+        }
+
+        Class<?> returnType = method.getReturnType();
+
+        if (RestAction.class.isAssignableFrom(returnType)) {
+            return newAction(method, args);
+        }
+
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+
+        if (returnType.isPrimitive()) {
+            return ZERO_VALUES.get(returnType);
+        }
+
+        throw new UnsupportedOperationException(kind + "#" + method.getName() + " is not supported by the testkit");
+    }
+
+    /**
+     * Answer the method call.
+     *
+     * @return The result, or {@link #UNHANDLED}.
+     */
+    abstract @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) throws Throwable;
+
+    /**
+     * Create the fake action returned by the method.
+     * <br>
+     * Actions resulting in {@link Message} return a new message from the self user in {@link #getReplyChannel()}.
+     */
+    @NotNull Object newAction(@NotNull Method method, @NotNull Object[] args) {
+        boolean message = resolveResult(method.getGenericReturnType()) == Message.class;
+
+        return FakeRestAction.create(discord,
+                method.getReturnType(),
+                kind + "#" + method.getName(),
+                args,
+                request -> message ? discord.createSentMessage(getReplyChannel(), request.getContent()) : null,
+                null);
+    }
+
+    /**
+     * Channel of messages sent by actions of this fake.
+     */
+    @NotNull MessageChannelUnion getReplyChannel() {
+        return discord.getChannel();
+    }
+
+    /**
+     * Resolve {@code T} of {@code RestAction<T>} from the action type.
+     */
+    static @Nullable Type resolveResult(@NotNull Type type) {
+        Class<?> raw;
+        Type[] actual;
+
+        if (type instanceof ParameterizedType) {
+            raw = (Class<?>) ((ParameterizedType) type).getRawType();
+            actual = ((ParameterizedType) type).getActualTypeArguments();
+        } else if (type instanceof Class) {
+            raw = (Class<?>) type;
+            actual = new Type[0];
+        } else {
+            return null;
+        }
+
+        if (raw == RestAction.class) {
+            return actual.length == 1 ? actual[0] : null;
+        }
+
+        for (Type superType : raw.getGenericInterfaces()) {
+            Type result = resolveResult(superType);
+
+            if (result instanceof TypeVariable) {
+                TypeVariable<?>[] parameters = raw.getTypeParameters();
+
+                for (int i = 0; i < parameters.length && i < actual.length; i++) {
+                    if (parameters[i].equals(result)) {
+                        return actual[i];
+                    }
+                }
+            } else if (result != null) {
+                return result;
+            }
+        }
+
+        return null;
+    }
+}
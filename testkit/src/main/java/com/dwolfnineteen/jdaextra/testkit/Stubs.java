@@ -0,0 +1,490 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageType;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.InteractionType;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.requests.restaction.interactions.InteractionCallbackAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * {@link StubHandler}s of faked entities.
+ */
+final class Stubs {
+    private Stubs() {
+    }
+
+    static final class JDAHandler extends StubHandler {
+        JDAHandler(@NotNull FakeDiscord discord) {
+            super(discord, "JDA", 0);
+        }
+
+        @Override
+        @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) {
+            switch (method.getName()) {
+                case "getSelfUser":
+                    return discord.getSelfUser();
+                case "getStatus":
+                    return JDA.Status.CONNECTED;
+                case "getShardInfo":
+                    return JDA.ShardInfo.SINGLE;
+                case "getGuilds":
+                    return List.of(discord.getGuild());
+                case "getGuildById":
+                    Guild guild = discord.getGuild();
+
+                    return String.valueOf(args[0]).equals(guild.getId()) ? guild : null;
+                case "getShardManager":
+                    return null;
+                case "getRegisteredListeners":
+                    return List.of();
+                default:
+                    return UNHANDLED;
+            }
+        }
+    }
+
+    static final class UserHandler extends StubHandler {
+        private final long id;
+        private final String userName;
+        private final boolean bot;
+
+        UserHandler(@NotNull FakeDiscord discord, long id, @NotNull String userName, boolean bot) {
+            super(discord, "User", id);
+
+            this.id = id;
+            this.userName = userName;
+            this.bot = bot;
+        }
+
+        @Override
+        @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) {
+            switch (method.getName()) {
+                case "getIdLong":
+                case "getApplicationIdLong":
+                    return id;
+                case "getName":
+                case "getEffectiveName":
+                case "getAsTag":
+                    return userName;
+                case "getGlobalName":
+                    return null;
+                case "getDiscriminator":
+                    return "0000";
+                case "getAsMention":
+                    return "<@" + id + ">";
+                case "isBot":
+                    return bot;
+                case "getMutualGuilds":
+                    return List.of(discord.getGuild());
+                case "getJDA":
+                    return discord.getJDA();
+                default:
+                    return UNHANDLED;
+            }
+        }
+    }
+
+    static final class MemberHandler extends StubHandler {
+        private final User user;
+
+        MemberHandler(@NotNull FakeDiscord discord, @NotNull User user) {
+            super(discord, "Member", user.getIdLong());
+
+            this.user = user;
+        }
+
+        @Override
+        @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) {
+            switch (method.getName()) {
+                case "getUser":
+                    return user;
+                case "getIdLong":
+                    return user.getIdLong();
+                case "getAsMention":
+                    return user.getAsMention();
+                case "getEffectiveName":
+                    return user.getEffectiveName();
+                case "getNickname":
+                    return null;
+                case "getGuild":
+                    return discord.getGuild();
+                case "getRoles":
+                    return List.of();
+                case "getPermissions":
+                    return EnumSet.allOf(Permission.class);
+                case "hasPermission":
+                    return true;
+                case "getJDA":
+                    return discord.getJDA();
+                default:
+                    return UNHANDLED;
+            }
+        }
+    }
+
+    static final class GuildHandler extends StubHandler {
+        private final long id;
+        private final String guildName;
+
+        GuildHandler(@NotNull FakeDiscord discord, long id, @NotNull String guildName) {
+            super(discord, "Guild", id);
+
+            this.id = id;
+            this.guildName = guildName;
+        }
+
+        @Override
+        @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) {
+            switch (method.getName()) {
+                case "getIdLong":
+                    return id;
+                case "getName":
+                    return guildName;
+                case "getLocale":
+                    return DiscordLocale.ENGLISH_US;
+                case "getSelfMember":
+                    return discord.getSelfMember();
+                case "getJDA":
+                    return discord.getJDA();
+                default:
+                    return UNHANDLED;
+            }
+        }
+    }
+
+    static final class ChannelHandler extends StubHandler {
+        private final long id;
+        private final String channelName;
+        private final ChannelType type;
+        private final Guild guild;
+
+        ChannelHandler(@NotNull FakeDiscord discord,
+                       long id,
+                       @NotNull String channelName,
+                       @NotNull ChannelType type,
+                       @Nullable Guild guild) {
+            super(discord, "Channel", id);
+
+            this.id = id;
+            this.channelName = channelName;
+            this.type = type;
+            this.guild = guild;
+        }
+
+        @Override
+        @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) {
+            String methodName = method.getName();
+
+            switch (methodName) {
+                case "getIdLong":
+                    return id;
+                case "getName":
+                    return channelName;
+                case "getType":
+                    return type;
+                case "getAsMention":
+                    return "<#" + id + ">";
+                case "canTalk":
+                    return true;
+                case "getGuild":
+                    if (guild == null) {
+                        throw new IllegalStateException("This channel is not from a guild");
+                    }
+
+                    return guild;
+                case "getUser":
+                    return discord.getUser();
+                case "getJDA":
+                    return discord.getJDA();
+                default:
+                    break;
+            }
+
+            // Unions: asTextChannel(), asGuildMessageChannel()...
+            if (methodName.startsWith("as") && args.length == 0 && !method.getReturnType().isPrimitive()) {
+                if (!method.getReturnType().isInstance(proxy)) {
+                    throw new IllegalStateException("Cannot convert channel of type " + type + " to "
+                            + method.getReturnType().getSimpleName());
+                }
+
+                return proxy;
+            }
+
+            return UNHANDLED;
+        }
+    }
+
+    static final class MessageHandler extends StubHandler {
+        private final long id;
+        private final String content;
+        private final User author;
+        private final Member member;
+        private final MessageChannelUnion channel;
+
+        MessageHandler(@NotNull FakeDiscord discord,
+                       long id,
+                       @NotNull String content,
+                       @NotNull User author,
+                       @Nullable Member member,
+                       @NotNull MessageChannelUnion channel) {
+            super(discord, "Message", id);
+
+            this.id = id;
+            this.content = content;
+            this.author = author;
+            this.member = member;
+            this.channel = channel;
+        }
+
+        @Override
+        @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) {
+            switch (method.getName()) {
+                case "getIdLong":
+                    return id;
+                case "getContentRaw":
+                case "getContentDisplay":
+                case "getContentStripped":
+                    return content;
+                case "getAuthor":
+                    return author;
+                case "getMember":
+                    return member;
+                case "getChannel":
+                case "getGuildChannel":
+                    return channel;
+                case "getChannelIdLong":
+                    return channel.getIdLong();
+                case "getChannelType":
+                    return channel.getType();
+                case "hasChannel":
+                    return true;
+                case "isFromGuild":
+                case "hasGuild":
+                    return channel.getType().isGuild();
+                case "getGuild":
+                    if (!channel.getType().isGuild()) {
+                        throw new IllegalStateException("This message was not sent in a guild");
+                    }
+
+                    return discord.getGuild();
+                case "getGuildIdLong":
+                    return channel.getType().isGuild() ? discord.getGuild().getIdLong() : 0L;
+                case "getType":
+                    return MessageType.DEFAULT;
+                case "getJumpUrl":
+                    return "https://discord.com/channels/"
+                            + (channel.getType().isGuild() ? discord.getGuild().getId() : "@me")
+                            + "/" + channel.getId() + "/" + id;
+                case "getEmbeds":
+                case "getAttachments":
+                case "getStickers":
+                case "getReactions":
+                case "getActionRows":
+                    return List.of();
+                case "getMessageReference":
+                case "getReferencedMessage":
+                case "getTimeEdited":
+                case "getStartedThread":
+                case "getInteraction":
+                    return null;
+                case "getJDA":
+                    return discord.getJDA();
+                default:
+                    return UNHANDLED;
+            }
+        }
+
+        @Override
+        @NotNull MessageChannelUnion getReplyChannel() {
+            return channel;
+        }
+    }
+
+    static final class InteractionHandler extends StubHandler {
+        private final long id;
+        private final String commandName;
+        private final String subcommandName;
+        private final String subcommandGroup;
+        private final List<OptionMapping> options;
+        private final User user;
+        private final Member member;
+        private final MessageChannelUnion channel;
+        private final InteractionHook hook;
+        private volatile boolean acknowledged;
+        SlashCommandInteraction interaction;
+
+        InteractionHandler(@NotNull FakeDiscord discord,
+                           long id,
+                           @NotNull String commandName,
+                           @Nullable String subcommandName,
+                           @Nullable String subcommandGroup,
+                           @NotNull List<OptionMapping> options,
+                           @NotNull User user,
+                           @Nullable Member member,
+                           @NotNull MessageChannelUnion channel) {
+            super(discord, "Interaction", id);
+
+            this.id = id;
+            this.commandName = commandName;
+            this.subcommandName = subcommandName;
+            this.subcommandGroup = subcommandGroup;
+            this.options = options;
+            this.user = user;
+            this.member = member;
+            this.channel = channel;
+            this.hook = newProxy(new HookHandler(discord, this), InteractionHook.class);
+        }
+
+        @Override
+        @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) {
+            switch (method.getName()) {
+                case "getIdLong":
+                    return id;
+                case "getToken":
+                    return "fake-token-" + id;
+                case "getTypeRaw":
+                    return InteractionType.COMMAND.getKey();
+                case "getType":
+                    return InteractionType.COMMAND;
+                case "getCommandType":
+                    return Command.Type.SLASH;
+                case "getCommandIdLong":
+                    return discord.getCommandId(commandName);
+                case "getName":
+                    return commandName;
+                case "getSubcommandName":
+                    return subcommandName;
+                case "getSubcommandGroup":
+                    return subcommandGroup;
+                case "getOptions":
+                    return options;
+                case "getUser":
+                    return user;
+                case "getMember":
+                    return member;
+                case "getGuild":
+                    return channel.getType().isGuild() ? discord.getGuild() : null;
+                case "isGuildCommand":
+                    return false;
+                case "getChannel":
+                case "getGuildChannel":
+                case "getMessageChannel":
+                    return channel;
+                case "getChannelIdLong":
+                    return channel.getIdLong();
+                case "getUserLocale":
+                case "getGuildLocale":
+                    return DiscordLocale.ENGLISH_US;
+                case "getEntitlements":
+                    return List.of();
+                case "isAcknowledged":
+                    return acknowledged;
+                case "getHook":
+                    return hook;
+                case "getJDA":
+                    return discord.getJDA();
+                default:
+                    return UNHANDLED;
+            }
+        }
+
+        @Override
+        @NotNull Object newAction(@NotNull Method method, @NotNull Object[] args) {
+            Class<?> type = method.getReturnType();
+
+            if (!InteractionCallbackAction.class.isAssignableFrom(type)) {
+                return super.newAction(method, args);
+            }
+
+            return FakeRestAction.create(discord,
+                    type,
+                    kind + "#" + method.getName(),
+                    args,
+                    request -> ReplyCallbackAction.class.isAssignableFrom(type) ? hook : null,
+                    this::acknowledge);
+        }
+
+        @Override
+        @NotNull MessageChannelUnion getReplyChannel() {
+            return channel;
+        }
+
+        private synchronized void acknowledge() {
+            if (acknowledged) {
+                throw new IllegalStateException("This interaction has already been acknowledged or replied to");
+            }
+
+            acknowledged = true;
+        }
+    }
+
+    static final class HookHandler extends StubHandler {
+        private final InteractionHandler interaction;
+
+        HookHandler(@NotNull FakeDiscord discord, @NotNull InteractionHandler interaction) {
+            super(discord, "Hook", interaction.id);
+
+            this.interaction = interaction;
+        }
+
+        @Override
+        @Nullable Object answer(@NotNull Object proxy, @NotNull Method method, @NotNull Object[] args) {
+            switch (method.getName()) {
+                case "getInteraction":
+                    return interaction.interaction;
+                case "isExpired":
+                    return false;
+                case "setEphemeral":
+                    return proxy;
+                case "getJDA":
+                    return discord.getJDA();
+                default:
+                    return UNHANDLED;
+            }
+        }
+
+        @Override
+        @NotNull MessageChannelUnion getReplyChannel() {
+            return interaction.channel;
+        }
+    }
+}
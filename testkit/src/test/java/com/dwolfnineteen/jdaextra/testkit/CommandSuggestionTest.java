@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.RextraHybridCommand;
+import com.dwolfnineteen.jdaextra.commands.HybridCommand;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.HybridCommandEvent;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException;
+import net.dv8tion.jda.api.events.GenericEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandSuggestionTest {
+    private FakeDiscord discord;
+    private JDAExtra jdaExtra;
+
+    @BeforeEach
+    void setUp() {
+        discord = new FakeDiscord();
+        jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .setCommandSuggestions(2, Duration.ZERO)
+                .addPrefixCommands(new KickPrefix())
+                .addSlashCommands(new SettingsSlash())
+                .addHybridCommands(new GreetHybrid())
+                .build();
+    }
+
+    @Test
+    void messageTypoSuggestsPrefixAndHybridCommands() {
+        assertEquals("kick", suggestion(discord.message("!kik").build()));
+        assertEquals("greet", suggestion(discord.message("!gret").build()));
+    }
+
+    @Test
+    void messageTypoDoesntSuggestSlashCommand() {
+        assertNull(suggestion(discord.message("!setings").build()));
+    }
+
+    @Test
+    void interactionTypoSuggestsSlashAndHybridCommands() {
+        assertEquals("settings", suggestion(discord.slashCommand("setings").build()));
+        assertEquals("greet", suggestion(discord.slashCommand("gret").build()));
+    }
+
+    @Test
+    void interactionTypoDoesntSuggestPrefixCommand() {
+        assertNull(suggestion(discord.slashCommand("kik").build()));
+    }
+
+    private String suggestion(GenericEvent event) {
+        return assertThrows(CommandNotFoundException.class, () -> jdaExtra.onEvent(event)).getSuggestion();
+    }
+
+    @ExtraPrefixCommand(name = "kick")
+    public static class KickPrefix extends PrefixCommand {
+        @ExtraMainCommand
+        public void kick(PrefixCommandEvent event) {
+            event.reply("kicked").queue();
+        }
+    }
+
+    @ExtraSlashCommand(name = "settings", description = "Settings.")
+    public static class SettingsSlash extends SlashCommand {
+        @ExtraMainCommand
+        public void settings(SlashCommandEvent event) {
+            event.reply("settings").queue();
+        }
+    }
+
+    @RextraHybridCommand(name = "greet", description = "Greet.")
+    public static class GreetHybrid extends HybridCommand {
+        @ExtraMainCommand
+        public void greet(HybridCommandEvent event) {
+            event.queueReply("hi");
+        }
+    }
+}
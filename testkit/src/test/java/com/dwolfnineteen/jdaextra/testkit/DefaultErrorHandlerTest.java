@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.PrefixOption;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.errors.DefaultCommandErrorHandler;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException;
+import com.dwolfnineteen.jdaextra.exceptions.OptionParseException;
+import com.dwolfnineteen.jdaextra.exceptions.OptionValidationException;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultErrorHandlerTest {
+    private FakeDiscord discord;
+    private JDAExtra jdaExtra;
+
+    @BeforeEach
+    void setUp() {
+        discord = new FakeDiscord();
+        jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .setErrorHandler(new DefaultCommandErrorHandler())
+                .addPrefixCommands(new CountPrefix(), new LimitPrefix(), new BrokenPrefix())
+                .addSlashCommands(new BrokenSlash())
+                .build();
+    }
+
+    @Test
+    void malformedOptionIsRepliedToTheUser() {
+        jdaExtra.onEvent(discord.message("!count ten").build());
+
+        List<RecordedRequest> replies = discord.getRestLayer().getRequests("Message#reply");
+
+        assertEquals(1, replies.size());
+        assertEquals(new OptionParseException("amount", "ten", OptionType.INTEGER).getMessage(), replies.get(0).getContent());
+    }
+
+    @Test
+    void userErrorThrownByEntryPointIsRepliedToTheUser() {
+        jdaExtra.onEvent(discord.message("!limit").build());
+
+        List<RecordedRequest> replies = discord.getRestLayer().getRequests("Message#reply");
+
+        assertEquals(1, replies.size());
+        assertEquals("Option 'amount' must be at most 10, got 11", replies.get(0).getContent());
+    }
+
+    @Test
+    void internalErrorIsNotShownToTheUser() {
+        assertDoesNotThrow(() -> jdaExtra.onEvent(discord.message("!broken").build()));
+        assertDoesNotThrow(() -> jdaExtra.onEvent(discord.slashCommand("broken").build()));
+
+        assertTrue(discord.getRestLayer().getRequests().isEmpty());
+    }
+
+    @Test
+    void unknownPrefixCommandIsIgnored() {
+        jdaExtra.onEvent(discord.message("!unknown").build());
+
+        assertTrue(discord.getRestLayer().getRequests().isEmpty());
+    }
+
+    @Test
+    void unknownSlashCommandIsRepliedEphemerally() {
+        jdaExtra.onEvent(discord.slashCommand("unknown").build());
+
+        List<RecordedRequest> replies = discord.getRestLayer().getRequests("Interaction#deferReply");
+
+        assertEquals(1, replies.size());
+        assertEquals(new CommandNotFoundException("unknown").getMessage(), replies.get(0).getContent());
+        assertTrue(replies.get(0).isEphemeral());
+    }
+
+    @ExtraPrefixCommand(name = "count")
+    public static class CountPrefix extends PrefixCommand {
+        @ExtraMainCommand
+        public void count(PrefixCommandEvent event, @PrefixOption(name = "amount") Long amount) {
+            event.reply("counted").queue();
+        }
+    }
+
+    @ExtraPrefixCommand(name = "limit")
+    public static class LimitPrefix extends PrefixCommand {
+        @ExtraMainCommand
+        public void limit(PrefixCommandEvent event) {
+            throw new OptionValidationException("amount", "11", OptionValidationException.Constraint.MAX_VALUE, 10);
+        }
+    }
+
+    @ExtraPrefixCommand(name = "broken")
+    public static class BrokenPrefix extends PrefixCommand {
+        @ExtraMainCommand
+        public void broken(PrefixCommandEvent event) {
+            throw new IllegalStateException("database password is hunter2");
+        }
+    }
+
+    @ExtraSlashCommand(name = "broken", description = "Broken.")
+    public static class BrokenSlash extends SlashCommand {
+        @ExtraMainCommand
+        public void broken(SlashCommandEvent event) {
+            throw new IllegalStateException("database password is hunter2");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.interactions.DeferralWatchdog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeferralWatchdogTest {
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final FakeDiscord discord = new FakeDiscord();
+    private JDAExtra jdaExtra;
+
+    @AfterEach
+    void tearDown() {
+        jdaExtra.shutdown();
+    }
+
+    @Test
+    void replyBeforeDeadlineIsNotDeferred() throws InterruptedException {
+        jdaExtra = new JDAExtraBuilder()
+                .addSlashCommands(new Reply(0))
+                .setAutoDefer(Duration.ofMillis(50), false)
+                .build();
+
+        jdaExtra.onEvent(discord.slashCommand("reply").build());
+
+        DeferralWatchdog watchdog = jdaExtra.getDeferralWatchdog();
+
+        // The deadline passes, but the interaction is already acknowledged
+        awaitUntilUntracked(watchdog);
+
+        List<RecordedRequest> replies = discord.getRestLayer().getRequests("Interaction#deferReply");
+
+        assertEquals(0, watchdog.getDeferredCount());
+        assertEquals(1, replies.size());
+        assertEquals("done", replies.get(0).getContent());
+        assertTrue(discord.getRestLayer().getRequests("Hook#sendMessage").isEmpty());
+    }
+
+    @Test
+    void slowCommandIsDeferredAndRepliesThroughHook() {
+        jdaExtra = new JDAExtraBuilder()
+                .addSlashCommands(new Reply(TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS)))
+                .setAutoDefer(Duration.ofMillis(1), false)
+                .build();
+
+        jdaExtra.onEvent(discord.slashCommand("reply").build());
+
+        List<RecordedRequest> deferrals = discord.getRestLayer().getRequests("Interaction#deferReply");
+        List<RecordedRequest> followUps = discord.getRestLayer().getRequests("Hook#sendMessage");
+
+        assertEquals(1, jdaExtra.getDeferralWatchdog().getDeferredCount());
+        assertEquals(1, deferrals.size());
+        assertNull(deferrals.get(0).getContent());
+        assertEquals(1, followUps.size());
+        assertEquals("done", followUps.get(0).getContent());
+    }
+
+    @Test
+    void replyRacingDeferralAcknowledgesOnce() throws InterruptedException {
+        int interactions = 500;
+
+        jdaExtra = new JDAExtraBuilder()
+                .addSlashCommands(new Reply(-1))
+                .setAutoDefer(Duration.ofNanos(1), false)
+                .build();
+
+        for (int i = 0; i < interactions; i++) {
+            jdaExtra.onEvent(discord.slashCommand("reply").build());
+        }
+
+        DeferralWatchdog watchdog = jdaExtra.getDeferralWatchdog();
+
+        awaitUntilUntracked(watchdog);
+
+        List<RecordedRequest> acknowledgements = discord.getRestLayer().getRequests("Interaction#deferReply");
+        long replies = acknowledgements.stream().filter(request -> "done".equals(request.getContent())).count();
+        long followUps = discord.getRestLayer().getRequests("Hook#sendMessage").size();
+
+        // A second acknowledgement would fail, losing either the deferral or the reply
+        assertEquals(interactions, acknowledgements.size());
+        assertEquals(interactions, replies + followUps);
+        assertEquals(watchdog.getDeferredCount(), followUps);
+    }
+
+    private static void awaitUntilUntracked(DeferralWatchdog watchdog) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (watchdog.getTrackedCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(0, watchdog.getTrackedCount());
+    }
+
+    @ExtraSlashCommand(name = "reply", description = "Reply.")
+    public static class Reply extends SlashCommand {
+        private final long maxWaitNanos;
+
+        /**
+         * @param maxWaitNanos How long to wait for the automatic deferral before replying;
+         *                     {@code -1} for a random wait of up to 50 microseconds.
+         */
+        public Reply(long maxWaitNanos) {
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        @ExtraMainCommand
+        public void reply(SlashCommandEvent event) {
+            long wait = maxWaitNanos < 0 ? ThreadLocalRandom.current().nextLong(50_000) : maxWaitNanos;
+            long deadline = System.nanoTime() + wait;
+
+            // Stops early once deferred, so a slow command doesn't really take that long
+            while (!event.isAcknowledged() && System.nanoTime() - deadline < 0) {
+                Thread.onSpinWait();
+            }
+
+            event.reply("done").queue();
+        }
+    }
+}
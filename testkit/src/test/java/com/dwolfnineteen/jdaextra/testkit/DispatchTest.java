@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.RextraHybridCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.HybridOption;
+import com.dwolfnineteen.jdaextra.annotations.options.PrefixOption;
+import com.dwolfnineteen.jdaextra.annotations.options.SlashOption;
+import com.dwolfnineteen.jdaextra.annotations.subcommands.RextraPrefixSubcommand;
+import com.dwolfnineteen.jdaextra.commands.HybridCommand;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.HybridCommandEvent;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.CommandNotFoundException;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DispatchTest {
+    private FakeDiscord discord;
+    private JDAExtra jdaExtra;
+
+    @BeforeEach
+    void setUp() {
+        discord = new FakeDiscord();
+        jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .addPrefixCommands(new EchoPrefix(), new ConfigPrefix())
+                .addSlashCommands(new EchoSlash())
+                .addHybridCommands(new GreetHybrid())
+                .build();
+    }
+
+    @Test
+    void prefixCommandReceivesParsedOption() {
+        jdaExtra.onEvent(discord.message("!echo hello").build());
+
+        assertEquals(List.of("echo hello"), contents());
+    }
+
+    @Test
+    void messageWithoutPrefixIsIgnored() {
+        jdaExtra.onEvent(discord.message("echo hello").build());
+
+        assertTrue(discord.getRestLayer().getRequests().isEmpty());
+    }
+
+    @Test
+    void unknownPrefixCommandIsReported() {
+        MessageReceivedEvent event = discord.message("!missing").build();
+
+        assertThrows(CommandNotFoundException.class, () -> jdaExtra.onEvent(event));
+        assertTrue(discord.getRestLayer().getRequests().isEmpty());
+    }
+
+    @Test
+    void prefixSubcommandIsDispatched() {
+        jdaExtra.onEvent(discord.message("!config show").build());
+        jdaExtra.onEvent(discord.message("!config reset").build());
+
+        assertEquals(List.of("show", "reset"), contents());
+    }
+
+    @Test
+    void slashCommandReceivesOption() {
+        jdaExtra.onEvent(discord.slashCommand("echo").addOption("text", OptionType.STRING, "hello").build());
+
+        assertEquals(List.of("echo hello"), contents());
+    }
+
+    @Test
+    void hybridCommandIsDispatchedFromBothSources() {
+        jdaExtra.onEvent(discord.message("!greet Alice").build());
+        jdaExtra.onEvent(discord.slashCommand("greet").addOption("name", OptionType.STRING, "Bob").build());
+
+        assertEquals(List.of("hi Alice", "hi Bob"), contents());
+    }
+
+    @Test
+    void eachEventGetsItsOwnReply() {
+        for (int i = 0; i < 10; i++) {
+            jdaExtra.onEvent(discord.message("!echo " + i).build());
+        }
+
+        assertEquals(10, discord.getRestLayer().getRequests("Message#reply").size());
+    }
+
+    private List<String> contents() {
+        return discord.getRestLayer().getRequests().stream()
+                .map(RecordedRequest::getContent)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @ExtraPrefixCommand(name = "echo")
+    public static class EchoPrefix extends PrefixCommand {
+        @ExtraMainCommand
+        public void echo(PrefixCommandEvent event, @PrefixOption(name = "text") String text) {
+            event.reply("echo " + text).queue();
+        }
+    }
+
+    @ExtraPrefixCommand(name = "config")
+    public static class ConfigPrefix extends PrefixCommand {
+        @RextraPrefixSubcommand(name = "show")
+        public void show(PrefixCommandEvent event) {
+            event.reply("show").queue();
+        }
+
+        @RextraPrefixSubcommand(name = "reset")
+        public void reset(PrefixCommandEvent event) {
+            event.reply("reset").queue();
+        }
+    }
+
+    @ExtraSlashCommand(name = "echo", description = "Echo the text.")
+    public static class EchoSlash extends SlashCommand {
+        @ExtraMainCommand
+        public void echo(SlashCommandEvent event, @SlashOption(name = "text", description = "Text.") String text) {
+            event.reply("echo " + text).queue();
+        }
+    }
+
+    @RextraHybridCommand(name = "greet", description = "Greet someone.")
+    public static class GreetHybrid extends HybridCommand {
+        @ExtraMainCommand
+        public void greet(HybridCommandEvent event, @HybridOption(name = "name", description = "Name.") String name) {
+            event.queueReply("hi " + name);
+        }
+    }
+}
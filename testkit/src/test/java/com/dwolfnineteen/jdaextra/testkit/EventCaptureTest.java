@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.options.PrefixOption;
+import com.dwolfnineteen.jdaextra.annotations.options.SlashOption;
+import com.dwolfnineteen.jdaextra.annotations.subcommands.RextraPrefixSubcommand;
+import com.dwolfnineteen.jdaextra.capture.CapturedEvent;
+import com.dwolfnineteen.jdaextra.capture.EventLogReader;
+import com.dwolfnineteen.jdaextra.capture.EventRecorder;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EventCaptureTest {
+    @TempDir
+    Path directory;
+
+    private FakeDiscord discord;
+    private JDAExtra jdaExtra;
+    private Path log;
+
+    @BeforeEach
+    void setUp() {
+        discord = new FakeDiscord();
+        jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .addPrefixCommands(new EchoPrefix(), new ConfigPrefix())
+                .addSlashCommands(new EchoSlash())
+                .build();
+        log = directory.resolve("events.log");
+    }
+
+    @Test
+    void nonCommandMessageIsFullyMasked() throws IOException {
+        assertEquals(List.of("xxxxx xxxxx xxx"), record(new EventRecorder(log, jdaExtra), "hello there bob"));
+    }
+
+    @Test
+    void commandKeepsOnlyTheInvocation() throws IOException {
+        assertEquals(List.of("!echo xxxxxx xxxx", "!config show xxxx", "!config xxxx"),
+                record(new EventRecorder(log, jdaExtra), "!echo secret text", "!config show more", "!config open"));
+    }
+
+    @Test
+    void unknownCommandIsFullyMasked() throws IOException {
+        assertEquals(List.of("xxxx xxxxxx"), record(new EventRecorder(log, jdaExtra), "!ban rachel"));
+    }
+
+    @Test
+    void anonymizationWithoutCommandsMasksEverything() throws IOException {
+        assertEquals(List.of("xxxxx xxxxxx"), record(new EventRecorder(log, true), "!echo secret"));
+    }
+
+    @Test
+    void plainRecordingIsReadBackAndReplayed() throws IOException {
+        try (EventRecorder recorder = new EventRecorder(log)) {
+            recorder.onEvent(discord.message("!echo hello").build());
+            recorder.onEvent(discord.slashCommand("echo").addOption("text", OptionType.STRING, "hi").build());
+        }
+
+        try (EventLogReader reader = new EventLogReader(log)) {
+            CapturedEvent message = reader.next();
+            CapturedEvent slash = reader.next();
+
+            assertEquals(CapturedEvent.Type.MESSAGE, message.getType());
+            assertEquals("!echo hello", message.getContent());
+            assertEquals(CapturedEvent.Type.SLASH_COMMAND, slash.getType());
+            assertEquals("echo", slash.getContent());
+            assertEquals("hi", slash.getOptions().get(0).getValue());
+            assertNull(reader.next());
+        }
+
+        ReplayReport report = new EventReplayer(discord, jdaExtra).setMaxSpeed().replay(log);
+
+        assertEquals(2, report.getEventCount());
+        assertEquals(0, report.getErrorCount());
+        assertEquals(List.of("echo hello", "echo hi"), discord.getRestLayer().getRequests().stream()
+                .map(RecordedRequest::getContent)
+                .toList());
+    }
+
+    private List<String> record(EventRecorder recorder, String... contents) throws IOException {
+        try (recorder) {
+            for (String content : contents) {
+                recorder.onEvent(discord.message(content).build());
+            }
+        }
+
+        List<String> recorded = new ArrayList<>();
+
+        try (EventLogReader reader = new EventLogReader(log)) {
+            for (CapturedEvent event = reader.next(); event != null; event = reader.next()) {
+                recorded.add(event.getContent());
+            }
+        }
+
+        return recorded;
+    }
+
+    @ExtraPrefixCommand(name = "echo")
+    public static class EchoPrefix extends PrefixCommand {
+        @ExtraMainCommand
+        public void echo(PrefixCommandEvent event, @PrefixOption(name = "text") String text) {
+            event.reply("echo " + text).queue();
+        }
+    }
+
+    @ExtraPrefixCommand(name = "config")
+    public static class ConfigPrefix extends PrefixCommand {
+        @RextraPrefixSubcommand(name = "show")
+        public void show(PrefixCommandEvent event) {
+            event.reply("show").queue();
+        }
+    }
+
+    @ExtraSlashCommand(name = "echo", description = "Echo the text.")
+    public static class EchoSlash extends SlashCommand {
+        @ExtraMainCommand
+        public void echo(SlashCommandEvent event, @SlashOption(name = "text", description = "Text.") String text) {
+            event.reply("echo " + text).queue();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.commands.Cached;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.buildtime.CommandBuildException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelBuildTest {
+    @Test
+    void modelsKeepDeclarationOrder() {
+        JDAExtra jdaExtra = new JDAExtraBuilder()
+                .setParallelBuild(true)
+                .addSlashCommands(new Zeta(), new Alpha(), new Mu(), new Beta(), new Omega(), new Kappa())
+                .build();
+
+        assertEquals(List.of("zeta", "alpha", "mu", "beta", "omega", "kappa"),
+                new ArrayList<>(jdaExtra.getSlashCommandModels().keySet()));
+    }
+
+    @Test
+    void failuresAreCombined() {
+        CommandBuildException exception = assertThrows(CommandBuildException.class, () -> new JDAExtraBuilder()
+                .setParallelBuild(true)
+                .addSlashCommands(new Zeta(), new BrokenFirst(), new Alpha(), new BrokenSecond())
+                .build());
+
+        assertEquals(2, exception.getFailures().size());
+        assertTrue(exception.getFailures().get(0).getMessage().contains("first"));
+        assertTrue(exception.getFailures().get(1).getMessage().contains("second"));
+        assertEquals(2, exception.getSuppressed().length);
+    }
+
+    @ExtraSlashCommand(name = "zeta", description = "Zeta.")
+    public static class Zeta extends SlashCommand {
+        @ExtraMainCommand
+        public void zeta(SlashCommandEvent event) { }
+    }
+
+    @ExtraSlashCommand(name = "alpha", description = "Alpha.")
+    public static class Alpha extends SlashCommand {
+        @ExtraMainCommand
+        public void alpha(SlashCommandEvent event) { }
+    }
+
+    @ExtraSlashCommand(name = "mu", description = "Mu.")
+    public static class Mu extends SlashCommand {
+        @ExtraMainCommand
+        public void mu(SlashCommandEvent event) { }
+    }
+
+    @ExtraSlashCommand(name = "beta", description = "Beta.")
+    public static class Beta extends SlashCommand {
+        @ExtraMainCommand
+        public void beta(SlashCommandEvent event) { }
+    }
+
+    @ExtraSlashCommand(name = "omega", description = "Omega.")
+    public static class Omega extends SlashCommand {
+        @ExtraMainCommand
+        public void omega(SlashCommandEvent event) { }
+    }
+
+    @ExtraSlashCommand(name = "kappa", description = "Kappa.")
+    public static class Kappa extends SlashCommand {
+        @ExtraMainCommand
+        public void kappa(SlashCommandEvent event) { }
+    }
+
+    // @Cached entry points must return the reply
+    @ExtraSlashCommand(name = "broken-first", description = "Broken.")
+    public static class BrokenFirst extends SlashCommand {
+        @Cached(ttl = 10)
+        @ExtraMainCommand
+        public void first(SlashCommandEvent event) { }
+    }
+
+    @ExtraSlashCommand(name = "broken-second", description = "Broken.")
+    public static class BrokenSecond extends SlashCommand {
+        @Cached(ttl = 10)
+        @ExtraMainCommand
+        public void second(SlashCommandEvent event) { }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.commands.Remote;
+import com.dwolfnineteen.jdaextra.annotations.options.PrefixOption;
+import com.dwolfnineteen.jdaextra.annotations.options.SlashOption;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.errors.CommandErrorContext;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import com.dwolfnineteen.jdaextra.exceptions.RemoteExecutionException;
+import com.dwolfnineteen.jdaextra.remote.InvocationEnvelope;
+import com.dwolfnineteen.jdaextra.remote.WorkerTransport;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RemoteCommandTest {
+    private final FakeDiscord discord = new FakeDiscord();
+    private final RecordingTransport transport = new RecordingTransport();
+
+    @Test
+    void supportedOptionsAreForwarded() {
+        JDAExtra jdaExtra = new JDAExtraBuilder()
+                .setRemoteTransport(transport)
+                .addSlashCommands(new Greet())
+                .build();
+        jdaExtra.onEvent(discord.slashCommand("greet")
+                .addOption("text", OptionType.STRING, "hello")
+                .addOption("times", OptionType.INTEGER, 3L)
+                .build());
+
+        assertEquals(1, transport.envelopes.size());
+
+        InvocationEnvelope envelope = transport.envelopes.get(0);
+
+        assertEquals("greet", envelope.getCommandName());
+        assertEquals("hello", envelope.getArguments().get(0));
+        assertEquals(3L, envelope.getArguments().get(1));
+        assertNull(envelope.getArguments().get(2));
+    }
+
+    @Test
+    void replacedCommandWithoutRemoteRunsLocally() {
+        JDAExtra jdaExtra = new JDAExtraBuilder()
+                .setRemoteTransport(transport)
+                .addSlashCommands(new Greet())
+                .build();
+        LocalGreet local = new LocalGreet();
+
+        jdaExtra.registerSlashCommand(local);
+        jdaExtra.onEvent(discord.slashCommand("greet").build());
+
+        assertTrue(transport.envelopes.isEmpty());
+        assertEquals(1, local.invocations);
+    }
+
+    @Test
+    void unregisteringPrefixCommandKeepsSlashCommandRemote() {
+        JDAExtra jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .setRemoteTransport(transport)
+                .addSlashCommands(new Greet())
+                .addPrefixCommands(new PrefixGreet())
+                .build();
+
+        jdaExtra.unregisterPrefixCommand("greet");
+        jdaExtra.onEvent(discord.slashCommand("greet")
+                .addOption("text", OptionType.STRING, "hello")
+                .build());
+
+        assertEquals(1, transport.envelopes.size());
+    }
+
+    @Test
+    void prefixCommandsAreNotChecked() {
+        JDAExtra jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .setRemoteTransport(transport)
+                .addPrefixCommands(new BrokenPrefix())
+                .build();
+
+        assertTrue(jdaExtra.getPrefixCommandModels().containsKey("broken"));
+    }
+
+    @Test
+    void failedForwardReachesErrorHandler() {
+        List<CommandErrorContext> errors = new ArrayList<>();
+        JDAExtra jdaExtra = new JDAExtraBuilder()
+                .setRemoteTransport(transport)
+                .setErrorHandler(errors::add)
+                .addSlashCommands(new Greet())
+                .build();
+
+        transport.failure = new IllegalStateException("Worker unreachable");
+        jdaExtra.onEvent(discord.slashCommand("greet").build());
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getException() instanceof RemoteExecutionException);
+        assertEquals(transport.failure, errors.get(0).getException().getCause());
+    }
+
+    @Test
+    void envelopeSupportsOnlyArgumentOptionTypes() {
+        assertTrue(InvocationEnvelope.isSupported(OptionType.STRING));
+        assertTrue(InvocationEnvelope.isSupported(OptionType.MENTIONABLE));
+        assertTrue(InvocationEnvelope.isSupported(OptionType.ATTACHMENT));
+        assertFalse(InvocationEnvelope.isSupported(OptionType.SUB_COMMAND));
+        assertFalse(InvocationEnvelope.isSupported(OptionType.SUB_COMMAND_GROUP));
+        assertFalse(InvocationEnvelope.isSupported(OptionType.UNKNOWN));
+    }
+
+    private static final class RecordingTransport implements WorkerTransport {
+        private final List<InvocationEnvelope> envelopes = new ArrayList<>();
+        private RuntimeException failure;
+
+        @Override
+        public @NotNull CompletableFuture<Void> send(@NotNull InvocationEnvelope envelope) {
+            envelopes.add(envelope);
+
+            return failure == null ? CompletableFuture.completedFuture(null) : CompletableFuture.failedFuture(failure);
+        }
+
+        @Override
+        public void close() { }
+    }
+
+    @Remote
+    @ExtraSlashCommand(name = "greet", description = "Greet someone.")
+    public static class Greet extends SlashCommand {
+        @ExtraMainCommand
+        public void greet(SlashCommandEvent event,
+                          @SlashOption(name = "text", description = "Text.") String text,
+                          @SlashOption(name = "times", description = "Times.") Long times,
+                          @SlashOption(name = "user", description = "User.") User user) { }
+    }
+
+    @ExtraSlashCommand(name = "greet", description = "Greet someone.")
+    public static class LocalGreet extends SlashCommand {
+        private int invocations;
+
+        @ExtraMainCommand
+        public void greet(SlashCommandEvent event) {
+            invocations++;
+        }
+    }
+
+    @ExtraPrefixCommand(name = "greet")
+    public static class PrefixGreet extends PrefixCommand {
+        @ExtraMainCommand
+        public void greet(PrefixCommandEvent event) { }
+    }
+
+    @Remote
+    @ExtraPrefixCommand(name = "broken")
+    public static class BrokenPrefix extends PrefixCommand {
+        @ExtraMainCommand
+        public void broken(PrefixCommandEvent event,
+                           @PrefixOption(name = "nested", type = OptionType.SUB_COMMAND) String nested) { }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.replies.ReplyCoalescer;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplyCoalescingTest {
+    private FakeDiscord discord;
+    private JDAExtra jdaExtra;
+
+    @BeforeEach
+    void setUp() {
+        discord = new FakeDiscord();
+        jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .addPrefixCommands(new Steps())
+                .setReplyCoalescing(Duration.ofMinutes(1))
+                .build();
+    }
+
+    @Test
+    void repliesToOneMessageAreMerged() {
+        jdaExtra.onEvent(discord.message("!steps").build());
+        jdaExtra.getReplyCoalescer().flush();
+
+        List<RecordedRequest> replies = discord.getRestLayer().getRequests("Message#reply");
+
+        assertEquals(1, replies.size());
+        assertEquals("one\ntwo", replies.get(0).getContent());
+    }
+
+    @Test
+    void repliesToDifferentAuthorsInOneChannelAreNotMerged() {
+        User other = discord.createUser("other", false);
+
+        jdaExtra.onEvent(discord.message("!steps").build());
+        jdaExtra.onEvent(discord.message("!steps").setAuthor(other, discord.createMember(other)).build());
+        jdaExtra.getReplyCoalescer().flush();
+
+        List<RecordedRequest> replies = discord.getRestLayer().getRequests("Message#reply");
+
+        assertEquals(2, replies.size());
+        assertEquals("one\ntwo", replies.get(0).getContent());
+        assertEquals("one\ntwo", replies.get(1).getContent());
+    }
+
+    @Test
+    void repliesInOneChannelShareTheBudget() {
+        User other = discord.createUser("other", false);
+        MessageReceivedEvent first = discord.message("!steps").build();
+        MessageReceivedEvent second = discord.message("!steps").setAuthor(other, discord.createMember(other)).build();
+
+        jdaExtra.onEvent(first);
+        jdaExtra.onEvent(second);
+        jdaExtra.getReplyCoalescer().flush();
+
+        String channelId = first.getChannel().getId();
+
+        // Two batches, one bucket
+        assertEquals(channelId, second.getChannel().getId());
+        assertEquals(ReplyCoalescer.RATE_LIMIT - 2, jdaExtra.getReplyCoalescer().getRemainingBudget(channelId));
+    }
+
+    @ExtraPrefixCommand(name = "steps")
+    public static class Steps extends PrefixCommand {
+        @ExtraMainCommand
+        public void steps(PrefixCommandEvent event) {
+            event.queueReply("one");
+            event.queueReply("two");
+        }
+    }
+}
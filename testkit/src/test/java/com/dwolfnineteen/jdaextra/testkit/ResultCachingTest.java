@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraPrefixCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.annotations.commands.Cached;
+import com.dwolfnineteen.jdaextra.annotations.subcommands.RextraSlashSubcommand;
+import com.dwolfnineteen.jdaextra.commands.PrefixCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.events.PrefixCommandEvent;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResultCachingTest {
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    private final FakeDiscord discord = new FakeDiscord();
+    private JDAExtra jdaExtra;
+
+    @BeforeEach
+    void setUp() {
+        INVOCATIONS.set(0);
+        jdaExtra = new JDAExtraBuilder()
+                .setPrefix("!")
+                .setResultCache(16)
+                .addSlashCommands(new Stats())
+                .addPrefixCommands(new PrefixStats())
+                .build();
+    }
+
+    @Test
+    void cachedEntryPointRunsOnce() {
+        jdaExtra.onEvent(discord.slashCommand("stats").setSubcommand("cached").build());
+        jdaExtra.onEvent(discord.slashCommand("stats").setSubcommand("cached").build());
+
+        assertEquals(1, INVOCATIONS.get());
+        assertEquals(2, discord.getRestLayer().getRequests("Interaction#deferReply").size());
+    }
+
+    @Test
+    void uncachedSiblingRunsEveryTime() {
+        jdaExtra.onEvent(discord.slashCommand("stats").setSubcommand("live").build());
+        jdaExtra.onEvent(discord.slashCommand("stats").setSubcommand("live").build());
+
+        assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    void commandOfOtherTypeWithSameNameIsNotCached() {
+        jdaExtra.onEvent(discord.message("!stats").build());
+        jdaExtra.onEvent(discord.message("!stats").build());
+
+        assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    void replacedCommandDropsCaching() {
+        jdaExtra.registerSlashCommand(new UncachedStats());
+
+        jdaExtra.onEvent(discord.slashCommand("stats").setSubcommand("cached").build());
+        jdaExtra.onEvent(discord.slashCommand("stats").setSubcommand("cached").build());
+
+        assertEquals(2, INVOCATIONS.get());
+    }
+
+    @ExtraSlashCommand(name = "stats", description = "Stats.")
+    public static class Stats extends SlashCommand {
+        @Cached(ttl = 1)
+        @RextraSlashSubcommand(name = "cached", description = "Cached.")
+        public MessageCreateData cached(SlashCommandEvent event) {
+            INVOCATIONS.incrementAndGet();
+
+            return MessageCreateData.fromContent("cached");
+        }
+
+        @RextraSlashSubcommand(name = "live", description = "Live.")
+        public void live(SlashCommandEvent event) {
+            INVOCATIONS.incrementAndGet();
+            event.reply("live").queue();
+        }
+    }
+
+    @ExtraSlashCommand(name = "stats", description = "Stats.")
+    public static class UncachedStats extends SlashCommand {
+        @RextraSlashSubcommand(name = "cached", description = "Not cached anymore.")
+        public void cached(SlashCommandEvent event) {
+            INVOCATIONS.incrementAndGet();
+            event.reply("uncached").queue();
+        }
+    }
+
+    @ExtraPrefixCommand(name = "stats")
+    public static class PrefixStats extends PrefixCommand {
+        @ExtraMainCommand
+        public void stats(PrefixCommandEvent event) {
+            INVOCATIONS.incrementAndGet();
+            event.reply("stats").queue();
+        }
+    }
+}
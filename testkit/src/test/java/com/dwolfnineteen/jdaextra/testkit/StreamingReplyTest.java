@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2023 DWolf Nineteen & The JDA-Extra Contributors
+ * Copyright (c) 2024 DWolf Nineteen & The Rextra Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dwolfnineteen.jdaextra.testkit;
+
+import com.dwolfnineteen.jdaextra.JDAExtra;
+import com.dwolfnineteen.jdaextra.JDAExtraBuilder;
+import com.dwolfnineteen.jdaextra.annotations.ExtraMainCommand;
+import com.dwolfnineteen.jdaextra.annotations.ExtraSlashCommand;
+import com.dwolfnineteen.jdaextra.commands.SlashCommand;
+import com.dwolfnineteen.jdaextra.errors.CommandErrorContext;
+import com.dwolfnineteen.jdaextra.events.SlashCommandEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingReplyTest {
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final FakeDiscord discord = new FakeDiscord();
+    private JDAExtra jdaExtra;
+
+    @AfterEach
+    void tearDown() {
+        jdaExtra.shutdown();
+    }
+
+    @Test
+    void streamRepliesToInteraction() throws InterruptedException {
+        jdaExtra = new JDAExtraBuilder()
+                .addSlashCommands(new Stream(), new Publish())
+                .build();
+
+        jdaExtra.onEvent(discord.slashCommand("stream").build());
+
+        // Interaction replies are recorded as deferred replies with content
+        awaitContent("streamed", "Interaction#deferReply", "Hook#editMessageById");
+        assertTrue(discord.getRestLayer().getRequests("Hook#editOriginal").isEmpty());
+    }
+
+    @Test
+    void streamEditsAutomaticallyDeferredResponse() throws InterruptedException {
+        jdaExtra = new JDAExtraBuilder()
+                .addSlashCommands(new Stream(), new Publish())
+                .setAutoDefer(Duration.ofMillis(1), false)
+                .build();
+
+        jdaExtra.onEvent(discord.slashCommand("stream").build());
+
+        awaitContent("streamed", "Hook#editOriginal", "Hook#editMessageById");
+        assertDeferredOnce();
+        assertFalse(discord.getRestLayer().getRequests("Hook#editOriginal").isEmpty());
+        assertTrue(discord.getRestLayer().getRequests("Hook#sendMessage").isEmpty());
+    }
+
+    @Test
+    void returnedPublisherEditsAutomaticallyDeferredResponse() throws InterruptedException {
+        jdaExtra = new JDAExtraBuilder()
+                .addSlashCommands(new Stream(), new Publish())
+                .setAutoDefer(Duration.ofMillis(1), false)
+                .build();
+
+        jdaExtra.onEvent(discord.slashCommand("publish").build());
+
+        awaitContent("published", "Hook#editOriginal", "Hook#editMessageById");
+        assertDeferredOnce();
+        assertFalse(discord.getRestLayer().getRequests("Hook#editOriginal").isEmpty());
+    }
+
+    @Test
+    void failedStreamReachesErrorHandler() throws Exception {
+        CompletableFuture<CommandErrorContext> handled = new CompletableFuture<>();
+        jdaExtra = new JDAExtraBuilder()
+                .addSlashCommands(new Fail())
+                .setErrorHandler(handled::complete)
+                .build();
+
+        jdaExtra.onEvent(discord.slashCommand("fail").build());
+
+        CommandErrorContext context = handled.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        assertEquals("fail", context.getCommandName());
+        assertEquals("Stream failed", context.getRootError().getMessage());
+    }
+
+    private void assertDeferredOnce() {
+        List<RecordedRequest> deferrals = discord.getRestLayer().getRequests("Interaction#deferReply");
+
+        assertEquals(1, deferrals.size());
+        assertNull(deferrals.get(0).getContent());
+    }
+
+    private void awaitContent(String content, String... routes) throws InterruptedException {
+        List<String> routeList = List.of(routes);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        // Chunks may arrive apart; the first one creates (or edits) the message, the next ones edit it by ID,
+        // so the streamed text ends up in the last request
+        while (System.currentTimeMillis() < deadline) {
+            RecordedRequest last = null;
+
+            for (RecordedRequest request : discord.getRestLayer().getRequests()) {
+                if (routeList.contains(request.getRoute())) {
+                    last = request;
+                }
+            }
+
+            if (last != null && content.equals(last.getContent())) {
+                return;
+            }
+
+            Thread.sleep(10);
+        }
+
+        throw new AssertionError("No " + routeList + " request with '" + content + "' within " + TIMEOUT_MILLIS + " ms: "
+                + discord.getRestLayer().getRequests());
+    }
+
+    private static void awaitDeferral(SlashCommandEvent event) {
+        // Without auto-defer nothing acknowledges the interaction meanwhile, so don't wait forever
+        long deadline = System.currentTimeMillis() + 200;
+
+        while (!event.isAcknowledged() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @ExtraSlashCommand(name = "stream", description = "Stream the reply.")
+    public static class Stream extends SlashCommand {
+        @ExtraMainCommand
+        public void stream(SlashCommandEvent event) {
+            awaitDeferral(event);
+
+            event.streamReply().append("stream").append("ed").complete();
+        }
+    }
+
+    @ExtraSlashCommand(name = "publish", description = "Publish the reply.")
+    public static class Publish extends SlashCommand {
+        @ExtraMainCommand
+        public Flow.Publisher<CharSequence> publish(SlashCommandEvent event) {
+            awaitDeferral(event);
+
+            SubmissionPublisher<CharSequence> publisher = new SubmissionPublisher<>();
+
+            // Items submitted before the reply subscribes would be dropped
+            new Thread(() -> {
+                while (!publisher.hasSubscribers()) {
+                    Thread.onSpinWait();
+                }
+
+                publisher.submit("publish");
+                publisher.submit("ed");
+                publisher.close();
+            }).start();
+
+            return publisher;
+        }
+    }
+
+    @ExtraSlashCommand(name = "fail", description = "Fail the stream.")
+    public static class Fail extends SlashCommand {
+        @ExtraMainCommand
+        public Flow.Publisher<CharSequence> fail(SlashCommandEvent event) {
+            SubmissionPublisher<CharSequence> publisher = new SubmissionPublisher<>();
+
+            new Thread(() -> {
+                while (!publisher.hasSubscribers()) {
+                    Thread.onSpinWait();
+                }
+
+                publisher.closeExceptionally(new IllegalStateException("Stream failed"));
+            }).start();
+
+            return publisher;
+        }
+    }
+}